@@ -0,0 +1,48 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.SyntheticDomains.createV8DomainYaml;
+
+/**
+ * Measures the conversion of a v8 domain resource, with an entry for each managed server, to the current schema.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaConversionBenchmark {
+
+  @Param({"1", "50", "500"})
+  public int numServers;
+
+  private String domainYaml;
+
+  @Setup(Level.Trial)
+  public void createDomain() {
+    domainYaml = createV8DomainYaml(numServers);
+  }
+
+  @Benchmark
+  public String convertDomainSchema() {
+    return SchemaConversionUtils.create().convertDomainSchema(domainYaml);
+  }
+}
@@ -0,0 +1,32 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks with the JMH command line, writing the results as JSON to jmh-result.json unless another
+ * result format or file is specified, so that results may be compared between releases.
+ */
+public class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+    // no-op
+  }
+
+  /**
+   * Runs the selected benchmarks.
+   * @param args the JMH command line arguments
+   */
+  public static void main(String[] args) throws Exception {
+    final List<String> arguments = new ArrayList<>(List.of(args));
+    if (!arguments.contains("-rf")) {
+      arguments.addAll(List.of("-rf", "json"));
+    }
+    Main.main(arguments.toArray(String[]::new));
+  }
+}
@@ -0,0 +1,172 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.Random;
+
+import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.AVAILABLE;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.COMPLETED;
+
+/**
+ * Builds the domain descriptions used by the benchmarks, with a single admin server and a single cluster
+ * containing the specified number of managed servers.
+ */
+public class SyntheticDomains {
+
+  public static final String NAMESPACE = "benchmark";
+  public static final String DOMAIN_UID = "domain1";
+  public static final String CLUSTER_NAME = "cluster-1";
+  public static final String ADMIN_SERVER_NAME = "admin-server";
+  private static final OffsetDateTime START_TIME = OffsetDateTime.parse("2024-01-01T00:00:00Z");
+  private static final int DOMAIN_ZIP_BYTES_PER_SERVER = 512;
+
+  private SyntheticDomains() {
+    // no-op
+  }
+
+  public static String getManagedServerName(int i) {
+    return "managed-server" + i;
+  }
+
+  /**
+   * Returns a domain status describing a running domain.
+   * @param numServers the number of managed servers
+   */
+  public static DomainStatus createDomainStatus(int numServers) {
+    final DomainStatus status = new DomainStatus()
+        .withStartTime(START_TIME)
+        .addCondition(new DomainCondition(AVAILABLE).withStatus(true).withLastTransitionTime(START_TIME))
+        .addCondition(new DomainCondition(COMPLETED).withStatus(true).withLastTransitionTime(START_TIME))
+        .addCluster(new ClusterStatus().withClusterName(CLUSTER_NAME).withReplicas(numServers)
+            .withReadyReplicas(numServers).withMaximumReplicas(numServers).withMinimumReplicas(0)
+            .withReplicasGoal(numServers).withObservedGeneration(1L))
+        .addServer(createServerStatus(ADMIN_SERVER_NAME, null).withIsAdminServer(true));
+    for (int i = 1; i <= numServers; i++) {
+      status.addServer(createServerStatus(getManagedServerName(i), CLUSTER_NAME));
+    }
+    return status;
+  }
+
+  private static ServerStatus createServerStatus(String serverName, String clusterName) {
+    return new ServerStatus()
+        .withServerName(serverName)
+        .withClusterName(clusterName)
+        .withState("RUNNING")
+        .withStateGoal("RUNNING")
+        .withNodeName("node-" + Math.floorMod(serverName.hashCode(), 10))
+        .withPodPhase("Running")
+        .withPodReady("True")
+        .withHealth(new ServerHealth().withOverallHealth("ok").withActivationTime(START_TIME));
+  }
+
+  /**
+   * Returns the WebLogic domain topology, as reported by the introspector.
+   * @param numServers the number of managed servers
+   */
+  public static String createTopologyYaml(int numServers) {
+    final StringBuilder sb = new StringBuilder()
+        .append("domainValid: true\n")
+        .append("domain:\n")
+        .append("  name: \"base_domain\"\n")
+        .append("  adminServerName: \"").append(ADMIN_SERVER_NAME).append("\"\n")
+        .append("  configuredClusters:\n")
+        .append("  - name: \"").append(CLUSTER_NAME).append("\"\n")
+        .append("    servers:\n");
+    for (int i = 1; i <= numServers; i++) {
+      sb.append("      - name: \"").append(getManagedServerName(i)).append("\"\n")
+          .append("        listenPort: 8001\n")
+          .append("        listenAddress: \"").append(DOMAIN_UID).append('-').append(getManagedServerName(i))
+          .append("\"\n")
+          .append("        sslListenPort: 8101\n")
+          .append("        networkAccessPoints:\n")
+          .append("          - name: \"nap1\"\n")
+          .append("            protocol: \"t3\"\n")
+          .append("            listenPort: 8201\n")
+          .append("            publicPort: 8201\n");
+    }
+    return sb.append("  servers:\n")
+        .append("    - name: \"").append(ADMIN_SERVER_NAME).append("\"\n")
+        .append("      listenPort: 7001\n")
+        .append("      listenAddress: \"").append(DOMAIN_UID).append('-').append(ADMIN_SERVER_NAME).append("\"\n")
+        .append("      adminPort: 7099\n")
+        .toString();
+  }
+
+  /**
+   * Returns the log written by the introspector job, containing the files which it generated.
+   * @param numServers the number of managed servers
+   */
+  public static String createIntrospectorResult(int numServers) {
+    final StringBuilder sb = new StringBuilder()
+        .append("Introspecting domain ").append(DOMAIN_UID).append('\n');
+    addFile(sb, "topology.yaml", createTopologyYaml(numServers));
+    addFile(sb, "userConfigNodeManager.secure", "#WebLogic User Configuration File; 2\n#Thu Oct 04 21:07:06 GMT 2018\n"
+        + "weblogic.management.username={AES}fq11xKVoE927O07IUKhQ00d4A8QY598Dvd+KSnHNTEA\\=\n");
+    addFile(sb, "domainzip.secure", createDomainZip(numServers));
+    addFile(sb, "domainzip_hash", Integer.toHexString(numServers));
+    return sb.append(">>>  updatedomainResult=0\n").toString();
+  }
+
+  private static void addFile(StringBuilder sb, String fileName, String contents) {
+    sb.append(">>>  /u01/introspect/").append(DOMAIN_UID).append('/').append(fileName).append('\n')
+        .append(contents).append('\n')
+        .append(">>> EOF\n");
+  }
+
+  // Returns base64-encoded pseudo-random content, split into lines as the introspector writes it.
+  private static String createDomainZip(int numServers) {
+    final byte[] bytes = new byte[numServers * DOMAIN_ZIP_BYTES_PER_SERVER];
+    new Random(numServers).nextBytes(bytes);
+    return Base64.getMimeEncoder().encodeToString(bytes).replace("\r", "");
+  }
+
+  /**
+   * Returns a domain resource, in the v8 schema, which explicitly configures each managed server.
+   * @param numServers the number of managed servers
+   */
+  public static String createV8DomainYaml(int numServers) {
+    final StringBuilder sb = new StringBuilder()
+        .append("apiVersion: weblogic.oracle/v8\n")
+        .append("kind: Domain\n")
+        .append("metadata:\n")
+        .append("  name: ").append(DOMAIN_UID).append('\n')
+        .append("  namespace: ").append(NAMESPACE).append('\n')
+        .append("spec:\n")
+        .append("  domainUID: ").append(DOMAIN_UID).append('\n')
+        .append("  domainHome: /u01/domains/").append(DOMAIN_UID).append('\n')
+        .append("  domainHomeSourceType: Image\n")
+        .append("  image: container-registry.oracle.com/middleware/weblogic:12.2.1.4\n")
+        .append("  webLogicCredentialsSecret:\n")
+        .append("    name: ").append(DOMAIN_UID).append("-weblogic-credentials\n")
+        .append("  serverStartPolicy: IF_NEEDED\n")
+        .append("  serverPod:\n")
+        .append("    env:\n")
+        .append("    - name: JAVA_OPTIONS\n")
+        .append("      value: -Dweblogic.StdoutDebugEnabled=false\n")
+        .append("  adminServer:\n")
+        .append("    serverStartState: RUNNING\n")
+        .append("  clusters:\n")
+        .append("  - clusterName: ").append(CLUSTER_NAME).append('\n')
+        .append("    replicas: ").append(numServers).append('\n')
+        .append("    serverStartState: RUNNING\n")
+        .append("  managedServers:\n");
+    for (int i = 1; i <= numServers; i++) {
+      sb.append("  - serverName: ").append(getManagedServerName(i)).append('\n')
+          .append("    serverStartPolicy: IF_NEEDED\n")
+          .append("    serverPod:\n")
+          .append("      env:\n")
+          .append("      - name: SERVER_INDEX\n")
+          .append("        value: \"").append(i).append("\"\n");
+    }
+    return sb.toString();
+  }
+}
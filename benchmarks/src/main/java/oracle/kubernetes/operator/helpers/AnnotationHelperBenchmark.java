@@ -0,0 +1,86 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static oracle.kubernetes.operator.SyntheticDomains.DOMAIN_UID;
+import static oracle.kubernetes.operator.SyntheticDomains.NAMESPACE;
+import static oracle.kubernetes.operator.SyntheticDomains.getManagedServerName;
+
+/**
+ * Measures the hashing of the services which a make-right checks, one for each server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnnotationHelperBenchmark {
+
+  @Param({"1", "50", "500"})
+  public int numServers;
+
+  private final List<V1Service> services = new ArrayList<>();
+
+  /**
+   * Creates a service model for each server.
+   */
+  @Setup(Level.Trial)
+  public void createServices() {
+    for (int i = 1; i <= numServers; i++) {
+      services.add(createService(getManagedServerName(i)));
+    }
+  }
+
+  private static V1Service createService(String serverName) {
+    return new V1Service()
+        .metadata(new V1ObjectMeta()
+            .name(DOMAIN_UID + "-" + serverName)
+            .namespace(NAMESPACE)
+            .putLabelsItem("weblogic.domainUID", DOMAIN_UID)
+            .putLabelsItem("weblogic.serverName", serverName)
+            .putLabelsItem("weblogic.createdByOperator", "true"))
+        .spec(new V1ServiceSpec()
+            .type("ClusterIP")
+            .clusterIP("None")
+            .publishNotReadyAddresses(true)
+            .putSelectorItem("weblogic.domainUID", DOMAIN_UID)
+            .putSelectorItem("weblogic.serverName", serverName)
+            .addPortsItem(new V1ServicePort().name("default").port(8001).appProtocol("tcp"))
+            .addPortsItem(new V1ServicePort().name("default-secure").port(8101).appProtocol("tcp")));
+  }
+
+  /**
+   * Hashes the service for each server.
+   * @param blackhole a sink for the hashes
+   */
+  @Benchmark
+  public void createHashes(Blackhole blackhole) {
+    for (V1Service service : services) {
+      blackhole.consume(AnnotationHelper.createHash(service));
+    }
+  }
+}
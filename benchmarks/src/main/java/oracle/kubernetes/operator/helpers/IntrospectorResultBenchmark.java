@@ -0,0 +1,94 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.SyntheticDomains.DOMAIN_UID;
+import static oracle.kubernetes.operator.SyntheticDomains.createIntrospectorResult;
+import static oracle.kubernetes.operator.SyntheticDomains.createTopologyYaml;
+
+/**
+ * Measures the processing of the introspector job results: parsing the job log into files, splitting those files
+ * among the config maps which record them, and parsing the domain topology.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntrospectorResultBenchmark {
+
+  @Param({"1", "50", "500"})
+  public int numServers;
+
+  private String introspectorResult;
+  private Map<String, String> introspectorFiles;
+  private String topologyYaml;
+
+  /**
+   * Creates the introspector job log, and the files parsed from it.
+   */
+  @Setup(Level.Trial)
+  public void createResult() {
+    introspectorResult = createIntrospectorResult(numServers);
+    introspectorFiles = ConfigMapHelper.parseIntrospectorResult(introspectorResult, DOMAIN_UID);
+    topologyYaml = createTopologyYaml(numServers);
+  }
+
+  @Benchmark
+  public Map<String, String> parseIntrospectorResult() {
+    return ConfigMapHelper.parseIntrospectorResult(introspectorResult, DOMAIN_UID);
+  }
+
+  @Benchmark
+  public List<SplitTarget> splitConfigMap() {
+    return new ConfigMapSplitter<>(SplitTarget::new).split(introspectorFiles);
+  }
+
+  @Benchmark
+  public DomainTopology parseDomainTopology() {
+    return DomainTopology.parseDomainTopologyYaml(topologyYaml);
+  }
+
+  @Benchmark
+  public String convertTopologyToJson() {
+    return ConfigMapHelper.IntrospectionLoader.convertToJson(topologyYaml);
+  }
+
+  static class SplitTarget implements SplitterTarget {
+    private final Map<String, String> data;
+    private int numTargets;
+
+    SplitTarget(Map<String, String> data, Integer index) {
+      this.data = data;
+    }
+
+    @Override
+    public void recordNumTargets(int numTargets) {
+      this.numTargets = numTargets;
+    }
+
+    @Override
+    public void recordBinaryData(Map<String, byte[]> binaryData) {
+      // the benchmark splits only text data
+    }
+  }
+}
@@ -0,0 +1,117 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ExecAction;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways of computing the hash of a pod recipe: dumping it to a YAML string and hashing that, streaming
+ * the YAML into the digest, and reusing the hash cached for an unchanged recipe. Each operation hashes a recipe
+ * built afresh, as a make-right does. Run with {@code -prof gc} to compare the allocation per hash.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodRecipeHashBenchmark {
+
+  private static final String NAMESPACE = "benchmark";
+  private static final String DOMAIN_UID = "domain1";
+  private static final String SERVER_NAME = "managed-server1";
+  private static final int NUM_ENV_VARS = 40;
+
+  private DomainPresenceInfo info;
+
+  /**
+   * Creates the domain whose generation keys the cached hashes.
+   */
+  @Setup(Level.Trial)
+  public void createDomain() {
+    info = new DomainPresenceInfo(new DomainResource()
+        .withMetadata(new V1ObjectMeta().namespace(NAMESPACE).name(DOMAIN_UID).generation(1L))
+        .withSpec(new DomainSpec().withDomainUid(DOMAIN_UID)));
+  }
+
+  @TearDown(Level.Trial)
+  public void forgetHashes() {
+    PodRecipeHashes.forget(NAMESPACE, DOMAIN_UID);
+  }
+
+  @Benchmark
+  public String hashYamlString() {
+    return DigestUtils.sha256Hex(Yaml.dump(createRecipe()));
+  }
+
+  @Benchmark
+  public String hashStreamedYaml() {
+    return AnnotationHelper.createHash(createRecipe());
+  }
+
+  @Benchmark
+  public String getCachedHash() {
+    return PodRecipeHashes.getHash(info, SERVER_NAME, createRecipe(), PodRecipeHashBenchmark::createRecipe);
+  }
+
+  // Returns a recipe comparable in size to that of a managed server pod.
+  private static V1Pod createRecipe() {
+    final V1Container container = new V1Container()
+        .name("weblogic-server")
+        .image("container-registry.oracle.com/middleware/weblogic:14.1.1.0-11")
+        .imagePullPolicy("IfNotPresent")
+        .addCommandItem("/weblogic-operator/scripts/startServer.sh")
+        .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+        .addVolumeMountsItem(new V1VolumeMount().name("weblogic-scripts-cm-volume")
+            .mountPath("/weblogic-operator/scripts").readOnly(true))
+        .addVolumeMountsItem(new V1VolumeMount().name("weblogic-domain-debug-cm-volume")
+            .mountPath("/weblogic-operator/debug").readOnly(true))
+        .livenessProbe(new V1Probe().initialDelaySeconds(30).periodSeconds(45).timeoutSeconds(5)
+            .exec(new V1ExecAction().addCommandItem("/weblogic-operator/scripts/livenessProbe.sh")));
+    for (int i = 0; i < NUM_ENV_VARS; i++) {
+      container.addEnvItem(new V1EnvVar().name("ENV_VAR_" + i).value("/u01/domains/" + DOMAIN_UID + "/value" + i));
+    }
+
+    return new V1Pod()
+        .metadata(new V1ObjectMeta()
+            .name(DOMAIN_UID + "-" + SERVER_NAME)
+            .namespace(NAMESPACE)
+            .putLabelsItem("weblogic.domainUID", DOMAIN_UID)
+            .putLabelsItem("weblogic.serverName", SERVER_NAME)
+            .putLabelsItem("weblogic.createdByOperator", "true"))
+        .spec(new V1PodSpec()
+            .addContainersItem(container)
+            .addVolumesItem(new V1Volume().name("weblogic-credentials-volume")
+                .secret(new V1SecretVolumeSource().secretName(DOMAIN_UID + "-weblogic-credentials")
+                    .defaultMode(420))));
+  }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.SyntheticDomains.DOMAIN_UID;
+import static oracle.kubernetes.operator.SyntheticDomains.createDomainStatus;
+
+/**
+ * Measures the formatting of a log message which reports a domain status, as the operator does after each status
+ * update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingFormatterBenchmark {
+
+  @Param({"1", "50", "500"})
+  public int numServers;
+
+  private final OperatorLoggingFormatter formatter = new OperatorLoggingFormatter();
+  private Object[] parameters;
+
+  @Setup(org.openjdk.jmh.annotations.Level.Trial)
+  public void createParameters() {
+    parameters = new Object[] {DOMAIN_UID, createDomainStatus(numServers)};
+  }
+
+  @Benchmark
+  public String format() {
+    return formatter.format(createLogRecord());
+  }
+
+  // The formatter replaces model object parameters with their JSON, so each operation needs a new record.
+  private LogRecord createLogRecord() {
+    final LogRecord logRecord = new LogRecord(Level.FINE, "Status for Domain {0} is now: {1}");
+    logRecord.setLoggerName("Operator");
+    logRecord.setSourceClassName("oracle.kubernetes.operator.DomainStatusUpdater");
+    logRecord.setSourceMethodName("apply");
+    logRecord.setParameters(parameters.clone());
+    return logRecord;
+  }
+}
@@ -0,0 +1,168 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.WatchTuning;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+
+/**
+ * Measures the rate at which a watcher can process a stream of watch events, from the watch iterator through
+ * resource version tracking to the listener. Each operation is a single event, so the throughput score is
+ * events per second. Run with {@code -prof gc} to report the allocation per event ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WatcherThroughputBenchmark {
+
+  static final int EVENTS_PER_WATCH = 10_000;
+  private static final String NAMESPACE = "benchmark";
+
+  private final List<Watch.Response<V1Pod>> events = new ArrayList<>();
+
+  /**
+   * Creates the synthetic pod events returned by each watch.
+   */
+  @Setup(Level.Trial)
+  public void createEvents() {
+    for (int i = 0; i < EVENTS_PER_WATCH; i++) {
+      events.add(new Watch.Response<>(i % 10 == 0 ? "ADDED" : "MODIFIED", createPod(i)));
+    }
+  }
+
+  private V1Pod createPod(int i) {
+    return new V1Pod().metadata(new V1ObjectMeta()
+        .namespace(NAMESPACE)
+        .name("server" + (i % 100))
+        .resourceVersion(Integer.toString(1000 + i))
+        .putLabelsItem(DOMAINUID_LABEL, "domain" + (i % 5))
+        .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"));
+  }
+
+  /**
+   * Runs a single watch which returns all the synthetic events and then stops.
+   * @param blackhole a sink for the events received by the listener
+   */
+  @Benchmark
+  @OperationsPerInvocation(EVENTS_PER_WATCH)
+  public String processWatchEvents(Blackhole blackhole) {
+    final AtomicBoolean stopping = new AtomicBoolean(false);
+    final BenchmarkWatcher watcher = new BenchmarkWatcher(stopping, blackhole::consume);
+    watcher.start(Thread::new);
+    watcher.waitForExit();
+    return watcher.getResourceVersion();
+  }
+
+  private class BenchmarkWatcher extends Watcher<V1Pod> {
+
+    private final AtomicBoolean stopping;
+
+    BenchmarkWatcher(AtomicBoolean stopping, WatchListener<V1Pod> listener) {
+      super("0", new BenchmarkTuning(), stopping, listener);
+      this.stopping = stopping;
+    }
+
+    @Override
+    public Watchable<V1Pod> initiateWatch(ListOptions options) {
+      return new EventStream(events.iterator(), stopping);
+    }
+
+    @Override
+    public String getNamespace() {
+      return NAMESPACE;
+    }
+
+    @Override
+    public String getDomainUid(Watch.Response<V1Pod> item) {
+      return item.object.getMetadata().getLabels().get(DOMAINUID_LABEL);
+    }
+  }
+
+  // Returns the events from a precomputed list, and asks the watcher to stop once they have all been returned.
+  private static class EventStream implements Watchable<V1Pod> {
+    private final Iterator<Watch.Response<V1Pod>> events;
+    private final AtomicBoolean stopping;
+
+    EventStream(Iterator<Watch.Response<V1Pod>> events, AtomicBoolean stopping) {
+      this.events = events;
+      this.stopping = stopping;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (events.hasNext()) {
+        return true;
+      }
+      stopping.set(true);
+      return false;
+    }
+
+    @Override
+    public Watch.Response<V1Pod> next() {
+      return events.next();
+    }
+
+    @Override
+    public @Nonnull Iterator<Watch.Response<V1Pod>> iterator() {
+      return this;
+    }
+
+    @Override
+    public void close() {
+      // no-op
+    }
+  }
+
+  private static class BenchmarkTuning implements WatchTuning {
+    @Override
+    public int getWatchLifetime() {
+      return 300;
+    }
+
+    @Override
+    public int getWatchMinimumDelay() {
+      return 0;
+    }
+
+    @Override
+    public int getWatchBackstopRecheckDelay() {
+      return 5;
+    }
+
+    @Override
+    public int getWatchBackstopRecheckCount() {
+      return 60;
+    }
+  }
+}
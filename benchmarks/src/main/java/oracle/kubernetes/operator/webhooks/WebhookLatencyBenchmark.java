@@ -0,0 +1,233 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.ClientBuilder;
+import oracle.kubernetes.operator.ServerStartPolicy;
+import oracle.kubernetes.operator.calls.Client;
+import oracle.kubernetes.operator.calls.ClientFactory;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.webhooks.model.AdmissionRequest;
+import oracle.kubernetes.operator.webhooks.model.AdmissionReview;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionWebhookResource;
+import oracle.kubernetes.weblogic.domain.model.ClusterList;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
+import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.KubernetesConstants.ADMISSION_REVIEW_API_VERSION;
+import static oracle.kubernetes.operator.KubernetesConstants.ADMISSION_REVIEW_KIND;
+import static oracle.kubernetes.operator.KubernetesConstants.CLUSTER;
+import static oracle.kubernetes.operator.KubernetesConstants.CLUSTER_PLURAL;
+import static oracle.kubernetes.operator.KubernetesConstants.CLUSTER_VERSION;
+import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN;
+import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_GROUP;
+import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_PLURAL;
+import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_VERSION;
+import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeAdmissionReview;
+import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeClusterToMap;
+import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeDomainToMap;
+
+/**
+ * Measures the time for the validating webhook to review a change to a domain and to a cluster, either listing the
+ * related resources from a local fake API server for each review, or finding them in the webhook's resource cache.
+ * The fake server answers on the loopback interface, so the listing cost shown is a lower bound on that of a real
+ * API server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebhookLatencyBenchmark {
+
+  private static final String NAMESPACE = "benchmark";
+  private static final int NUM_DOMAINS = 20;
+  private static final int CLUSTERS_PER_DOMAIN = 5;
+  private static final int CLUSTER_SIZE = 10;
+
+  @Param({"false", "true"})
+  public boolean cached;
+
+  private HttpServer apiServer;
+  private final AdmissionWebhookResource webhook = new AdmissionWebhookResource();
+  private String domainReview;
+  private String clusterReview;
+
+  /**
+   * Starts the fake API server, directs the operator's client to it, and populates the resource cache if used.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    final JSON json = new JSON();
+    final DomainList domains = new DomainList();
+    final ClusterList clusters = new ClusterList();
+    for (int i = 1; i <= NUM_DOMAINS; i++) {
+      final DomainResource domain = createDomain(i);
+      domains.getItems().add(domain);
+      for (V1LocalObjectReference reference : domain.getSpec().getClusters()) {
+        clusters.getItems().add(createCluster(reference.getName()));
+      }
+    }
+    startApiServer(Map.of(
+        getListPath(DOMAIN_VERSION, DOMAIN_PLURAL), json.serialize(domains),
+        getListPath(CLUSTER_VERSION, CLUSTER_PLURAL), json.serialize(clusters)));
+    installClientFactory(() -> new ClientBuilder()
+        .setBasePath("http://localhost:" + apiServer.getAddress().getPort()).build());
+    if (cached) {
+      populateCache();
+    }
+
+    domainReview = writeAdmissionReview(createDomainReview(domains.getItems().get(0)));
+    clusterReview = writeAdmissionReview(createClusterReview(clusters.getItems().get(0)));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    apiServer.stop(0);
+  }
+
+  private String getListPath(String version, String plural) {
+    return String.format("/apis/%s/%s/namespaces/%s/%s", DOMAIN_GROUP, version, NAMESPACE, plural);
+  }
+
+  private void startApiServer(Map<String, String> lists) throws IOException {
+    apiServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    apiServer.createContext("/", exchange -> respond(exchange, lists.get(exchange.getRequestURI().getPath())));
+    apiServer.start();
+  }
+
+  private void respond(HttpExchange exchange, String body) throws IOException {
+    final byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(body == null ? 404 : 200, bytes.length == 0 ? -1 : bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private void installClientFactory(ClientFactory factory) throws ReflectiveOperationException {
+    final Field field = Client.class.getDeclaredField("factory");
+    field.setAccessible(true);
+    field.set(null, factory);
+  }
+
+  // Populates the cache as its startup list would, so that no watch is needed.
+  private void populateCache() throws ApiException {
+    final WebhookResourceCache resourceCache = WebhookResourceCache.getInstance();
+    resourceCache.getDomainCache().replaceAll(RequestBuilder.DOMAIN.list(NAMESPACE).getItems(), "1");
+    resourceCache.getClusterCache().replaceAll(RequestBuilder.CLUSTER.list(NAMESPACE).getItems(), "1");
+  }
+
+  private DomainResource createDomain(int i) {
+    final String uid = "domain" + i;
+    final DomainSpec spec = new DomainSpec().withDomainUid(uid).withReplicas(2);
+    final DomainStatus status = new DomainStatus();
+    for (int j = 1; j <= CLUSTERS_PER_DOMAIN; j++) {
+      final String clusterName = uid + "-cluster" + j;
+      spec.withCluster(new V1LocalObjectReference().name(clusterName));
+      status.addCluster(new ClusterStatus().withClusterName(clusterName).withMaximumReplicas(CLUSTER_SIZE));
+    }
+    return new DomainResource()
+        .withApiVersion(DOMAIN_GROUP + "/" + DOMAIN_VERSION)
+        .withKind(DOMAIN)
+        .withMetadata(new V1ObjectMeta().name(uid).namespace(NAMESPACE).generation(1L))
+        .withSpec(spec)
+        .withStatus(status);
+  }
+
+  private ClusterResource createCluster(String name) {
+    return new ClusterResource()
+        .withApiVersion(DOMAIN_GROUP + "/" + CLUSTER_VERSION)
+        .withKind(CLUSTER)
+        .withMetadata(new V1ObjectMeta().name(name).namespace(NAMESPACE).generation(1L))
+        .spec(new ClusterSpec().withClusterName(name))
+        .withStatus(new ClusterStatus().withClusterName(name).withMaximumReplicas(CLUSTER_SIZE));
+  }
+
+  // A change to the domain-level replica count, which is checked against each of the domain's clusters.
+  private AdmissionReview createDomainReview(DomainResource existing) {
+    final DomainResource proposed = new DomainResource()
+        .withApiVersion(existing.getApiVersion())
+        .withKind(existing.getKind())
+        .withMetadata(existing.getMetadata())
+        .withSpec(new DomainSpec().withDomainUid(existing.getDomainUid()).withReplicas(CLUSTER_SIZE))
+        .withStatus(existing.getStatus());
+    existing.getSpec().getClusters().forEach(proposed.getSpec()::withCluster);
+    return createReview(DOMAIN, DOMAIN_VERSION, DOMAIN_PLURAL, writeDomainToMap(existing), writeDomainToMap(proposed));
+  }
+
+  // A change to a cluster without its own replica count, which is checked against each domain that references it.
+  private AdmissionReview createClusterReview(ClusterResource existing) {
+    final ClusterResource proposed = new ClusterResource()
+        .withApiVersion(existing.getApiVersion())
+        .withKind(existing.getKind())
+        .withMetadata(existing.getMetadata())
+        .spec(new ClusterSpec().withClusterName(existing.getClusterName())
+            .withServerStartPolicy(ServerStartPolicy.IF_NEEDED))
+        .withStatus(existing.getStatus());
+    return createReview(CLUSTER, CLUSTER_VERSION, CLUSTER_PLURAL,
+        writeClusterToMap(existing), writeClusterToMap(proposed));
+  }
+
+  private AdmissionReview createReview(String kind, String version, String plural,
+                                       Map<String, Object> oldObject, Map<String, Object> object) {
+    final Map<String, String> resource = new HashMap<>();
+    resource.put("group", DOMAIN_GROUP);
+    resource.put("version", version);
+    resource.put("resource", plural);
+    final AdmissionRequest request = new AdmissionRequest();
+    request.setUid("benchmark");
+    request.setKind(Map.of("kind", kind));
+    request.setResource(resource);
+    request.setOldObject(oldObject);
+    request.setObject(object);
+    return new AdmissionReview().apiVersion(ADMISSION_REVIEW_API_VERSION).kind(ADMISSION_REVIEW_KIND)
+        .request(request);
+  }
+
+  @Benchmark
+  public String reviewDomainChange() {
+    return webhook.post(domainReview);
+  }
+
+  @Benchmark
+  public String reviewClusterChange() {
+    return webhook.post(clusterReview);
+  }
+}
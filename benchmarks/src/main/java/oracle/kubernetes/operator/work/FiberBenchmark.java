@@ -0,0 +1,132 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.SyntheticDomains.getManagedServerName;
+
+/**
+ * Measures the overhead of the fiber framework: running a chain with one step per server, forking a child
+ * step for each server and joining them, as a make-right does to start servers, and copying a packet which
+ * holds an entry for each server. Fibers run on the calling thread, so that only the framework cost is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FiberBenchmark {
+
+  private static final String SERVER_NAME = "serverName";
+
+  @Param({"1", "50", "500"})
+  public int numServers;
+
+  private Step serverChain;
+  private Packet packet;
+
+  /**
+   * Creates the step chain and a packet with an entry for each server.
+   */
+  @Setup(Level.Trial)
+  public void createSteps() {
+    final List<Step> steps = new ArrayList<>();
+    packet = new Packet();
+    for (int i = 1; i <= numServers; i++) {
+      steps.add(new ServerStep(getManagedServerName(i)));
+      packet.put(getManagedServerName(i), i);
+    }
+    serverChain = Step.chain(steps);
+  }
+
+  @Benchmark
+  public Packet runStepChain() {
+    return runFiber(serverChain, packet.copy());
+  }
+
+  @Benchmark
+  public Packet runForkJoin() {
+    return runFiber(new ForkJoinStep(numServers), packet.copy());
+  }
+
+  @Benchmark
+  public Packet copyPacket() {
+    return packet.copy();
+  }
+
+  private static Packet runFiber(Step step, Packet packet) {
+    new Fiber(new InlineFiberExecutor(), step, packet).start();
+    return packet;
+  }
+
+  private static class ServerStep extends Step {
+    private final String serverName;
+
+    ServerStep(String serverName) {
+      this.serverName = serverName;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      packet.put(SERVER_NAME, serverName);
+      return doNext(packet);
+    }
+  }
+
+  private static class ForkJoinStep extends Step {
+    private final int numServers;
+
+    ForkJoinStep(int numServers) {
+      this.numServers = numServers;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final Collection<Fiber.StepAndPacket> startDetails = new ArrayList<>();
+      for (int i = 1; i <= numServers; i++) {
+        startDetails.add(new Fiber.StepAndPacket(new ServerStep(getManagedServerName(i)), packet.copy()));
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+
+  // Runs fibers on the thread which starts them. Steps in these benchmarks never request a delay.
+  private static class InlineFiberExecutor implements Fiber.FiberExecutor {
+    @Override
+    public void execute(Fiber fiber) {
+      fiber.run();
+    }
+
+    @Override
+    public Cancellable schedule(Fiber fiber, Duration duration) {
+      throw new UnsupportedOperationException("Benchmark steps should not be rescheduled");
+    }
+
+    @Override
+    public Cancellable scheduleResumption(Fiber fiber, Runnable continuation, Duration duration) {
+      throw new UnsupportedOperationException("Benchmark steps should not be suspended");
+    }
+  }
+}
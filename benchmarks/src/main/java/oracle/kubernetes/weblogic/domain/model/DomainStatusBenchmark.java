@@ -0,0 +1,73 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.json.Json;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPatchBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.SyntheticDomains.createDomainStatus;
+
+/**
+ * Measures the work done by each domain status update: copying the status, applying a change to a single server
+ * and comparing the result with the original, and building the JSON patch from the old status to the new one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainStatusBenchmark {
+
+  @Param({"1", "50", "500"})
+  public int numServers;
+
+  private DomainStatus oldStatus;
+  private DomainStatus newStatus;
+
+  /**
+   * Creates a status for a running domain, and a copy in which the last server is shutting down.
+   */
+  @Setup(Level.Trial)
+  public void createStatus() {
+    oldStatus = createDomainStatus(numServers);
+    newStatus = modifyStatus(oldStatus);
+  }
+
+  private static DomainStatus modifyStatus(DomainStatus status) {
+    final DomainStatus copy = new DomainStatus(status);
+    copy.getServers().get(copy.getServers().size() - 1).setState("SHUTTING_DOWN");
+    return copy;
+  }
+
+  @Benchmark
+  public boolean copyAndCompare() {
+    return modifyStatus(oldStatus).equals(oldStatus);
+  }
+
+  /**
+   * Builds the patch which records the change to the last server.
+   */
+  @Benchmark
+  public JsonPatch createPatch() {
+    final JsonPatchBuilder builder = Json.createPatchBuilder();
+    newStatus.createPatchFrom(builder, oldStatus);
+    return builder.build();
+  }
+}
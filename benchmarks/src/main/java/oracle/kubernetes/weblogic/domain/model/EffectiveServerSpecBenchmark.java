@@ -0,0 +1,126 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1Affinity;
+import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1NodeAffinity;
+import io.kubernetes.client.openapi.models.V1NodeSelector;
+import io.kubernetes.client.openapi.models.V1NodeSelectorRequirement;
+import io.kubernetes.client.openapi.models.V1NodeSelectorTerm;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static oracle.kubernetes.operator.SyntheticDomains.DOMAIN_UID;
+import static oracle.kubernetes.operator.SyntheticDomains.NAMESPACE;
+import static oracle.kubernetes.operator.SyntheticDomains.getManagedServerName;
+
+/**
+ * Measures obtaining the effective configuration of every managed server in a domain of 500 servers spread across
+ * five clusters, as a make-right does when it builds the pod and services of each server and checks whether it
+ * should be running. Compares merging the server, cluster and domain configurations for each request with reusing
+ * the configuration cached on the domain resource for its generation ({@code -p cached=true}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EffectiveServerSpecBenchmark {
+
+  private static final int NUM_CLUSTERS = 5;
+  private static final int SERVERS_PER_CLUSTER = 100;
+  private static final int REQUESTS_PER_SERVER = 3;
+  private static final int NUM_ENV_VARS = 20;
+
+  @Param({"false", "true"})
+  public boolean cached;
+
+  private DomainResource domain;
+  private final ClusterSpec[] clusterSpecs = new ClusterSpec[NUM_CLUSTERS];
+
+  /**
+   * Creates a domain whose server pods are configured at the domain, cluster and server levels.
+   */
+  @Setup(Level.Trial)
+  public void createDomain() {
+    final DomainSpec spec = new DomainSpec().withDomainUid(DOMAIN_UID)
+        .withWebLogicCredentialsSecret(new V1LocalObjectReference().name("weblogic-credentials"));
+    for (int i = 0; i < NUM_ENV_VARS; i++) {
+      spec.addEnvironmentVariable("DOMAIN_VAR" + i, "value" + i);
+    }
+    spec.addAdditionalVolume("shared", "/shared");
+    spec.addRequestRequirement("memory", "768Mi");
+    spec.addLimitRequirement("cpu", "2");
+    spec.addPodLabel("app", DOMAIN_UID);
+
+    for (int c = 0; c < NUM_CLUSTERS; c++) {
+      final String clusterName = getClusterName(c);
+      spec.getClusters().add(new V1LocalObjectReference().name(clusterName));
+      clusterSpecs[c] = createClusterSpec(clusterName);
+    }
+    for (int i = 1; i <= NUM_CLUSTERS * SERVERS_PER_CLUSTER; i += 10) {
+      final ManagedServer server = new ManagedServer().withServerName(getManagedServerName(i));
+      server.addEnvironmentVariable("SERVER_VAR", getManagedServerName(i));
+      spec.getManagedServers().add(server);
+    }
+
+    domain = new DomainResource()
+        .withMetadata(new V1ObjectMeta().namespace(NAMESPACE).name(DOMAIN_UID).generation(1L))
+        .withSpec(spec);
+  }
+
+  private static String getClusterName(int c) {
+    return "cluster-" + (c + 1);
+  }
+
+  private static ClusterSpec createClusterSpec(String clusterName) {
+    final ClusterSpec clusterSpec = new ClusterSpec().withClusterName(clusterName).withReplicas(SERVERS_PER_CLUSTER);
+    clusterSpec.addEnvironmentVariable("CLUSTER", clusterName);
+    clusterSpec.addPodLabel("cluster", clusterName);
+    clusterSpec.setAffinity(new V1Affinity().nodeAffinity(new V1NodeAffinity()
+        .requiredDuringSchedulingIgnoredDuringExecution(new V1NodeSelector()
+            .addNodeSelectorTermsItem(new V1NodeSelectorTerm()
+                .addMatchExpressionsItem(new V1NodeSelectorRequirement()
+                    .key("pool").operator("In").addValuesItem(clusterName))))));
+    return clusterSpec;
+  }
+
+  /**
+   * Obtains the effective configuration of each managed server several times, reading its environment each time.
+   */
+  @Benchmark
+  public void getAllServerSpecs(Blackhole blackhole) {
+    for (int c = 0; c < NUM_CLUSTERS; c++) {
+      for (int i = 1; i <= SERVERS_PER_CLUSTER; i++) {
+        final String serverName = getManagedServerName(c * SERVERS_PER_CLUSTER + i);
+        for (int r = 0; r < REQUESTS_PER_SERVER; r++) {
+          blackhole.consume(getServerSpec(serverName, getClusterName(c), clusterSpecs[c]).getEnvironmentVariables());
+        }
+      }
+    }
+  }
+
+  private EffectiveServerSpec getServerSpec(String serverName, String clusterName, ClusterSpec clusterSpec) {
+    return cached
+        ? domain.getPrivateApi().getServer(serverName, clusterName, clusterSpec)
+        : domain.getEffectiveConfigurationFactory().getServerSpec(serverName, clusterName, clusterSpec);
+  }
+}
@@ -12,8 +12,10 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -58,25 +60,28 @@ public class DomainNamespaces {
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
+  private final SharedInformers sharedInformers = new SharedInformers(this);
 
   private final WatcherControl<ClusterResource, ClusterWatcher> clusterWatchers
-      = new WatcherControl<>(ClusterWatcher::create, d -> d::dispatchClusterWatch);
+      = new WatcherControl<>(ClusterWatcher::create, d -> d::dispatchClusterWatch, sharedInformers.clusters);
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch, sharedInformers.configMaps);
   private final WatcherControl<DomainResource, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch, sharedInformers.domains);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch, sharedInformers.events);
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
-      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
+      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch,
+          sharedInformers.operatorEvents);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> d::dispatchJobWatch);
+        = new WatcherControl<>(JobWatcher::create, d -> d::dispatchJobWatch, sharedInformers.jobs);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch, sharedInformers.pods);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch, sharedInformers.services);
   private final WatcherControl<V1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch,
+              sharedInformers.podDisruptionBudgets);
 
   private final SemanticVersion productVersion;
 
@@ -117,6 +122,38 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    sharedInformers.stop();
+  }
+
+  /**
+   * Returns true if the specified namespace is currently managed by the operator and is not stopping.
+   * @param ns the name of the namespace
+   */
+  boolean isManagedNamespace(String ns) {
+    return Optional.ofNullable(ns).map(namespaceStoppingMap::get).map(s -> !s.get()).orElse(false);
+  }
+
+  SharedInformers getSharedInformers() {
+    return sharedInformers;
+  }
+
+  /**
+   * Stops any per-namespace watchers for the resource type of the specified shared informer, which has just
+   * become active. Otherwise, watchers started while it was inactive would dispatch the same events again.
+   * @param informer the newly active informer
+   */
+  void stopWatchersReplacedBy(SharedInformers.Informer<?, ?> informer) {
+    Stream.of(clusterWatchers, configMapWatchers, domainWatchers, eventWatchers, operatorEventWatchers,
+            jobWatchers, podWatchers, serviceWatchers, podDisruptionBudgetWatchers)
+        .forEach(control -> control.stopWatchersReplacedBy(informer));
+  }
+
+  /**
+   * Returns steps to start the shared informers, if they are enabled and not yet started; otherwise returns null.
+   * @param processor the processor to which watch events should be dispatched
+   */
+  Step createSharedInformerStartupSteps(DomainProcessor processor) {
+    return sharedInformers.createStartupSteps(processor);
   }
 
   /**
@@ -214,7 +251,7 @@ public class DomainNamespaces {
     getNamespaceStatus(ns).clearNamespaceStartingFlag();
   }
 
-  interface WatcherFactory<T, W extends Watcher<T>> {
+  interface WatcherFactory<T extends KubernetesObject, W extends Watcher<T>> {
     W create(
           ThreadFactory threadFactory,
           String namespace,
@@ -226,17 +263,25 @@ public class DomainNamespaces {
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
-  class WatcherControl<T, W extends Watcher<T>> {
+  class WatcherControl<T extends KubernetesObject, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final SharedInformers.Informer<?, ?> informer;
 
-    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector,
+                           SharedInformers.Informer<?, ?> informer) {
       this.factory = factory;
       this.selector = selector;
+      this.informer = informer;
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
+      if (informer.isActive()) {
+        Optional.ofNullable(watchers.remove(namespace)).ifPresent(Watcher::stop);
+        return;
+      }
+
       watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
       getWatcher(namespace).withResourceVersion(resourceVersion).resume();
     }
@@ -252,6 +297,13 @@ public class DomainNamespaces {
     void removeWatcher(String ns) {
       watchers.remove(ns);
     }
+
+    // Stops the per-namespace watchers replaced by the specified informer, which has just become active.
+    void stopWatchersReplacedBy(SharedInformers.Informer<?, ?> activeInformer) {
+      if (activeInformer == informer) {
+        watchers.keySet().forEach(ns -> Optional.ofNullable(watchers.remove(ns)).ifPresent(Watcher::stop));
+      }
+    }
   }
 
   private Processors createWatcherStartupProcessing(String ns, DomainProcessor domainProcessor) {
@@ -14,6 +14,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
@@ -39,14 +40,18 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.EventHelper.EventItem;
+import oracle.kubernetes.operator.helpers.IntrospectorTopologies;
+import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesEventObjects;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.NamespaceHelper;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.PodRecipeHashes;
 import oracle.kubernetes.operator.helpers.ResourcePresenceInfo;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
@@ -58,6 +63,7 @@ import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ResourceChanges;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
@@ -106,6 +112,11 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings("FieldMayBeFinal")
   private static Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
 
+  static {
+    OperatorMetrics.registerFiberGates("make_right", () -> makeRightFiberGates);
+    OperatorMetrics.registerFiberGates("status", () -> statusFiberGates);
+  }
+
   // Map namespace to map of domainUID to Domain; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
@@ -493,6 +504,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void unregisterDomainPresenceInfo(DomainPresenceInfo info) {
     unregisterPresenceInfo(info.getNamespace(), info.getDomainUid());
+    PodRecipeHashes.forget(info.getNamespace(), info.getDomainUid());
+    IntrospectorTopologies.forget(info.getNamespace(), info.getDomainUid());
+    StatusWriteCoalescer.forget(info.getNamespace(), info.getDomainUid());
+    OperatorMetrics.removeDomain(info.getNamespace(), info.getDomainUid());
   }
 
   @Override
@@ -609,9 +624,11 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     switch (watchType) {
       case ADDED:
         info.setServerPodFromEvent(serverName, pod);
+        reportServerPodChange(info, serverName, pod);
         break;
       case MODIFIED:
         boolean podPreviouslyEvicted = info.setServerPodFromEvent(serverName, pod, PodHelper::isEvicted);
+        boolean resumedWaiter = reportServerPodChange(info, serverName, pod);
         boolean isEvicted = PodHelper.isEvicted(pod);
         if (isEvicted && !podPreviouslyEvicted) {
           if (PodHelper.shouldRestartEvictedPod(pod)) {
@@ -622,7 +639,8 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         }
         boolean isReady = PodHelper.isReady(pod);
         boolean isLabedlForShutdown = PodHelper.isPodAlreadyLabeledForShutdown(pod);
-        if ((isEvicted || isReady != isLabedlForShutdown || PodHelper.isFailed(pod)) && !PodHelper.isDeleting(pod)) {
+        boolean readinessChanged = isReady != isLabedlForShutdown && !(isReady && resumedWaiter);
+        if ((isEvicted || readinessChanged || PodHelper.isFailed(pod)) && !PodHelper.isDeleting(pod)) {
           createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
         }
         boolean isUnschedulable = PodHelper.hasUnSchedulableCondition(pod);
@@ -635,7 +653,9 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         if (removed && isNotDeleting(info) && Boolean.FALSE.equals(info.isServerPodBeingDeleted(serverName))) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getPodNamespace(pod), serverName);
         }
-        createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+        if (!reportServerPodChange(info, serverName, pod) || !PodHelper.isPodAlreadyLabeledForShutdown(pod)) {
+          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+        }
         break;
 
       case ERROR:
@@ -643,6 +663,12 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
   }
 
+  // Wakes any fiber waiting for the server pod to change, returning true if one was woken. A make-right
+  // which is waiting for a pod to become ready or be deleted then continues without being replaced.
+  private boolean reportServerPodChange(DomainPresenceInfo info, String serverName, V1Pod pod) {
+    return ResourceChanges.report(PodHelper.getServerPodChangeKey(info, serverName), pod);
+  }
+
   /**
    * If a pod is unschedulable, return the condition's message.
    * @param pod Kubernetes V1Pod
@@ -679,6 +705,8 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
     switch (watchType) {
       case ADDED, MODIFIED:
+        ResourceChanges.report(
+            JobHelper.getJobChangeKey(info.getNamespace(), getPodLabel(pod, LabelConstants.JOBNAME_LABEL)), pod);
         updateDomainStatus(pod, info);
         break;
       case DELETED:
@@ -1065,6 +1093,8 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   private static class DomainPlan extends Plan<MakeRightDomainOperation> {
 
+    private final long startNanos = System.nanoTime();
+
     public DomainPlan(MakeRightDomainOperation operation, DomainProcessorDelegate delegate) {
       super(operation, delegate);
     }
@@ -1074,18 +1104,32 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return new DomainPlanCompletionCallback();
     }
 
+    @Override
+    Supplier<Object> getGenerationSupplier() {
+      final DomainPresenceInfo info = operation.getPresenceInfo();
+      return () -> Optional.ofNullable(info.getDomain()).map(DomainResource::getMetadata)
+          .map(V1ObjectMeta::getGeneration).orElse(null);
+    }
+
     class DomainPlanCompletionCallback implements CompletionCallback {
 
       @Override
       public void onCompletion(Packet packet) {
+        recordDuration(shouldRetry(packet) ? "retry" : "success");
         retryIfNeeded(packet);
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
+        recordDuration("failure");
         reportFailure(throwable);
       }
 
+      private void recordDuration(String outcome) {
+        OperatorMetrics.recordMakeRightDuration(presenceInfo.getNamespace(), presenceInfo.getResourceName(), outcome,
+            (System.nanoTime() - startNanos) / 1_000_000_000.0);
+      }
+
       private void reportFailure(Throwable throwable) {
         logThrowable(throwable);
         runFailureSteps(throwable);
@@ -1206,10 +1250,15 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
     void execute() {
       gate.startFiber(presenceInfo.getResourceName(), () -> operation.createSteps(), () -> operation.createPacket(),
-          createCompletionCallback());
+          createCompletionCallback(), getGenerationSupplier());
     }
 
     abstract CompletionCallback createCompletionCallback();
+
+    // Returns a supplier of the generation processed by this plan, or null if a requeued plan may not resume.
+    Supplier<Object> getGenerationSupplier() {
+      return null;
+    }
   }
 
   private class ScheduledStatusUpdater {
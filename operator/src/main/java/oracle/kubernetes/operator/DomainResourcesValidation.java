@@ -294,7 +294,7 @@ class DomainResourcesValidation {
     if (eventItem != null) {
       makeRight.withEventData(new EventData(eventItem)).interrupt().execute();
     } else if (!info.hasRetryableFailure()) {
-      makeRight.execute();
+      makeRight.inBackground().execute();
     }
   }
 
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator;
 
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,7 +22,9 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -29,7 +33,12 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonPatchBuilder;
+import jakarta.json.JsonValue;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
@@ -38,6 +47,7 @@ import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.LastKnownStatus;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
@@ -77,6 +87,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_RUNNING;
 import static oracle.kubernetes.common.logging.MessageKeys.POD_UNSCHEDULABLE_MESSAGE;
 import static oracle.kubernetes.operator.ClusterResourceStatusUpdater.createClusterResourceStatusUpdaterStep;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.KubernetesConstants.MINIMUM_CLUSTER_COUNT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
@@ -119,6 +130,9 @@ public class DomainStatusUpdater {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   public static final int SERVER_DISPLAY_LIMIT = 5;
   public static final int CLUSTER_MESSAGE_LIMIT = 2;
+  static final String PATCH_METHOD = "patch";
+  static final String REPLACE_METHOD = "replace";
+  private static final JSON STATUS_JSON = new JSON();
 
   private DomainStatusUpdater() {
   }
@@ -353,19 +367,30 @@ public class DomainStatusUpdater {
     public @Nonnull Result apply(Packet packet) {
       return doNext(createContext(packet).createUpdateSteps(getNext()), packet);
     }
+  }
+
+  // Records a status update in the operator metrics when the request which follows it is about to be sent,
+  // so that updates which are built but never sent are not counted.
+  static class RecordStatusUpdateStep extends Step {
+    private final Runnable recorder;
+
+    RecordStatusUpdateStep(Runnable recorder, Step requestStep) {
+      super(requestStep);
+      this.recorder = recorder;
+    }
 
-    // Note: this step is created with no next step, as that is added via a call to Step.chain, later.
-    private ResponseStep<DomainResource> createResponseStep(DomainStatusUpdaterContext context) {
-      return new StatusReplaceResponseStep(this, context, null);
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      recorder.run();
+      return doNext(packet);
     }
   }
 
   static class StatusReplaceResponseStep extends DefaultResponseStep<DomainResource> {
-    private final DomainStatusUpdaterStep updaterStep;
-    private final DomainStatusUpdaterContext context;
+    final Step updaterStep;
+    final DomainStatusUpdaterContext context;
 
-    public StatusReplaceResponseStep(DomainStatusUpdaterStep updaterStep,
-                                     DomainStatusUpdaterContext context, Step nextStep) {
+    public StatusReplaceResponseStep(Step updaterStep, DomainStatusUpdaterContext context, Step nextStep) {
       super(nextStep);
       this.updaterStep = updaterStep;
       this.context = context;
@@ -385,6 +410,9 @@ public class DomainStatusUpdater {
       if (isUnrecoverable(callResponse)) {
         return super.onFailure(packet, callResponse);
       } else {
+        if (hasConflict(callResponse)) {
+          OperatorMetrics.recordStatusUpdateConflict();
+        }
         return onFailure(createRetry(context), packet, callResponse);
       }
     }
@@ -398,6 +426,31 @@ public class DomainStatusUpdater {
     }
   }
 
+  static class StatusPatchResponseStep extends StatusReplaceResponseStep {
+    private final DomainResource oldDomain;
+    private final DomainStatus status;
+
+    StatusPatchResponseStep(Step updaterStep, DomainStatusUpdaterContext context,
+                            DomainResource oldDomain, DomainStatus status) {
+      super(updaterStep, context, null);
+      this.oldDomain = oldDomain;
+      this.status = status;
+    }
+
+    // If the API server cannot apply the patch, for example because the status it holds has a different structure
+    // than the one from which the patch was computed, fall back to replacing the entire status.
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
+      if (callResponse.getHttpStatusCode() == HTTP_UNPROCESSABLE_ENTITY) {
+        packet.remove(RETRY);
+        return doNext(context.createReplaceStep(oldDomain, status,
+            new StatusReplaceResponseStep(updaterStep, context, getNext())), packet);
+      } else {
+        return super.onFailure(packet, callResponse);
+      }
+    }
+  }
+
   static class DomainUpdateStep extends ResponseStep<DomainResource> {
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
@@ -422,6 +475,7 @@ public class DomainStatusUpdater {
     final boolean isMakeRight;
     private final DomainStatusUpdaterStep domainStatusUpdaterStep;
     private DomainStatus newStatus;
+    private DomainStatus pendingStatus;
     private final List<EventData> newEvents = new ArrayList<>();
     final boolean endOfProcessing;
 
@@ -450,12 +504,12 @@ public class DomainStatusUpdater {
       return getDomain().getDomainUid();
     }
 
-    boolean isStatusUnchanged() {
-      return getDomain() == null || getNewStatus().equals(getStatus());
+    String getNamespace() {
+      return getMetadata().getNamespace();
     }
 
-    private String getNamespace() {
-      return getMetadata().getNamespace();
+    boolean isStatusUnchanged() {
+      return getDomain() == null || getNewStatus().equals(getStatus());
     }
 
     private V1ObjectMeta getMetadata() {
@@ -468,7 +522,17 @@ public class DomainStatusUpdater {
     }
 
     DomainStatus getStatus() {
-      return getDomain().getStatus();
+      return pendingStatus != null ? pendingStatus : getDomain().getStatus();
+    }
+
+    /**
+     * Specifies the status which an earlier, not yet written, update will record. If not null, it will be used
+     * in place of the current domain status when computing the new status.
+     * @param pendingStatus the status to be written, or null
+     */
+    void setPendingStatus(DomainStatus pendingStatus) {
+      this.pendingStatus = pendingStatus;
+      this.newStatus = null;
     }
 
     DomainResource getDomain() {
@@ -498,7 +562,7 @@ public class DomainStatusUpdater {
         status.setObservedGeneration(oldDomain.getMetadata().getGeneration());
       }
 
-      return getCallStep(oldDomain, status);
+      return getCallStep(oldDomain, getStatus(), status);
     }
 
     Step createDomainStatusObservedGenerationReplaceStep() {
@@ -506,16 +570,30 @@ public class DomainStatusUpdater {
       DomainStatus status = oldDomain.getStatus();
 
       if (isGenerationChanged(oldDomain, status)) {
+        DomainStatus oldStatus = new DomainStatus(status);
         // Only set observedGeneration during a make-right, but not during a background status update
         status.setObservedGeneration(getDomainGeneration(oldDomain));
 
-        return getCallStep(oldDomain, status);
+        return getCallStep(oldDomain, oldStatus, status);
       }
 
       return null;
     }
 
-    private Step getCallStep(DomainResource oldDomain, DomainStatus status) {
+    private Step getCallStep(DomainResource oldDomain, DomainStatus oldStatus, DomainStatus status) {
+      return getCallStep(oldDomain, oldStatus, status, domainStatusUpdaterStep);
+    }
+
+    // Returns a step to write the specified status. If the write conflicts with another change to the domain,
+    // the domain will be read again, and then the specified retry step run.
+    // Note: the response step is created with no next step, as that is added via a call to Step.chain, later.
+    Step getCallStep(DomainResource oldDomain, DomainStatus oldStatus, DomainStatus status, Step retryStep) {
+      return Optional.ofNullable(createStatusPatch(oldDomain, oldStatus, status))
+          .map(patch -> createPatchStep(oldDomain, status, patch, retryStep))
+          .orElseGet(() -> createReplaceStep(oldDomain, status, new StatusReplaceResponseStep(retryStep, this, null)));
+    }
+
+    Step createReplaceStep(DomainResource oldDomain, DomainStatus status, ResponseStep<DomainResource> responseStep) {
       DomainResource newDomain = new DomainResource()
           .withKind(KubernetesConstants.DOMAIN)
           .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
@@ -523,8 +601,67 @@ public class DomainStatusUpdater {
           .withSpec(null)
           .withStatus(status);
 
-      return RequestBuilder.DOMAIN.updateStatus(newDomain, DomainResource::getStatus,
-          domainStatusUpdaterStep.createResponseStep(this));
+      return new RecordStatusUpdateStep(() -> OperatorMetrics.recordStatusUpdate(REPLACE_METHOD),
+          RequestBuilder.DOMAIN.updateStatus(newDomain, DomainResource::getStatus, responseStep));
+    }
+
+    private Step createPatchStep(DomainResource oldDomain, DomainStatus status, String patch, Step retryStep) {
+      final long numBytes = getUtf8Length(patch);
+      return new RecordStatusUpdateStep(() -> OperatorMetrics.recordStatusUpdate(PATCH_METHOD, numBytes),
+          RequestBuilder.DOMAIN.patchStatus(getNamespace(), getDomainName(),
+              V1Patch.PATCH_FORMAT_JSON_PATCH, new V1Patch(patch),
+              new StatusPatchResponseStep(retryStep, this, oldDomain, status)));
+    }
+
+    // Returns a JSON patch which changes only those parts of the status which differ from the old status,
+    // and which will be rejected with a conflict if the domain has been modified since it was read.
+    // Returns null if the status should instead be replaced.
+    private String createStatusPatch(DomainResource oldDomain, DomainStatus oldStatus, DomainStatus status) {
+      String resourceVersion = oldDomain.getMetadata().getResourceVersion();
+      if (!isStatusUpdateJsonPatchEnabled() || oldStatus == null || resourceVersion == null) {
+        return null;
+      }
+
+      JsonArray statusChanges = Json.createDiff(toJsonObject(oldStatus), toJsonObject(status)).toJsonArray();
+      if (statusChanges.isEmpty()) {
+        return null;
+      }
+
+      JsonArrayBuilder builder = Json.createArrayBuilder()
+          .add(Json.createObjectBuilder()
+              .add("op", "replace")
+              .add("path", "/metadata/resourceVersion")
+              .add("value", resourceVersion));
+      statusChanges.stream().map(JsonValue::asJsonObject).map(this::toStatusOperation).forEach(builder::add);
+      return builder.build().toString();
+    }
+
+    private boolean isStatusUpdateJsonPatchEnabled() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::isStatusUpdateJsonPatchEnabled)
+          .orElse(false);
+    }
+
+    private JsonObject toStatusOperation(JsonObject operation) {
+      JsonObjectBuilder builder = Json.createObjectBuilder(operation);
+      for (String pointer : List.of("path", "from")) {
+        if (operation.containsKey(pointer)) {
+          builder.add(pointer, "/status" + operation.getString(pointer));
+        }
+      }
+      return builder.build();
+    }
+
+    private JsonObject toJsonObject(DomainStatus status) {
+      return Json.createReader(new StringReader(toJson(status))).readObject();
+    }
+
+    private String toJson(Object object) {
+      return STATUS_JSON.serialize(object);
+    }
+
+    private long getUtf8Length(String string) {
+      return string.getBytes(StandardCharsets.UTF_8).length;
     }
 
     private String createPatchString() {
@@ -535,8 +672,9 @@ public class DomainStatusUpdater {
 
     Step createUpdateSteps(Step next) {
       final List<Step> result = new ArrayList<>();
-      if (!isStatusUnchanged()) {
-        result.add(createDomainStatusReplaceStep());
+      final Step writeStep = createWriteStep();
+      if (writeStep != null) {
+        result.add(writeStep);
       } else {
         if (endOfProcessing && isMakeRight) {
           Optional.ofNullable(createDomainStatusObservedGenerationReplaceStep()).ifPresent(result::add);
@@ -547,6 +685,14 @@ public class DomainStatusUpdater {
       return result.isEmpty() ? null : Step.chain(result);
     }
 
+    // Returns a step to record the new status, or null if the status is unchanged.
+    private Step createWriteStep() {
+      if (StatusWriteCoalescer.isEnabled()) {
+        return StatusWriteCoalescer.createWriteStep(this);
+      } else {
+        return isStatusUnchanged() ? null : createDomainStatusReplaceStep();
+      }
+    }
 
     private boolean isGenerationChanged(DomainResource domain, DomainStatus status) {
       return !getDomainGeneration(domain).equals(getObservedGeneration(status));
@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -28,6 +28,12 @@ public interface IntrospectorConfigMapConstants {
   /** A hash of the Model-in-Image inputs. */
   String DOMAIN_INPUTS_HASH = "weblogic.domainInputsHash";
 
+  /** The Model-in-Image domain configuration, as a base64-encoded compressed archive. */
+  String DOMAINZIP_SECURE = "domainzip.secure";
+
+  /** The Model-in-Image primordial domain, as a base64-encoded compressed archive. */
+  String PRIMORDIAL_DOMAINZIP_SECURE = "primordial_domainzip.secure";
+
   /** The number of config maps required to hold the encoded domains. */
   String NUM_CONFIG_MAPS = "numConfigMaps";
 
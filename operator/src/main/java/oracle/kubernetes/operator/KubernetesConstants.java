@@ -55,6 +55,7 @@ public interface KubernetesConstants {
   String WEBHOOK_POD_UID_ENV = "WEBHOOK_POD_UID";
   String NAMESPACE = "Namespace";
   String POD = "Pod";
+  String JOB = "Job";
   String EVICTED_REASON = "Evicted";
   String UNSCHEDULABLE_REASON = "Unschedulable";
   String POD_SCHEDULED = "PodScheduled";
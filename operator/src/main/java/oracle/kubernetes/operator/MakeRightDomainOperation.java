@@ -58,6 +58,14 @@ public interface MakeRightDomainOperation extends MakeRightOperation<DomainPrese
    */
   MakeRightDomainOperation retryOnFailure();
 
+  /**
+   * Modifies the factory to indicate that this operation was started by a periodic recheck, rather than by a change,
+   * so that its requests to Kubernetes may be given a lower priority.
+   *
+   * @return the updated factory
+   */
+  MakeRightDomainOperation inBackground();
+
   boolean isDeleting();
 
   boolean isRetryOnFailure();
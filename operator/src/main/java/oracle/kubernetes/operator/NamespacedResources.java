@@ -9,9 +9,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
@@ -83,8 +85,9 @@ class NamespacedResources {
   }
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
-    return Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
-        RequestBuilder.CM.list(namespace, new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.configMaps, null, processing,
+        () -> Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
+            RequestBuilder.CM.list(namespace, new ListResponseStep<>(processing))));
   }
 
   private ConfigMapWatcher getConfigMapWatcher() {
@@ -96,10 +99,11 @@ class NamespacedResources {
   }
 
   private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return Step.chain(getPauseWatchersStep(getEventWatcher()),
-        RequestBuilder.EVENT.list(namespace,
-            new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER),
-            new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.events, null, processing,
+        () -> Step.chain(getPauseWatchersStep(getEventWatcher()),
+            RequestBuilder.EVENT.list(namespace,
+                new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER),
+                new ListResponseStep<>(processing))));
   }
 
   private EventWatcher getEventWatcher() {
@@ -112,10 +116,11 @@ class NamespacedResources {
   }
 
   private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return Step.chain(getPauseWatchersStep(getOperatorEventWatcher()),
-        RequestBuilder.EVENT.list(namespace,
-            new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER),
-            new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.operatorEvents, null, processing,
+        () -> Step.chain(getPauseWatchersStep(getOperatorEventWatcher()),
+            RequestBuilder.EVENT.list(namespace,
+                new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER),
+                new ListResponseStep<>(processing))));
   }
 
   private OperatorEventWatcher getOperatorEventWatcher() {
@@ -128,10 +133,11 @@ class NamespacedResources {
   }
 
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1PodDisruptionBudgetList>> processing) {
-    return Step.chain(getPauseWatchersStep(getPodDisruptionBudgetWatcher()),
-        RequestBuilder.PDB.list(namespace,
-            new ListOptions().labelSelector(forDomainUidSelector(domainUid) + "," + getCreatedByOperatorSelector()),
-            new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.podDisruptionBudgets, domainUid, processing,
+        () -> Step.chain(getPauseWatchersStep(getPodDisruptionBudgetWatcher()),
+            RequestBuilder.PDB.list(namespace,
+                new ListOptions().labelSelector(forDomainUidSelector(domainUid) + "," + getCreatedByOperatorSelector()),
+                new ListResponseStep<>(processing))));
   }
 
   private PodDisruptionBudgetWatcher getPodDisruptionBudgetWatcher() {
@@ -144,10 +150,11 @@ class NamespacedResources {
   }
 
   private Step createJobListStep(List<Consumer<V1JobList>> processing) {
-    return Step.chain(getPauseWatchersStep(getJobWatcher()),
-        RequestBuilder.JOB.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.jobs, domainUid, processing,
+        () -> Step.chain(getPauseWatchersStep(getJobWatcher()),
+            RequestBuilder.JOB.list(namespace,
+                new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+                new ListResponseStep<>(processing))));
   }
 
   private JobWatcher getJobWatcher() {
@@ -159,10 +166,11 @@ class NamespacedResources {
   }
 
   private Step createPodListStep(List<Consumer<V1PodList>> processing) {
-    return Step.chain(getPauseWatchersStep(getPodWatcher()),
-        RequestBuilder.POD.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.pods, domainUid, processing,
+        () -> Step.chain(getPauseWatchersStep(getPodWatcher()),
+            RequestBuilder.POD.list(namespace,
+                new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+                new ListResponseStep<>(processing))));
   }
 
   private PodWatcher getPodWatcher() {
@@ -178,10 +186,11 @@ class NamespacedResources {
   }
 
   private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
-    return Step.chain(getPauseWatchersStep(getServiceWatcher()),
-        RequestBuilder.SERVICE.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
-            new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.services, domainUid, processing,
+        () -> Step.chain(getPauseWatchersStep(getServiceWatcher()),
+            RequestBuilder.SERVICE.list(namespace,
+                new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+                new ListResponseStep<>(processing))));
   }
 
   private ServiceWatcher getServiceWatcher() {
@@ -193,8 +202,9 @@ class NamespacedResources {
   }
 
   private Step createClusterListSteps(List<Consumer<ClusterList>> processing) {
-    return Step.chain(getPauseWatchersStep(getClusterWatcher()),
-        RequestBuilder.CLUSTER.list(namespace, new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.clusters, null, processing,
+        () -> Step.chain(getPauseWatchersStep(getClusterWatcher()),
+            RequestBuilder.CLUSTER.list(namespace, new ListResponseStep<>(processing))));
   }
 
   private ClusterWatcher getClusterWatcher() {
@@ -206,14 +216,27 @@ class NamespacedResources {
   }
 
   private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
-    return Step.chain(getPauseWatchersStep(getDomainWatcher()),
-        RequestBuilder.DOMAIN.list(namespace, new ListResponseStep<>(processing)));
+    return createInformerListSteps(s -> s.domains, null, processing,
+        () -> Step.chain(getPauseWatchersStep(getDomainWatcher()),
+            RequestBuilder.DOMAIN.list(namespace, new ListResponseStep<>(processing))));
   }
 
   private DomainWatcher getDomainWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getDomainWatcher(namespace)).orElse(null);
   }
 
+  // Returns steps which read the resources from the selected shared informer's cache if it is active when they run,
+  // or else from Kubernetes, using the specified live list steps.
+  private <L extends KubernetesListObject> Step createInformerListSteps(
+        Function<SharedInformers, SharedInformers.Informer<?, L>> selector, String domainUid,
+        List<Consumer<L>> processing, Supplier<Step> liveListSteps) {
+    return Optional.ofNullable(domainNamespaces)
+        .map(DomainNamespaces::getSharedInformers)
+        .map(selector)
+        .<Step>map(i -> new CachedListStep<>(i, domainUid, processing, liveListSteps))
+        .orElseGet(liveListSteps);
+  }
+
   private <L extends KubernetesListObject>
         Optional<List<Consumer<L>>> getListProcessing(Function<Processors, Consumer<L>> method) {
     return nullIfEmpty(processors.stream().map(method).filter(Objects::nonNull).toList());
@@ -232,7 +255,7 @@ class NamespacedResources {
     }
   }
 
-  class PauseWatchersStep<T> extends Step {
+  class PauseWatchersStep<T extends KubernetesObject> extends Step {
     private final Watcher<T> watcher;
 
     PauseWatchersStep(Watcher<T> watcher) {
@@ -246,6 +269,35 @@ class NamespacedResources {
     }
   }
 
+  // Supplies the processors with resources from a shared informer's cache, rather than reading them from Kubernetes.
+  // If the cache is not active, as when it is being reloaded after its watch failed, the resources are read from
+  // Kubernetes instead.
+  class CachedListStep<L extends KubernetesListObject> extends Step {
+    private final SharedInformers.Informer<?, L> informer;
+    private final String domainUid;
+    private final List<Consumer<L>> processors;
+    private final Supplier<Step> liveListSteps;
+
+    CachedListStep(SharedInformers.Informer<?, L> informer, String domainUid, List<Consumer<L>> processors,
+                   Supplier<Step> liveListSteps) {
+      this.informer = informer;
+      this.domainUid = domainUid;
+      this.processors = processors;
+      this.liveListSteps = liveListSteps;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (!informer.isActive()) {
+        return doNext(Step.chain(liveListSteps.get(), getNext()), packet);
+      }
+
+      final L list = informer.list(namespace, domainUid);
+      processors.forEach(p -> p.accept(list));
+      return doNext(packet);
+    }
+  }
+
   private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
     private final List<Consumer<L>> processors;
 
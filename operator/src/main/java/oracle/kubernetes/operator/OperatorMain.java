@@ -34,6 +34,7 @@ import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.HelmAccess;
@@ -303,7 +304,14 @@ public class OperatorMain extends BaseMain {
   }
 
   Runnable recheckDomains() {
-    return () -> mainDelegate.runSteps(createDomainRecheckSteps());
+    return () -> mainDelegate.runSteps(createBackgroundPacket(), createDomainRecheckSteps(), null);
+  }
+
+  // Requests made by periodic rechecks should not delay those made in response to changes.
+  private Packet createBackgroundPacket() {
+    final Packet packet = new Packet();
+    packet.put(RequestRateLimiter.LANE, RequestRateLimiter.Lane.BACKGROUND);
+    return packet;
   }
 
   Runnable checkStuckPods() {
@@ -327,6 +335,7 @@ public class OperatorMain extends BaseMain {
     return Step.chain(
         domainRecheck.createOperatorNamespaceReview(),
         createCRDPresenceCheck(),
+        mainDelegate.getDomainNamespaces().createSharedInformerStartupSteps(mainDelegate.getDomainProcessor()),
         domainRecheck.createReadNamespacesStep());
   }
 
@@ -414,7 +423,7 @@ public class OperatorMain extends BaseMain {
   protected BaseRestServer createRestServer() {
     return OperatorRestServer.create(
         new RestConfigImpl(mainDelegate.getPrincipal(), mainDelegate.getDomainNamespaces()::getNamespaces,
-                new Certificates(mainDelegate)));
+                mainDelegate.getDomainProcessor(), new Certificates(mainDelegate)));
   }
 
   // -----------------------------------------------------------------------------
@@ -23,6 +23,7 @@ public interface ProcessingConstants {
   String SCRIPT_CONFIG_MAP = "scriptConfigMap";
   String SERVER_STATE_MAP = "serverStateMap";
   String SERVER_HEALTH_MAP = "serverHealthMap";
+  String ADMIN_REPORTED_HEALTH_MAP = "adminReportedHealthMap";
 
   String DOMAIN_PRESENCE_INFO = "dpi";
   String CLUSTER_PRESENCE_INFO = "cpi";
@@ -30,6 +30,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.ReadHealthStep;
+import oracle.kubernetes.operator.steps.ReadServerStateStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
@@ -42,6 +43,7 @@ import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 
 import static oracle.kubernetes.operator.KubernetesConstants.WLS_CONTAINER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.ADMIN_REPORTED_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
@@ -52,6 +54,11 @@ public class ServerStatusReader {
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Function<Step, Step> stepFactory = ReadHealthStep::createReadHealthStep;
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
+  private static Function<Step, Step> domainHealthStepFactory = ReadHealthStep::createReadDomainHealthStep;
+
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
+  private static StateProbeStepFactory stateProbeStepFactory = ReadServerStateStep::createReadServerStateStep;
 
   @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
   private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
@@ -59,6 +66,11 @@ public class ServerStatusReader {
   private ServerStatusReader() {
   }
 
+  @FunctionalInterface
+  interface StateProbeStepFactory {
+    Step createStep(String serverName, Step fallback, Step next);
+  }
+
   static Step createDomainStatusReaderStep(
       DomainPresenceInfo info, long timeoutSeconds, Step next) {
     return new DomainStatusReaderStep(info, timeoutSeconds, next);
@@ -89,6 +101,29 @@ public class ServerStatusReader {
       packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
       packet.put(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
 
+      packet.remove(ADMIN_REPORTED_HEALTH_MAP);
+
+      Step readServersStep = new ServerStatusesReaderStep(info, timeoutSeconds, getNext());
+      if (TuningParameters.getInstance().isAggregateServerHealthEnabled()) {
+        return doNext(domainHealthStepFactory.apply(readServersStep), packet);
+      } else {
+        return doNext(readServersStep, packet);
+      }
+    }
+  }
+
+  private static class ServerStatusesReaderStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
+
+    ServerStatusesReaderStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
@@ -135,7 +170,6 @@ public class ServerStatusReader {
     }
 
     @Override
-    @SuppressWarnings("try")
     public @Nonnull Result apply(Packet packet) {
       @SuppressWarnings("unchecked")
       final ConcurrentMap<String, String> serverStateMap =
@@ -162,6 +196,39 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      final Step readStateWithExecStep = new ReadStateWithExecStep(serverName, timeoutSeconds, getNext());
+      if (isHttpStateProbeEnabled() && !isPodBeingDeleted(info, currentPod)) {
+        return doNext(stateProbeStepFactory.createStep(serverName, readStateWithExecStep, getNext()), packet);
+      } else {
+        return doNext(readStateWithExecStep, packet);
+      }
+    }
+
+    private boolean isHttpStateProbeEnabled() {
+      return TuningParameters.getInstance().isHttpServerStateProbeEnabled();
+    }
+  }
+
+  private static class ReadStateWithExecStep extends Step {
+    private final String serverName;
+    private final long timeoutSeconds;
+
+    ReadStateWithExecStep(String serverName, long timeoutSeconds, Step next) {
+      super(next);
+      this.serverName = serverName;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public @Nonnull Result apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      final ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      final DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      final LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
+      final V1Pod currentPod = info.getServerPod(serverName);
+
       final boolean stdin = false;
       final boolean tty = false;
       Process proc = null;
@@ -217,10 +284,6 @@ public class ServerStatusReader {
       return doNext(packet);
     }
 
-    private boolean isPodBeingDeleted(DomainPresenceInfo info, V1Pod pod) {
-      return PodHelper.isDeleting(pod) || info.isServerPodBeingDeleted(PodHelper.getPodServerName(pod));
-    }
-
     private String getNamespace(@Nonnull V1Pod pod) {
       return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
     }
@@ -252,6 +315,10 @@ public class ServerStatusReader {
     }
   }
 
+  private static boolean isPodBeingDeleted(DomainPresenceInfo info, V1Pod pod) {
+    return PodHelper.isDeleting(pod) || info.isServerPodBeingDeleted(PodHelper.getPodServerName(pod));
+  }
+
   private static class ServerHealthStep extends Step {
     private final String serverName;
     private final V1Pod pod;
@@ -0,0 +1,299 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.CoreV1EventList;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.DomainNamespaces.ListenerSelector;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.ClusterScopedWatcher;
+import oracle.kubernetes.operator.watcher.ResourceCache;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.ClusterList;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER;
+import static oracle.kubernetes.operator.ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER;
+
+/**
+ * An opt-in replacement for the per-namespace watchers. Each resource type that the operator watches is listed
+ * and watched once, across all namespaces, and the results are kept in a {@link ResourceCache}. Watch events
+ * in namespaces managed by the operator are dispatched to the domain processor just as the per-namespace
+ * watchers would do, and namespace rechecks read the cache instead of listing the resources again.
+ *
+ * <p>A resource type for which the operator may not list at cluster scope is left to the per-namespace watchers.
+ */
+class SharedInformers {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String OPERATOR_RESOURCE_SELECTOR = DOMAINUID_LABEL + "," + CREATEDBYOPERATOR_LABEL;
+
+  private final DomainNamespaces domainNamespaces;
+  private final AtomicBoolean started = new AtomicBoolean(false);
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+
+  final Informer<V1ConfigMap, V1ConfigMapList> configMaps = new Informer<>(RequestBuilder.CM,
+      () -> new ListOptions().labelSelector(CREATEDBYOPERATOR_LABEL),
+      (items, meta) -> new V1ConfigMapList().metadata(meta).items(items),
+      d -> d::dispatchConfigMapWatch);
+  final Informer<CoreV1Event, CoreV1EventList> events = new Informer<>(RequestBuilder.EVENT,
+      () -> new ListOptions().fieldSelector(READINESS_PROBE_FAILURE_EVENT_FILTER),
+      (items, meta) -> new CoreV1EventList().metadata(meta).items(items),
+      d -> d::dispatchEventWatch);
+  final Informer<CoreV1Event, CoreV1EventList> operatorEvents = new Informer<>(RequestBuilder.EVENT,
+      () -> new ListOptions().labelSelector(OPERATOR_EVENT_LABEL_FILTER),
+      (items, meta) -> new CoreV1EventList().metadata(meta).items(items),
+      d -> d::dispatchEventWatch);
+  // the per-namespace job watcher does not pass events to the domain processor, so neither does this
+  final Informer<V1Job, V1JobList> jobs = new Informer<>(RequestBuilder.JOB,
+      () -> new ListOptions().labelSelector(OPERATOR_RESOURCE_SELECTOR),
+      (items, meta) -> new V1JobList().metadata(meta).items(items),
+      d -> null);
+  final Informer<V1Pod, V1PodList> pods = new Informer<>(RequestBuilder.POD,
+      () -> new ListOptions().labelSelector(OPERATOR_RESOURCE_SELECTOR),
+      (items, meta) -> new V1PodList().metadata(meta).items(items),
+      d -> d::dispatchPodWatch);
+  final Informer<V1Service, V1ServiceList> services = new Informer<>(RequestBuilder.SERVICE,
+      () -> new ListOptions().labelSelector(OPERATOR_RESOURCE_SELECTOR),
+      (items, meta) -> new V1ServiceList().metadata(meta).items(items),
+      d -> d::dispatchServiceWatch);
+  final Informer<V1PodDisruptionBudget, V1PodDisruptionBudgetList> podDisruptionBudgets
+      = new Informer<>(RequestBuilder.PDB,
+          () -> new ListOptions().labelSelector(OPERATOR_RESOURCE_SELECTOR),
+          (items, meta) -> new V1PodDisruptionBudgetList().metadata(meta).items(items),
+          d -> d::dispatchPodDisruptionBudgetWatch);
+  final Informer<DomainResource, DomainList> domains = new Informer<>(RequestBuilder.DOMAIN,
+      ListOptions::new,
+      (items, meta) -> new DomainList().withMetadata(meta).withItems(items),
+      d -> d::dispatchDomainWatch);
+  final Informer<ClusterResource, ClusterList> clusters = new Informer<>(RequestBuilder.CLUSTER,
+      ListOptions::new,
+      (items, meta) -> new ClusterList().withMetadata(meta).withItems(items),
+      d -> d::dispatchClusterWatch);
+
+  SharedInformers(DomainNamespaces domainNamespaces) {
+    this.domainNamespaces = domainNamespaces;
+  }
+
+  /**
+   * Returns true if the operator is configured to use shared informers.
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::isSharedInformerCacheEnabled)
+        .orElse(false);
+  }
+
+  private Stream<Informer<?, ?>> getInformers() {
+    return Stream.of(configMaps, events, operatorEvents, jobs, pods, services, podDisruptionBudgets, domains, clusters);
+  }
+
+  /**
+   * Returns steps to populate the caches and start the cluster-scoped watchers, or null if shared informers
+   * are not enabled or have already been started.
+   * @param domainProcessor the processor to which watch events should be dispatched
+   */
+  Step createStartupSteps(DomainProcessor domainProcessor) {
+    if (!isEnabled() || started.getAndSet(true)) {
+      return null;
+    }
+    return Step.chain(getInformers().map(i -> i.createStartupStep(domainProcessor)).toArray(Step[]::new));
+  }
+
+  /**
+   * Requests all cluster-scoped watchers to stop.
+   */
+  void stop() {
+    stopping.set(true);
+  }
+
+  /**
+   * A cluster-scoped watcher and cache for a single resource type.
+   *
+   * @param <T> the type of resource
+   * @param <L> the type of list returned when reading the resource
+   */
+  class Informer<T extends KubernetesObject, L extends KubernetesListObject> {
+    private final RequestBuilder<T, L> requestBuilder;
+    private final Supplier<ListOptions> listOptions;
+    private final BiFunction<List<T>, V1ListMeta, L> listFactory;
+    private final ListenerSelector<T> selector;
+    private final ResourceCache<T> cache = new ResourceCache<>();
+    private volatile WatchListener<T> listener;
+
+    Informer(RequestBuilder<T, L> requestBuilder, Supplier<ListOptions> listOptions,
+             BiFunction<List<T>, V1ListMeta, L> listFactory, ListenerSelector<T> selector) {
+      this.requestBuilder = requestBuilder;
+      this.listOptions = listOptions;
+      this.listFactory = listFactory;
+      this.selector = selector;
+    }
+
+    /**
+     * Returns true if this informer's cache is populated and being kept current, in which case it replaces
+     * the per-namespace watcher for its resource type.
+     */
+    boolean isActive() {
+      return cache.isSynced();
+    }
+
+    /**
+     * Returns a list object containing the cached resources selected by namespace and, optionally, domain UID.
+     * @param namespace the namespace of the resources
+     * @param domainUid the domain UID of the resources, or null to select all in the namespace
+     */
+    L list(String namespace, String domainUid) {
+      return listFactory.apply(cache.list(namespace, domainUid),
+          new V1ListMeta().resourceVersion(cache.getResourceVersion()));
+    }
+
+    ResourceCache<T> getCache() {
+      return cache;
+    }
+
+    private Step createStartupStep(DomainProcessor domainProcessor) {
+      return requestBuilder.list(listOptions.get(), new InformerListResponseStep(domainProcessor));
+    }
+
+    private void start(DomainProcessor domainProcessor) {
+      listener = selector.apply(domainProcessor);
+      domainNamespaces.stopWatchersReplacedBy(this);
+      ClusterScopedWatcher.create(DomainNamespaces.getThreadFactory(),
+          options -> requestBuilder.watch(mergeSelectors(options)),
+          this::relist,
+          cache.getResourceVersion(),
+          DomainNamespaces.getWatchTuning(),
+          this::receivedResponse,
+          stopping);
+    }
+
+    // Events may have been missed when the watch fails, as when its resource version expires, so the cache is
+    // reloaded before the watch resumes. Until then, it is marked unsynced, so that namespace rechecks read from
+    // Kubernetes instead. The differences between the old and new contents are then dispatched as the events
+    // which were missed. Returns the resource version of the new list, or null if it could not be read.
+    @SuppressWarnings("unchecked")
+    String relist() {
+      cache.invalidate();
+      try {
+        final List<T> items = new ArrayList<>();
+        final ListOptions options = listOptions.get();
+        L list;
+        do {
+          list = requestBuilder.list(options);
+          Optional.ofNullable(list).map(KubernetesListObject::getItems).ifPresent(l -> items.addAll((List<T>) l));
+          options.setContinue(hasContinue(list) ? list.getMetadata().getContinue() : null);
+        } while (options.getContinue() != null);
+
+        final List<Watch.Response<T>> changes
+            = cache.replaceAllWithChanges(items, KubernetesUtils.getResourceVersion(list));
+        domainNamespaces.stopWatchersReplacedBy(this);
+        changes.forEach(this::dispatch);
+        return cache.getResourceVersion();
+      } catch (ApiException e) {
+        LOGGER.fine("Unable to reload shared informer: " + e.getMessage());
+        return null;
+      }
+    }
+
+    private ListOptions mergeSelectors(ListOptions options) {
+      ListOptions selectors = listOptions.get();
+      return options.labelSelector(selectors.getLabelSelector()).fieldSelector(selectors.getFieldSelector());
+    }
+
+    private void receivedResponse(Watch.Response<T> response) {
+      cache.apply(response);
+      dispatch(response);
+    }
+
+    private void dispatch(Watch.Response<T> response) {
+      if (listener != null && domainNamespaces.isManagedNamespace(getNamespace(response))) {
+        listener.receivedResponse(response);
+      }
+    }
+
+    private String getNamespace(Watch.Response<T> response) {
+      return Optional.ofNullable(response.object)
+          .map(KubernetesObject::getMetadata)
+          .map(V1ObjectMeta::getNamespace)
+          .orElse(null);
+    }
+
+    private boolean hasContinue(L list) {
+      return Optional.ofNullable(list)
+          .map(KubernetesListObject::getMetadata)
+          .map(V1ListMeta::getContinue)
+          .filter(c -> !c.isEmpty())
+          .isPresent();
+    }
+
+    private class InformerListResponseStep extends ResponseStep<L> {
+      private final DomainProcessor domainProcessor;
+      private final List<T> items = new ArrayList<>();
+
+      InformerListResponseStep(DomainProcessor domainProcessor) {
+        this.domainProcessor = domainProcessor;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public Result onSuccess(Packet packet, KubernetesApiResponse<L> callResponse) {
+        final L list = callResponse.getObject();
+        Optional.ofNullable(list).map(KubernetesListObject::getItems).ifPresent(l -> items.addAll((List<T>) l));
+        if (hasContinue(list)) {
+          return doContinueListOrNext(callResponse, packet);
+        }
+
+        cache.replaceAll(items, KubernetesUtils.getResourceVersion(list));
+        items.clear();
+        start(domainProcessor);
+        return doNext(packet);
+      }
+
+      // If the operator may not list this type of resource at cluster scope, leave it to the per-namespace watchers.
+      @Override
+      protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<L> callResponse) {
+        LOGGER.fine("Unable to start shared informer: " + createFailureMessage(callResponse));
+        items.clear();
+        return doNext(packet);
+      }
+    }
+  }
+}
@@ -0,0 +1,365 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.DomainStatusUpdater.DomainStatusUpdaterContext;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Merges the domain status updates made within a short window into a single write. The first update in a window
+ * waits for the window to close and then writes the status; each later update in the window applies its changes
+ * to the status which will be written, and then waits for that write to complete. Updates computed while a write
+ * is pending use the pending status as their starting point, so that no changes are lost, and any events
+ * they generate reflect the status that will be recorded.
+ *
+ * <p>If the fiber which made the first update is cancelled before its window closes, the next update to find
+ * the write takes it over, so that the changes already merged into it are still written.
+ */
+class StatusWriteCoalescer {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** A map of namespaces to maps of domain UIDs to the writes waiting for their windows to close. */
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit tests
+  private static Map<String, Map<String, PendingWrite>> pendingWrites = new ConcurrentHashMap<>();
+
+  private StatusWriteCoalescer() {
+  }
+
+  /**
+   * Returns true if status updates should be coalesced.
+   */
+  static boolean isEnabled() {
+    return getWindowMillis() > 0;
+  }
+
+  private static long getWindowMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getStatusUpdateCoalescingWindowMillis)
+          .orElse(0L);
+  }
+
+  // The interval at which an update waiting for a write checks whether it has completed.
+  private static long getPollMillis() {
+    return Math.max(1, getWindowMillis() / 4);
+  }
+
+  private static long getWriteTimeoutNanos() {
+    return TimeUnit.MILLISECONDS.toNanos(getWindowMillis())
+        + TimeUnit.SECONDS.toNanos(TuningParameters.getInstance().getStatusUpdateTimeoutSeconds());
+  }
+
+  /**
+   * Returns a step to record the new status computed by the specified context, or null if there is nothing to write.
+   * @param context the context of a domain status update
+   */
+  static Step createWriteStep(DomainStatusUpdaterContext context) {
+    if (context.getDomain() == null) {
+      return null;
+    }
+
+    final Map<String, PendingWrite> domainWrites = getPendingWrites(context.getNamespace());
+    PendingWrite pendingWrite = domainWrites.get(context.getDomainUid());
+    while (true) {
+      if (pendingWrite == null) {
+        context.setPendingStatus(null);
+        if (context.isStatusUnchanged()) {
+          return null;
+        }
+        final PendingWrite newWrite = new PendingWrite(context);
+        pendingWrite = domainWrites.putIfAbsent(context.getDomainUid(), newWrite);
+        if (pendingWrite == null) {
+          return new AwaitWindowStep(newWrite, context);
+        }
+      } else {
+        final PendingStatus pendingStatus = pendingWrite.getPendingStatus();
+        if (pendingStatus != null) {
+          context.setPendingStatus(pendingStatus.status());
+          if (context.isStatusUnchanged() && !isEndOfMakeRight(context)) {
+            return null;
+          } else if (pendingWrite.add(context, pendingStatus.version())) {
+            OperatorMetrics.recordStatusWriteAvoided();
+            return new AwaitWriteStep(pendingWrite, context, null);
+          }
+        }
+        // the write was closed or changed by another update while this one was computed, so look again
+        pendingWrite = domainWrites.get(context.getDomainUid());
+      }
+    }
+  }
+
+  // A make-right which ends without changing the status must still record the generation it processed.
+  private static boolean isEndOfMakeRight(DomainStatusUpdaterContext context) {
+    return context.endOfProcessing && context.isMakeRight;
+  }
+
+  private static Map<String, PendingWrite> getPendingWrites(String namespace) {
+    return pendingWrites.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Discards any write pending for the specified domain. A fiber already waiting for the write will still make it.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  static void forget(String namespace, String domainUid) {
+    Optional.ofNullable(pendingWrites.get(namespace)).ifPresent(m -> m.remove(domainUid));
+  }
+
+  private record PendingStatus(DomainStatus status, int version) {
+  }
+
+  private enum WriteState {
+    OPEN, WRITING, WRITTEN
+  }
+
+  private static class PendingWrite {
+    private final String namespace;
+    private final String domainUid;
+    private final Fiber owner = Fiber.getCurrentIfSet();
+    private final long openedNanos = System.nanoTime();
+    private final List<DomainStatusUpdaterContext> contexts = new ArrayList<>();
+    private DomainStatus status;
+    private int version;
+    private WriteState state = WriteState.OPEN;
+    private long claimedNanos;
+
+    PendingWrite(DomainStatusUpdaterContext context) {
+      this.namespace = context.getNamespace();
+      this.domainUid = context.getDomainUid();
+      this.contexts.add(context);
+      this.status = context.getNewStatus();
+    }
+
+    // Returns the status which will be written, or null if the write no longer accepts updates.
+    synchronized PendingStatus getPendingStatus() {
+      return state == WriteState.OPEN ? new PendingStatus(new DomainStatus(status), version) : null;
+    }
+
+    // Merges the update, unless the write has been closed or updated since its status was read.
+    synchronized boolean add(DomainStatusUpdaterContext context, int expectedVersion) {
+      if (state != WriteState.OPEN || version != expectedVersion) {
+        return false;
+      }
+      contexts.add(context);
+      status = context.getNewStatus();
+      version++;
+      return true;
+    }
+
+    // Stops accepting updates. Returns true if the caller is to make the write.
+    boolean claim() {
+      synchronized (this) {
+        if (state != WriteState.OPEN) {
+          return false;
+        }
+        state = WriteState.WRITING;
+        claimedNanos = System.nanoTime();
+      }
+      Optional.ofNullable(pendingWrites.get(namespace)).ifPresent(m -> m.remove(domainUid, this));
+      return true;
+    }
+
+    // Returns true if the fiber which was to make the write will not do so.
+    synchronized boolean isAbandoned() {
+      return state == WriteState.OPEN
+          && (isOwnerCancelled() || System.nanoTime() - openedNanos > getWriteTimeoutNanos());
+    }
+
+    private boolean isOwnerCancelled() {
+      return owner != null && owner.isCancelled();
+    }
+
+    synchronized boolean isWritten() {
+      return state == WriteState.WRITTEN;
+    }
+
+    synchronized boolean isOverdue() {
+      return state == WriteState.WRITING && System.nanoTime() - claimedNanos > getWriteTimeoutNanos();
+    }
+
+    synchronized void complete() {
+      state = WriteState.WRITTEN;
+    }
+
+    synchronized boolean isMakeRight() {
+      return contexts.stream().anyMatch(c -> c.isMakeRight);
+    }
+
+    // Applies the merged updates, in order, to the status of the domain as last read.
+    synchronized DomainStatus createStatus(DomainResource domain) {
+      final DomainStatus result = Optional.ofNullable(domain.getStatus()).map(DomainStatus::new)
+          .orElse(new DomainStatus());
+      contexts.forEach(c -> c.modifyStatus(result));
+      return result;
+    }
+  }
+
+  // Waits for the window to close, and then writes the status, unless another update has taken over the write.
+  private static class AwaitWindowStep extends Step {
+    private final PendingWrite pendingWrite;
+    private final DomainStatusUpdaterContext context;
+
+    AwaitWindowStep(PendingWrite pendingWrite, DomainStatusUpdaterContext context) {
+      this.pendingWrite = pendingWrite;
+      this.context = context;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doDelay(new CloseWindowStep(pendingWrite, context, getNext()),
+          packet, getWindowMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static class CloseWindowStep extends Step {
+    private final PendingWrite pendingWrite;
+    private final DomainStatusUpdaterContext context;
+
+    CloseWindowStep(PendingWrite pendingWrite, DomainStatusUpdaterContext context, Step next) {
+      super(next);
+      this.pendingWrite = pendingWrite;
+      this.context = context;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (pendingWrite.claim()) {
+        return doNext(createWriteSteps(pendingWrite, context, getNext()), packet);
+      } else {
+        return doNext(new AwaitWriteStep(pendingWrite, context, getNext()), packet);
+      }
+    }
+  }
+
+  private static Step createWriteSteps(PendingWrite pendingWrite, DomainStatusUpdaterContext context, Step next) {
+    return new WriteStep(pendingWrite, context, new WriteCompleteStep(pendingWrite, next));
+  }
+
+  // Computes the merged status from the domain as last read, and writes it. This step is run again, after reading
+  // the domain, if the write conflicts with another change.
+  private static class WriteStep extends Step {
+    private final PendingWrite pendingWrite;
+    private final DomainStatusUpdaterContext context;
+
+    WriteStep(PendingWrite pendingWrite, DomainStatusUpdaterContext context, Step next) {
+      super(next);
+      this.pendingWrite = pendingWrite;
+      this.context = context;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final DomainResource domain = context.getDomain();
+      if (domain == null) {
+        return doNext(packet);
+      }
+
+      final DomainStatus status = pendingWrite.createStatus(domain);
+      if (status.equals(domain.getStatus()) && !isGenerationChanged(domain, status)) {
+        return doNext(packet);
+      }
+
+      LOGGER.fine(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), status);
+      if (pendingWrite.isMakeRight()) {
+        // Only set observedGeneration during a make-right, but not during a background status update
+        status.setObservedGeneration(domain.getMetadata().getGeneration());
+      }
+      return doNext(Step.chain(context.getCallStep(domain, domain.getStatus(), status, this), getNext()), packet);
+    }
+
+    private boolean isGenerationChanged(DomainResource domain, DomainStatus status) {
+      return pendingWrite.isMakeRight()
+          && !Objects.equals(domain.getMetadata().getGeneration(), status.getObservedGeneration());
+    }
+  }
+
+  private static class WriteCompleteStep extends Step {
+    private final PendingWrite pendingWrite;
+
+    WriteCompleteStep(PendingWrite pendingWrite, Step next) {
+      super(next);
+      this.pendingWrite = pendingWrite;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      pendingWrite.complete();
+      return doNext(packet);
+    }
+  }
+
+  // Waits, without holding its thread where the fiber may suspend, for the status write which will include
+  // the changes from an update. If the fiber which was to make the write has been cancelled, makes the write
+  // itself. If a write in progress does not complete, writes the status of this update directly.
+  private static class AwaitWriteStep extends Step {
+    private final PendingWrite pendingWrite;
+    private final DomainStatusUpdaterContext context;
+
+    AwaitWriteStep(PendingWrite pendingWrite, DomainStatusUpdaterContext context, Step next) {
+      super(next);
+      this.pendingWrite = pendingWrite;
+      this.context = context;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (pendingWrite.isWritten()) {
+        return doNext(packet);
+      } else if (pendingWrite.isAbandoned() && pendingWrite.claim()) {
+        return doNext(createWriteSteps(pendingWrite, context, getNext()), packet);
+      } else if (pendingWrite.isOverdue()) {
+        LOGGER.fine("Coalesced status write for domain " + context.getDomainUid() + " did not complete");
+        return doNext(new DirectWriteStep(context, getNext()), packet);
+      } else {
+        return doDelay(this, packet, getPollMillis(), TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  // Computes the status from the domain as last read, and writes it. This step is run again, after reading
+  // the domain, if the write conflicts with another change.
+  private static class DirectWriteStep extends Step {
+    private final DomainStatusUpdaterContext context;
+
+    DirectWriteStep(DomainStatusUpdaterContext context, Step next) {
+      super(next);
+      this.context = context;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      context.setPendingStatus(null);
+      if (context.isStatusUnchanged()) {
+        return doNext(packet);
+      }
+
+      final DomainResource domain = context.getDomain();
+      final DomainStatus status = context.getNewStatus();
+      if (context.isMakeRight) {
+        status.setObservedGeneration(domain.getMetadata().getGeneration());
+      }
+      return doNext(Step.chain(context.getCallStep(domain, domain.getStatus(), status, this), getNext()), packet);
+    }
+  }
+}
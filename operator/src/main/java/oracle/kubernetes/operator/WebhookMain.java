@@ -29,6 +29,7 @@ import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.steps.InitializeWebhookIdentityStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.Certificates;
+import oracle.kubernetes.operator.webhooks.WebhookResourceCache;
 import oracle.kubernetes.operator.webhooks.WebhookRestServer;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -52,7 +53,8 @@ public class WebhookMain extends BaseMain {
   private final WebhookMainDelegate conversionWebhookMainDelegate;
   private boolean warnedOfCrdAbsence;
   private final AtomicInteger crdPresenceCheckCount = new AtomicInteger(0);
-  private final RestConfig restConfig = new RestConfigImpl(new Certificates(delegate));
+  private final RestConfig restConfig = new RestConfigImpl(new Certificates(delegate),
+      namespace -> WebhookResourceCache.getInstance().getCachedClusters(namespace));
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static NextStepFactory nextStepFactory = WebhookMain::createInitializeWebhookIdentityStep;
 
@@ -119,7 +121,8 @@ public class WebhookMain extends BaseMain {
             createDomainCrdStep(delegate.getProductVersion(), certs),
             createClusterCrdStep(delegate.getProductVersion()),
             new CheckFailureAndCreateEventStep(),
-            WebhookHelper.createValidatingWebhookConfigurationStep(certs)));
+            WebhookHelper.createValidatingWebhookConfigurationStep(certs),
+            WebhookResourceCache.getInstance().createStartupSteps()));
   }
 
   @Override
@@ -152,6 +155,7 @@ public class WebhookMain extends BaseMain {
   }
 
   void completeStop() {
+    WebhookResourceCache.getInstance().stop();
     stopRestServer();
     stopMetricsServer();
   }
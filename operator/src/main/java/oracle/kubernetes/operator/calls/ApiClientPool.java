@@ -0,0 +1,146 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.util.credentials.AccessTokenAuthentication;
+import io.kubernetes.client.util.credentials.Authentication;
+import okhttp3.OkHttpClient;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A pool of API clients which make requests with the credentials of callers of the operator's REST API. The clients
+ * share the HTTP client of the operator's own API client, and thus its dispatcher and its connections to the
+ * Kubernetes API server, so that REST requests do not need TLS handshakes of their own. A client is reused for
+ * requests which present the same access token, and discarded once unused for the configured time to live, or once
+ * the pool is full and it is the least recently used. Clients are keyed by a hash of the token, so that the pool
+ * does not retain the tokens themselves.
+ */
+public class ApiClientPool {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // allow unit tests to set this
+  private static Supplier<ApiClient> operatorClient = Client::getInstance;
+
+  private static final Map<String, PooledClient> clients = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, PooledClient> eldest) {
+      return size() > getMaxEntries();
+    }
+  };
+  private static HttpClientHolder sharedHttpClient;
+
+  private ApiClientPool() {
+    // no-op
+  }
+
+  /**
+   * Returns an API client which will make requests with the specified access token.
+   * @param accessToken the token of the caller on whose behalf requests will be made
+   */
+  public static ApiClient getClient(String accessToken) {
+    final int ttlSeconds = getTimeToLiveSeconds();
+    if (ttlSeconds <= 0) {
+      return createClient(accessToken);
+    }
+
+    final OffsetDateTime now = SystemClock.now();
+    final String key = DigestUtils.sha256Hex(accessToken);
+    synchronized (clients) {
+      clients.values().removeIf(c -> c.isExpired(now, ttlSeconds));
+      final PooledClient pooled = clients.get(key);
+      if (pooled != null) {
+        return pooled.use(now);
+      }
+    }
+
+    // The client is created outside the lock, so that lookups by other callers need not wait for it.
+    final PooledClient created = new PooledClient(createClient(accessToken));
+    synchronized (clients) {
+      return Optional.ofNullable(clients.putIfAbsent(key, created)).orElse(created).use(now);
+    }
+  }
+
+  private static int getTimeToLiveSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getRestClientPoolTimeToLiveSeconds)
+        .orElse(0);
+  }
+
+  private static int getMaxEntries() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getRestClientPoolMaxEntries)
+        .orElse(TuningParameters.DEFAULT_REST_CLIENT_POOL_MAX_ENTRIES);
+  }
+
+  private static ApiClient createClient(String accessToken) {
+    final ApiClient template = operatorClient.get();
+    final ApiClient client = new ApiClient();
+    client.setHttpClient(getSharedHttpClient(template));
+    client.setBasePath(template.getBasePath());
+    new AccessTokenAuthentication(accessToken).provide(client);
+    return client;
+  }
+
+  // The operator's HTTP client may carry an interceptor which adds the operator's own credentials to each request.
+  // The shared client omits it, but is otherwise derived from the operator's client, so that it uses the same
+  // connection pool, dispatcher and TLS configuration.
+  private static synchronized OkHttpClient getSharedHttpClient(ApiClient template) {
+    final OkHttpClient operatorHttpClient = template.getHttpClient();
+    if (sharedHttpClient == null || sharedHttpClient.source() != operatorHttpClient) {
+      final OkHttpClient.Builder builder = operatorHttpClient.newBuilder();
+      builder.interceptors().removeIf(Authentication.class::isInstance);
+      sharedHttpClient = new HttpClientHolder(operatorHttpClient, builder.build());
+    }
+    return sharedHttpClient.client();
+  }
+
+  /**
+   * Discards all pooled clients.
+   */
+  static void clear() {
+    synchronized (clients) {
+      clients.clear();
+    }
+    clearSharedHttpClient();
+  }
+
+  private static synchronized void clearSharedHttpClient() {
+    sharedHttpClient = null;
+  }
+
+  static int size() {
+    synchronized (clients) {
+      return clients.size();
+    }
+  }
+
+  private record HttpClientHolder(OkHttpClient source, OkHttpClient client) {
+  }
+
+  private static class PooledClient {
+    private final ApiClient client;
+    private OffsetDateTime lastUsed;
+
+    PooledClient(ApiClient client) {
+      this.client = client;
+    }
+
+    ApiClient use(OffsetDateTime now) {
+      lastUsed = now;
+      return client;
+    }
+
+    boolean isExpired(OffsetDateTime now, long ttlSeconds) {
+      return lastUsed != null && lastUsed.plusSeconds(ttlSeconds).isBefore(now);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiClient;
+
+/**
+ * A factory which reuses the {@link KubernetesApi} instances it creates. The instances hold no per-request state,
+ * so a single instance may serve every request for a given resource type and client. The least recently used
+ * instances are discarded once the cache is full, so that clients which are no longer in use may be collected.
+ * Lookups do not lock the cache; only the creation of an instance which overfills it requires a scan for the
+ * least recently used.
+ */
+class CachingKubernetesApiFactory implements KubernetesApiFactory {
+
+  static final int MAX_CACHED_APIS = 256;
+
+  private final Map<Key, CachedApi> cache = new ConcurrentHashMap<>();
+  private final AtomicLong useCounter = new AtomicLong();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A extends KubernetesObject, L extends KubernetesListObject>
+      KubernetesApi<A, L> create(Class<A> apiTypeClass, Class<L> apiListTypeClass,
+                                 String apiGroup, String apiVersion, String resourcePlural,
+                                 UnaryOperator<ApiClient> clientSelector) {
+    final ApiClient apiClient = clientSelector.apply(Client.getInstance());
+    final Key key = new Key(apiTypeClass, apiGroup, apiVersion, resourcePlural, apiClient);
+    CachedApi cached = cache.get(key);
+    if (cached == null) {
+      cached = cache.computeIfAbsent(key, k -> new CachedApi(new KubernetesApiImpl<>(
+          apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, apiClient)));
+      evictLeastRecentlyUsed();
+    }
+    return (KubernetesApi<A, L>) cached.use(useCounter.incrementAndGet());
+  }
+
+  private void evictLeastRecentlyUsed() {
+    while (cache.size() > MAX_CACHED_APIS) {
+      cache.entrySet().stream()
+          .min(Comparator.comparingLong(e -> e.getValue().lastUsed))
+          .ifPresent(e -> cache.remove(e.getKey(), e.getValue()));
+    }
+  }
+
+  int size() {
+    return cache.size();
+  }
+
+  // API clients do not override equals, so instances are compared by identity.
+  private record Key(Class<?> apiTypeClass, String apiGroup, String apiVersion, String resourcePlural,
+                     ApiClient apiClient) {
+  }
+
+  private static class CachedApi {
+    private final KubernetesApi<?, ?> api;
+    private volatile long lastUsed = Long.MAX_VALUE;
+
+    CachedApi(KubernetesApi<?, ?> api) {
+      this.api = api;
+    }
+
+    KubernetesApi<?, ?> use(long useCount) {
+      lastUsed = useCount;
+      return api;
+    }
+  }
+}
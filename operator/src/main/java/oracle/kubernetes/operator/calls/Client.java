@@ -29,7 +29,7 @@ public class Client {
    * @return API client
    */
   public static ApiClient getInstance() {
-    return singleton.getAndUpdate(c -> {
+    return singleton.updateAndGet(c -> {
       if (c != null) {
         return c;
       }
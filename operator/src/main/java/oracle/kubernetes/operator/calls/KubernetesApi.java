@@ -224,6 +224,17 @@ public interface KubernetesApi<A extends KubernetesObject, L extends KubernetesL
       V1Patch patch,
       final PatchOptions patchOptions);
 
+  /**
+   * Patch the status subresource of a namespaced custom resource.
+   *
+   * @param namespace the namespace
+   * @param name the name
+   * @param patchType the patch type, supported values defined in V1Patch
+   * @param patch the patch
+   * @return the Kubernetes API response
+   */
+  KubernetesApiResponse<A> patchStatus(String namespace, String name, String patchType, V1Patch patch);
+
   /**
    * Delete Kubernetes API response.
    *
@@ -285,6 +296,18 @@ public interface KubernetesApi<A extends KubernetesObject, L extends KubernetesL
    */
   KubernetesApiResponse<RequestBuilder.StringObject> logs(String namespace, String name, String container);
 
+  /**
+   * Pod logs Kubernetes API response, with the log converted by the specified reader as it is received.
+   * @param namespace the namespace
+   * @param name the pod name
+   * @param container the container name
+   * @param reader the reader which converts the log
+   * @param <R> the type of result
+   * @return the Kubernetes API response
+   */
+  <R extends KubernetesObject> KubernetesApiResponse<R> logs(
+      String namespace, String name, String container, PodLogReader<R> reader);
+
   /**
    * Version code Kubernetes API response.
    * @return the Kubernetes API response
@@ -3,18 +3,23 @@
 
 package oracle.kubernetes.operator.calls;
 
+import java.io.IOException;
 import java.util.function.UnaryOperator;
 
 import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.apis.CustomObjectsApi;
 import io.kubernetes.client.openapi.apis.VersionApi;
+import io.kubernetes.client.util.PatchUtils;
 import io.kubernetes.client.util.generic.GenericKubernetesApi;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.DeleteOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
+import okhttp3.Response;
 
 public interface KubernetesApiFactory {
   default <A extends KubernetesObject, L extends KubernetesListObject>
@@ -27,13 +32,42 @@ public interface KubernetesApiFactory {
 
   class KubernetesApiImpl<A extends KubernetesObject, L extends KubernetesListObject>
       extends GenericKubernetesApi<A, L> implements KubernetesApi<A, L> {
+    private final Class<A> apiTypeClass;
+    private final String apiGroup;
+    private final String apiVersion;
+    private final String resourcePlural;
+    private final ApiClient apiClient;
+
     public KubernetesApiImpl(Class<A> apiTypeClass, Class<L> apiListTypeClass,
                              String apiGroup, String apiVersion, String resourcePlural,
                              UnaryOperator<ApiClient> clientSelector) {
-      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+      this(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
               clientSelector.apply(Client.getInstance()));
     }
 
+    KubernetesApiImpl(Class<A> apiTypeClass, Class<L> apiListTypeClass,
+                      String apiGroup, String apiVersion, String resourcePlural, ApiClient apiClient) {
+      super(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, apiClient);
+      this.apiTypeClass = apiTypeClass;
+      this.apiGroup = apiGroup;
+      this.apiVersion = apiVersion;
+      this.resourcePlural = resourcePlural;
+      this.apiClient = apiClient;
+    }
+
+    @Override
+    public KubernetesApiResponse<A> patchStatus(String namespace, String name, String patchType, V1Patch patch) {
+      CustomObjectsApi c = new CustomObjectsApi(apiClient);
+      try {
+        return new KubernetesApiResponse<>(PatchUtils.patch(apiTypeClass,
+            () -> c.patchNamespacedCustomObjectStatusCall(
+                apiGroup, apiVersion, namespace, resourcePlural, name, patch, null, null, null, null),
+            patchType, apiClient));
+      } catch (ApiException e) {
+        return RequestStep.responseFromApiException(apiClient, e);
+      }
+    }
+
     @Override
     public KubernetesApiResponse<RequestBuilder.V1StatusObject> deleteCollection(
         String namespace, ListOptions listOptions, DeleteOptions deleteOptions) {
@@ -59,6 +93,24 @@ public interface KubernetesApiFactory {
       }
     }
 
+    @Override
+    public <R extends KubernetesObject> KubernetesApiResponse<R> logs(
+        String namespace, String name, String container, PodLogReader<R> reader) {
+      CoreV1Api c = new CoreV1Api(Client.getInstance());
+      try (Response response = c.readNamespacedPodLogCall(name, namespace, container,
+          null, null, null, null, null, null, null, null, null).execute()) {
+        if (!response.isSuccessful()) {
+          throw new ApiException(response.message(), response.code(),
+              response.headers().toMultimap(), response.body().string());
+        }
+        return new KubernetesApiResponse<>(reader.read(response.body().charStream()));
+      } catch (IOException e) {
+        return RequestStep.responseFromApiException(c.getApiClient(), new ApiException(e));
+      } catch (ApiException e) {
+        return RequestStep.responseFromApiException(c.getApiClient(), e);
+      }
+    }
+
     @Override
     public KubernetesApiResponse<RequestBuilder.VersionInfoObject> getVersionCode() {
       VersionApi c = new VersionApi(Client.getInstance());
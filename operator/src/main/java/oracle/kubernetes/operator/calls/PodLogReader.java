@@ -0,0 +1,23 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Converts a pod log into a result as it is received, so that the log need not be held in memory as a single string.
+ *
+ * @param <R> the type of result
+ */
+@FunctionalInterface
+public interface PodLogReader<R> {
+
+  /**
+   * Reads the log and returns the result.
+   * @param log a reader positioned at the start of the log
+   * @throws IOException if the log could not be read
+   */
+  R read(Reader log) throws IOException;
+}
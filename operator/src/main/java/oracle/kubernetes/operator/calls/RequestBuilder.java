@@ -36,6 +36,7 @@ import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretList;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
@@ -60,8 +61,7 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 public class RequestBuilder<A extends KubernetesObject, L extends KubernetesListObject> {
-  private static final KubernetesApiFactory DEFAULT_KUBERNETES_API_FACTORY = new KubernetesApiFactory() {
-  };
+  private static final KubernetesApiFactory DEFAULT_KUBERNETES_API_FACTORY = new CachingKubernetesApiFactory();
 
   public static <X extends KubernetesObject, Y extends KubernetesListObject>
       KubernetesApi<X, Y> createKubernetesApi(Class<X> apiTypeClass, Class<Y> apiListTypeClass,
@@ -146,6 +146,9 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
   public static final RequestBuilder<V1SelfSubjectRulesReview, KubernetesListObject> SSRR =
       new RequestBuilder<>(V1SelfSubjectRulesReview.class, KubernetesListObject.class,
           "authorization.k8s.io", "v1", "selfsubjectrulesreviews", "selfsubjectrulesreview");
+  public static final RequestBuilder<V1SelfSubjectAccessReview, KubernetesListObject> SSAR =
+      new RequestBuilder<>(V1SelfSubjectAccessReview.class, KubernetesListObject.class,
+          "authorization.k8s.io", "v1", "selfsubjectaccessreviews", "selfsubjectaccessreview");
   public static final RequestBuilder<V1SubjectAccessReview, KubernetesListObject> SAR =
       new RequestBuilder<>(V1SubjectAccessReview.class, KubernetesListObject.class,
           "authorization.k8s.io", "v1", "selfsubjectaccessreviews", "selfsubjectaccessreview");
@@ -980,6 +983,22 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
     return response.get();
   }
 
+  /**
+   * Patch the status of a namespaced resource.
+   * @param namespace Namespace
+   * @param name Name
+   * @param patchType Patch type
+   * @param patch Patch
+   * @param responseStep Response step
+   * @return Request step
+   */
+  public RequestStep<A, L, A> patchStatus(
+      String namespace, String name, String patchType, V1Patch patch, ResponseStep<A> responseStep) {
+    return new RequestStep.PatchStatusRequestStep<>(
+            responseStep, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, resourceSingular,
+            namespace, name, patchType, patch, CLIENT_SELECTOR);
+  }
+
   /**
    * Update status.
    * @param object Resource object
@@ -1203,6 +1222,23 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
               namespace, name, container, clientSelector);
     }
 
+    /**
+     * Step to return pod logs, converted by the specified reader as they are received.
+     * @param namespace Namespace
+     * @param name Name
+     * @param container Container name
+     * @param reader Log reader
+     * @param responseStep Response step
+     * @param <R> the type of result
+     * @return Request step
+     */
+    public <R extends KubernetesObject> RequestStep<V1Pod, V1PodList, R> logs(
+        String namespace, String name, String container, PodLogReader<R> reader, ResponseStep<R> responseStep) {
+      return new RequestStep.ReadLogsRequestStep<>(
+              responseStep, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, resourceSingular,
+              namespace, name, container, reader, CLIENT_SELECTOR);
+    }
+
     /**
      * Step to delete collection of pods.
      * @param namespace Namespace
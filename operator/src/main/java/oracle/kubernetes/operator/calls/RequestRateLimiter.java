@@ -0,0 +1,143 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * Limits the rate at which the operator sends requests to the Kubernetes API server. Requests are divided into
+ * priority lanes, each with its own token bucket, so that the lists and periodic rechecks which follow an operator
+ * restart do not delay the make-rights triggered by changes to domains. When the server asks the operator to wait
+ * before retrying a request, requests in all lanes wait.
+ */
+public class RequestRateLimiter {
+
+  /** The packet key for the lane in which a fiber's requests should be sent, if not determined by the request. */
+  public static final String LANE = "requestLane";
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // allow unit tests to set this
+  private static LongSupplier nanoTime = System::nanoTime;
+
+  private static final Map<Lane, TokenBucket> buckets = new EnumMap<>(Lane.class);
+
+  static {
+    for (Lane lane : Lane.values()) {
+      buckets.put(lane, new TokenBucket());
+    }
+  }
+
+  private RequestRateLimiter() {
+    // no-op
+  }
+
+  /**
+   * Takes a token from the bucket for the specified lane, and returns the time for which the caller must wait
+   * before sending its request.
+   * @param lane the lane in which the request will be sent
+   */
+  static Duration reserve(Lane lane) {
+    final long waitNanos = buckets.get(lane).reserve(lane, nanoTime.getAsLong());
+    OperatorMetrics.recordRequestQueueWait(lane.getLabel(), waitNanos / NANOS_PER_SECOND);
+    return Duration.ofNanos(waitNanos);
+  }
+
+  /**
+   * Delays all requests not yet sent, in every lane, until the specified time has passed.
+   * @param delay the time for which to wait, as requested by the server
+   */
+  static void pause(Duration delay) {
+    final long resumeTime = nanoTime.getAsLong() + delay.toNanos();
+    buckets.values().forEach(b -> b.pauseUntil(resumeTime));
+    OperatorMetrics.recordRequestPause();
+  }
+
+  /**
+   * Discards the tokens taken and any pause requested, restoring each bucket to its initial state.
+   */
+  static void reset() {
+    buckets.values().forEach(TokenBucket::reset);
+  }
+
+  /**
+   * The priority lanes in which requests may be sent.
+   */
+  public enum Lane {
+    /** Requests made by make-rights, other than status updates and lists. */
+    MAKE_RIGHT("makeRight", TuningParameters::getMakeRightRequestQps, TuningParameters::getMakeRightRequestBurst),
+    /** Requests which update the status of domains and clusters. */
+    STATUS("status", TuningParameters::getStatusRequestQps, TuningParameters::getStatusRequestBurst),
+    /** List requests, and requests made by periodic rechecks. */
+    BACKGROUND("background", TuningParameters::getBackgroundRequestQps, TuningParameters::getBackgroundRequestBurst);
+
+    private final String label;
+    private final ToIntFunction<TuningParameters> qps;
+    private final ToIntFunction<TuningParameters> burst;
+
+    Lane(String label, ToIntFunction<TuningParameters> qps, ToIntFunction<TuningParameters> burst) {
+      this.label = label;
+      this.qps = qps;
+      this.burst = burst;
+    }
+
+    String getLabel() {
+      return label;
+    }
+
+    private int getQps() {
+      return Optional.ofNullable(TuningParameters.getInstance()).map(qps::applyAsInt).orElse(0);
+    }
+
+    private int getBurst() {
+      return Optional.ofNullable(TuningParameters.getInstance()).map(burst::applyAsInt).orElse(1);
+    }
+  }
+
+  /**
+   * A token bucket, which records the time at which its next token will be available. A full bucket holds
+   * as many tokens as its burst size, and is refilled at its rate limit. Requests may reserve tokens before
+   * they are available, in which case they wait for them.
+   */
+  private static class TokenBucket {
+    private long nextTokenTime;
+    private long pausedUntil;
+    private boolean paused;
+
+    synchronized long reserve(Lane lane, long now) {
+      final int qps = lane.getQps();
+      if (qps > 0) {
+        final long intervalNanos = (long) (NANOS_PER_SECOND / qps);
+        nextTokenTime = Math.max(nextTokenTime, now - Math.max(1, lane.getBurst()) * intervalNanos) + intervalNanos;
+      } else {
+        nextTokenTime = now;
+      }
+
+      if (paused && pausedUntil - nextTokenTime > 0) {
+        nextTokenTime = pausedUntil;
+      }
+      return Math.max(0, nextTokenTime - now);
+    }
+
+    synchronized void pauseUntil(long resumeTime) {
+      if (!paused || resumeTime - pausedUntil > 0) {
+        pausedUntil = resumeTime;
+        paused = true;
+      }
+    }
+
+    synchronized void reset() {
+      nextTokenTime = 0;
+      paused = false;
+    }
+  }
+}
@@ -4,7 +4,10 @@
 package oracle.kubernetes.operator.calls;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -23,6 +26,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.openapi.models.V1StatusDetails;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.CreateOptions;
 import io.kubernetes.client.util.generic.options.DeleteOptions;
@@ -30,6 +34,9 @@ import io.kubernetes.client.util.generic.options.GetOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
+import oracle.kubernetes.operator.calls.RequestRateLimiter.Lane;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
@@ -42,6 +49,9 @@ public abstract class RequestStep<
   public static final String RESPONSE_COMPONENT_NAME = "response";
   public static final String CONTINUE = "continue";
   public static final int FIBER_TIMEOUT = 0;
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final String RETRY_AFTER_HEADER = "Retry-After";
+  private static final Set<String> STATUS_OPERATIONS = Set.of("updateStatus", "patchStatus");
 
   private final Class<A> apiTypeClass;
   private final Class<L> apiListTypeClass;
@@ -107,10 +117,34 @@ public abstract class RequestStep<
 
   @Override
   public @Nonnull Result apply(Packet packet) {
+    final Duration wait = RequestRateLimiter.reserve(getLane(packet));
+    if (wait.isZero()) {
+      return executeRequest(packet);
+    } else {
+      return doDelay(new DelayedRequestStep(), packet, wait.toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  // Requests to update status always use the status lane; others use the lane selected for the fiber, if any,
+  // with lists treated as background requests.
+  private Lane getLane(Packet packet) {
+    if (STATUS_OPERATIONS.contains(operationName)) {
+      return Lane.STATUS;
+    }
+    return Optional.ofNullable((Lane) packet.get(RequestRateLimiter.LANE))
+        .orElse("list".equals(operationName) ? Lane.BACKGROUND : Lane.MAKE_RIGHT);
+  }
+
+  private Result executeRequest(Packet packet) {
     KubernetesApi<A, L> client
             = RequestBuilder.createKubernetesApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
             resourcePlural, clientSelector);
+    final long startNanos = System.nanoTime();
     KubernetesApiResponse<R> result = execute(client, packet);
+    OperatorMetrics.recordRequestDuration(resourceSingular, operationName,
+        (System.nanoTime() - startNanos) / NANOS_PER_SECOND);
+
+    Optional.ofNullable(packet.getFiber()).ifPresent(Fiber::recordApiCall);
 
     // update packet
     packet.put(RESPONSE_COMPONENT_NAME, result);
@@ -118,6 +152,14 @@ public abstract class RequestStep<
     return doNext(packet);
   }
 
+  // Sends the request once the rate limiter has allowed it.
+  private class DelayedRequestStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return executeRequest(packet);
+    }
+  }
+
   String getResourceSingular() {
     return resourceSingular;
   }
@@ -687,6 +729,63 @@ public abstract class RequestStep<
     }
   }
 
+  public static class PatchStatusRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
+      extends RequestStep<A, L, A> {
+    private final String namespace;
+    private final String name;
+    private final String patchType;
+    private final V1Patch patch;
+
+    /**
+     * Construct patch status request step.
+     *
+     * @param next Response step
+     * @param apiTypeClass API type class
+     * @param apiListTypeClass API list type class
+     * @param apiGroup API group
+     * @param apiVersion API version
+     * @param resourcePlural Resource plural
+     * @param resourceSingular Resource singular
+     * @param namespace Namespace
+     * @param name Name
+     * @param patchType Patch type
+     * @param patch Patch
+     * @param clientSelector Client selector
+     */
+    public PatchStatusRequestStep(
+        ResponseStep<A> next,
+        Class<A> apiTypeClass,
+        Class<L> apiListTypeClass,
+        String apiGroup,
+        String apiVersion,
+        String resourcePlural,
+        String resourceSingular,
+        String namespace,
+        String name,
+        String patchType,
+        V1Patch patch,
+        UnaryOperator<ApiClient> clientSelector) {
+      super(next, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, resourceSingular,
+              "patchStatus", clientSelector);
+      this.namespace = namespace;
+      this.name = name;
+      this.patchType = patchType;
+      this.patch = patch;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    String getNamespace() {
+      return namespace;
+    }
+
+    KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
+      return client.patchStatus(namespace, name, patchType, patch);
+    }
+  }
+
   private static void checkForIOException(ApiException e) {
     if (e.getCause() instanceof IOException) {
       throw new IllegalStateException(e.getCause()); // make this a checked exception?
@@ -706,9 +805,46 @@ public abstract class RequestStep<
     if (null == status) {
       throw new RuntimeException(e);
     }
+    addRetryAfter(status, e);
     return new KubernetesApiResponse<>(status, e.getCode());
   }
 
+  // The server may request a delay before a retry with a Retry-After header, rather than in the status details.
+  private static void addRetryAfter(V1Status status, ApiException e) {
+    if (getRetryAfterSeconds(status) == null) {
+      getRetryAfterHeader(e).ifPresent(seconds -> getOrCreateDetails(status).setRetryAfterSeconds(seconds));
+    }
+  }
+
+  private static Optional<Integer> getRetryAfterHeader(ApiException e) {
+    return Optional.ofNullable(e.getResponseHeaders()).stream()
+        .flatMap(headers -> headers.entrySet().stream())
+        .filter(header -> RETRY_AFTER_HEADER.equalsIgnoreCase(header.getKey()))
+        .flatMap(header -> header.getValue().stream())
+        .filter(value -> value.matches("\\d+"))
+        .map(Integer::valueOf)
+        .findFirst();
+  }
+
+  private static V1StatusDetails getOrCreateDetails(V1Status status) {
+    if (status.getDetails() == null) {
+      status.setDetails(new V1StatusDetails());
+    }
+    return status.getDetails();
+  }
+
+  /**
+   * Returns the number of seconds for which the server asked the client to wait before retrying a request,
+   * or null if it did not specify one.
+   * @param status the status returned by the server
+   */
+  static Integer getRetryAfterSeconds(V1Status status) {
+    return Optional.ofNullable(status)
+        .map(V1Status::getDetails)
+        .map(V1StatusDetails::getRetryAfterSeconds)
+        .orElse(null);
+  }
+
   public static class LogsRequestStep extends RequestStep<V1Pod, V1PodList, RequestBuilder.StringObject> {
     private final String namespace;
     private final String name;
@@ -762,6 +898,62 @@ public abstract class RequestStep<
     }
   }
 
+  public static class ReadLogsRequestStep<R extends KubernetesObject> extends RequestStep<V1Pod, V1PodList, R> {
+    private final String namespace;
+    private final String name;
+    private final String container;
+    private final PodLogReader<R> reader;
+
+    /**
+     * Construct a logs request step which converts the log as it is received.
+     *
+     * @param next Response step
+     * @param apiTypeClass API type class
+     * @param apiListTypeClass API list type class
+     * @param apiGroup API group
+     * @param apiVersion API version
+     * @param resourcePlural Resource plural
+     * @param resourceSingular Resource singular
+     * @param namespace Namespace
+     * @param name Name
+     * @param container Container
+     * @param reader Log reader
+     * @param clientSelector Client selector
+     */
+    public ReadLogsRequestStep(
+        ResponseStep<R> next,
+        Class<V1Pod> apiTypeClass,
+        Class<V1PodList> apiListTypeClass,
+        String apiGroup,
+        String apiVersion,
+        String resourcePlural,
+        String resourceSingular,
+        String namespace,
+        String name,
+        String container,
+        PodLogReader<R> reader,
+        UnaryOperator<ApiClient> clientSelector) {
+      super(next, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural,
+              resourceSingular, "logs", clientSelector);
+      this.namespace = namespace;
+      this.name = name;
+      this.container = container;
+      this.reader = reader;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    String getNamespace() {
+      return namespace;
+    }
+
+    KubernetesApiResponse<R> execute(KubernetesApi<V1Pod, V1PodList> client, Packet packet) {
+      return client.logs(namespace, name, container, reader);
+    }
+  }
+
   public static class DeleteCollectionRequestStep extends RequestStep<V1Pod, V1PodList, RequestBuilder.V1StatusObject> {
     private final String namespace;
     private final ListOptions listOptions;
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.calls;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
@@ -16,6 +17,7 @@ import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParameters;
@@ -243,12 +245,18 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
     if (retryStrategy != null) {
       Result result = retryStrategy.doPotentialRetry(conflict, packet, callResponse);
       if (result != null) {
+        recordRetry();
         return result;
       }
     }
     return onFailureNoRetry(packet, callResponse);
   }
 
+  private void recordRetry() {
+    Optional.ofNullable(previousStep)
+        .ifPresent(s -> OperatorMetrics.recordRequestRetry(s.getResourceSingular(), s.getOperationName()));
+  }
+
   private RetryStrategy getOrCreateRetryStrategy(Packet packet) {
     return (RetryStrategy) packet.computeIfAbsent(
             RETRY, s -> create(retryStrategyFactory,
@@ -317,13 +325,30 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
       int statusCode = Optional.ofNullable(callResponse)
           .map(KubernetesApiResponse::getHttpStatusCode).orElse(FIBER_TIMEOUT);
       if (mayRetryOnStatusValue(statusCode)) {
-        return retriesLeft() ? backOffAndRetry(packet, retryStep) : null;
+        final long requestedDelay = getRequestedDelay(statusCode, callResponse);
+        return retriesLeft() ? backOffAndRetry(packet, retryStep, requestedDelay) : null;
       } else if (isRestartableConflict(conflictStep, statusCode)) {
-        return backOffAndRetry(packet, conflictStep);
+        return backOffAndRetry(packet, conflictStep, 0);
       }
       return null;
     }
 
+    // When the server is overloaded, it may ask the operator to wait before retrying. Since other requests would
+    // likely get the same response, the rate limiter holds back all requests for that time.
+    private long getRequestedDelay(int statusCode, KubernetesApiResponse<?> callResponse) {
+      if (statusCode != HTTP_TOO_MANY_REQUESTS && statusCode != HTTP_UNAVAILABLE) {
+        return 0;
+      }
+
+      final Integer retryAfterSeconds = RequestStep.getRetryAfterSeconds(callResponse.getStatus());
+      if (retryAfterSeconds == null || retryAfterSeconds <= 0) {
+        return 0;
+      }
+      final Duration delay = Duration.ofSeconds(retryAfterSeconds);
+      RequestRateLimiter.pause(delay);
+      return delay.toMillis();
+    }
+
     public void reset() {
       this.retryCount = 0;
     }
@@ -339,8 +364,8 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
     }
 
     @Nonnull
-    private Result backOffAndRetry(Packet packet, Step nextStep) {
-      final long waitTime = getNextWaitTime();
+    private Result backOffAndRetry(Packet packet, Step nextStep, long requestedDelay) {
+      final long waitTime = Math.max(getNextWaitTime(), requestedDelay);
 
       return doDelay(nextStep, packet, waitTime, TimeUnit.MILLISECONDS);
     }
@@ -3,15 +3,27 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
@@ -25,8 +37,11 @@ public class AnnotationHelper {
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
 
+  /** Idle YAML dumpers, by the class of object dumped. A dumper may only be used by one thread at a time. */
+  private static final Map<Class<?>, Queue<org.yaml.snakeyaml.Yaml>> idleDumpers = new ConcurrentHashMap<>();
+
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> hashFunction = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> hashFunction = AnnotationHelper::sha256HexOfYaml;
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -75,6 +90,25 @@ public class AnnotationHelper {
     return hashFunction.apply(objectToHash);
   }
 
+  // Returns the same hash as DigestUtils.sha256Hex(Yaml.dump(o)), but streams the YAML into the digest
+  // rather than building it as a string, and reuses the dumper rather than creating one for each call.
+  private static String sha256HexOfYaml(Object o) {
+    final MessageDigest digest = DigestUtils.getSha256Digest();
+    final Queue<org.yaml.snakeyaml.Yaml> dumpers = idleDumpers.computeIfAbsent(o.getClass(),
+        k -> new ConcurrentLinkedQueue<>());
+    final org.yaml.snakeyaml.Yaml dumper = Optional.ofNullable(dumpers.poll())
+        .orElseGet(() -> Yaml.getSnakeYaml(o.getClass()));
+    try (Writer writer = new OutputStreamWriter(
+          new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8)) {
+      dumper.dump(o, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      dumpers.offer(dumper);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
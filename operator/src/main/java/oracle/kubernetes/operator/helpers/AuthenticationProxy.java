@@ -11,12 +11,15 @@ import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import org.apache.commons.codec.digest.DigestUtils;
 
 /** Delegate authentication decisions to Kubernetes. */
 public class AuthenticationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static AuthorizationProxy authorizationProxy = new AuthorizationProxy();
+  private static final ReviewCache<TokenReviewKey, V1TokenReviewStatus> tokenReviews
+      = new ReviewCache<>("authentication");
 
   /**
    * Check if the specified access token can be authenticated.
@@ -28,6 +31,15 @@ public class AuthenticationProxy {
    *     explaining why the user couldn't be authenticated
    */
   public V1TokenReviewStatus check(String principal, String token, String namespace) {
+    return tokenReviews.get(new TokenReviewKey(DigestUtils.sha256Hex(token), namespace),
+        () -> review(principal, token, namespace), this::isAuthenticated);
+  }
+
+  private boolean isAuthenticated(V1TokenReviewStatus status) {
+    return status.getError() == null && Boolean.TRUE.equals(status.getAuthenticated()) && status.getUser() != null;
+  }
+
+  private V1TokenReviewStatus review(String principal, String token, String namespace) {
 
     LOGGER.entering(principal); // Don't expose the token since it's a credential
 
@@ -60,4 +72,15 @@ public class AuthenticationProxy {
   private V1TokenReview prepareTokenReview(String token) {
     return new V1TokenReview().spec(new V1TokenReviewSpec().token(token));
   }
+
+  /**
+   * Discards the cached results of token reviews.
+   */
+  static void clearCache() {
+    tokenReviews.clear();
+  }
+
+  // Tokens are identified by their hashes, so that the cache does not hold credentials.
+  private record TokenReviewKey(String tokenHash, String namespace) {
+  }
 }
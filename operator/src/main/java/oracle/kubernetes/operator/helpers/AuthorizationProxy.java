@@ -9,19 +9,27 @@ import java.util.Optional;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ResourceAttributes;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReviewSpec;
 import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
 import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import io.kubernetes.client.util.generic.options.CreateOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.calls.ApiClientPool;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import org.apache.commons.codec.digest.DigestUtils;
 
 /** Delegate authorization decisions to Kubernetes ABAC and/or RBAC. */
 public class AuthorizationProxy {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final ReviewCache<AccessReviewKey, Boolean> accessReviews = new ReviewCache<>("authorization");
+  private static final ReviewCache<SelfAccessReviewKey, Boolean> selfAccessReviews
+      = new ReviewCache<>("self-authorization");
 
   /**
    * Check if the specified principal is allowed to perform the specified operation on the specified
@@ -69,6 +77,25 @@ public class AuthorizationProxy {
       String resourceName,
       Scope scope,
       String namespaceName) {
+    return Boolean.TRUE.equals(accessReviews.get(
+        new AccessReviewKey(principal, copyOf(groups), operation, resource, resourceName, scope, namespaceName),
+        () -> reviewAccess(principal, groups, operation, resource, resourceName, scope, namespaceName),
+        allowed -> true));
+  }
+
+  private static List<String> copyOf(List<String> groups) {
+    return Optional.ofNullable(groups).map(List::copyOf).orElse(null);
+  }
+
+  // Returns null if the review could not be performed, so that the failure is not cached.
+  private Boolean reviewAccess(
+      String principal,
+      final List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName) {
     LOGGER.entering();
     V1SubjectAccessReview subjectAccessReview =
         prepareSubjectAccessReview(
@@ -78,7 +105,7 @@ public class AuthorizationProxy {
     } catch (ApiException e) {
       LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
       LOGGER.exiting(Boolean.FALSE);
-      return Boolean.FALSE;
+      return null;
     }
     V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
     Boolean result = Optional.ofNullable(subjectAccessReviewStatus)
@@ -87,6 +114,47 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Check if the holder of the specified access token is allowed to perform the specified operation on the specified
+   * resource in the specified namespace. The token itself is used to ask Kubernetes, so that the holder need not be
+   * identified first.
+   *
+   * @param accessToken The access token of the caller.
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param namespaceName name of the namespace, or null to check all namespaces.
+   * @return true if the operation is allowed, or false if not.
+   */
+  public boolean checkSelf(String accessToken, Operation operation, Resource resource, String namespaceName) {
+    return Boolean.TRUE.equals(selfAccessReviews.get(
+        new SelfAccessReviewKey(DigestUtils.sha256Hex(accessToken), operation, resource, namespaceName),
+        () -> reviewSelfAccess(accessToken, operation, resource, namespaceName),
+        allowed -> true));
+  }
+
+  // Returns null if the review could not be performed, so that the failure is not cached.
+  private Boolean reviewSelfAccess(String accessToken, Operation operation, Resource resource, String namespaceName) {
+    LOGGER.entering();
+    V1SelfSubjectAccessReview selfSubjectAccessReview = new V1SelfSubjectAccessReview()
+        .apiVersion("authorization.k8s.io/v1")
+        .kind("SelfSubjectAccessReview")
+        .metadata(new V1ObjectMeta())
+        .spec(new V1SelfSubjectAccessReviewSpec().resourceAttributes(
+            prepareResourceAttributes(operation, resource, null, Scope.NAMESPACE, namespaceName)));
+    try {
+      selfSubjectAccessReview = RequestBuilder.SSAR.create(selfSubjectAccessReview, new CreateOptions(),
+          c -> ApiClientPool.getClient(accessToken));
+    } catch (ApiException e) {
+      LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
+      LOGGER.exiting(Boolean.FALSE);
+      return null;
+    }
+    Boolean result = Optional.ofNullable(selfSubjectAccessReview.getStatus())
+        .map(V1SubjectAccessReviewStatus::getAllowed).orElse(false);
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /**
    * Prepares an instance of SubjectAccessReview and returns same.
    *
@@ -178,6 +246,22 @@ public class AuthorizationProxy {
     }
   }
 
+  /**
+   * Discards the cached results of subject access reviews.
+   */
+  static void clearCache() {
+    accessReviews.clear();
+    selfAccessReviews.clear();
+  }
+
+  private record AccessReviewKey(String principal, List<String> groups, Operation operation, Resource resource,
+                                 String resourceName, Scope scope, String namespaceName) {
+  }
+
+  private record SelfAccessReviewKey(String tokenHash, Operation operation, Resource resource,
+                                     String namespaceName) {
+  }
+
   public enum Operation {
     GET("get"),
     LIST("list"),
@@ -212,6 +296,7 @@ public class AuthorizationProxy {
     CRDS("customresourcedefinitions", "apiextensions.k8s.io"),
     DOMAINS("domains", "weblogic.oracle"),
     DOMAINSTATUSES("domains", "status", "weblogic.oracle"),
+    CLUSTERS("clusters", "weblogic.oracle"),
     SELFSUBJECTRULESREVIEWS("selfsubjectrulesreviews", "authorization.k8s.io"),
     TOKENREVIEWS("tokenreviews", "authentication.k8s.io"),
     SECRETS("secrets", "");
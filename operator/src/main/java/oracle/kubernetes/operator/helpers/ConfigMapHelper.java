@@ -3,14 +3,15 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,7 +19,10 @@ import java.util.Optional;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
-import com.google.gson.Gson;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -37,25 +41,29 @@ import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.yaml.snakeyaml.Yaml;
 
 import static java.lang.System.lineSeparator;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_SECURE;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.NUM_CONFIG_MAPS;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.PRIMORDIAL_DOMAINZIP_SECURE;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_MD_5;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SIT_CONFIG_FILE_PREFIX;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
@@ -63,6 +71,7 @@ import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPE
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_TIME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
+import static oracle.kubernetes.operator.helpers.IntrospectorLog.UPDATEDOMAINRESULT;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIGMAP_NAME_SUFFIX;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.FLUENTBIT_CONFIG_DATA_NAME;
@@ -75,9 +84,9 @@ public class ConfigMapHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final String NON_DYNAMIC_CHANGES_FILE = "non_dynamic_changes.file";
+  private static final List<String> ARCHIVE_KEYS = List.of(DOMAINZIP_SECURE, PRIMORDIAL_DOMAINZIP_SECURE);
 
   private static final String SCRIPT_LOCATION = "/scripts";
-  private static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
   private static final ConfigMapComparator COMPARATOR = new ConfigMapComparator();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
@@ -96,54 +105,27 @@ public class ConfigMapHelper {
   }
 
   static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    String updateResultToken = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(updateResultToken)) {
-          int index = line.indexOf(updateResultToken);
-          int beg = index + 1 + updateResultToken.length();
-          map.put(UPDATEDOMAINRESULT, line.substring(beg - 1));
-        }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
-        }
-        line = reader.readLine();
-      }
+    try {
+      return IntrospectorLog.read(new StringReader(text), line -> { }).getFiles();
     } catch (IOException exc) {
       LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
+      return new HashMap<>();
     }
-
-    return map;
   }
 
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
+  // Returns the compressed archive encoded as base64 text by the introspector, or null if the text does not decode
+  // to a gzip archive, in which case it is left as it is.
+  static byte[] decodeArchive(String encodedArchive) {
     try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
+      final byte[] archive = Base64.getMimeDecoder().decode(encodedArchive);
+      return isGzipArchive(archive) ? archive : null;
+    } catch (IllegalArgumentException e) {
+      return null;
     }
   }
 
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    return line.substring(lastSlash + 1);
+  private static boolean isGzipArchive(byte[] bytes) {
+    return bytes.length > 1 && bytes[0] == (byte) 0x1f && bytes[1] == (byte) 0x8b;
   }
 
   /**
@@ -219,6 +201,7 @@ public class ConfigMapHelper {
     private final Step conflictStep;
     private final String name;
     private final String namespace;
+    private Map<String, byte[]> binaryContents = Collections.emptyMap();
     private V1ConfigMap model;
     private final Map<String, String> labels = new HashMap<>();
     protected final SemanticVersion productVersion;
@@ -249,11 +232,31 @@ public class ConfigMapHelper {
     void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
     }
 
+    /**
+     * This method is invoked before the config map is created or replaced. Subclasses may override
+     * it to report the write.
+     * @param configMap the config map to be written
+     */
+    void recordMapWritten(V1ConfigMap configMap) {
+    }
+
+    /**
+     * This method is invoked when the existing config map already has the expected contents. Subclasses may
+     * override it to report that no write was needed.
+     */
+    void recordMapUnchanged() {
+    }
+
     @SuppressWarnings("SameParameterValue")
     void setContentValue(String key, String value) {
       contents.put(key, value);
     }
 
+    void setBinaryContents(Map<String, byte[]> binaryContents) {
+      this.binaryContents = binaryContents;
+      model = null;
+    }
+
     protected String getName() {
       return name;
     }
@@ -267,7 +270,21 @@ public class ConfigMapHelper {
 
     protected final V1ConfigMap createModel(Map<String, String> data) {
       return AnnotationHelper.withSha256Hash(
-          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data), data);
+          new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data)
+                .binaryData(binaryContents.isEmpty() ? null : binaryContents),
+          getContentsToHash(data));
+    }
+
+    // Binary values are hashed by their own digests, so that the hash of a map with binary data does not require
+    // encoding that data. A map without binary data has the same hash as before binary data was supported.
+    private Map<String, String> getContentsToHash(Map<String, String> data) {
+      if (binaryContents.isEmpty()) {
+        return data;
+      }
+
+      final Map<String, String> contentsToHash = new HashMap<>(data);
+      binaryContents.forEach((key, value) -> contentsToHash.put(key, DigestUtils.sha256Hex(value)));
+      return contentsToHash;
     }
 
     private V1ObjectMeta createMetadata() {
@@ -344,6 +361,7 @@ public class ConfigMapHelper {
           return doNext(patchImageHashInCurrentMap(existingMap, packet, getNext()), packet);
         } else {
           logConfigMapExists();
+          recordMapUnchanged();
           recordCurrentMap(packet, existingMap);
           return doNext(packet);
         }
@@ -354,6 +372,7 @@ public class ConfigMapHelper {
       }
 
       private Step createConfigMap(Step next) {
+        recordMapWritten(getModel());
         return RequestBuilder.CM.create(getModel(), createCreateResponseStep(next));
       }
 
@@ -366,6 +385,7 @@ public class ConfigMapHelper {
       }
 
       private Step replaceConfigMap(Step next) {
+        recordMapWritten(model);
         return RequestBuilder.CM.update(model, createReplaceResponseStep(next));
       }
 
@@ -475,7 +495,7 @@ public class ConfigMapHelper {
   /**
    * Factory for a step that creates or updates the generated domain config map from introspection results.
    * Reads the following packet fields:
-   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the introspection result
+   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the introspection result, as read from the job pod log or as a string
    * and updates:
    *   DOMAIN_TOPOLOGY                    the parsed topology
    *   DOMAIN_HASH                        a hash of the topology
@@ -515,6 +535,9 @@ public class ConfigMapHelper {
   }
 
   static class IntrospectionLoader {
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final Packet packet;
     private final Step conflictStep;
     private final DomainPresenceInfo info;
@@ -529,8 +552,7 @@ public class ConfigMapHelper {
     }
 
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
+      data = getIntrospectorFiles(packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT));
       Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
               .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
 
@@ -553,8 +575,25 @@ public class ConfigMapHelper {
       }
     }
 
+    // The job pod log is normally parsed as it is read; a result in string form is parsed here.
+    private Map<String, String> getIntrospectorFiles(Object result) {
+      if (result instanceof IntrospectorLog introspectorLog) {
+        return introspectorLog.getFiles();
+      }
+      return ConfigMapHelper.parseIntrospectorResult((String) result, info.getDomainUid());
+    }
+
     public static String convertToJson(String yaml) {
-      return new Gson().toJson(new Yaml().load(yaml), LinkedHashMap.class);
+      final StringWriter json = new StringWriter();
+      try (JsonParser parser = YAML_FACTORY.createParser(yaml);
+           JsonGenerator generator = JSON_FACTORY.createGenerator(json)) {
+        while (parser.nextToken() != null) {
+          generator.copyCurrentEvent(parser);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return json.toString();
     }
 
     boolean isTopologyNotValid() {
@@ -599,13 +638,28 @@ public class ConfigMapHelper {
 
       @Override
       public @Nonnull Result apply(Packet packet) {
-        Collection<Fiber.StepAndPacket> startDetails = splitter.split(data).stream()
+        Collection<Fiber.StepAndPacket> startDetails = split().stream()
               .map(c -> c.createStepAndPacket(packet))
               .toList();
         packet.put(NUM_CONFIG_MAPS, Integer.toString(startDetails.size()));
         return doForkJoin(getNext(), packet, startDetails);
       }
 
+      private List<IntrospectorConfigMapContext> split() {
+        if (!TuningParameters.getInstance().isIntrospectorConfigMapBinaryDataEnabled()) {
+          return splitter.split(data);
+        }
+
+        final Map<String, String> textData = new HashMap<>(data);
+        final Map<String, byte[]> binaryData = new HashMap<>();
+        for (String key : ARCHIVE_KEYS) {
+          Optional.ofNullable(textData.get(key)).map(ConfigMapHelper::decodeArchive).ifPresent(archive -> {
+            textData.remove(key);
+            binaryData.put(key, archive);
+          });
+        }
+        return splitter.split(textData, binaryData);
+      }
     }
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext() {
@@ -697,6 +751,29 @@ public class ConfigMapHelper {
       setContentValue(NUM_CONFIG_MAPS, Integer.toString(numTargets));
     }
 
+    @Override
+    public void recordBinaryData(Map<String, byte[]> binaryData) {
+      setBinaryContents(binaryData);
+    }
+
+    @Override
+    void recordMapWritten(V1ConfigMap configMap) {
+      OperatorMetrics.recordIntrospectorConfigMapWritten(getDataSize(configMap));
+    }
+
+    @Override
+    void recordMapUnchanged() {
+      OperatorMetrics.recordIntrospectorConfigMapUnchanged();
+    }
+
+    // Binary data is sent in its base64-encoded form.
+    private long getDataSize(V1ConfigMap configMap) {
+      return Optional.ofNullable(configMap.getData()).map(Map::values).orElse(Collections.emptyList()).stream()
+                .mapToLong(String::length).sum()
+            + Optional.ofNullable(configMap.getBinaryData()).map(Map::values).orElse(Collections.emptyList()).stream()
+                .mapToLong(value -> 4L * ((value.length + 2) / 3)).sum();
+    }
+
     IntrospectorConfigMapContext patchOnly() {
       patchOnly = true;
       return this;
@@ -895,16 +972,14 @@ public class ConfigMapHelper {
 
       });
 
-      DomainTopology domainTopology =
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      WlsDomainConfig domainConfig =
             Optional.ofNullable(result)
-                  .map(V1ConfigMap::getData)
-                  .map(this::getTopologyYaml)
-                  .map(DomainTopology::parseDomainTopologyYaml)
+                  .map(configMap -> IntrospectorTopologies.getDomainConfig(info, configMap))
                   .orElse(null);
 
-      if (domainTopology != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-        recordTopology(packet, info, domainTopology);
+      if (domainConfig != null) {
+        recordTopology(packet, info, domainConfig);
         recordIntrospectVersionAndGeneration(result, packet);
       }
       return doNext(packet);
@@ -925,17 +1000,13 @@ public class ConfigMapHelper {
               .ifPresent(value -> packet.put(INTROSPECTION_TIME, value));
     }
 
-    private String getTopologyYaml(Map<String, String> data) {
-      return data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML);
-    }
-
-    private void recordTopology(Packet packet, DomainPresenceInfo info, DomainTopology domainTopology) {
+    private void recordTopology(Packet packet, DomainPresenceInfo info, WlsDomainConfig domainConfig) {
       ScanCache.INSTANCE.registerScan(
           info.getNamespace(),
           info.getDomainUid(),
-          new Scan(domainTopology.getDomain(), SystemClock.now()));
+          new Scan(domainConfig, SystemClock.now()));
 
-      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainTopology.getDomain());
+      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainConfig);
     }
 
     private void copyMapEntryToPacket(V1ConfigMap result, Packet packet, String mapKey) {
@@ -1,13 +1,16 @@
-// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 /**
@@ -30,6 +33,7 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
 
   private final List<T> result = new ArrayList<>();
   private Map<String, String> current;
+  private Map<String, byte[]> currentBinary;
   private int remainingRoom;
 
   /**
@@ -50,8 +54,21 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
    * @param data the map to split.
    */
   public List<T> split(Map<String, String> data) {
+    return split(data, Collections.emptyMap());
+  }
+
+  /**
+   * Given a map of string values and a map of binary values, splits them so that no target has more total data than
+   * the specified limit, and returns the list of target objects built from the resultant maps. String values are
+   * limited by their number of characters and binary values by their number of bytes. Any binary values for a target
+   * are passed to its 'recordBinaryData' method.
+   *
+   * @param data the map of string values to split.
+   * @param binaryData the map of binary values to split.
+   */
+  public List<T> split(Map<String, String> data, Map<String, byte[]> binaryData) {
     startSplitResult();
-    for (DataEntry dataEntry : getSortedEntrySizes(data)) {
+    for (DataEntry dataEntry : getSortedEntrySizes(data, binaryData)) {
       addToSplitResult(dataEntry);
     }
     recordSplitResult();
@@ -61,12 +78,16 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
   }
 
   @Nonnull
-  private List<DataEntry> getSortedEntrySizes(Map<String, String> data) {
-    return data.entrySet().stream().map(DataEntry::new).sorted().toList();
+  private List<DataEntry> getSortedEntrySizes(Map<String, String> data, Map<String, byte[]> binaryData) {
+    return Stream.concat(
+          data.entrySet().stream().map(StringEntry::new),
+          binaryData.entrySet().stream().map(BinaryEntry::new))
+        .sorted().toList();
   }
 
   private void startSplitResult() {
     current = new HashMap<>();
+    currentBinary = new HashMap<>();
     remainingRoom = dataLimit;
   }
 
@@ -77,7 +98,7 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
    */
   private void addToSplitResult(DataEntry entry) {
     while (entry.getRemainingLength() > 0) {
-      remainingRoom -= entry.addToMap(current, remainingRoom);
+      remainingRoom -= entry.addToSplitResult(remainingRoom);
       if (remainingRoom == 0) {
         recordSplitResult();
         startSplitResult();
@@ -86,44 +107,91 @@ public class ConfigMapSplitter<T extends SplitterTarget> {
   }
 
   private void recordSplitResult() {
-    result.add(factory.apply(current, result.size()));
+    final T target = factory.apply(current, result.size());
+    if (!currentBinary.isEmpty()) {
+      target.recordBinaryData(currentBinary);
+    }
+    result.add(target);
   }
 
   private void recordTargetInfo(T target, int size) {
     target.recordNumTargets(size);
   }
 
-  static class DataEntry implements Comparable<DataEntry> {
-    private final String key;
-    private String value;
+  // An entry to be split. Rather than repeatedly copying the part of the value which has not yet been added,
+  // it records the offset of that part, so that each part of the value is copied only once.
+  private abstract class DataEntry implements Comparable<DataEntry> {
+    final String key;
+    private int offset;
 
-    public DataEntry(Map.Entry<String, String> mapEntry) {
-      key = mapEntry.getKey();
-      value = mapEntry.getValue();
+    DataEntry(String key) {
+      this.key = key;
     }
 
     /**
-     * Adds to the specified map, as much of this entry as will fit, removing it from the string
-     * still to be added. Returns the number of characters added.
-     * @param map the map to update
-     * @param limit the maximum number of characters to add
+     * Adds to the current split result as much of this entry as will fit, following any part already added.
+     * Returns the number of characters or bytes added.
+     * @param limit the maximum number of characters or bytes to add
      */
-    int addToMap(Map<String, String> map, int limit) {
-      final int numCharsAdded = Math.min(limit, value.length());
-      map.put(key, value.substring(0, numCharsAdded));
-      value = value.substring(numCharsAdded);
+    int addToSplitResult(int limit) {
+      final int end = offset + Math.min(limit, getRemainingLength());
+      addRange(offset, end);
+      final int numAdded = end - offset;
+      offset = end;
 
-      return numCharsAdded;
+      return numAdded;
     }
 
     private int getRemainingLength() {
-      return value.length();
+      return getLength() - offset;
     }
 
+    abstract int getLength();
+
+    abstract void addRange(int start, int end);
+
     @Override
     public int compareTo(@Nonnull DataEntry o) {
       return Integer.compare(getRemainingLength(), o.getRemainingLength());
     }
   }
 
+  private class StringEntry extends DataEntry {
+    private final String value;
+
+    StringEntry(Map.Entry<String, String> mapEntry) {
+      super(mapEntry.getKey());
+      value = mapEntry.getValue();
+    }
+
+    @Override
+    int getLength() {
+      return value.length();
+    }
+
+    @Override
+    void addRange(int start, int end) {
+      current.put(key, value.substring(start, end));
+    }
+  }
+
+  private class BinaryEntry extends DataEntry {
+    private final byte[] value;
+
+    BinaryEntry(Map.Entry<String, byte[]> mapEntry) {
+      super(mapEntry.getKey());
+      value = mapEntry.getValue();
+    }
+
+    @Override
+    int getLength() {
+      return value.length;
+    }
+
+    @Override
+    void addRange(int start, int end) {
+      currentBinary.put(key, start == 0 && end == value.length ? value : Arrays.copyOfRange(value, start, end));
+    }
+  }
+
 }
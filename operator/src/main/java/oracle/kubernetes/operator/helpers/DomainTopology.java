@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -22,6 +23,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class DomainTopology {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final ObjectReader TOPOLOGY_READER
+        = new ObjectMapper(new YAMLFactory()).readerFor(DomainTopology.class);
 
   private boolean domainValid;
   private WlsDomainConfig domain;
@@ -58,13 +61,13 @@ public class DomainTopology {
    * @return parsed object hierarchy
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml) {
-    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
-
     try {
-      DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
+      DomainTopology domainTopology = TOPOLOGY_READER.readValue(topologyYaml);
 
-      LOGGER.fine(
-          ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine(
+            ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      }
 
       return domainTopology;
 
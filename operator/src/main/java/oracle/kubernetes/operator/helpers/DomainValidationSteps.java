@@ -10,22 +10,23 @@ import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
-import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Secret;
-import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
@@ -48,6 +49,8 @@ public class DomainValidationSteps {
   private static final String SECRETS = "secrets";
   private static final String CONFIGMAPS = "configmaps";
   private static final String CLUSTERS = "clusters";
+  private static final String SECRET = "secret";
+  private static final String CONFIGMAP = "configmap";
 
   private DomainValidationSteps() {
   }
@@ -58,8 +61,7 @@ public class DomainValidationSteps {
    */
   public static Step createDomainValidationSteps(String namespace) {
     return Step.chain(
-          createListSecretsStep(namespace),
-          createListConfigMapsStep(namespace),
+          new ReadReferencedResourcesStep(namespace),
           createListClustersStep(namespace),
           new DomainValidationStep());
   }
@@ -72,43 +74,50 @@ public class DomainValidationSteps {
     return createStatusUpdateStep(new ValidateDomainTopologyStep(next));
   }
 
-  private static Step createListSecretsStep(String domainNamespace) {
-    return RequestBuilder.SECRET.list(domainNamespace, new ListSecretsResponseStep());
-  }
-
-  static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
-
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1SecretList> callResponse) {
-      List<V1Secret> list = getSecrets(packet);
-      list.addAll(callResponse.getObject().getItems());
-      packet.put(SECRETS, list);
+  // Reads only the secrets and config maps which the domain references, rather than listing those in the namespace,
+  // as the namespace may hold many others, along with their data, which validation does not need.
+  static class ReadReferencedResourcesStep extends Step {
+    private final String namespace;
 
-      return doContinueListOrNext(callResponse, packet);
+    ReadReferencedResourcesStep(String namespace) {
+      this.namespace = namespace;
     }
 
-    static List<V1Secret> getSecrets(Packet packet) {
-      return Optional.ofNullable(packet.<List<V1Secret>>getValue(SECRETS)).orElse(new ArrayList<>());
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final List<V1Secret> secrets = Collections.synchronizedList(new ArrayList<>());
+      final List<V1ConfigMap> configMaps = Collections.synchronizedList(new ArrayList<>());
+      packet.put(SECRETS, secrets);
+      packet.put(CONFIGMAPS, configMaps);
+
+      final Optional<DomainResource> domain = DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomain);
+      final List<Fiber.StepAndPacket> reads = new ArrayList<>();
+      domain.map(DomainResource::getReferencedSecretNames).orElse(Collections.emptySet()).stream()
+          .map(name -> RequestBuilder.SECRET.get(namespace, name, new ReadResourceResponseStep<>(SECRET, secrets)))
+          .forEach(step -> reads.add(new Fiber.StepAndPacket(step, packet.copy())));
+      domain.map(DomainResource::getReferencedConfigMapNames).orElse(Collections.emptySet()).stream()
+          .map(name -> RequestBuilder.CM.get(namespace, name, new ReadResourceResponseStep<>(CONFIGMAP, configMaps)))
+          .forEach(step -> reads.add(new Fiber.StepAndPacket(step, packet.copy())));
+
+      return reads.isEmpty() ? doNext(packet) : doForkJoin(getNext(), packet, reads);
     }
   }
 
-  private static Step createListConfigMapsStep(String domainNamespace) {
-    return RequestBuilder.CM.list(domainNamespace, new ListConfigMapsResponseStep());
-  }
-
-  static class ListConfigMapsResponseStep extends DefaultResponseStep<V1ConfigMapList> {
+  // Adds the resource read, if it exists, to the specified list.
+  private static class ReadResourceResponseStep<T extends KubernetesObject> extends DefaultResponseStep<T> {
+    private final String kind;
+    private final List<T> resources;
 
-    @Override
-    public Result onSuccess(Packet packet, KubernetesApiResponse<V1ConfigMapList> callResponse) {
-      List<V1ConfigMap> list = getConfigMaps(packet);
-      list.addAll(callResponse.getObject().getItems());
-      packet.put(CONFIGMAPS, list);
-
-      return doContinueListOrNext(callResponse, packet);
+    ReadResourceResponseStep(String kind, List<T> resources) {
+      this.kind = kind;
+      this.resources = resources;
     }
 
-    static List<V1ConfigMap> getConfigMaps(Packet packet) {
-      return Optional.ofNullable(packet.<List<V1ConfigMap>>getValue(CONFIGMAPS)).orElse(new ArrayList<>());
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<T> callResponse) {
+      OperatorMetrics.recordValidationRead(kind);
+      Optional.ofNullable(callResponse.getObject()).ifPresent(resources::add);
+      return doNext(packet);
     }
   }
 
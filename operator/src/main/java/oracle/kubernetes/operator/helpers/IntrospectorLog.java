@@ -0,0 +1,154 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
+
+/**
+ * The log of an introspector job pod. The introspector writes each file it generates into its log, between a line
+ * naming the file and an end-of-file line. The log is read a line at a time: the contents of each file are collected
+ * into the data for the introspector config maps, and every other line is passed to a listener. The log is therefore
+ * never held as a single string. The contents of every file are kept, since the config maps are built from them.
+ */
+class IntrospectorLog implements KubernetesObject {
+
+  static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
+
+  private static final String FILE_MARKER = ">>>";
+  private static final String END_OF_FILE = "EOF";
+  private static final String UPDATE_RESULT_TOKEN = ">>>  updatedomainResult=";
+
+  private final Map<String, String> files = new HashMap<>();
+  private final StringBuilder jobLog = new StringBuilder();
+  private boolean complete;
+
+  private IntrospectorLog() {
+  }
+
+  /**
+   * Reads an introspector log.
+   * @param log a reader positioned at the start of the log
+   * @param logLineListener a consumer for the lines which are not part of a file
+   * @return the files and job log lines found
+   * @throws IOException if the log could not be read
+   */
+  static IntrospectorLog read(Reader log, Consumer<String> logLineListener) throws IOException {
+    final IntrospectorLog introspectorLog = new IntrospectorLog();
+    try (BufferedReader reader = new BufferedReader(log)) {
+      introspectorLog.readLines(reader, logLineListener);
+    }
+    return introspectorLog;
+  }
+
+  private void readLines(BufferedReader reader, Consumer<String> logLineListener) throws IOException {
+    String line = reader.readLine();
+    while (line != null) {
+      recordCompletion(line);
+      if (line.contains(UPDATE_RESULT_TOKEN)) {
+        files.put(UPDATEDOMAINRESULT, line.substring(line.indexOf(UPDATE_RESULT_TOKEN) + UPDATE_RESULT_TOKEN.length()));
+      }
+      if (isFileStart(line)) {
+        readFile(reader, extractFilename(line));
+      } else {
+        addToJobLog(line);
+        logLineListener.accept(line);
+      }
+      line = reader.readLine();
+    }
+  }
+
+  // Reads the lines of a file up to its end-of-file line. A file whose end is missing is discarded.
+  private void readFile(BufferedReader reader, String fileName) throws IOException {
+    final StringBuilder contents = new StringBuilder();
+    String line = reader.readLine();
+    while (line != null) {
+      recordCompletion(line);
+      if (isFileEnd(line)) {
+        files.put(fileName, contents.toString().trim());
+        return;
+      }
+      if (!contents.isEmpty()) {
+        contents.append(System.lineSeparator());
+      }
+      contents.append(line);
+      line = reader.readLine();
+    }
+  }
+
+  private void recordCompletion(String line) {
+    if (!complete && line.contains(DOMAIN_INTROSPECTION_COMPLETE)) {
+      complete = true;
+    }
+  }
+
+  private void addToJobLog(String line) {
+    if (!jobLog.isEmpty()) {
+      jobLog.append(System.lineSeparator());
+    }
+    jobLog.append(line);
+  }
+
+  private static boolean isFileStart(String line) {
+    return line.startsWith(FILE_MARKER) && !line.endsWith(END_OF_FILE);
+  }
+
+  private static boolean isFileEnd(String line) {
+    return line.startsWith(FILE_MARKER) && line.endsWith(END_OF_FILE);
+  }
+
+  static String extractFilename(String line) {
+    return line.substring(line.lastIndexOf('/') + 1);
+  }
+
+  /**
+   * Returns the files found in the log, keyed by name, along with the result of any model update.
+   */
+  Map<String, String> getFiles() {
+    return files;
+  }
+
+  /**
+   * Returns true if the log reports that introspection completed.
+   */
+  boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Returns the lines of the log which are not part of a file.
+   */
+  String getJobLog() {
+    return jobLog.toString();
+  }
+
+  @Override
+  public V1ObjectMeta getMetadata() {
+    return null;
+  }
+
+  @Override
+  public String getApiVersion() {
+    return null;
+  }
+
+  @Override
+  public String getKind() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return getJobLog();
+  }
+}
@@ -0,0 +1,95 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.IntrospectorConfigMapConstants;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
+
+/**
+ * Remembers the topology parsed from the introspector config map of each domain, so that a make-right of a domain
+ * whose introspection results have not changed need not parse it again. An entry is reused only if the resource
+ * version of the config map and its domain zip hash are unchanged, and the topology is the same text, which is
+ * far cheaper to compare than to parse.
+ */
+public class IntrospectorTopologies {
+
+  /** A map of namespaces to maps of domain UIDs to the last topology parsed for each domain. */
+  private static final Map<String, Map<String, ParsedTopology>> topologies = new ConcurrentHashMap<>();
+
+  private IntrospectorTopologies() {
+    // no-op
+  }
+
+  /**
+   * Returns the domain configuration described by the topology in the specified introspector config map, parsing it
+   * only if the map has changed. Returns null if the map has no topology, or it cannot be parsed. The configuration
+   * is shared by make-rights of the domain, and must not be modified.
+   * @param info the presence info for the domain
+   * @param configMap the introspector config map read for the domain
+   */
+  static WlsDomainConfig getDomainConfig(DomainPresenceInfo info, V1ConfigMap configMap) {
+    final Map<String, String> data = Optional.ofNullable(configMap.getData()).orElse(Map.of());
+    final String topologyYaml = data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML);
+    final String resourceVersion = getResourceVersion(configMap);
+    if (topologyYaml == null) {
+      return null;
+    } else if (resourceVersion == null) {
+      return parseDomainConfig(topologyYaml);
+    }
+
+    final ParsedTopology cached = getDomainTopologies(info).get(info.getDomainUid());
+    if (cached != null && cached.isFor(resourceVersion, data.get(DOMAINZIP_HASH), topologyYaml)) {
+      return cached.domainConfig;
+    }
+
+    final WlsDomainConfig domainConfig = parseDomainConfig(topologyYaml);
+    if (domainConfig != null) {
+      getDomainTopologies(info).put(info.getDomainUid(),
+            new ParsedTopology(resourceVersion, data.get(DOMAINZIP_HASH), topologyYaml, domainConfig));
+    }
+    return domainConfig;
+  }
+
+  /**
+   * Discards the topology for the specified domain.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  public static void forget(String namespace, String domainUid) {
+    Optional.ofNullable(topologies.get(namespace)).ifPresent(m -> m.remove(domainUid));
+  }
+
+  private static Map<String, ParsedTopology> getDomainTopologies(DomainPresenceInfo info) {
+    return topologies.computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>());
+  }
+
+  private static String getResourceVersion(V1ConfigMap configMap) {
+    return Optional.ofNullable(configMap.getMetadata()).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  private static WlsDomainConfig parseDomainConfig(String topologyYaml) {
+    return Optional.ofNullable(DomainTopology.parseDomainTopologyYaml(topologyYaml))
+          .map(DomainTopology::getDomain)
+          .orElse(null);
+  }
+
+  private record ParsedTopology(
+        String resourceVersion, String domainZipHash, String topologyYaml, WlsDomainConfig domainConfig) {
+
+    boolean isFor(String resourceVersion, String domainZipHash, String topologyYaml) {
+      return this.resourceVersion.equals(resourceVersion)
+            && Objects.equals(this.domainZipHash, domainZipHash)
+            && this.topologyYaml.equals(topologyYaml);
+    }
+  }
+}
@@ -3,6 +3,9 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -10,6 +13,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -24,6 +28,7 @@ import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
 import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobSpec;
+import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
@@ -42,12 +47,14 @@ import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.ServerStartPolicy;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.watcher.JobWatcher;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ResourceChanges;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
@@ -64,10 +71,10 @@ import static oracle.kubernetes.operator.DomainSourceType.FROM_MODEL;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createIntrospectionFailureSteps;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveFailuresStep;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createRemoveSelectedFailuresStep;
+import static oracle.kubernetes.operator.KubernetesConstants.JOB;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_DOMAIN_SPEC_GENERATION;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_TIME;
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED;
 import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTOR_JOB_FAILURE_THROWABLE;
@@ -425,34 +432,56 @@ public class JobHelper {
         V1Job domainIntrospectorJob = (V1Job) packet.get(ProcessingConstants.DOMAIN_INTROSPECTOR_JOB);
 
         if (JobWatcher.isFailed(domainIntrospectorJob)) {
+          recordIntrospectionDuration(domainIntrospectorJob, "failure");
           return doNext(
               Step.chain(createIntrospectionFailureSteps(getFailedReason(domainIntrospectorJob), domainIntrospectorJob),
                   cleanUpAndReintrospect(getNext())), packet);
         }
         if (JobWatcher.isComplete(domainIntrospectorJob)) {
+          recordIntrospectionDuration(domainIntrospectorJob, "success");
           return doNext(createRemoveFailuresStep(getNext()), packet);
         }
         return doNext(packet);
       }
+
+      private void recordIntrospectionDuration(V1Job job, String outcome) {
+        Optional.ofNullable(job.getStatus()).map(V1JobStatus::getStartTime)
+            .map(start -> Duration.between(start, getEndTime(job.getStatus())))
+            .ifPresent(duration -> OperatorMetrics.recordIntrospectionDuration(outcome, duration.toMillis() / 1000.0));
+      }
+
+      private OffsetDateTime getEndTime(V1JobStatus status) {
+        return Optional.ofNullable(status.getCompletionTime()).orElse(SystemClock.now());
+      }
     }
 
     private Step readIntrospectorResults() {
       return new ReadDomainIntrospectorPodStep();
     }
 
-    private Step waitForJobPod() {
-      return new WaitForJobPodStep();
+    private Step waitForJobPod(ResourceChanges.Registration registration) {
+      return new WaitForJobPodStep(registration);
     }
 
-    private static class WaitForJobPodStep extends Step {
+    // A step which waits for a container of the job pod to terminate. Its first check uses the registration made
+    // before the pod was listed; any later check is of a reported pod, and so registers anew before it is made.
+    private class WaitForJobPodStep extends Step {
+      private final AtomicReference<ResourceChanges.Registration> listRegistration;
+
+      WaitForJobPodStep(ResourceChanges.Registration listRegistration) {
+        this.listRegistration = new AtomicReference<>(listRegistration);
+      }
 
       @Override
       public @Nonnull Result apply(Packet packet) {
+        ResourceChanges.Registration registration = Optional.ofNullable(listRegistration.getAndSet(null))
+            .orElseGet(() -> ResourceChanges.register(getJobChangeKey(getNamespace(), getJobName())));
         V1Pod jobPod = (V1Pod) packet.get(ProcessingConstants.JOB_POD);
         if (!anyTerminatedContainers(jobPod)) {
-          // requeue to wait for the job pod
-          return doRequeue(packet);
+          // wait for the job pod
+          return doWaitForChange(this, packet, registration, pod -> packet.put(ProcessingConstants.JOB_POD, pod));
         }
+        registration.cancel();
         return doNext(packet);
       }
 
@@ -531,8 +560,9 @@ public class JobHelper {
       }
 
       private Step readDomainIntrospectorPodLog(String jobPodName, String containerName, Step next) {
+        final ReadPodLogResponseStep responseStep = new ReadPodLogResponseStep(next);
         return RequestBuilder.POD.logs(getNamespace(), jobPodName,
-            containerName, new ReadPodLogResponseStep(next));
+            containerName, responseStep::readIntrospectorLog, responseStep);
       }
     }
 
@@ -552,7 +582,7 @@ public class JobHelper {
       }
     }
 
-    private static class ReadPodLogResponseStep extends ResponseStep<RequestBuilder.StringObject> {
+    private static class ReadPodLogResponseStep extends ResponseStep<IntrospectorLog> {
       public static final String INTROSPECTION_FAILED = "INTROSPECTION_FAILED";
       private StringBuilder logMessage = new StringBuilder();
       private final List<String> severeStatuses = new ArrayList<>();
@@ -561,10 +591,17 @@ public class JobHelper {
         super(nextStep);
       }
 
+      // Reads the log as it is received, logging its messages and collecting the files it contains.
+      private IntrospectorLog readIntrospectorLog(Reader log) throws IOException {
+        final IntrospectorLog introspectorLog = IntrospectorLog.read(log, this::convertJobLogLineToOperatorLog);
+        logToOperator();
+        return introspectorLog;
+      }
+
       @Override
-      public Result onSuccess(Packet packet, KubernetesApiResponse<RequestBuilder.StringObject> callResponse) {
+      public Result onSuccess(Packet packet, KubernetesApiResponse<IntrospectorLog> callResponse) {
         Optional.ofNullable(callResponse.getObject())
-            .ifPresent(result -> processIntrospectionResult(packet, result.value()));
+            .ifPresent(result -> processIntrospectionResult(packet, result));
 
         addFluentdContainerLogAsSevereStatus(packet);
 
@@ -582,10 +619,9 @@ public class JobHelper {
       }
 
       @Nonnull
-      private Boolean isDomainIntrospectionComplete(KubernetesApiResponse<RequestBuilder.StringObject> callResponse) {
+      private Boolean isDomainIntrospectionComplete(KubernetesApiResponse<IntrospectorLog> callResponse) {
         return Optional.ofNullable(callResponse).map(KubernetesApiResponse::getObject)
-            .map(RequestBuilder.StringObject::value)
-            .map(r -> r.contains(DOMAIN_INTROSPECTION_COMPLETE)).orElse(false);
+            .map(IntrospectorLog::isComplete).orElse(false);
       }
 
       // Note: fluentd container log can be huge, may not be a good idea to read the container log.
@@ -596,9 +632,8 @@ public class JobHelper {
             .ifPresent(severeStatuses::add);
       }
 
-      private void processIntrospectionResult(Packet packet, String result) {
-        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
-        convertJobLogsToOperatorLogs(result);
+      private void processIntrospectionResult(Packet packet, IntrospectorLog result) {
+        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result.getJobLog());
         packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
         MakeRightDomainOperation.recordInspection(packet);
       }
@@ -640,16 +675,14 @@ public class JobHelper {
       //  - assumes any lines that don't start with '@[' are part
       //    of the previous log message
       //  - ignores all lines in the log up to the first line that starts with '@['
-      private void convertJobLogsToOperatorLogs(String jobLogs) {
-        for (String line : jobLogs.split(EOL_PATTERN)) {
-          if (line.startsWith("@[")) {
-            logToOperator();
-            logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-          } else if (!logMessage.isEmpty()) {
-            logMessage.append(System.lineSeparator()).append(line.trim());
-          }
+      //  - does not receive the lines of the files that the introspector writes into its log
+      private void convertJobLogLineToOperatorLog(String line) {
+        if (line.startsWith("@[")) {
+          logToOperator();
+          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
+        } else if (!logMessage.isEmpty()) {
+          logMessage.append(System.lineSeparator()).append(line.trim());
         }
-        logToOperator();
       }
 
       @SuppressWarnings("fallthrough")
@@ -712,23 +745,29 @@ public class JobHelper {
         if (t != null) {
           return doTerminate(t, packet);
         }
-        return doNext(listPodsInNamespace(packet, getNamespace(), getNext()), packet);
+        // register for changes to the job pod before listing it, so that none are missed while waiting for it
+        ResourceChanges.Registration registration
+            = ResourceChanges.register(getJobChangeKey(getNamespace(), getJobName()));
+        return doNext(listPodsInNamespace(packet, getNamespace(), registration, getNext()), packet);
       }
 
-      private Step listPodsInNamespace(Packet packet, String namespace, Step next) {
+      private Step listPodsInNamespace(
+            Packet packet, String namespace, ResourceChanges.Registration registration, Step next) {
         V1Job domainIntrospectorJob = (V1Job) packet.get(ProcessingConstants.DOMAIN_INTROSPECTOR_JOB);
 
         return RequestBuilder.POD.list(namespace, new ListOptions()
                 .labelSelector(LabelConstants.JOBNAME_LABEL + "=" + domainIntrospectorJob.getMetadata().getName()),
-                new PodListResponseStep(next));
+                new PodListResponseStep(registration, next));
       }
     }
 
 
     private class PodListResponseStep extends ResponseStep<V1PodList> {
+      private final ResourceChanges.Registration registration;
 
-      PodListResponseStep(Step next) {
+      PodListResponseStep(ResourceChanges.Registration registration, Step next) {
         super(next);
+        this.registration = registration;
       }
 
       private void addContainerTerminatedMarkerToPacket(V1Pod jobPod, String jobName, Packet packet) {
@@ -833,10 +872,12 @@ public class JobHelper {
         if (jobPod == null) {
           return doContinueListOrNext(callResponse, packet, processIntrospectorPodLog(getNext()));
         } else if (hasImagePullError(jobPod) || initContainersHaveImagePullError(jobPod)) {
+          registration.cancel();
           return doNext(cleanUpAndReintrospect(getNext()), packet);
         } else if (isJobPodTimedOut(jobPod)) {
           // process job pod timed out same way as job timed out, which is to
           // terminate current fiber
+          registration.cancel();
           return doTerminate(createTerminationException(packet), packet);
         } else {
           addContainerTerminatedMarkerToPacket(jobPod, getJobName(), packet);
@@ -845,6 +886,12 @@ public class JobHelper {
         }
       }
 
+      @Override
+      protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1PodList> callResponse) {
+        registration.cancel();
+        return super.onFailureNoRetry(packet, callResponse);
+      }
+
       protected Throwable createTerminationException(Packet packet) {
         return new JobWatcher.DeadlineExceededException((V1Job) packet.get(DOMAIN_INTROSPECTOR_JOB));
       }
@@ -863,7 +910,7 @@ public class JobHelper {
 
       // Returns a chain of steps which read the pod log and create a config map.
       private Step processIntrospectorPodLog(Step next) {
-        return Step.chain(waitForJobPod(), readNamedPodLog(),
+        return Step.chain(waitForJobPod(registration), readNamedPodLog(),
             createIntrospectorConfigMap(), deleteIntrospectorJob(), next);
       }
 
@@ -926,6 +973,15 @@ public class JobHelper {
     }
   }
 
+  /**
+   * Returns the key under which changes to the pod of the specified job are reported to waiting fibers.
+   * @param namespace the namespace of the job
+   * @param jobName the name of the job
+   */
+  public static String getJobChangeKey(String namespace, String jobName) {
+    return ResourceChanges.keyOf(JOB, namespace, jobName);
+  }
+
   private static String getName(V1Pod pod) {
     return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getName).orElse("");
   }
@@ -42,6 +42,7 @@ import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ResourceChanges;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
@@ -51,6 +52,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static oracle.kubernetes.operator.KubernetesConstants.EVICTED_REASON;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.POD;
 import static oracle.kubernetes.operator.KubernetesConstants.POD_SCHEDULED;
 import static oracle.kubernetes.operator.KubernetesConstants.UNSCHEDULABLE_REASON;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
@@ -102,6 +104,15 @@ public class PodHelper {
     return new ManagedPodStepContext(null, packet).createPodModel();
   }
 
+  /**
+   * Returns the key under which changes to the pod for the specified server are reported to waiting fibers.
+   * @param info the presence info for the domain
+   * @param serverName the name of the server
+   */
+  public static String getServerPodChangeKey(DomainPresenceInfo info, String serverName) {
+    return ResourceChanges.keyOf(POD, info.getNamespace(), LegalNames.toPodName(info.getDomainUid(), serverName));
+  }
+
   /**
    * check if pod is ready.
    * @param pod pod
@@ -645,13 +656,16 @@ public class PodHelper {
       DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
       WlsDomainConfig domainTopology =
               (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      ResourceChanges.Registration registration
+          = ResourceChanges.register(getServerPodChangeKey(info, domainTopology.getAdminServerName()));
       V1Pod adminPod = info.getServerPod(domainTopology.getAdminServerName());
 
       if (adminPod == null || !isPodReady(adminPod)) {
-        // requeue to wait for admin pod to be ready
-        return doRequeue(packet);
+        // wait for admin pod to be ready
+        return doWaitForChange(this, packet, registration);
       }
 
+      registration.cancel();
       return doNext(packet);
     }
 
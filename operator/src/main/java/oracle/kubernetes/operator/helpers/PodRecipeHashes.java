@@ -0,0 +1,108 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.models.V1Pod;
+
+/**
+ * Remembers the hashes of the pod recipes computed for each server, so that a make-right of an unchanged domain
+ * need not hash them again. An entry is reused only if the domain generation is unchanged and the new recipe
+ * is equal to the one previously hashed, so that changes to inputs other than the domain resource, such as
+ * the introspection results, are still detected.
+ */
+public class PodRecipeHashes {
+
+  /** A map of namespaces to maps of domain UIDs to maps of server names to their last computed hashes. */
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // replaced by unit tests which change the hash function
+  private static Map<String, Map<String, Map<String, RecipeHash>>> hashes = new ConcurrentHashMap<>();
+
+  private PodRecipeHashes() {
+    // no-op
+  }
+
+  /**
+   * Returns the hash of the specified pod recipe, computing it only if the recipe has changed. The caller may modify
+   * the recipe after this call: if the recipe has changed, a separately built copy is retained for comparison
+   * with later recipes.
+   * @param info the presence info for the domain
+   * @param serverName the name of the server the pod will run
+   * @param recipe the hashed content of the pod
+   * @param recipeFactory builds another copy of the recipe
+   */
+  static String getHash(DomainPresenceInfo info, String serverName, V1Pod recipe, Supplier<V1Pod> recipeFactory) {
+    return getServerHashes(info).compute(serverName, (name, cached) -> cached != null && cached.isFor(info, recipe)
+          ? cached : new RecipeHash(getGeneration(info), recipeFactory.get())).hash;
+  }
+
+  /**
+   * Returns true if the specified hash was found to describe the pod recipe with the specified hash, after adjustment
+   * for pods created by an earlier operator version. If not known, the hash is checked and remembered if it matches.
+   * @param info the presence info for the domain
+   * @param serverName the name of the server the pod will run
+   * @param recipeHash the hash of the recipe, as returned by {@link #getHash}
+   * @param podHash the hash recorded on an existing pod
+   * @param matcher computes whether the existing pod hash matches the recipe
+   */
+  static boolean isEquivalentHash(
+        DomainPresenceInfo info, String serverName, String recipeHash, String podHash, BooleanSupplier matcher) {
+    final RecipeHash cached = getServerHashes(info).get(serverName);
+    if (cached == null || !cached.isFor(info, recipeHash)) {
+      return matcher.getAsBoolean();
+    } else if (cached.equivalentHashes.contains(podHash)) {
+      return true;
+    } else if (matcher.getAsBoolean()) {
+      cached.equivalentHashes.add(podHash);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Discards the hashes for the specified domain.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  public static void forget(String namespace, String domainUid) {
+    Optional.ofNullable(hashes.get(namespace)).ifPresent(m -> m.remove(domainUid));
+  }
+
+  private static Map<String, RecipeHash> getServerHashes(DomainPresenceInfo info) {
+    return hashes.computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(info.getDomainUid(), k -> new ConcurrentHashMap<>());
+  }
+
+  private static Long getGeneration(DomainPresenceInfo info) {
+    return info.getDomain().getMetadata().getGeneration();
+  }
+
+  private static class RecipeHash {
+    private final Long generation;
+    private final V1Pod recipe;
+    private final String hash;
+    private final Set<String> equivalentHashes = ConcurrentHashMap.newKeySet();
+
+    RecipeHash(Long generation, V1Pod recipe) {
+      this.generation = generation;
+      this.recipe = recipe;
+      this.hash = AnnotationHelper.createHash(recipe);
+    }
+
+    boolean isFor(DomainPresenceInfo info, V1Pod recipe) {
+      return Objects.equals(generation, getGeneration(info)) && this.recipe.equals(recipe);
+    }
+
+    boolean isFor(DomainPresenceInfo info, String recipeHash) {
+      return Objects.equals(generation, getGeneration(info)) && hash.equals(recipeHash);
+    }
+  }
+}
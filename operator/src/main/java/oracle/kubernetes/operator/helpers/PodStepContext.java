@@ -14,6 +14,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
@@ -133,6 +134,7 @@ public abstract class PodStepContext extends BasePodStepContext {
   private final WlsDomainConfig domainTopology;
   private final Step conflictStep;
   private V1Pod podModel;
+  private V1Pod podRecipe;
   private final String miiModelSecretsHash;
   private final String miiDomainZipHash;
   private final String domainRestartVersion;
@@ -536,7 +538,7 @@ public abstract class PodStepContext extends BasePodStepContext {
 
   V1Pod createPodModel() {
     final V1Pod podRecipe = createPodRecipe();
-    sha256Hash = AnnotationHelper.createHash(podRecipe);
+    sha256Hash = PodRecipeHashes.getHash(info, getServerName(), podRecipe, this::createPodRecipe);
     return withNonHashedElements(podRecipe);
   }
 
@@ -1156,7 +1158,7 @@ public abstract class PodStepContext extends BasePodStepContext {
     }
 
     private String adjustedLegacyHash(V1Pod currentPod, Consumer<V1Pod> adjustment) {
-      V1Pod recipe = createPodRecipe();
+      V1Pod recipe = createAdjustablePodRecipe();
       adjustment.accept(recipe);
 
       if (isLegacyMiiPod(currentPod)) {
@@ -1169,12 +1171,19 @@ public abstract class PodStepContext extends BasePodStepContext {
     }
 
     private String adjustedHash(V1Pod currentPod, List<BiConsumer<V1Pod, V1Pod>> adjustments) {
-      V1Pod recipe = createPodRecipe();
+      V1Pod recipe = createAdjustablePodRecipe();
       adjustments.forEach(adjustment -> adjustment.accept(recipe, currentPod));
 
       return AnnotationHelper.createHash(recipe);
     }
 
+    // The adjustments modify the containers and volumes of the recipe in place. Those may be shared
+    // with the server spec cached by the domain, so the adjustments are made to a copy of the pod spec.
+    private V1Pod createAdjustablePodRecipe() {
+      final V1Pod recipe = createPodRecipe();
+      return recipe.spec(new V1PodSpecBuilder(recipe.getSpec()).build());
+    }
+
     private void addLegacyPrometheusAnnotationsFrom30(V1Pod pod) {
       AnnotationHelper.annotateForPrometheus(pod.getMetadata(), WLS_EXPORTER, getOldMetricsPort());
     }
@@ -1384,12 +1393,19 @@ public abstract class PodStepContext extends BasePodStepContext {
     private boolean hasCorrectPodHash(V1Pod currentPod) {
 
       return (isLegacyPod(currentPod)
-              && canAdjustLegacyHashToMatch(currentPod, AnnotationHelper.getHash(currentPod)))
+              && canAdjustHashToMatch(currentPod, this::canAdjustLegacyHashToMatch))
           || (isPodFromRecentOperator(currentPod)
-              && canAdjustRecentOperatorMajorVersion3HashToMatch(currentPod, AnnotationHelper.getHash(currentPod)))
+              && canAdjustHashToMatch(currentPod, this::canAdjustRecentOperatorMajorVersion3HashToMatch))
           || AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
     }
 
+    // Adjusting the recipe to match a pod from an earlier operator version is done only once for each recipe.
+    private boolean canAdjustHashToMatch(V1Pod currentPod, BiPredicate<V1Pod, String> adjustedHashMatcher) {
+      final String podHash = AnnotationHelper.getHash(currentPod);
+      return PodRecipeHashes.isEquivalentHash(info, getServerName(), sha256Hash, podHash,
+          () -> adjustedHashMatcher.test(currentPod, podHash));
+    }
+
     private boolean canUseCurrentPod(V1Pod currentPod) {
       boolean useCurrent = hasCorrectPodHash(currentPod) && canUseNewDomainZip(currentPod);
 
@@ -0,0 +1,113 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A cache of the decisions returned by Kubernetes authentication and authorization reviews, so that callers which
+ * repeat the same request, such as autoscalers, do not need new reviews for each. Decisions expire after the
+ * configured time to live, and the least recently used are discarded once the cache is full. Caching is disabled
+ * when the time to live is zero.
+ *
+ * @param <K> the type of the key which identifies a review
+ * @param <V> the type of the decision
+ */
+class ReviewCache<K, V> {
+
+  private final String name;
+  private final Map<K, Decision<V>> decisions = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, Decision<V>> eldest) {
+      return size() > getMaxEntries();
+    }
+  };
+
+  /**
+   * Creates a cache.
+   * @param name the name under which to report the cache's hits and misses
+   */
+  ReviewCache(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the cached decision for the specified key, if it has not expired; otherwise, obtains a new decision
+   * from the specified supplier and caches it, if the specified predicate accepts it.
+   * @param key the key which identifies the review
+   * @param review a supplier which performs the review
+   * @param cacheable a predicate which selects decisions which may be cached
+   */
+  V get(K key, Supplier<V> review, Predicate<V> cacheable) {
+    final int ttlSeconds = getTimeToLiveSeconds();
+    if (ttlSeconds <= 0) {
+      return review.get();
+    }
+
+    final OffsetDateTime now = SystemClock.now();
+    final V cached = getUnexpired(key, now);
+    OperatorMetrics.recordReviewCacheRequest(name, cached != null);
+    if (cached != null) {
+      return cached;
+    }
+
+    final V decision = review.get();
+    if (decision != null && cacheable.test(decision)) {
+      synchronized (decisions) {
+        decisions.put(key, new Decision<>(decision, now.plusSeconds(ttlSeconds)));
+      }
+    }
+    return decision;
+  }
+
+  private V getUnexpired(K key, OffsetDateTime now) {
+    synchronized (decisions) {
+      final Decision<V> decision = decisions.get(key);
+      if (decision == null) {
+        return null;
+      } else if (decision.expiration().isAfter(now)) {
+        return decision.value();
+      } else {
+        decisions.remove(key);
+        return null;
+      }
+    }
+  }
+
+  void clear() {
+    synchronized (decisions) {
+      decisions.clear();
+    }
+  }
+
+  int size() {
+    synchronized (decisions) {
+      return decisions.size();
+    }
+  }
+
+  private static int getTimeToLiveSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getRestReviewCacheTimeToLiveSeconds)
+        .orElse(0);
+  }
+
+  private static int getMaxEntries() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getRestReviewCacheMaxEntries)
+        .orElse(TuningParameters.DEFAULT_REST_REVIEW_CACHE_MAX_ENTRIES);
+  }
+
+  private record Decision<V>(V value, OffsetDateTime expiration) {
+  }
+}
@@ -1,11 +1,14 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Map;
+
 /**
- * An interface for objects created by the ConfigMapSplitter. After the split operation creates its list of targets,
- * the splitter will invoke these methods on the first target to indicate what happened.
+ * An interface for objects created by the ConfigMapSplitter. The splitter passes any binary data to each target
+ * as it is created. After the split operation creates its list of targets, the splitter will invoke
+ * 'recordNumTargets' on the first target to indicate what happened.
  */
 public interface SplitterTarget {
 
@@ -14,4 +17,11 @@ public interface SplitterTarget {
    * @param numTargets the number of created targets
    */
   void recordNumTargets(int numTargets);
+
+  /**
+   * Records the binary data assigned to this target by the split operation. Invoked only on targets
+   * which receive binary data.
+   * @param binaryData a map of keys to binary values
+   */
+  void recordBinaryData(Map<String, byte[]> binaryData);
 }
@@ -0,0 +1,565 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Counter;
+import io.prometheus.client.GaugeMetricFamily;
+import io.prometheus.client.Histogram;
+import oracle.kubernetes.operator.work.FiberGate;
+
+/**
+ * Metrics describing the operator's own processing, registered with the default Prometheus registry
+ * and published by the {@link MetricsServer}.
+ */
+public class OperatorMetrics {
+
+  private static final String NAMESPACE = "weblogic_operator";
+  private static final String[] MAKE_RIGHT_OUTCOMES = {"success", "retry", "failure"};
+
+  static final Counter statusUpdateBytes = Counter.build()
+        .namespace(NAMESPACE)
+        .name("status_update_bytes_total")
+        .help("Bytes sent to the Kubernetes API server in JSON patches of domain status.")
+        .labelNames("method")
+        .register();
+
+  static final Counter statusUpdateConflicts = Counter.build()
+        .namespace(NAMESPACE)
+        .name("status_update_conflicts_total")
+        .help("Domain status updates rejected because the domain had been modified, and then retried.")
+        .register();
+
+  static final Counter statusWritesAvoided = Counter.build()
+        .namespace(NAMESPACE)
+        .name("status_writes_avoided_total")
+        .help("Domain status updates merged into a write made for an earlier update, rather than written separately.")
+        .register();
+
+  static final Counter statusUpdateWrites = Counter.build()
+        .namespace(NAMESPACE)
+        .name("status_update_writes_total")
+        .help("Requests sent to the Kubernetes API server to update domain status, by update method.")
+        .labelNames("method")
+        .register();
+
+  static final Histogram makeRightDuration = Histogram.build()
+        .namespace(NAMESPACE)
+        .name("make_right_duration_seconds")
+        .help("Time taken by make-right processing of a domain, by outcome: 'success', 'retry' or 'failure'.")
+        .labelNames("namespace", "domain", "outcome")
+        .buckets(0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300, 600)
+        .register();
+
+  static final Counter fiberCancellations = Counter.build()
+        .namespace(NAMESPACE)
+        .name("fiber_cancellations_total")
+        .help("Fibers cancelled before completing their processing.")
+        .register();
+
+  static final Counter fiberReplacements = Counter.build()
+        .namespace(NAMESPACE)
+        .name("fiber_replacements_total")
+        .help("Fibers cancelled by a fiber gate because a newer fiber was started for the same resource.")
+        .register();
+
+  static final Counter fiberRequeues = Counter.build()
+        .namespace(NAMESPACE)
+        .name("fiber_requeues_total")
+        .help("Fibers scheduled to resume processing after a delay.")
+        .register();
+
+  static final Counter fiberResumptions = Counter.build()
+        .namespace(NAMESPACE)
+        .name("fiber_resumptions_total")
+        .help("Requeued fibers resumed from a checkpoint rather than restarted from their first step.")
+        .register();
+
+  static final Counter apiCallsAvoided = Counter.build()
+        .namespace(NAMESPACE)
+        .name("api_calls_avoided_total")
+        .help("Kubernetes API calls not repeated because a requeued fiber resumed from a checkpoint.")
+        .register();
+
+  static final Counter requestRetries = Counter.build()
+        .namespace(NAMESPACE)
+        .name("request_retries_total")
+        .help("Failed Kubernetes API requests scheduled to be retried, by resource and operation.")
+        .labelNames("resource", "operation")
+        .register();
+
+  static final Histogram requestDuration = Histogram.build()
+        .namespace(NAMESPACE)
+        .name("request_duration_seconds")
+        .help("Time taken by Kubernetes API requests made by request steps, by resource and operation.")
+        .labelNames("resource", "operation")
+        .register();
+
+  static final Histogram requestQueueWait = Histogram.build()
+        .namespace(NAMESPACE)
+        .name("request_queue_wait_seconds")
+        .help("Time for which Kubernetes API requests waited for the client-side rate limiter, by priority lane.")
+        .labelNames("lane")
+        .buckets(0, 0.01, 0.05, 0.1, 0.5, 1, 2.5, 5, 10, 30)
+        .register();
+
+  static final Counter requestPauses = Counter.build()
+        .namespace(NAMESPACE)
+        .name("request_retry_after_pauses_total")
+        .help("Responses from the Kubernetes API server asking the operator to wait before sending more requests.")
+        .register();
+
+  static final Counter reviewCacheRequests = Counter.build()
+        .namespace(NAMESPACE)
+        .name("rest_review_cache_requests_total")
+        .help("Lookups of cached REST authentication and authorization decisions, by cache and result.")
+        .labelNames("cache", "result")
+        .register();
+
+  static final Counter watchEvents = Counter.build()
+        .namespace(NAMESPACE)
+        .name("watch_events_total")
+        .help("Events received from Kubernetes watches, by event type and namespace.")
+        .labelNames("type", "namespace")
+        .register();
+
+  static final Counter watchReconnects = Counter.build()
+        .namespace(NAMESPACE)
+        .name("watch_reconnects_total")
+        .help("Kubernetes watches restarted after the previous watch ended, by namespace.")
+        .labelNames("namespace")
+        .register();
+
+  static final Histogram introspectionDuration = Histogram.build()
+        .namespace(NAMESPACE)
+        .name("introspection_job_duration_seconds")
+        .help("Time taken by domain introspector jobs, by outcome: 'success' or 'failure'.")
+        .labelNames("outcome")
+        .buckets(10, 30, 60, 120, 180, 300, 600, 1200, 1800)
+        .register();
+
+  static final Counter introspectorConfigMaps = Counter.build()
+        .namespace(NAMESPACE)
+        .name("introspector_config_maps_total")
+        .help("Introspector config maps checked after introspection, by outcome: 'written' or 'unchanged'.")
+        .labelNames("outcome")
+        .register();
+
+  static final Counter introspectorConfigMapBytes = Counter.build()
+        .namespace(NAMESPACE)
+        .name("introspector_config_map_bytes_total")
+        .help("Bytes of data sent to the Kubernetes API server to create or replace introspector config maps.")
+        .register();
+
+  static final Counter validationReads = Counter.build()
+        .namespace(NAMESPACE)
+        .name("domain_validation_reads_total")
+        .help("Resources referenced by domains and read to validate them, by kind: 'secret' or 'configmap'.")
+        .labelNames("kind")
+        .register();
+
+  static final FiberGateCollector fiberGates = new FiberGateCollector().register();
+
+  private OperatorMetrics() {
+  }
+
+  /**
+   * Records the time taken by a make-right of a domain.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param outcome the result of the make-right: 'success', 'retry' or 'failure'
+   * @param seconds the elapsed time
+   */
+  public static void recordMakeRightDuration(String namespace, String domainUid, String outcome, double seconds) {
+    makeRightDuration.labels(namespace, domainUid, outcome).observe(seconds);
+  }
+
+  /**
+   * Discards the make-right metrics for a domain which is no longer managed.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   */
+  public static void removeDomain(String namespace, String domainUid) {
+    for (String outcome : MAKE_RIGHT_OUTCOMES) {
+      makeRightDuration.remove(namespace, domainUid, outcome);
+    }
+  }
+
+  /**
+   * Records the cancellation of a fiber.
+   */
+  public static void recordFiberCancelled() {
+    fiberCancellations.inc();
+  }
+
+  /**
+   * Records the replacement of a running fiber by a newer one for the same resource.
+   */
+  public static void recordFiberReplaced() {
+    fiberReplacements.inc();
+  }
+
+  /**
+   * Records a fiber scheduled to resume after a delay.
+   */
+  public static void recordFiberRequeued() {
+    fiberRequeues.inc();
+  }
+
+  /**
+   * Records a requeued fiber resumed from a checkpoint.
+   * @param numApiCallsAvoided the number of API calls made before the checkpoint, which were not repeated
+   */
+  public static void recordFiberResumed(int numApiCallsAvoided) {
+    fiberResumptions.inc();
+    apiCallsAvoided.inc(numApiCallsAvoided);
+  }
+
+  /**
+   * Records a failed Kubernetes API request which will be retried.
+   * @param resource the kind of resource, such as 'pod'
+   * @param operation the API operation, such as 'replace'
+   */
+  public static void recordRequestRetry(String resource, String operation) {
+    requestRetries.labels(resource, operation).inc();
+  }
+
+  /**
+   * Records the time taken by a Kubernetes API request.
+   * @param resource the kind of resource, such as 'pod'
+   * @param operation the API operation, such as 'replace'
+   * @param seconds the elapsed time
+   */
+  public static void recordRequestDuration(String resource, String operation, double seconds) {
+    requestDuration.labels(resource, operation).observe(seconds);
+  }
+
+  /**
+   * Records the time for which a Kubernetes API request waited for the client-side rate limiter.
+   * @param lane the priority lane of the request, such as 'background'
+   * @param seconds the time waited
+   */
+  public static void recordRequestQueueWait(String lane, double seconds) {
+    requestQueueWait.labels(lane).observe(seconds);
+  }
+
+  /**
+   * Records a response from the Kubernetes API server which asked the operator to wait before sending more requests.
+   */
+  public static void recordRequestPause() {
+    requestPauses.inc();
+  }
+
+  /**
+   * Records a lookup of a cached REST authentication or authorization decision.
+   * @param cache the name of the cache, such as 'authentication'
+   * @param hit true if the decision was found in the cache
+   */
+  public static void recordReviewCacheRequest(String cache, boolean hit) {
+    reviewCacheRequests.labels(cache, hit ? "hit" : "miss").inc();
+  }
+
+  /**
+   * Records an event received from a Kubernetes watch.
+   * @param type the event type, such as 'ADDED'
+   * @param namespace the namespace watched, or null for a cluster-scoped watch
+   */
+  public static void recordWatchEvent(String type, String namespace) {
+    watchEvents.labels(type, toLabel(namespace)).inc();
+  }
+
+  /**
+   * Records the restart of a Kubernetes watch.
+   * @param namespace the namespace watched, or null for a cluster-scoped watch
+   */
+  public static void recordWatchReconnect(String namespace) {
+    watchReconnects.labels(toLabel(namespace)).inc();
+  }
+
+  /**
+   * Records the time taken by a domain introspector job.
+   * @param outcome the result of the job: 'success' or 'failure'
+   * @param seconds the elapsed time
+   */
+  public static void recordIntrospectionDuration(String outcome, double seconds) {
+    introspectionDuration.labels(outcome).observe(seconds);
+  }
+
+  /**
+   * Records the creation or replacement of an introspector config map and the size of its data.
+   * @param numBytes the number of bytes of data in the map, counting binary data in its base64-encoded form
+   */
+  public static void recordIntrospectorConfigMapWritten(long numBytes) {
+    introspectorConfigMaps.labels("written").inc();
+    introspectorConfigMapBytes.inc(numBytes);
+  }
+
+  /**
+   * Records an introspector config map which already held the expected data, and so was not written.
+   */
+  public static void recordIntrospectorConfigMapUnchanged() {
+    introspectorConfigMaps.labels("unchanged").inc();
+  }
+
+  /**
+   * Records the read of a resource referenced by a domain, in order to validate the domain.
+   * @param kind the kind of resource read: 'secret' or 'configmap'
+   */
+  public static void recordValidationRead(String kind) {
+    validationReads.labels(kind).inc();
+  }
+
+  /**
+   * Publishes the numbers of active and waiting fibers in a set of fiber gates.
+   * @param gateName the name which identifies the purpose of the fiber gates
+   * @param gates a supplier of the current map of namespaces to their fiber gates
+   */
+  public static void registerFiberGates(String gateName, Supplier<Map<String, FiberGate>> gates) {
+    fiberGates.gateSuppliers.put(gateName, gates);
+  }
+
+  private static String toLabel(String namespace) {
+    return Optional.ofNullable(namespace).orElse("");
+  }
+
+  /**
+   * Records a domain status update request.
+   * @param method the update method: either 'patch' or 'replace'
+   */
+  public static void recordStatusUpdate(String method) {
+    statusUpdateWrites.labels(method).inc();
+  }
+
+  /**
+   * Records a domain status update request and the size of its body.
+   * @param method the update method: either 'patch' or 'replace'
+   * @param numBytes the number of bytes in the request body
+   */
+  public static void recordStatusUpdate(String method, long numBytes) {
+    recordStatusUpdate(method);
+    statusUpdateBytes.labels(method).inc(numBytes);
+  }
+
+  /**
+   * Records a domain status update which failed due to a conflicting change.
+   */
+  public static void recordStatusUpdateConflict() {
+    statusUpdateConflicts.inc();
+  }
+
+  /**
+   * Records a domain status update which was merged into a write made for an earlier update.
+   */
+  public static void recordStatusWriteAvoided() {
+    statusWritesAvoided.inc();
+  }
+
+  /**
+   * Returns the number of bytes sent to update domain status by the specified method.
+   * @param method the update method: either 'patch' or 'replace'
+   */
+  public static double getStatusUpdateBytes(String method) {
+    return statusUpdateBytes.labels(method).get();
+  }
+
+  /**
+   * Returns the number of domain status updates which failed due to a conflicting change.
+   */
+  public static double getStatusUpdateConflicts() {
+    return statusUpdateConflicts.get();
+  }
+
+  /**
+   * Returns the number of domain status updates which were merged into a write made for an earlier update.
+   */
+  public static double getStatusWritesAvoided() {
+    return statusWritesAvoided.get();
+  }
+
+  /**
+   * Returns the number of domain status update requests sent by the specified method.
+   * @param method the update method: either 'patch' or 'replace'
+   */
+  public static double getStatusUpdateWrites(String method) {
+    return statusUpdateWrites.labels(method).get();
+  }
+
+  /**
+   * Returns the number of make-rights of a domain which had the specified outcome.
+   * @param namespace the domain namespace
+   * @param domainUid the domain UID
+   * @param outcome the result of the make-right: 'success', 'retry' or 'failure'
+   */
+  public static double getMakeRightCount(String namespace, String domainUid, String outcome) {
+    return getCount(makeRightDuration.labels(namespace, domainUid, outcome));
+  }
+
+  /**
+   * Returns the number of fibers cancelled.
+   */
+  public static double getFiberCancellations() {
+    return fiberCancellations.get();
+  }
+
+  /**
+   * Returns the number of fibers replaced by newer fibers for the same resource.
+   */
+  public static double getFiberReplacements() {
+    return fiberReplacements.get();
+  }
+
+  /**
+   * Returns the number of fibers scheduled to resume after a delay.
+   */
+  public static double getFiberRequeues() {
+    return fiberRequeues.get();
+  }
+
+  /**
+   * Returns the number of requeued fibers resumed from a checkpoint.
+   */
+  public static double getFiberResumptions() {
+    return fiberResumptions.get();
+  }
+
+  /**
+   * Returns the number of API calls not repeated because requeued fibers resumed from checkpoints.
+   */
+  public static double getApiCallsAvoided() {
+    return apiCallsAvoided.get();
+  }
+
+  /**
+   * Returns the number of retries of failed requests for the specified resource and operation.
+   * @param resource the kind of resource, such as 'pod'
+   * @param operation the API operation, such as 'replace'
+   */
+  public static double getRequestRetries(String resource, String operation) {
+    return requestRetries.labels(resource, operation).get();
+  }
+
+  /**
+   * Returns the number of requests timed for the specified resource and operation.
+   * @param resource the kind of resource, such as 'pod'
+   * @param operation the API operation, such as 'replace'
+   */
+  public static double getRequestCount(String resource, String operation) {
+    return getCount(requestDuration.labels(resource, operation));
+  }
+
+  /**
+   * Returns the number of requests in the specified lane which passed through the client-side rate limiter.
+   * @param lane the priority lane, such as 'background'
+   */
+  public static double getRequestQueueCount(String lane) {
+    return getCount(requestQueueWait.labels(lane));
+  }
+
+  /**
+   * Returns the total time for which requests in the specified lane waited for the client-side rate limiter.
+   * @param lane the priority lane, such as 'background'
+   */
+  public static double getRequestQueueWaitSeconds(String lane) {
+    return requestQueueWait.labels(lane).get().sum;
+  }
+
+  /**
+   * Returns the number of responses which asked the operator to wait before sending more requests.
+   */
+  public static double getRequestPauses() {
+    return requestPauses.get();
+  }
+
+  /**
+   * Returns the number of lookups of the specified cache with the specified result.
+   * @param cache the name of the cache, such as 'authentication'
+   * @param hit true to count lookups which found a decision in the cache, false to count those which did not
+   */
+  public static double getReviewCacheRequests(String cache, boolean hit) {
+    return reviewCacheRequests.labels(cache, hit ? "hit" : "miss").get();
+  }
+
+  /**
+   * Returns the number of watch events received of the specified type in the specified namespace.
+   * @param type the event type, such as 'ADDED'
+   * @param namespace the namespace watched, or null for a cluster-scoped watch
+   */
+  public static double getWatchEvents(String type, String namespace) {
+    return watchEvents.labels(type, toLabel(namespace)).get();
+  }
+
+  /**
+   * Returns the number of watches restarted in the specified namespace.
+   * @param namespace the namespace watched, or null for a cluster-scoped watch
+   */
+  public static double getWatchReconnects(String namespace) {
+    return watchReconnects.labels(toLabel(namespace)).get();
+  }
+
+  /**
+   * Returns the number of introspector jobs timed which had the specified outcome.
+   * @param outcome the result of the job: 'success' or 'failure'
+   */
+  public static double getIntrospectionCount(String outcome) {
+    return getCount(introspectionDuration.labels(outcome));
+  }
+
+  /**
+   * Returns the number of introspector config maps checked after introspection which had the specified outcome.
+   * @param outcome 'written' or 'unchanged'
+   */
+  public static double getIntrospectorConfigMaps(String outcome) {
+    return introspectorConfigMaps.labels(outcome).get();
+  }
+
+  /**
+   * Returns the number of bytes of data sent to create or replace introspector config maps.
+   */
+  public static double getIntrospectorConfigMapBytes() {
+    return introspectorConfigMapBytes.get();
+  }
+
+  /**
+   * Returns the number of resources of the specified kind read to validate domains.
+   * @param kind the kind of resource: 'secret' or 'configmap'
+   */
+  public static double getValidationReads(String kind) {
+    return validationReads.labels(kind).get();
+  }
+
+  private static double getCount(Histogram.Child child) {
+    final double[] buckets = child.get().buckets;
+    return buckets[buckets.length - 1];
+  }
+
+  /**
+   * Reports, for each registered set of fiber gates, the fibers which are running or waiting to run,
+   * and those which are waiting for a delay to expire before resuming.
+   */
+  static class FiberGateCollector extends Collector {
+    private static final List<String> LABEL_NAMES = List.of("gate", "namespace");
+
+    private final Map<String, Supplier<Map<String, FiberGate>>> gateSuppliers = new ConcurrentHashMap<>();
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+      final GaugeMetricFamily active = new GaugeMetricFamily(NAMESPACE + "_fiber_gate_active_fibers",
+          "Fibers holding a fiber gate which are not waiting for a delay, by gate and namespace.", LABEL_NAMES);
+      final GaugeMetricFamily waiting = new GaugeMetricFamily(NAMESPACE + "_fiber_gate_queued_fibers",
+          "Fibers holding a fiber gate which are waiting for a delay to expire, by gate and namespace.", LABEL_NAMES);
+      gateSuppliers.forEach((gateName, supplier) -> supplier.get().forEach((namespace, gate) -> {
+        active.addMetric(List.of(gateName, namespace), gate.getActiveFiberCount());
+        waiting.addMetric(List.of(gateName, namespace), gate.getWaitingFiberCount());
+      }));
+      return new ArrayList<>(List.of(active, waiting));
+    }
+  }
+}
@@ -42,6 +42,7 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
 
   public static final String REST_BACKEND_PROPERTY = "RestBackend";
   public static final String ACCESS_TOKEN_PREFIX = "Bearer ";
+  public static final String LIVE_READ_PARAM = "liveRead";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   @Context private Application application;
 
@@ -57,7 +58,7 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
       ResourceConfig rc = (ResourceConfig) application;
       RestConfig r = (RestConfig) rc.getProperty(RestConfig.REST_CONFIG_PROPERTY);
       String t = getAccessToken(req);
-      RestBackend be = r.getBackend(t);
+      RestBackend be = r.getBackend(t, isLiveRead(req));
       req.setProperty(REST_BACKEND_PROPERTY, be);
     } catch (RuntimeException | Error re) {
       authenticationFailure(re);
@@ -66,6 +67,12 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
     LOGGER.exiting();
   }
 
+  // A caller may ask that a request read domains and clusters from Kubernetes, rather than from the operator's
+  // records of them, by adding liveRead=true to its query.
+  private boolean isLiveRead(ContainerRequestContext req) {
+    return Boolean.parseBoolean(req.getUriInfo().getQueryParameters().getFirst(LIVE_READ_PARAM));
+  }
+
   private String getAccessToken(ContainerRequestContext req) {
     LOGGER.entering();
     String atz = req.getHeaderString(HttpHeaders.AUTHORIZATION);
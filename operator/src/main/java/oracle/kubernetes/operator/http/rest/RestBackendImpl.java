@@ -3,9 +3,9 @@
 
 package oracle.kubernetes.operator.http.rest;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +13,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -30,8 +31,6 @@ import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
-import io.kubernetes.client.util.ClientBuilder;
-import io.kubernetes.client.util.credentials.AccessTokenAuthentication;
 import io.kubernetes.client.util.generic.options.CreateOptions;
 import io.kubernetes.client.util.generic.options.GetOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
@@ -43,14 +42,19 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.DomainProcessor;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.OperatorMain;
+import oracle.kubernetes.operator.calls.ApiClientPool;
+import oracle.kubernetes.operator.calls.Client;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
 import oracle.kubernetes.operator.http.rest.model.DomainAction;
 import oracle.kubernetes.operator.http.rest.model.DomainActionType;
@@ -90,10 +94,14 @@ public class RestBackendImpl implements RestBackend {
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
+  private final String accessToken;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final DomainProcessor domainProcessor;
   private V1UserInfo userInfo;
   private Gson gson;
   private UnaryOperator<ApiClient> clientSupplier;
+  private Function<String, List<ClusterResource>> cachedClusters;
+  private final Map<Resource, Boolean> presenceInfoReadable = new EnumMap<>(Resource.class);
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -104,20 +112,29 @@ public class RestBackendImpl implements RestBackend {
    * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
    */
   RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces) {
+    this(principal, accessToken, domainNamespaces, null);
+  }
+
+  /**
+   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
+   *  @param principal is the name of the Kubernetes user to use when calling the Kubernetes REST
+   *     api.
+   * @param accessToken is the access token of the Kubernetes service account of the client calling
+   *     the WebLogic operator REST api.
+   * @param domainNamespaces a function that returns the names of the managed Kubernetes namepaces.
+   * @param domainProcessor the processor whose record of domains and clusters answers reads, or null to read
+   *     them from Kubernetes.
+   */
+  RestBackendImpl(String principal, String accessToken, Supplier<Collection<String>> domainNamespaces,
+                  DomainProcessor domainProcessor) {
     this.domainNamespaces = domainNamespaces;
+    this.domainProcessor = domainProcessor;
     this.principal = principal;
+    this.accessToken = accessToken;
     userInfo = authenticate(accessToken);
-    try {
-      ClientBuilder builder = ClientBuilder.standard();
-      if (userInfo != null) {
-        builder.setAuthentication(new AccessTokenAuthentication(accessToken));
-      }
-      ApiClient client = builder.build();
-      gson = client.getJSON().getGson();
-      clientSupplier = (c) -> client;
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    ApiClient client = userInfo != null ? ApiClientPool.getClient(accessToken) : Client.getInstance();
+    gson = client.getJSON().getGson();
+    clientSupplier = (c) -> client;
   }
 
   private void authorize(String domainUid, Operation operation) {
@@ -201,11 +218,30 @@ public class RestBackendImpl implements RestBackend {
     return domainNamespaces.get().stream().map(this::getDomains).flatMap(Collection::stream);
   }
 
-  private Stream<ClusterResource> getClusterStream() {
-    return domainNamespaces.get().stream().map(this::getClusterResources).flatMap(Collection::stream);
+  // Domains and clusters are read from the domain processor's presence records, which the namespace watchers
+  // keep current, unless live reads are configured or were requested by the caller, or the caller may not read
+  // the records.
+  private boolean isReadFromPresenceInfo(Resource resource) {
+    return domainProcessor != null
+        && !Optional.ofNullable(TuningParameters.getInstance())
+              .map(TuningParameters::isRestLiveReadsEnabled).orElse(false)
+        && mayReadPresenceInfo(resource);
+  }
+
+  // When callers are authenticated with token reviews, live reads use the caller's token, so the presence records,
+  // which are kept with the operator's privileges, are served only to a caller who may list the resources in all
+  // namespaces. That is reviewed at most once for each request. Other callers are served live reads, which
+  // Kubernetes authorizes for each namespace.
+  private boolean mayReadPresenceInfo(Resource resource) {
+    return !useAuthenticateWithTokenReview()
+        || presenceInfoReadable.computeIfAbsent(resource, r -> atz.checkSelf(accessToken, Operation.LIST, r, null));
   }
 
   private List<DomainResource> getDomains(String ns) {
+    if (isReadFromPresenceInfo(Resource.DOMAINS)) {
+      return getPresenceInfoDomains(ns);
+    }
+
     try {
       return RequestBuilder.DOMAIN.list(ns, new ListOptions(), clientSupplier).getItems();
     } catch (ApiException e) {
@@ -213,7 +249,20 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  private List<DomainResource> getPresenceInfoDomains(String ns) {
+    return Optional.ofNullable(domainProcessor.getDomainPresenceInfoMapForNS(ns)).map(Map::values).stream()
+        .flatMap(Collection::stream)
+        .filter(DomainPresenceInfo::isNotDeleting)
+        .map(DomainPresenceInfo::getDomain)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
   private List<ClusterResource> getClusterResources(String ns) {
+    if (isReadFromPresenceInfo(Resource.CLUSTERS)) {
+      return getPresenceInfoClusters(ns);
+    }
+
     try {
       return RequestBuilder.CLUSTER.list(ns, new ListOptions(), clientSupplier).getItems();
     } catch (ApiException e) {
@@ -221,6 +270,14 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  private List<ClusterResource> getPresenceInfoClusters(String ns) {
+    return Optional.ofNullable(domainProcessor.getClusterPresenceInfoMap().get(ns)).map(Map::values).stream()
+        .flatMap(Collection::stream)
+        .map(ClusterPresenceInfo::getCluster)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
   @Override
   public boolean isDomainUid(String domainUid) {
     return getDomain(domainUid).isPresent();
@@ -304,17 +361,12 @@ public class RestBackendImpl implements RestBackend {
     authorize(null, Operation.LIST);
 
     List<String> referencedClusterResources = getReferencedClusterResourceNames(domain);
-    return getClusterStream()
-        .filter(c -> isInSameNamespace(c, domain))
+    return getClusterResources(domain.getNamespace()).stream()
         .filter(c -> isReferencedByDomain(c, referencedClusterResources))
         .filter(c -> isMatchingClusterResource(clusterName, c))
         .findFirst();
   }
 
-  private boolean isInSameNamespace(ClusterResource clusterResource, DomainResource domain) {
-    return Objects.equals(clusterResource.getNamespace(), domain.getNamespace());
-  }
-
   private boolean isReferencedByDomain(ClusterResource clusterResource, List<String> referencedClusterResources) {
     return Optional.ofNullable(referencedClusterResources)
         .map(l -> l.contains(clusterResource.getClusterResourceName()))
@@ -484,7 +536,7 @@ public class RestBackendImpl implements RestBackend {
   @SuppressWarnings("unchecked")
   public List<Map<String, Object>> listClusters(String namespace) {
     try {
-      ClusterList l = RequestBuilder.CLUSTER.list(namespace, new ListOptions(), clientSupplier);
+      ClusterList l = readClusters(namespace);
       Map<String, Object> clusterList = l != null ? toMap(l) : null;
       return Optional.of(clusterList).map(cl -> (List<Map<String, Object>>) cl.get("items"))
           .orElse(Collections.emptyList());
@@ -494,6 +546,19 @@ public class RestBackendImpl implements RestBackend {
   }
 
 
+  private ClusterList readClusters(String namespace) throws ApiException {
+    if (isReadFromPresenceInfo(Resource.CLUSTERS) && domainNamespaces.get().contains(namespace)) {
+      return new ClusterList().withItems(getPresenceInfoClusters(namespace));
+    }
+
+    final List<ClusterResource> clusters = getCachedClusters(namespace);
+    if (clusters != null) {
+      return new ClusterList().withItems(clusters);
+    } else {
+      return RequestBuilder.CLUSTER.list(namespace, new ListOptions(), clientSupplier);
+    }
+  }
+
   private void patchDomain(DomainResource domain, JsonPatchBuilder patchBuilder) {
     try {
       RequestBuilder.DOMAIN.patch(domain.getMetadata().getNamespace(), domain.getMetadata().getName(),
@@ -582,6 +647,20 @@ public class RestBackendImpl implements RestBackend {
     return userInfo;
   }
 
+  private List<ClusterResource> getCachedClusters(String namespace) {
+    return Optional.ofNullable(cachedClusters).map(f -> f.apply(namespace)).orElse(null);
+  }
+
+  /**
+   * Specifies a local copy of cluster resources to answer reads of the clusters in a namespace.
+   * @param cachedClusters returns the cluster resources in a namespace from the copy, or null if the copy is not in
+   *     use. If null, clusters are read from Kubernetes.
+   */
+  RestBackendImpl withCachedClusters(Function<String, List<ClusterResource>> cachedClusters) {
+    this.cachedClusters = cachedClusters;
+    return this;
+  }
+
   // Intended for unit tests
   RestBackendImpl withAuthorizationProxy(AuthorizationProxy authorizationProxy) {
     this.atz = authorizationProxy;
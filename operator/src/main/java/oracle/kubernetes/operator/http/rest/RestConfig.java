@@ -115,10 +115,12 @@ public interface RestConfig {
    *
    * @param accessToken contains the Kubernetes service account token that should be used to
    *     authenticate and authorize this request.
+   * @param liveRead true if this request must read domains and clusters from Kubernetes, rather than
+   *     from the operator's records of them.
    * @return a RestBackend instance that can be used to process this request (but not other
    *     requests).
    */
-  RestBackend getBackend(String accessToken);
+  RestBackend getBackend(String accessToken, boolean liveRead);
 
   String getWebhookCertificateData();
 
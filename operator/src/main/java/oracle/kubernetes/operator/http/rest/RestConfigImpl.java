@@ -1,13 +1,17 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import oracle.kubernetes.operator.DomainProcessor;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
 import oracle.kubernetes.operator.utils.Certificates;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 
 /** RestConfigImpl provides the WebLogic Operator REST api configuration. */
 public class RestConfigImpl implements RestConfig {
@@ -16,14 +20,19 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
+  private final DomainProcessor domainProcessor;
   private final Certificates certificates;
+  private Function<String, List<ClusterResource>> cachedClusters;
 
   /**
    * Constructs a RestConfigImpl.
    * @param certificates Certificates.
+   * @param cachedClusters returns the cluster resources in a namespace from a local copy, or null if the copy is not
+   *     in use.
    */
-  public RestConfigImpl(Certificates certificates) {
-    this(null, null, certificates);
+  public RestConfigImpl(Certificates certificates, Function<String, List<ClusterResource>> cachedClusters) {
+    this(null, null, null, certificates);
+    this.cachedClusters = cachedClusters;
   }
 
   /**
@@ -31,10 +40,13 @@ public class RestConfigImpl implements RestConfig {
    *  @param principal is the name of the Kubernetes User or Service Account to use when calling the
    *     Kubernetes REST API.
    * @param domainNamespaces returns a list of the Kubernetes Namespaces covered by this Operator.
+   * @param domainProcessor the processor whose record of domains and clusters answers REST reads.
    * @param certificates Certificates
    */
-  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces, Certificates certificates) {
+  public RestConfigImpl(String principal, Supplier<Collection<String>> domainNamespaces,
+                        DomainProcessor domainProcessor, Certificates certificates) {
     this.domainNamespaces = domainNamespaces;
+    this.domainProcessor = domainProcessor;
     this.principal = principal;
     this.certificates = certificates;
   }
@@ -100,8 +112,9 @@ public class RestConfigImpl implements RestConfig {
   }
 
   @Override
-  public RestBackend getBackend(String accessToken) {
-    return new RestBackendImpl(principal, accessToken, domainNamespaces);
+  public RestBackend getBackend(String accessToken, boolean liveRead) {
+    return new RestBackendImpl(principal, accessToken, domainNamespaces, liveRead ? null : domainProcessor)
+        .withCachedClusters(cachedClusters);
   }
 
   @Override
@@ -27,6 +27,7 @@ import oracle.kubernetes.operator.MakeRightExecutor;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.Processors;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -69,6 +70,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
   private boolean inspectionRun;
   private boolean retryOnFailure;
+  private boolean background;
 
   /**
    * Create the operation.
@@ -146,6 +148,12 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
     return this;
   }
 
+  @Override
+  public MakeRightDomainOperation inBackground() {
+    this.background = true;
+    return this;
+  }
+
   @Override
   public boolean isDeleting() {
     return deleting;
@@ -183,6 +191,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
     this.deleting = false;
     this.willInterrupt = false;
     this.inspectionRun = false;
+    this.background = false;
   }
 
   @Override
@@ -198,6 +207,9 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
     packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, liveInfo);
     packet.put(ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION, this);
     packet.put(ProcessingConstants.DOMAIN_COMPONENT_NAME, delegate.getKubernetesVersion());
+    if (background) {
+      packet.put(RequestRateLimiter.LANE, RequestRateLimiter.Lane.BACKGROUND);
+    }
     return packet;
   }
 
@@ -30,6 +30,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ResourceChanges;
 import oracle.kubernetes.operator.work.Step;
 
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
@@ -147,13 +148,16 @@ public class ManagedServerUpIteratorStep extends Step {
       DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
       WlsDomainConfig domainTopology =
               (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      ResourceChanges.Registration registration
+          = ResourceChanges.register(PodHelper.getServerPodChangeKey(info, serverName));
       V1Pod managedPod = info.getServerPod(serverName);
 
       if (managedPod == null || (!isPodReady(managedPod) && !isPodMarkedForShutdown(managedPod))) {
-        // requeue to wait for managed pod to be ready
-        return doRequeue(packet);
+        // wait for managed pod to be ready
+        return doWaitForChange(this, packet, registration);
       }
 
+      registration.cancel();
       return doNext(packet);
     }
 
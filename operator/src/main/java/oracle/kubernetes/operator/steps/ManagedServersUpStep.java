@@ -155,10 +155,10 @@ public class ManagedServersUpStep extends Step {
 
     wlsDomainConfig.getServerConfigs().values().stream()
         .filter(wlsServerConfig -> !clusteredServers.contains(wlsServerConfig.getName()))
-        .forEach(wlsServerConfig -> factory.addServerIfAlways(wlsServerConfig, null, pendingServers));
+        .forEach(wlsServerConfig -> factory.addServerIfAlways(new ServerConfig(wlsServerConfig), pendingServers));
 
     for (ServerConfig serverConfig : pendingServers) {
-      factory.addServerIfNeeded(serverConfig.wlsServerConfig, serverConfig.wlsClusterConfig);
+      factory.addServerIfNeeded(serverConfig);
     }
 
     info.getServerPods().filter(pod -> podShouldNotBeRunning(pod, factory))
@@ -184,13 +184,13 @@ public class ManagedServersUpStep extends Step {
       @Nonnull ServersUpStepFactory factory, Set<String> clusteredServers,
       @Nonnull WlsClusterConfig wlsClusterConfig, List<ServerConfig> pendingServers) {
     factory.logIfInvalidReplicaCount(wlsClusterConfig);
-    // We depend on 'getServerConfigs()' returning an ascending 'numero-lexi'
+    // We depend on 'getServerNames()' returning an ascending 'numero-lexi'
     // sorted list so that a cluster's "lowest named" servers have precedence
     // when the  cluster's replica  count is lower than  the WL cluster size.
-    wlsClusterConfig.getServerConfigs()
-        .forEach(wlsServerConfig -> {
-          factory.addServerIfAlways(wlsServerConfig, wlsClusterConfig, pendingServers);
-          clusteredServers.add(wlsServerConfig.getName());
+    wlsClusterConfig.getServerNames()
+        .forEach(serverName -> {
+          factory.addServerIfAlways(new ServerConfig(wlsClusterConfig, serverName), pendingServers);
+          clusteredServers.add(serverName);
         });
   }
 
@@ -231,25 +231,30 @@ public class ManagedServersUpStep extends Step {
       return false;
     }
 
-    private void addServerIfNeeded(@Nonnull WlsServerConfig serverConfig, WlsClusterConfig clusterConfig) {
-      String serverName = serverConfig.getName();
+    private void addServerIfNeeded(@Nonnull ServerConfig serverConfig) {
+      String serverName = serverConfig.serverName;
       if (adminServerOrDone(serverName)) {
         return;
       }
 
-      String clusterName = getClusterName(clusterConfig);
+      String clusterName = getClusterName(serverConfig.wlsClusterConfig);
       EffectiveServerSpec server = info.getServer(serverName, clusterName);
 
       if (server.shouldStart(getReplicaCount(clusterName))) {
-        addServerToStart(serverConfig, clusterName, server);
+        addServerToStart(serverConfig.getServerConfig(), clusterName, server);
       } else if (shouldPrecreateServerService(server)) {
         preCreateServers.add(serverName);
-        addShutdownInfo(new ServerShutdownInfo(serverConfig, clusterName, server, true));
-      } else {
-        addShutdownInfo(new ServerShutdownInfo(serverConfig, clusterName, server, false));
+        addShutdownInfo(new ServerShutdownInfo(serverConfig.getServerConfig(), clusterName, server, true));
+      } else if (hasPodOrService(serverName)) {
+        addShutdownInfo(new ServerShutdownInfo(serverConfig.getServerConfig(), clusterName, server, false));
       }
     }
 
+    // A server which is not to run, and has neither pod nor service, has nothing to shut down.
+    private boolean hasPodOrService(String serverName) {
+      return info.getServerPod(serverName) != null || info.getServerService(serverName) != null;
+    }
+
     private void addServerToStart(@Nonnull WlsServerConfig serverConfig, String clusterName,
                                   EffectiveServerSpec server) {
       servers.add(serverConfig.getName());
@@ -265,7 +270,7 @@ public class ManagedServersUpStep extends Step {
         String clusterName = clusterConfig.getClusterName();
         int configMaxClusterSize = clusterConfig.getClusterSize();
         return clusterConfig.hasDynamicServers()
-            && clusterConfig.getServerConfigs().size() == configMaxClusterSize
+            && clusterConfig.getServerCount() == configMaxClusterSize
             && info.getReplicaCount(clusterName) > configMaxClusterSize;
       }
       return false;
@@ -328,20 +333,17 @@ public class ManagedServersUpStep extends Step {
       logIfReplicasExceedsClusterServersMax(clusterConfig);
     }
 
-    private void addServerIfAlways(
-        WlsServerConfig wlsServerConfig,
-        WlsClusterConfig wlsClusterConfig,
-        List<ServerConfig> pendingServers) {
-      String serverName = wlsServerConfig.getName();
+    private void addServerIfAlways(ServerConfig serverConfig, List<ServerConfig> pendingServers) {
+      String serverName = serverConfig.serverName;
       if (adminServerOrDone(serverName)) {
         return;
       }
-      String clusterName = getClusterName(wlsClusterConfig);
+      String clusterName = getClusterName(serverConfig.wlsClusterConfig);
       EffectiveServerSpec server = info.getServer(serverName, clusterName);
       if (server.alwaysStart()) {
-        addServerToStart(wlsServerConfig, clusterName, server);
+        addServerToStart(serverConfig.getServerConfig(), clusterName, server);
       } else {
-        pendingServers.add(new ServerConfig(wlsClusterConfig, wlsServerConfig));
+        pendingServers.add(serverConfig);
       }
     }
 
@@ -356,12 +358,27 @@ public class ManagedServersUpStep extends Step {
   }
 
   private static class ServerConfig {
-    protected final WlsServerConfig wlsServerConfig;
+    protected final String serverName;
     protected final WlsClusterConfig wlsClusterConfig;
+    private WlsServerConfig wlsServerConfig;
 
-    ServerConfig(WlsClusterConfig cluster, WlsServerConfig server) {
-      this.wlsClusterConfig = cluster;
+    ServerConfig(WlsServerConfig server) {
+      this.serverName = server.getName();
+      this.wlsClusterConfig = null;
       this.wlsServerConfig = server;
     }
+
+    ServerConfig(WlsClusterConfig cluster, String serverName) {
+      this.serverName = serverName;
+      this.wlsClusterConfig = cluster;
+    }
+
+    // The configuration of a clustered server, which may be a dynamic server, is created only when needed.
+    WlsServerConfig getServerConfig() {
+      if (wlsServerConfig == null) {
+        wlsServerConfig = wlsClusterConfig.getServerConfig(serverName);
+      }
+      return wlsServerConfig;
+    }
   }
 }
@@ -10,10 +10,10 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
@@ -30,6 +30,7 @@ import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.http.client.HttpResponseStep;
 import oracle.kubernetes.operator.http.rest.Scan;
@@ -37,7 +38,6 @@ import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.wlsconfig.PortDetails;
-import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
@@ -46,6 +46,7 @@ import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.ADMIN_REPORTED_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
@@ -72,12 +73,30 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of all running servers in the domain
+   * with a single request to the admin server. The results are recorded in the packet, and used
+   * by the steps created by {@link #createReadHealthStep(Step)} in place of reading each server.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
   // overallHealthState, healthState
 
   @Override
   public @Nonnull Result apply(Packet packet) {
     String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
     DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    Pair<String, ServerHealth> reportedHealth = getAdminReportedHealth(packet, serverName);
+    if (reportedHealth != null) {
+      RecordHealthStep.recordReportedHealth(packet, reportedHealth);
+      return doNext(packet);
+    }
+
     V1Service service = info.getServerService(serverName);
     if (service == null) {
       return doNext(packet);
@@ -90,10 +109,24 @@ public class ReadHealthStep extends Step {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private static Pair<String, ServerHealth> getAdminReportedHealth(Packet packet, String serverName) {
+    return Optional.ofNullable((Map<String, Pair<String, ServerHealth>>) packet.get(ADMIN_REPORTED_HEALTH_MAP))
+        .map(m -> m.get(serverName))
+        .orElse(null);
+  }
+
   static final class ReadHealthProcessing extends HttpRequestProcessing {
 
+    private final String serverName;
+
     ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod) {
+      this(packet, service, pod, (String) packet.get(ProcessingConstants.SERVER_NAME));
+    }
+
+    ReadHealthProcessing(Packet packet, @Nonnull V1Service service, V1Pod pod, String serverName) {
       super(packet, service, pod);
+      this.serverName = serverName;
     }
 
     private static String getRetrieveHealthSearchPath() {
@@ -104,15 +137,36 @@ public class ReadHealthStep extends Step {
       return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
     }
 
+    private static String getRetrieveStateSearchPayload() {
+      return "{ fields: [ 'state' ], links: [] }";
+    }
+
+    private static String getRetrieveDomainHealthSearchPath() {
+      return "/management/weblogic/latest/domainRuntime/search";
+    }
+
+    private static String getRetrieveDomainHealthSearchPayload() {
+      return "{ fields: [], links: [], children: { serverRuntimes: "
+          + "{ fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] } } }";
+    }
+
     private HttpRequest createRequest() {
-      LOGGER.finer("Create REST request to service URL: " + getRequestUrl());
-      return createRequestBuilder(getRequestUrl())
-            .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
-            .build();
+      return createSearchRequest(getRetrieveHealthSearchPath(), getRetrieveHealthSearchPayload());
+    }
+
+    HttpRequest createStateRequest() {
+      return createSearchRequest(getRetrieveHealthSearchPath(), getRetrieveStateSearchPayload());
     }
 
-    private String getRequestUrl() {
-      return getServiceUrl() + getRetrieveHealthSearchPath();
+    private HttpRequest createDomainHealthRequest() {
+      return createSearchRequest(getRetrieveDomainHealthSearchPath(), getRetrieveDomainHealthSearchPayload());
+    }
+
+    private HttpRequest createSearchRequest(String path, String payload) {
+      LOGGER.finer("Create REST request to service URL: " + getServiceUrl() + path);
+      return createRequestBuilder(getServiceUrl() + path)
+            .POST(HttpRequest.BodyPublishers.ofString(payload))
+            .build();
     }
 
     protected PortDetails getPortDetails() {
@@ -125,15 +179,18 @@ public class ReadHealthStep extends Step {
       return Optional.ofNullable(getWlsServerConfig()).map(WlsServerConfig::getLocalAdminProtocolChannelPort).orElse(0);
     }
 
-    private WlsServerConfig getWlsServerConfig() {
+    WlsServerConfig getWlsServerConfig() {
+      WlsDomainConfig domainConfig = getWlsDomainConfig();
+      if (domainConfig == null) {
+        return null;
+      }
+
       // standalone server that does not belong to any cluster
-      WlsServerConfig serverConfig = getWlsDomainConfig().getServerConfig(getServerName());
+      WlsServerConfig serverConfig = domainConfig.getServerConfig(getServerName());
 
       if (serverConfig == null) {
         // dynamic or configured server in a cluster
-        String clusterName = getClusterNameFromServiceLabel();
-        WlsClusterConfig cluster = getWlsDomainConfig().getClusterConfig(clusterName);
-        serverConfig = findServerConfig(cluster);
+        serverConfig = domainConfig.getClusteredServerConfig(getClusterNameFromServiceLabel(), getServerName());
       }
       return serverConfig;
     }
@@ -146,28 +203,13 @@ public class ReadHealthStep extends Step {
           .orElse(null);
     }
 
-    private WlsServerConfig findServerConfig(WlsClusterConfig wlsClusterConfig) {
-      for (WlsServerConfig serverConfig : wlsClusterConfig.getServerConfigs()) {
-        if (Objects.equals(getServerName(), serverConfig.getName())) {
-          return serverConfig;
-        }
-      }
-      return null;
-    }
-
     private String getServerName() {
-      return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      return serverName;
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
-      DomainPresenceInfo info = (DomainPresenceInfo) getPacket().get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-      WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
-      if (domainConfig == null) {
-        Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
-        domainConfig = scan.getWlsDomainConfig();
-      }
-      return domainConfig;
+      return ReadHealthStep.getWlsDomainConfig(getPacket(),
+          (DomainPresenceInfo) getPacket().get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
     }
   }
 
@@ -199,6 +241,112 @@ public class ReadHealthStep extends Step {
 
   }
 
+  /**
+   * Step to ask the admin server for the state and health of all running servers, if the admin server is ready.
+   */
+  static final class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      String adminServerName = Optional.ofNullable(getWlsDomainConfig(packet, info))
+          .map(WlsDomainConfig::getAdminServerName)
+          .orElse(null);
+      V1Service service = Optional.ofNullable(adminServerName).map(info::getServerService).orElse(null);
+      V1Pod pod = Optional.ofNullable(adminServerName).map(info::getServerPod).orElse(null);
+      if (service == null || !PodHelper.hasReadyStatus(pod)) {
+        return doNext(packet);
+      }
+
+      return doNext(
+          Step.chain(
+              SecretHelper.createAuthorizationSourceStep(),
+              new ReadDomainHealthWithHttpStep(service, pod, adminServerName, getNext())),
+          packet);
+    }
+  }
+
+  static WlsDomainConfig getWlsDomainConfig(Packet packet, DomainPresenceInfo info) {
+    WlsDomainConfig domainConfig = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    if (domainConfig == null) {
+      domainConfig = Optional.ofNullable(ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid()))
+          .map(Scan::getWlsDomainConfig)
+          .orElse(null);
+    }
+    return domainConfig;
+  }
+
+  static final class ReadDomainHealthWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+    private final String adminServerName;
+
+    ReadDomainHealthWithHttpStep(@Nonnull V1Service service, V1Pod pod, String adminServerName, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.adminServerName = adminServerName;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod, adminServerName);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(packet);
+      }
+      return doNext(createRequestStep(processing.createDomainHealthRequest(), new RecordDomainHealthStep(getNext())),
+          packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing the state and health of the servers reported by the admin server.
+   * Packet values set:
+   *  ADMIN_REPORTED_HEALTH_MAP         a map of server names to state and health
+   * If the request fails, nothing is recorded, and the health of each server will be read from that server.
+   */
+  static final class RecordDomainHealthStep extends HttpResponseStep {
+
+    RecordDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        packet.put(ADMIN_REPORTED_HEALTH_MAP, parseDomainHealthJson(response.body()));
+      } catch (Throwable t) {
+        LOGGER.fine("Unable to parse server health reported by the admin server: " + t);
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, HttpResponse<String> response) {
+      LOGGER.fine("Unable to read server health from the admin server; status: "
+          + Optional.ofNullable(response).map(HttpResponse::statusCode).orElse(null));
+      return doNext(packet);
+    }
+
+    private static Map<String, Pair<String, ServerHealth>> parseDomainHealthJson(String jsonResult)
+        throws IOException {
+      Map<String, Pair<String, ServerHealth>> result = new HashMap<>();
+      if (jsonResult != null) {
+        JsonNode items = new ObjectMapper().readTree(jsonResult).path("serverRuntimes").path("items");
+        for (JsonNode item : items) {
+          Optional.ofNullable(emptyToNull(item.path("name").asText(null)))
+              .ifPresent(name -> result.put(name, RecordHealthStep.HealthResponseProcessing.parseServerHealth(item)));
+        }
+      }
+      return result;
+    }
+  }
+
   /**
    * {@link Step} for processing json result object containing the response from the REST call.
    * Packet values used:
@@ -230,6 +378,18 @@ public class ReadHealthStep extends Step {
       }
     }
 
+    /**
+     * Records the state and health of the server named in the packet, as reported by the admin server.
+     * @param packet the packet for the server
+     * @param reportedHealth the state and health reported
+     */
+    static void recordReportedHealth(Packet packet, Pair<String, ServerHealth> reportedHealth) {
+      HealthResponseProcessing responseProcessing = new HealthResponseProcessing(packet, null);
+      responseProcessing.recordStateAndHealth(reportedHealth);
+      responseProcessing.resetHttpRequestFailureCount();
+      decrementIntegerInPacketAtomically(packet, REMAINING_SERVERS_HEALTH_TO_READ);
+    }
+
     @SuppressWarnings("SameParameterValue")
     private static void decrementIntegerInPacketAtomically(Packet packet, String key) {
       packet.<AtomicInteger>getValue(key).getAndDecrement();
@@ -282,8 +442,10 @@ public class ReadHealthStep extends Step {
         }
 
         ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonResult);
+        return parseServerHealth(mapper.readTree(jsonResult));
+      }
 
+      static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
         JsonNode healthState = null;
         JsonNode subsystemName = null;
         JsonNode symptoms = null;
@@ -337,7 +499,10 @@ public class ReadHealthStep extends Step {
       }
 
       void recordStateAndHealth() throws IOException {
-        Pair<String, ServerHealth> pair = parseServerHealthJson(getResponse().body());
+        recordStateAndHealth(parseServerHealthJson(getResponse().body()));
+      }
+
+      void recordStateAndHealth(Pair<String, ServerHealth> pair) {
         String state = emptyToNull(Optional.ofNullable(pair).map(Pair::left).orElse(null));
         ServerHealth health = Optional.ofNullable(pair).map(Pair::right).orElse(null);
         recordStateAndHealth(state, health);
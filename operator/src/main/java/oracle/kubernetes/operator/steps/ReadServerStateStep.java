@@ -0,0 +1,144 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.SecretHelper;
+import oracle.kubernetes.operator.http.client.HttpResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.steps.HttpRequestProcessing.createRequestStep;
+import static oracle.kubernetes.utils.OperatorUtils.emptyToNull;
+
+/**
+ * Reads the state of a server which is not yet ready from the server's REST interface, rather than by running
+ * a script in its pod. This requires no requests to the Kubernetes API server, but can only succeed once the
+ * server is listening for administrative requests; if it cannot, the fallback step is run instead.
+ */
+public class ReadServerStateStep extends Step {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String serverName;
+  private final Step fallback;
+
+  private ReadServerStateStep(String serverName, Step fallback, Step next) {
+    super(next);
+    this.serverName = serverName;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Creates asynchronous {@link Step} to read the state of a server from its REST interface.
+   * Packet values used:
+   *  DOMAIN_PRESENCE_INFO              the domain presence info
+   *  SERVER_STATE_MAP                  a map of server names to state, updated with the state read
+   *
+   * @param serverName the name of the server
+   * @param fallback the step to run, in place of this one, if the state cannot be read
+   * @param next the step to run after the state has been recorded
+   * @return asynchronous step
+   */
+  public static Step createReadServerStateStep(String serverName, Step fallback, Step next) {
+    return new ReadServerStateStep(serverName, fallback, next);
+  }
+
+  @Override
+  public @Nonnull Result apply(Packet packet) {
+    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    V1Service service = info.getServerService(serverName);
+    V1Pod pod = info.getServerPod(serverName);
+    if (service == null || pod == null || ReadHealthStep.getWlsDomainConfig(packet, info) == null) {
+      return doNext(fallback, packet);
+    }
+
+    return doNext(
+          Step.chain(
+              SecretHelper.createAuthorizationSourceStep(),
+              new ReadStateWithHttpStep(service, pod)),
+          packet);
+  }
+
+  private class ReadStateWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+
+    ReadStateWithHttpStep(@Nonnull V1Service service, V1Pod pod) {
+      this.service = service;
+      this.pod = pod;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      ReadHealthStep.ReadHealthProcessing processing
+          = new ReadHealthStep.ReadHealthProcessing(packet, service, pod, serverName);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(fallback, packet);
+      }
+      return doNext(createRequestStep(processing.createStateRequest(), new RecordStateStep()), packet);
+    }
+  }
+
+  private class RecordStateStep extends HttpResponseStep {
+
+    RecordStateStep() {
+      super(null);
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, HttpResponse<String> response) {
+      String state = null;
+      try {
+        state = parseState(response.body());
+      } catch (IOException e) {
+        LOGGER.fine("Unable to parse state of server " + serverName + ": " + e);
+      }
+
+      if (state == null) {
+        return doNext(fallback, packet);
+      }
+
+      LOGGER.fine("readState: " + state + " for " + serverName);
+      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      info.updateLastKnownServerStatus(serverName, state);
+      getServerStateMap(packet).put(serverName, state);
+      return doNext(ReadServerStateStep.this.getNext(), packet);
+    }
+
+    @Override
+    public Result onFailure(Packet packet, HttpResponse<String> response) {
+      LOGGER.fine("Unable to read state of server " + serverName + " with HTTP; status: "
+          + Optional.ofNullable(response).map(HttpResponse::statusCode).orElse(null));
+      return doNext(fallback, packet);
+    }
+
+    private String parseState(String jsonResult) throws IOException {
+      if (jsonResult == null) {
+        return null;
+      }
+      return emptyToNull(new ObjectMapper().readTree(jsonResult).path("state").asText("").trim());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getServerStateMap(Packet packet) {
+      return (Map<String, String>) packet.get(SERVER_STATE_MAP);
+    }
+  }
+}
@@ -20,9 +20,11 @@ import io.kubernetes.client.extended.controller.reconciler.Result;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerShutdownInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ResourceChanges;
 import oracle.kubernetes.operator.work.Step;
 import org.jetbrains.annotations.NotNull;
 
@@ -149,10 +151,13 @@ public class ServerDownIteratorStep extends Step {
       @NotNull
       @Override
       public Result apply(Packet packet) {
+        ResourceChanges.Registration registration
+            = ResourceChanges.register(PodHelper.getServerPodChangeKey(info, ssi.getServerName()));
         if (info.getServerPod(ssi.getServerName()) != null) {
-          // requeue to wait for pod to be deleted
-          return doRequeue(packet);
+          // wait for pod to be deleted
+          return doWaitForChange(this, packet, registration);
         }
+        registration.cancel();
         return doEnd(packet);
       }
     }
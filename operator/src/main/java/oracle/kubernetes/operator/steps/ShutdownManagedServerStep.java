@@ -7,7 +7,6 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
@@ -270,12 +269,7 @@ public class ShutdownManagedServerStep extends Step {
     }
 
     private WlsServerConfig findServerConfig(WlsClusterConfig wlsClusterConfig) {
-      for (WlsServerConfig serverConfig : wlsClusterConfig.getServerConfigs()) {
-        if (Objects.equals(getServerName(), serverConfig.getName())) {
-          return serverConfig;
-        }
-      }
-      return null;
+      return Optional.ofNullable(getServerName()).map(wlsClusterConfig::getServerConfig).orElse(null);
     }
 
     private String getServerName() {
@@ -78,8 +78,32 @@ public class TuningParameters {
   public static final String CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT = "crdPresenceFailureRetryMaxCount";
   public static final String HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = "httpRequestFailureCountThreshold";
   public static final String SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = "shutdownWithHttpPollingInterval";
+  public static final String FORK_JOIN_CONCURRENCY_LIMIT = "forkJoinConcurrencyLimit";
+  public static final String SHARED_INFORMER_CACHE = "sharedInformerCache";
+  public static final String AGGREGATE_SERVER_HEALTH = "aggregateServerHealth";
+  public static final String HTTP_SERVER_STATE_PROBE = "httpServerStateProbe";
+  public static final String STATUS_UPDATE_JSON_PATCH = "statusUpdateJsonPatch";
+  public static final String STATUS_UPDATE_COALESCING_WINDOW_MILLIS = "statusUpdateCoalescingWindowMillis";
+  public static final String EVENT_DRIVEN_WAITS = "eventDrivenWaits";
+  public static final String RESUME_REQUEUED_FIBERS = "resumeRequeuedFibers";
+  public static final String MAKE_RIGHT_REQUEST_QPS = "makeRightRequestQps";
+  public static final String MAKE_RIGHT_REQUEST_BURST = "makeRightRequestBurst";
+  public static final String STATUS_REQUEST_QPS = "statusRequestQps";
+  public static final String STATUS_REQUEST_BURST = "statusRequestBurst";
+  public static final String BACKGROUND_REQUEST_QPS = "backgroundRequestQps";
+  public static final String BACKGROUND_REQUEST_BURST = "backgroundRequestBurst";
+  public static final String REST_CLIENT_POOL_TTL_SECONDS = "restClientPoolTimeToLiveSeconds";
+  public static final String REST_CLIENT_POOL_MAX_ENTRIES = "restClientPoolMaxEntries";
+  public static final String REST_REVIEW_CACHE_TTL_SECONDS = "restReviewCacheTimeToLiveSeconds";
+  public static final String REST_REVIEW_CACHE_MAX_ENTRIES = "restReviewCacheMaxEntries";
+  public static final String REST_LIVE_READS = "restLiveReads";
+  public static final String WEBHOOK_RESOURCE_CACHE = "webhookResourceCache";
+  public static final String INTROSPECTOR_CONFIG_MAP_BINARY_DATA = "introspectorConfigMapBinaryData";
   public static final int DEFAULT_HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = 10;
   public static final int DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = 3;
+  public static final int DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT = 20;
+  public static final int DEFAULT_REST_CLIENT_POOL_MAX_ENTRIES = 1000;
+  public static final int DEFAULT_REST_REVIEW_CACHE_MAX_ENTRIES = 1000;
 
   public static final long DEFAULT_ACTIVE_DEADLINE_INCREMENT_SECONDS = 60L;
 
@@ -246,6 +270,169 @@ public class TuningParameters {
     return getParameter(SHUTDOWN_WITH_HTTP_POLLING_INTERVAL, DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL);
   }
 
+  /**
+   * Returns the maximum number of child fibers that a single fork-join may run at the same time.
+   */
+  public int getForkJoinConcurrencyLimit() {
+    return getParameter(FORK_JOIN_CONCURRENCY_LIMIT, DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT);
+  }
+
+  /**
+   * Returns true if the operator should watch its resources across all namespaces through shared informers,
+   * rather than starting a set of watchers in each managed namespace.
+   */
+  public boolean isSharedInformerCacheEnabled() {
+    return getParameter(SHARED_INFORMER_CACHE, false);
+  }
+
+  /**
+   * Returns true if the operator should read the state and health of all running servers in a domain with a single
+   * request to the admin server, reading only the servers it does not report individually.
+   */
+  public boolean isAggregateServerHealthEnabled() {
+    return getParameter(AGGREGATE_SERVER_HEALTH, false);
+  }
+
+  /**
+   * Returns true if the operator should read the state of a server whose pod is not ready from the server's
+   * REST interface, running the readState script in the pod only if that fails.
+   */
+  public boolean isHttpServerStateProbeEnabled() {
+    return getParameter(HTTP_SERVER_STATE_PROBE, false);
+  }
+
+  /**
+   * Returns true if the operator should update domain status by sending a JSON patch containing only the changed
+   * fields, conditioned on the domain's resource version, rather than replacing the entire status.
+   */
+  public boolean isStatusUpdateJsonPatchEnabled() {
+    return getParameter(STATUS_UPDATE_JSON_PATCH, false);
+  }
+
+  /**
+   * Returns the time, in milliseconds, for which the operator will collect changes to the status of a domain
+   * before writing them together. If zero (the default), each change is written as it is made.
+   */
+  public long getStatusUpdateCoalescingWindowMillis() {
+    return getParameter(STATUS_UPDATE_COALESCING_WINDOW_MILLIS, 0L);
+  }
+
+  /**
+   * Returns true if a fiber waiting for a pod or job to change state should be resumed by the watch event which
+   * reports the change, rather than waiting for the watch backstop recheck delay to expire. False by default.
+   */
+  public boolean isEventDrivenWaitsEnabled() {
+    return getParameter(EVENT_DRIVEN_WAITS, false);
+  }
+
+  /**
+   * Returns true if a make-right which requeued while waiting for a resource should resume at the waiting step,
+   * provided that the domain generation has not changed, rather than restarting from its first step.
+   */
+  public boolean isResumeRequeuedFibersEnabled() {
+    return getParameter(RESUME_REQUEUED_FIBERS, false);
+  }
+
+  /**
+   * Returns the maximum sustained rate, in requests per second, of Kubernetes API requests made by make-rights
+   * other than status updates. If zero (the default), the rate is not limited.
+   */
+  public int getMakeRightRequestQps() {
+    return getParameter(MAKE_RIGHT_REQUEST_QPS, 0);
+  }
+
+  /**
+   * Returns the number of make-right requests which may be sent at once, before the sustained rate limit applies.
+   */
+  public int getMakeRightRequestBurst() {
+    return getParameter(MAKE_RIGHT_REQUEST_BURST, 1);
+  }
+
+  /**
+   * Returns the maximum sustained rate, in requests per second, of Kubernetes API requests which update
+   * the status of domains and clusters. If zero (the default), the rate is not limited.
+   */
+  public int getStatusRequestQps() {
+    return getParameter(STATUS_REQUEST_QPS, 0);
+  }
+
+  /**
+   * Returns the number of status update requests which may be sent at once, before the sustained rate limit applies.
+   */
+  public int getStatusRequestBurst() {
+    return getParameter(STATUS_REQUEST_BURST, 1);
+  }
+
+  /**
+   * Returns the maximum sustained rate, in requests per second, of Kubernetes API list requests and of requests
+   * made by periodic rechecks. If zero (the default), the rate is not limited.
+   */
+  public int getBackgroundRequestQps() {
+    return getParameter(BACKGROUND_REQUEST_QPS, 0);
+  }
+
+  /**
+   * Returns the number of background requests which may be sent at once, before the sustained rate limit applies.
+   */
+  public int getBackgroundRequestBurst() {
+    return getParameter(BACKGROUND_REQUEST_BURST, 1);
+  }
+
+  /**
+   * Returns the time, in seconds, for which an API client created for callers of the operator's REST API is kept
+   * for reuse by later requests with the same access token. If zero, a new client is created for each request.
+   */
+  public int getRestClientPoolTimeToLiveSeconds() {
+    return getParameter(REST_CLIENT_POOL_TTL_SECONDS, 300);
+  }
+
+  /**
+   * Returns the maximum number of API clients pooled for callers of the operator's REST API.
+   */
+  public int getRestClientPoolMaxEntries() {
+    return getParameter(REST_CLIENT_POOL_MAX_ENTRIES, DEFAULT_REST_CLIENT_POOL_MAX_ENTRIES);
+  }
+
+  /**
+   * Returns the time, in seconds, for which the operator's REST API reuses the result of a Kubernetes token review
+   * or subject access review for later requests with the same token or access. If zero (the default), each request
+   * is reviewed.
+   */
+  public int getRestReviewCacheTimeToLiveSeconds() {
+    return getParameter(REST_REVIEW_CACHE_TTL_SECONDS, 0);
+  }
+
+  /**
+   * Returns the maximum number of token review and subject access review results, each, cached for the REST API.
+   */
+  public int getRestReviewCacheMaxEntries() {
+    return getParameter(REST_REVIEW_CACHE_MAX_ENTRIES, DEFAULT_REST_REVIEW_CACHE_MAX_ENTRIES);
+  }
+
+  /**
+   * Returns true if the operator's REST API should read domains and clusters from Kubernetes for each request,
+   * rather than from the operator's record of the domains and clusters in its managed namespaces.
+   */
+  public boolean isRestLiveReadsEnabled() {
+    return getParameter(REST_LIVE_READS, false);
+  }
+
+  /**
+   * Returns true if the webhook should keep a watch-backed copy of the domain and cluster resources in all
+   * namespaces, rather than listing them for each admission or conversion request which needs them.
+   */
+  public boolean isWebhookResourceCacheEnabled() {
+    return getParameter(WEBHOOK_RESOURCE_CACHE, false);
+  }
+
+  /**
+   * Returns true if the operator should store the Model-in-Image domain archives in the binary data of the
+   * introspector config maps, rather than as the base64-encoded text that the introspector job reports.
+   */
+  public boolean isIntrospectorConfigMapBinaryDataEnabled() {
+    return getParameter(INTROSPECTOR_CONFIG_MAP_BINARY_DATA, false);
+  }
+
   /**
    * Returns the name of the kubernetes platform on which the operator is running. May be null (the default).
    */
@@ -0,0 +1,97 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+
+/**
+ * Watches a single type of resource across all namespaces, as the source for a shared informer.
+ *
+ * @param <T> the type of resource watched
+ */
+public class ClusterScopedWatcher<T extends KubernetesObject> extends Watcher<T> {
+
+  /**
+   * A function which initiates a cluster-wide watch, adding any selectors for the resource type.
+   *
+   * @param <T> the type of resource watched
+   */
+  @FunctionalInterface
+  public interface WatchInitiator<T> {
+    Watchable<T> initiateWatch(ListOptions options) throws ApiException;
+  }
+
+  private final WatchInitiator<T> initiator;
+  private final Supplier<String> resync;
+
+  private ClusterScopedWatcher(
+      WatchInitiator<T> initiator,
+      Supplier<String> resync,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<T> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, tuning, isStopping, listener);
+    this.initiator = initiator;
+    this.resync = resync;
+  }
+
+  /**
+   * Create a cluster-scoped watcher.
+   * @param factory the ThreadFactory to run the watcher
+   * @param initiator a function to initiate the watch
+   * @param resync a function to reload the resources after the watch fails, returning the resource version from
+   *     which to resume watching, or null if they could not be reloaded
+   * @param initialResourceVersion at which to start returning watch events
+   * @param tuning any WatchTuning parameters
+   * @param listener the WatchListener
+   * @param isStopping whether the watcher is stopping
+   * @return the watcher
+   */
+  public static <T extends KubernetesObject> ClusterScopedWatcher<T> create(
+      ThreadFactory factory,
+      WatchInitiator<T> initiator,
+      Supplier<String> resync,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<T> listener,
+      AtomicBoolean isStopping) {
+    ClusterScopedWatcher<T> watcher
+        = new ClusterScopedWatcher<>(initiator, resync, initialResourceVersion, tuning, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  @Override
+  public Watchable<T> initiateWatch(ListOptions options) throws ApiException {
+    return initiator.initiateWatch(options);
+  }
+
+  @Override
+  protected String resync() {
+    return resync.get();
+  }
+
+  @Override
+  public String getNamespace() {
+    return null;
+  }
+
+  @Override
+  public String getDomainUid(Watch.Response<T> item) {
+    return KubernetesUtils.getDomainUidLabel(
+        Optional.ofNullable(item.object).map(KubernetesObject::getMetadata).orElse(null));
+  }
+}
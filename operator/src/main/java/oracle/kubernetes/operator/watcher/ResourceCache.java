@@ -0,0 +1,227 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+
+/**
+ * A local copy of the Kubernetes resources of a single type, maintained from a list followed by watch events.
+ * Resources are indexed by namespace and, within each namespace, by the value of their domain UID label.
+ *
+ * @param <T> the type of resource held
+ */
+public class ResourceCache<T extends KubernetesObject> {
+
+  private final Map<String, NamespaceIndex<T>> namespaces = new ConcurrentHashMap<>();
+  private final AtomicBoolean synced = new AtomicBoolean(false);
+  private volatile String resourceVersion = "";
+
+  /**
+   * Returns true once the cache has been populated from a complete list of the resources.
+   */
+  public boolean isSynced() {
+    return synced.get();
+  }
+
+  /**
+   * Returns the resource version of the most recent list or watch event applied to this cache.
+   */
+  public String getResourceVersion() {
+    return resourceVersion;
+  }
+
+  /**
+   * Replaces the contents of the cache with the specified resources, and marks the cache as synced.
+   *
+   * @param items the complete set of resources, across all namespaces
+   * @param listResourceVersion the resource version of the list which returned the resources
+   */
+  public void replaceAll(@Nonnull Collection<T> items, String listResourceVersion) {
+    namespaces.clear();
+    items.forEach(this::put);
+    resourceVersion = Optional.ofNullable(listResourceVersion).orElse("");
+    synced.set(true);
+  }
+
+  /**
+   * Replaces the contents of the cache with the specified resources, as {@link #replaceAll} does, and returns
+   * the differences as watch events: ADDED for each new resource, MODIFIED for each whose resource version has
+   * changed, and DELETED for each which is no longer present.
+   *
+   * @param items the complete set of resources, across all namespaces
+   * @param listResourceVersion the resource version of the list which returned the resources
+   */
+  @Nonnull
+  public List<Watch.Response<T>> replaceAllWithChanges(@Nonnull Collection<T> items, String listResourceVersion) {
+    final Map<String, Map<String, T>> previous = new HashMap<>();
+    namespaces.forEach((namespace, index) -> previous.put(namespace, index.copyByName()));
+    replaceAll(items, listResourceVersion);
+
+    final List<Watch.Response<T>> changes = new ArrayList<>();
+    for (T item : items) {
+      final V1ObjectMeta metadata = item.getMetadata();
+      if (metadata != null && metadata.getName() != null) {
+        final T old = Optional.ofNullable(previous.get(getNamespace(metadata)))
+            .map(byName -> byName.remove(metadata.getName()))
+            .orElse(null);
+        if (old == null) {
+          changes.add(new Watch.Response<>("ADDED", item));
+        } else if (!Objects.equals(old.getMetadata().getResourceVersion(), metadata.getResourceVersion())) {
+          changes.add(new Watch.Response<>("MODIFIED", item));
+        }
+      }
+    }
+    previous.values().forEach(
+        byName -> byName.values().forEach(old -> changes.add(new Watch.Response<>("DELETED", old))));
+    return changes;
+  }
+
+  /**
+   * Marks the cache as no longer synced, as when its watch has missed events, until it is next replaced.
+   */
+  public void invalidate() {
+    synced.set(false);
+  }
+
+  /**
+   * Updates the cache from a watch event.
+   *
+   * @param response the watch event
+   */
+  public void apply(Watch.Response<T> response) {
+    if (response.object == null) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED", "MODIFIED" -> put(response.object);
+      case "DELETED" -> remove(response.object);
+      default -> {
+        return;
+      }
+    }
+    Optional.ofNullable(response.object.getMetadata())
+        .map(V1ObjectMeta::getResourceVersion)
+        .ifPresent(rv -> resourceVersion = rv);
+  }
+
+  private void put(T item) {
+    final V1ObjectMeta metadata = item.getMetadata();
+    if (metadata != null && metadata.getName() != null) {
+      namespaces.computeIfAbsent(getNamespace(metadata), n -> new NamespaceIndex<>()).put(metadata, item);
+    }
+  }
+
+  private void remove(T item) {
+    final V1ObjectMeta metadata = item.getMetadata();
+    if (metadata != null) {
+      Optional.ofNullable(namespaces.get(getNamespace(metadata))).ifPresent(index -> index.remove(metadata));
+    }
+  }
+
+  @Nonnull
+  private String getNamespace(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata.getNamespace()).orElse("");
+  }
+
+  /**
+   * Returns the cached resource with the specified namespace and name, or null if there is none.
+   *
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   */
+  public T get(String namespace, String name) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(index -> index.get(name)).orElse(null);
+  }
+
+  /**
+   * Returns all cached resources in the specified namespace.
+   *
+   * @param namespace the namespace to search
+   */
+  @Nonnull
+  public List<T> list(String namespace) {
+    return list(namespace, null);
+  }
+
+  /**
+   * Returns the cached resources in the specified namespace which are labeled with the specified domain UID.
+   *
+   * @param namespace the namespace to search
+   * @param domainUid the domain UID to select. If null, all resources in the namespace are returned.
+   */
+  @Nonnull
+  public List<T> list(String namespace, String domainUid) {
+    return Optional.ofNullable(namespaces.get(namespace))
+        .map(index -> index.list(domainUid))
+        .orElse(Collections.emptyList());
+  }
+
+  /**
+   * Discards all cached resources in the specified namespace.
+   *
+   * @param namespace the namespace to discard
+   */
+  public void removeNamespace(String namespace) {
+    namespaces.remove(namespace);
+  }
+
+  private static class NamespaceIndex<T extends KubernetesObject> {
+    private final Map<String, T> byName = new HashMap<>();
+    private final Map<String, Set<String>> namesByDomainUid = new HashMap<>();
+
+    synchronized void put(V1ObjectMeta metadata, T item) {
+      final T replaced = byName.put(metadata.getName(), item);
+      Optional.ofNullable(replaced).map(KubernetesObject::getMetadata).ifPresent(this::unindex);
+      Optional.ofNullable(KubernetesUtils.getDomainUidLabel(metadata))
+          .ifPresent(uid -> namesByDomainUid.computeIfAbsent(uid, u -> new HashSet<>()).add(metadata.getName()));
+    }
+
+    synchronized void remove(V1ObjectMeta metadata) {
+      Optional.ofNullable(byName.remove(metadata.getName()))
+          .map(KubernetesObject::getMetadata)
+          .ifPresent(this::unindex);
+    }
+
+    private void unindex(V1ObjectMeta metadata) {
+      Optional.ofNullable(KubernetesUtils.getDomainUidLabel(metadata))
+          .map(namesByDomainUid::get)
+          .ifPresent(names -> names.remove(metadata.getName()));
+    }
+
+    synchronized Map<String, T> copyByName() {
+      return new HashMap<>(byName);
+    }
+
+    synchronized T get(String name) {
+      return byName.get(name);
+    }
+
+    synchronized List<T> list(String domainUid) {
+      if (domainUid == null) {
+        return new ArrayList<>(byName.values());
+      }
+      return Optional.ofNullable(namesByDomainUid.get(domainUid)).orElse(Collections.emptySet()).stream()
+          .map(byName::get)
+          .toList();
+    }
+  }
+}
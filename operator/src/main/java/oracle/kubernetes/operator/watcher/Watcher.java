@@ -3,13 +3,13 @@
 
 package oracle.kubernetes.operator.watcher;
 
-import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
@@ -18,6 +18,7 @@ import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
@@ -30,7 +31,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
  *
  * @param <T> The type of the object to be watched.
  */
-public abstract class Watcher<T> {
+public abstract class Watcher<T extends KubernetesObject> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED = "0";
@@ -44,6 +45,7 @@ public abstract class Watcher<T> {
 
   private String resourceVersion;
   private final AtomicBoolean stopping;
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
@@ -150,7 +152,15 @@ public abstract class Watcher<T> {
   }
 
   protected boolean isStopping() {
-    return this.stopping.get();
+    return this.stopping.get() || this.stopped.get();
+  }
+
+  /**
+   * Stops this watcher for good, without affecting any other watchers which share its stopping flag. Events
+   * received after this call are not dispatched.
+   */
+  public void stop() {
+    this.stopped.set(true);
   }
 
   // Set the stopping state to true to pause watches.
@@ -167,6 +177,9 @@ public abstract class Watcher<T> {
   private void watchForEvents() {
     long now = System.currentTimeMillis();
     long delay = (getWatchMinimumDelay() * 1000L) - (now - lastInitialize);
+    if (lastInitialize != 0) {
+      OperatorMetrics.recordWatchReconnect(getNamespace());
+    }
     if (lastInitialize != 0 && delay > 0) {
       try {
         Thread.sleep(delay);
@@ -190,6 +203,7 @@ public abstract class Watcher<T> {
           continue;
         }
 
+        OperatorMetrics.recordWatchEvent(item.type, getNamespace());
         try (ThreadLoggingContext ignored =
                  ThreadLoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
           if (isError(item)) {
@@ -262,6 +276,17 @@ public abstract class Watcher<T> {
     } else {
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
     }
+    Optional.ofNullable(resync()).ifPresent(rv -> resourceVersion = rv);
+  }
+
+  /**
+   * Called after the watch reports an error, such as the expiration of the resource version from which it was
+   * watching. Events may have been missed, so a watcher which keeps a copy of the resources may read them again.
+   *
+   * @return the resource version from which to resume watching, or null to resume as the error indicates
+   */
+  protected String resync() {
+    return null;
   }
 
   private String resourceVersion(String message) {
@@ -270,24 +295,19 @@ public abstract class Watcher<T> {
   }
 
   /**
-   * Track resourceVersion and keep the latest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * Track resourceVersion and keep the latest one for next watch iteration. If the object has no metadata,
+   * the resource version is reset so that the next watch will start from the most recent version.
    *
    * @param object the object that is returned
    */
-  private void trackResourceVersion(Object object) {
+  private void trackResourceVersion(T object) {
     resourceVersion = getResourceVersionFromMetadata(object);
   }
 
-  private String getResourceVersionFromMetadata(Object object) {
-    try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
-    } catch (Exception e) {
-      LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
-    }
+  private String getResourceVersionFromMetadata(T object) {
+    return Optional.ofNullable(object)
+        .map(KubernetesObject::getMetadata)
+        .map(V1ObjectMeta::getResourceVersion)
+        .orElse(IGNORED);
   }
 }
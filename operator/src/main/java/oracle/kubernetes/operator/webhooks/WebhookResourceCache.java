@@ -0,0 +1,232 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.watcher.ClusterScopedWatcher;
+import oracle.kubernetes.operator.watcher.ResourceCache;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.weblogic.domain.model.ClusterList;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * A watch-backed copy of the domain and cluster resources in all namespaces, used by the admission and conversion
+ * webhooks to find the resources related to the one under review without listing them for each request.
+ * Until the copy of a resource type is populated, while it is being listed again after its watch fails, or if the
+ * webhook may not list that type at cluster scope, lookups list the resources from Kubernetes.
+ *
+ * <p>Resources returned from the copy are shared, and must not be modified.
+ */
+public class WebhookResourceCache {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // used by unit tests
+  private static WebhookResourceCache instance = new WebhookResourceCache();
+
+  private final AtomicBoolean started = new AtomicBoolean(false);
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final Informer<DomainResource, DomainList> domains = new Informer<>(RequestBuilder.DOMAIN);
+  private final Informer<ClusterResource, ClusterList> clusters = new Informer<>(RequestBuilder.CLUSTER);
+
+  public static WebhookResourceCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns true if the webhook is configured to keep a watch-backed copy of domain and cluster resources.
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::isWebhookResourceCacheEnabled)
+        .orElse(false);
+  }
+
+  /**
+   * Returns steps to populate the copy and start the cluster-scoped watchers, or null if the copy is not enabled
+   * or has already been started.
+   */
+  public Step createStartupSteps() {
+    if (!isEnabled() || started.getAndSet(true)) {
+      return null;
+    }
+    return Step.chain(domains.createStartupStep(), clusters.createStartupStep());
+  }
+
+  /**
+   * Requests the cluster-scoped watchers to stop.
+   */
+  public void stop() {
+    stopping.set(true);
+  }
+
+  /**
+   * Returns true if the copy of cluster resources is populated and being kept current.
+   */
+  public boolean hasClusters() {
+    return clusters.isActive();
+  }
+
+  /**
+   * Returns the domain resources in the specified namespace.
+   * @param namespace the namespace of the domains
+   * @throws ApiException if the copy is not in use and the domains could not be listed
+   */
+  public List<DomainResource> getDomains(String namespace) throws ApiException {
+    if (domains.isActive()) {
+      return domains.list(namespace);
+    }
+    return Optional.ofNullable(RequestBuilder.DOMAIN.list(namespace)).map(DomainList::getItems).orElse(List.of());
+  }
+
+  /**
+   * Returns the cluster resources in the specified namespace.
+   * @param namespace the namespace of the clusters
+   * @throws ApiException if the copy is not in use and the clusters could not be listed
+   */
+  public List<ClusterResource> getClusters(String namespace) throws ApiException {
+    if (clusters.isActive()) {
+      return clusters.list(namespace);
+    }
+    return Optional.ofNullable(RequestBuilder.CLUSTER.list(namespace)).map(ClusterList::getItems).orElse(List.of());
+  }
+
+  /**
+   * Returns the cluster resources in the specified namespace from the copy, or null if the copy is not in use.
+   * @param namespace the namespace of the clusters
+   */
+  public List<ClusterResource> getCachedClusters(String namespace) {
+    return clusters.isActive() ? clusters.list(namespace) : null;
+  }
+
+  // Intended for unit tests
+  void relist() {
+    domains.relist();
+    clusters.relist();
+  }
+
+  ResourceCache<DomainResource> getDomainCache() {
+    return domains.cache;
+  }
+
+  ResourceCache<ClusterResource> getClusterCache() {
+    return clusters.cache;
+  }
+
+  /**
+   * A cluster-scoped watcher and copy for a single resource type.
+   *
+   * @param <T> the type of resource
+   * @param <L> the type of list returned when reading the resource
+   */
+  private class Informer<T extends KubernetesObject, L extends KubernetesListObject> {
+    private final RequestBuilder<T, L> requestBuilder;
+    private final ResourceCache<T> cache = new ResourceCache<>();
+
+    Informer(RequestBuilder<T, L> requestBuilder) {
+      this.requestBuilder = requestBuilder;
+    }
+
+    boolean isActive() {
+      return cache.isSynced();
+    }
+
+    List<T> list(String namespace) {
+      return cache.list(namespace);
+    }
+
+    private Step createStartupStep() {
+      return requestBuilder.list(new ListOptions(), new InformerListResponseStep());
+    }
+
+    private void start() {
+      ClusterScopedWatcher.create(ThreadFactorySingleton.getInstance(),
+          requestBuilder::watch,
+          this::relist,
+          cache.getResourceVersion(),
+          TuningParameters.getInstance().getWatchTuning(),
+          cache::apply,
+          stopping);
+    }
+
+    // Events may have been missed when the watch fails, so the copy is listed again before the watch resumes.
+    // Until then, lookups list the namespace. Returns the resource version of the new list, or null if it could
+    // not be read.
+    @SuppressWarnings("unchecked")
+    private String relist() {
+      cache.invalidate();
+      try {
+        final List<T> items = new ArrayList<>();
+        final ListOptions options = new ListOptions();
+        L list;
+        do {
+          list = requestBuilder.list(options);
+          Optional.ofNullable(list).map(KubernetesListObject::getItems).ifPresent(l -> items.addAll((List<T>) l));
+          options.setContinue(hasContinue(list) ? list.getMetadata().getContinue() : null);
+        } while (options.getContinue() != null);
+
+        cache.replaceAll(items, KubernetesUtils.getResourceVersion(list));
+        return cache.getResourceVersion();
+      } catch (ApiException e) {
+        LOGGER.fine("Unable to reload webhook resource cache: " + e.getMessage());
+        return null;
+      }
+    }
+
+    private boolean hasContinue(L list) {
+      return Optional.ofNullable(list)
+          .map(KubernetesListObject::getMetadata)
+          .map(V1ListMeta::getContinue)
+          .filter(c -> !c.isEmpty())
+          .isPresent();
+    }
+
+    private class InformerListResponseStep extends ResponseStep<L> {
+      private final List<T> items = new ArrayList<>();
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public Result onSuccess(Packet packet, KubernetesApiResponse<L> callResponse) {
+        final L list = callResponse.getObject();
+        Optional.ofNullable(list).map(KubernetesListObject::getItems).ifPresent(l -> items.addAll((List<T>) l));
+        if (hasContinue(list)) {
+          return doContinueListOrNext(callResponse, packet);
+        }
+
+        cache.replaceAll(items, KubernetesUtils.getResourceVersion(list));
+        items.clear();
+        start();
+        return doNext(packet);
+      }
+
+      // If the webhook may not list this type of resource at cluster scope, lookups will list each namespace.
+      @Override
+      protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<L> callResponse) {
+        LOGGER.fine("Unable to start webhook resource cache: " + createFailureMessage(callResponse));
+        items.clear();
+        return doNext(packet);
+      }
+    }
+  }
+}
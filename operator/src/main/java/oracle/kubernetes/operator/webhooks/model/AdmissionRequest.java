@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.model;
@@ -15,6 +15,7 @@ import oracle.kubernetes.operator.webhooks.resource.ClusterScaleAdmissionChecker
 import oracle.kubernetes.operator.webhooks.resource.ClusterUpdateAdmissionChecker;
 import oracle.kubernetes.operator.webhooks.resource.DomainCreateAdmissionChecker;
 import oracle.kubernetes.operator.webhooks.resource.DomainUpdateAdmissionChecker;
+import oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
@@ -247,7 +248,7 @@ public class AdmissionRequest {
       private ClusterResource getCluster(String clusterName, String namespace) throws ApiException {
         List<ClusterResource> clusters = AdmissionChecker.getClusters(namespace);
         return clusters.stream().filter(cluster -> clusterName.equals(cluster.getMetadata().getName()))
-            .findFirst().orElse(null);
+            .findFirst().map(GsonBuilderUtils::copyCluster).orElse(null);
       }
     },
     NOT_SUPPORTED {
@@ -4,15 +4,13 @@
 package oracle.kubernetes.operator.webhooks.resource;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.ApiException;
-import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.webhooks.WebhookResourceCache;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
-import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -56,8 +54,7 @@ public abstract class AdmissionChecker {
   }
 
   public static List<ClusterResource> getClusters(String namespace) throws ApiException {
-    return Optional.of(RequestBuilder.CLUSTER.list(namespace))
-        .map(ClusterList::getItems).orElse(Collections.emptyList());
+    return WebhookResourceCache.getInstance().getClusters(namespace);
   }
 
   String createMessage() {
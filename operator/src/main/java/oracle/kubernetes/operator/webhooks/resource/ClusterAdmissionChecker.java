@@ -11,15 +11,14 @@ import java.util.Optional;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
-import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.webhooks.WebhookResourceCache;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponseStatus;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
-import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
@@ -87,14 +86,14 @@ public abstract class ClusterAdmissionChecker extends AdmissionChecker {
   }
 
   List<DomainResource> getDomainResources(ClusterResource clusterResource) throws ApiException {
-    return referencingDomains(clusterResource, RequestBuilder.DOMAIN.list(getNamespace(clusterResource)));
+    return referencingDomains(clusterResource,
+        WebhookResourceCache.getInstance().getDomains(getNamespace(clusterResource)));
   }
 
-  private List<DomainResource> referencingDomains(ClusterResource clusterResource, DomainList domains) {
+  private List<DomainResource> referencingDomains(ClusterResource clusterResource, List<DomainResource> domains) {
     String name = clusterResource.getMetadata().getName();
     List<DomainResource> referencingDomains = new ArrayList<>();
-    Optional.ofNullable(domains).map(DomainList::getItems).ifPresent(list -> list.stream()
-        .filter(item -> referencesCluster(name, item)).forEach(referencingDomains::add));
+    domains.stream().filter(item -> referencesCluster(name, item)).forEach(referencingDomains::add);
     return referencingDomains;
   }
 
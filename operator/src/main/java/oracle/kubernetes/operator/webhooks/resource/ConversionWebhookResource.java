@@ -1,9 +1,10 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -75,7 +76,7 @@ public class ConversionWebhookResource extends BaseResource {
 
       ResourceConfig rc = (ResourceConfig) application;
       RestConfig r = (RestConfig) rc.getProperty(RestConfig.REST_CONFIG_PROPERTY);
-      RestBackend be = r.getBackend(null);
+      RestBackend be = r.getBackend(null, false);
 
       conversionResponse = createConversionResponse(conversionReview.getRequest(), be);
     } catch (Exception e) {
@@ -123,11 +124,13 @@ public class ConversionWebhookResource extends BaseResource {
                                                       RestBackend be) {
     SchemaConversionUtils schemaConversionUtils = new SchemaConversionUtils(conversionRequest.getDesiredAPIVersion());
 
+    // a review may contain many domains in the same namespace; list the clusters in each namespace only once
+    Map<String, List<Map<String, Object>>> clustersByNamespace = new HashMap<>();
     List<SchemaConversionUtils.Resources> convertedResources = conversionRequest.getDomains().stream()
           .map(d -> schemaConversionUtils.convertDomainSchema(d, () -> {
             String namespace = Optional.ofNullable((Map<String, Object>) d.get("metadata"))
                 .map(m -> (String) m.get("namespace")).orElse("default");
-            return be.listClusters(namespace);
+            return clustersByNamespace.computeIfAbsent(namespace, be::listClusters);
           }))
           .toList();
 
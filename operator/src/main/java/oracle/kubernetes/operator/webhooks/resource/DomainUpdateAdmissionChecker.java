@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
@@ -58,6 +58,7 @@ public class DomainUpdateAdmissionChecker extends AdmissionChecker {
   final List<ClusterStatus> failed = new ArrayList<>();
   final List<String> warnings = new ArrayList<>();
   private Exception exception;
+  private List<ClusterResource> namespaceClusters;
 
   /** Construct a DomainAdmissionChecker. */
   public DomainUpdateAdmissionChecker(@Nonnull DomainResource existingDomain, @Nonnull DomainResource proposedDomain) {
@@ -201,11 +202,18 @@ public class DomainUpdateAdmissionChecker extends AdmissionChecker {
   }
 
   private ClusterSpec getCluster(@Nonnull DomainResource domain, String clusterName) throws ApiException {
-    List<ClusterResource> clusters = getClusters(domain.getNamespace());
-    return clusters.stream().filter(cluster -> clusterName.equals(cluster.getClusterName())
+    return getNamespaceClusters(domain).stream().filter(cluster -> clusterName.equals(cluster.getClusterName())
         && isReferenced(domain, cluster)).findFirst().map(ClusterResource::getSpec).orElse(null);
   }
 
+  // The clusters in the domain's namespace are read once for each review, rather than once for each cluster.
+  private List<ClusterResource> getNamespaceClusters(@Nonnull DomainResource domain) throws ApiException {
+    if (namespaceClusters == null) {
+      namespaceClusters = getClusters(domain.getNamespace());
+    }
+    return namespaceClusters;
+  }
+
   private boolean isReferenced(@Nonnull DomainResource domain, ClusterResource cluster) {
     String name = Optional.ofNullable(cluster).map(ClusterResource::getMetadata).map(V1ObjectMeta::getName).orElse("");
     return Optional.of(domain).map(DomainResource::getSpec).map(DomainSpec::getClusters)
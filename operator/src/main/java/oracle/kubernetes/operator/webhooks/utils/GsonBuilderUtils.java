@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.utils;
@@ -58,6 +58,11 @@ public class GsonBuilderUtils {
     return readMap(getGsonBuilder().toJson(cluster, ClusterResource.class));
   }
 
+  public static ClusterResource copyCluster(ClusterResource cluster) {
+    Gson gson = getGsonBuilder();
+    return gson.fromJson(gson.toJson(cluster, ClusterResource.class), ClusterResource.class);
+  }
+
   public static Scale readScale(String resourceName) {
     return getGsonBuilder().fromJson(resourceName, Scale.class);
   }
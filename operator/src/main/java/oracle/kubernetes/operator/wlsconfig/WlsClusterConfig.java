@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
@@ -58,7 +58,7 @@ public class WlsClusterConfig {
    * @return true or false
    */
   public boolean hasNamedServer(String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+    return containsServer(serverName);
   }
 
   /**
@@ -70,6 +70,7 @@ public class WlsClusterConfig {
    */
   public synchronized WlsClusterConfig addServerConfig(WlsServerConfig wlsServerConfig) {
     servers.add(wlsServerConfig);
+    Optional.ofNullable(wlsDomainConfig).ifPresent(WlsDomainConfig::topologyChanged);
     return this;
   }
 
@@ -153,6 +154,32 @@ public class WlsClusterConfig {
     return result;
   }
 
+  /**
+   * Returns the names of the servers that belong to this cluster, including dynamic servers, in the same order
+   * as {@link #getServerConfigs()}. Unlike that method, does not create the configurations of dynamic servers.
+   *
+   * @return A sorted list of the names of the servers that belong to this cluster
+   */
+  @JsonIgnore
+  public synchronized List<String> getServerNames() {
+    List<String> result = new ArrayList<>(getServerCount());
+    Optional.ofNullable(dynamicServersConfig).map(WlsDynamicServersConfig::getServerNames).ifPresent(result::addAll);
+    servers.stream().map(WlsServerConfig::getName).forEach(result::add);
+    result.sort(Comparator.comparing(OperatorUtils::getSortingString));
+    return result;
+  }
+
+  /**
+   * Returns the number of servers that belong to this cluster, including dynamic servers.
+   *
+   * @return the number of entries returned by {@link #getServerConfigs()}
+   */
+  @JsonIgnore
+  public synchronized int getServerCount() {
+    return servers.size() + Optional.ofNullable(dynamicServersConfig)
+        .map(WlsDynamicServersConfig::getServerConfigs).map(List::size).orElse(0);
+  }
+
   public List<WlsServerConfig> getServers() {
     return this.servers;
   }
@@ -203,8 +230,26 @@ public class WlsClusterConfig {
    * @param serverName server name to be checked
    * @return True if the cluster contains a server with the given server name
    */
-  boolean containsServer(@Nonnull String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+  synchronized boolean containsServer(@Nonnull String serverName) {
+    return servers.stream().anyMatch(c -> serverName.equals(c.getName()))
+        || Optional.ofNullable(dynamicServersConfig).map(c -> c.containsServer(serverName)).orElse(false);
+  }
+
+  /**
+   * Returns the configuration of the server in this cluster with the given name, including dynamic servers.
+   *
+   * @param serverName server name to be checked
+   * @return the server configuration, or null if the cluster does not contain a server with the given name
+   */
+  public synchronized WlsServerConfig getServerConfig(@Nonnull String serverName) {
+    return servers.stream()
+        .filter(c -> serverName.equals(c.getName()))
+        .findFirst()
+        .orElseGet(() -> getDynamicServerConfig(serverName));
+  }
+
+  private WlsServerConfig getDynamicServerConfig(String serverName) {
+    return Optional.ofNullable(dynamicServersConfig).map(c -> c.getServerConfig(serverName)).orElse(null);
   }
 
   @Override
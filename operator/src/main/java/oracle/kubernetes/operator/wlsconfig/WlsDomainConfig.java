@@ -1,12 +1,14 @@
-// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
@@ -37,6 +39,10 @@ public class WlsDomainConfig implements WlsDomain {
   // Contains all configured server templates in the WLS domain
   private List<WlsServerConfig> serverTemplates = new ArrayList<>();
 
+  // An index of the servers and clusters, built when first needed and discarded whenever they change.
+  @JsonIgnore
+  private volatile TopologyIndex index;
+
   public WlsDomainConfig() {
   }
 
@@ -84,9 +90,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return cluster name
    */
   public String getClusterName(String serverName) {
-    return getConfiguredClusters().stream()
-        .filter(c -> c.hasNamedServer(serverName))
-        .findFirst()
+    return Optional.ofNullable(getIndex().getClusterOf(serverName))
         .map(WlsClusterConfig::getClusterName)
         .orElse(null);
   }
@@ -119,12 +123,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
-    Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
-    for (WlsClusterConfig clusterConfig : configuredClusters) {
-      clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
-    }
-    return clusterConfigs;
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    return getIndex().clusters();
   }
 
   public List<WlsClusterConfig> getConfiguredClusters() {
@@ -137,12 +137,8 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsServerConfig, keyed by name, for each server statically configured the WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
-    Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
-    for (WlsServerConfig serverConfig : servers) {
-      serverConfigs.put(serverConfig.getName(), serverConfig);
-    }
-    return serverConfigs;
+  public Map<String, WlsServerConfig> getServerConfigs() {
+    return getIndex().servers();
   }
 
   /**
@@ -181,16 +177,8 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
-    WlsClusterConfig result = null;
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          result = clusterConfig;
-          break;
-        }
-      }
-    }
+  public WlsClusterConfig getClusterConfig(String clusterName) {
+    WlsClusterConfig result = clusterName == null ? null : getIndex().clusters().get(clusterName);
     if (result == null) {
       // create an empty WlsClusterConfig, but do not add to configuredClusters
       result = new WlsClusterConfig(clusterName);
@@ -206,17 +194,21 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
-    WlsServerConfig result = null;
-    if (serverName != null && servers != null) {
-      for (WlsServerConfig serverConfig : servers) {
-        if (serverConfig.getName().equals(serverName)) {
-          result = serverConfig;
-          break;
-        }
-      }
-    }
-    return result;
+  public WlsServerConfig getServerConfig(String serverName) {
+    return serverName == null ? null : getIndex().servers().get(serverName);
+  }
+
+  /**
+   * Returns the configuration for the WLS server with the given name in the given cluster, including
+   * dynamic servers.
+   *
+   * @param clusterName name of the WLS cluster
+   * @param serverName name of the WLS server
+   * @return The WlsServerConfig object containing configuration of the WLS server, or null if the
+   *     cluster has no server with the given name.
+   */
+  public WlsServerConfig getClusteredServerConfig(String clusterName, String serverName) {
+    return getIndex().getClusteredServer(clusterName, serverName);
   }
 
   /**
@@ -225,16 +217,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @param clusterName cluster name to be checked
    * @return True if the WebLogic domain contains a cluster with the given cluster name
    */
-  public synchronized boolean containsCluster(String clusterName) {
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+  public boolean containsCluster(String clusterName) {
+    return clusterName != null && getIndex().clusters().containsKey(clusterName);
   }
 
   /**
@@ -244,10 +228,11 @@ public class WlsDomainConfig implements WlsDomain {
    * @param serverName server name to be checked
    * @return True if the WebLogic domain contains a server with the given server name
    */
-  public synchronized boolean containsServer(String serverName) {
+  public boolean containsServer(String serverName) {
     if (!isNullOrEmpty(serverName)) {
-      return getServers().stream().anyMatch(s -> serverName.equals(s.getName()))
-          || getConfiguredClusters().stream().anyMatch(c -> c.containsServer(serverName));
+      final TopologyIndex topologyIndex = getIndex();
+      return topologyIndex.servers().containsKey(serverName)
+          || topologyIndex.getClusterOf(serverName) != null;
     }
     return false;
   }
@@ -260,11 +245,7 @@ public class WlsDomainConfig implements WlsDomain {
 
   @Override
   public int getReplicaLimit(String clusterName) {
-    if (!getClusterConfigs().containsKey(clusterName)) {
-      return 0;
-    }
-
-    return getClusterConfigs().get(clusterName).getClusterSize();
+    return Optional.ofNullable(getClusterConfigs().get(clusterName)).map(WlsClusterConfig::getClusterSize).orElse(0);
   }
 
   /**
@@ -291,19 +272,49 @@ public class WlsDomainConfig implements WlsDomain {
       setAdminServerName(server.getName());
     }
     getServers().add(server);
+    topologyChanged();
     return this;
   }
 
+  /**
+   * Build the domain config with a standalone WLS server.
+   * @param name the server name
+   * @param listenAddress listen address
+   * @param port port
+   * @return domain config
+   */
   public WlsDomainConfig addWlsServer(String name, String listenAddress, int port) {
     getServers().add(new WlsServerConfig(name, listenAddress, port));
+    topologyChanged();
     return this;
   }
 
+  /**
+   * Build the domain config with a WLS cluster.
+   * @param clusterConfig WLS cluster configuration
+   * @return domain config
+   */
   public WlsDomainConfig withCluster(WlsClusterConfig clusterConfig) {
     configuredClusters.add(clusterConfig);
+    clusterConfig.setWlsDomainConfig(this);
+    topologyChanged();
     return this;
   }
 
+  // Discards the index, so that the next lookup will reflect a change to the servers or clusters.
+  void topologyChanged() {
+    index = null;
+  }
+
+  private TopologyIndex getIndex() {
+    TopologyIndex result = index;
+    if (result == null) {
+      result = TopologyIndex.create(servers, configuredClusters);
+      index = result;
+    }
+    return result;
+  }
+
   /**
    * Returns the topology equivalent of the domain configuration, as a map. It may be converted to
    * YAML or JSON via an object mapper.
@@ -413,6 +424,7 @@ public class WlsDomainConfig implements WlsDomain {
         }
       }
     }
+    topologyChanged();
   }
 
   WlsServerConfig getServerTemplate(String serverTemplateName) {
@@ -423,4 +435,66 @@ public class WlsDomainConfig implements WlsDomain {
     }
     return null;
   }
+
+  /**
+   * An immutable view of the servers and clusters, which supports lookups without scanning them. Dynamic servers
+   * are not indexed; each dynamic cluster creates the configuration of a server from its name when asked for it.
+   * @param servers the standalone servers, keyed by name
+   * @param clusters the clusters, keyed by name
+   * @param clusteredServers the configured servers in each cluster, keyed by cluster name and then by server name
+   * @param clusterOfServer the cluster of each configured clustered server, keyed by server name
+   * @param dynamicClusters the clusters which have dynamic servers
+   */
+  private record TopologyIndex(
+        Map<String, WlsServerConfig> servers,
+        Map<String, WlsClusterConfig> clusters,
+        Map<String, Map<String, WlsServerConfig>> clusteredServers,
+        Map<String, WlsClusterConfig> clusterOfServer,
+        List<WlsClusterConfig> dynamicClusters) {
+
+    static TopologyIndex create(List<WlsServerConfig> servers, List<WlsClusterConfig> clusters) {
+      final Map<String, WlsServerConfig> serversByName = new HashMap<>();
+      final Map<String, WlsClusterConfig> clustersByName = new HashMap<>();
+      final Map<String, Map<String, WlsServerConfig>> clusteredServers = new HashMap<>();
+      final Map<String, WlsClusterConfig> clusterOfServer = new HashMap<>();
+      final List<WlsClusterConfig> dynamicClusters = new ArrayList<>();
+
+      servers.forEach(server -> serversByName.put(server.getName(), server));
+      for (WlsClusterConfig cluster : clusters) {
+        clustersByName.put(cluster.getClusterName(), cluster);
+        final Map<String, WlsServerConfig> clusterServers
+            = clusteredServers.computeIfAbsent(cluster.getClusterName(), name -> new HashMap<>());
+        for (WlsServerConfig server : cluster.getServers()) {
+          clusterServers.putIfAbsent(server.getName(), server);
+          clusterOfServer.putIfAbsent(server.getName(), cluster);
+        }
+        if (cluster.hasDynamicServers()) {
+          dynamicClusters.add(cluster);
+        }
+      }
+
+      return new TopologyIndex(Collections.unmodifiableMap(serversByName),
+          Collections.unmodifiableMap(clustersByName),
+          Collections.unmodifiableMap(clusteredServers),
+          Collections.unmodifiableMap(clusterOfServer),
+          Collections.unmodifiableList(dynamicClusters));
+    }
+
+    WlsClusterConfig getClusterOf(String serverName) {
+      return Optional.ofNullable(clusterOfServer.get(serverName))
+          .orElseGet(() -> dynamicClusters.stream()
+              .filter(cluster -> cluster.getDynamicServersConfig().containsServer(serverName))
+              .findFirst()
+              .orElse(null));
+    }
+
+    WlsServerConfig getClusteredServer(String clusterName, String serverName) {
+      return Optional.ofNullable(clusteredServers.get(clusterName))
+          .map(clusterServers -> clusterServers.get(serverName))
+          .orElseGet(() -> Optional.ofNullable(clusters.get(clusterName))
+              .filter(WlsClusterConfig::hasDynamicServers)
+              .map(cluster -> cluster.getDynamicServersConfig().getServerConfig(serverName))
+              .orElse(null));
+    }
+  }
 }
@@ -1,11 +1,13 @@
-// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -64,46 +66,6 @@ public class WlsDynamicServersConfig {
     this.serverConfigs = serverConfigs;
   }
 
-  /**
-   * Create a list of WlsServerConfig objects for dynamic servers that corresponds to the current
-   * cluster size.
-   *
-   * @param serverNames Names of the servers corresponding to the current cluster size
-   * @param serverTemplate WlsServerConfig object containing template used for creating dynamic
-   *     servers in this cluster
-   * @param clusterName Name of the WLS cluster that this dynamic servers configuration belongs to
-   * @param domainName Name of the WLS domain that this WLS cluster belongs to
-   * @param calculatedListenPorts whether listen ports are fixed or calculated based on server index
-   * @return A list of WlsServerConfig objects for dynamic servers
-   */
-  static List<WlsServerConfig> createServerConfigsFromTemplate(
-      List<String> serverNames,
-      WlsServerConfig serverTemplate,
-      String clusterName,
-      String domainName,
-      boolean calculatedListenPorts) {
-    List<WlsServerConfig> serverConfigs = null;
-    if (serverNames != null && !serverNames.isEmpty()) {
-      serverConfigs = new ArrayList<>(serverNames.size());
-      int index = 0;
-      int startingServerIndex =
-          1; // hard coded to 1 for the time being. This will be configurable in later version of
-      // WLS
-      for (String serverName : serverNames) {
-        serverConfigs.add(
-            WlsDynamicServerConfig.create(
-                serverName,
-                index + startingServerIndex,
-                clusterName,
-                domainName,
-                calculatedListenPorts,
-                serverTemplate));
-        index++;
-      }
-    }
-    return serverConfigs;
-  }
-
   /**
    * Return current size of the dynamic cluster.
    *
@@ -195,18 +157,54 @@ public class WlsDynamicServersConfig {
    */
   public void generateDynamicServerConfigs(
       WlsServerConfig serverTemplate, String clusterName, String domainName) {
-    List<String> dynamicServerNames = generateDynamicServerNames();
-    serverConfigs =
-        createServerConfigsFromTemplate(
-            dynamicServerNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
+    serverConfigs = Optional.ofNullable(dynamicClusterSize).orElse(0) > 0
+        ? new GeneratedServerConfigs(this, serverTemplate, clusterName, domainName)
+        : null;
   }
 
-  private List<String> generateDynamicServerNames() {
-    List<String> serverNames = new ArrayList<>();
-    for (int index = 1; index <= dynamicClusterSize; index++) {
-      serverNames.add(serverNamePrefix + index);
+  /**
+   * Returns the configuration of the dynamic server with the given name.
+   *
+   * @param serverName name of the server
+   * @return the server configuration, or null if this cluster has no dynamic server with the given name
+   */
+  WlsServerConfig getServerConfig(String serverName) {
+    if (serverConfigs instanceof GeneratedServerConfigs generatedServerConfigs) {
+      return generatedServerConfigs.getServerConfig(serverName);
+    }
+
+    return Optional.ofNullable(serverConfigs).orElse(List.of()).stream()
+        .filter(serverConfig -> Objects.equals(serverName, serverConfig.getName()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Returns true if this cluster has a dynamic server with the given name. Unlike
+   * {@link #getServerConfig(String)}, does not create the configuration of the server.
+   *
+   * @param serverName name of the server
+   * @return true if the name is that of one of the dynamic servers
+   */
+  boolean containsServer(String serverName) {
+    if (serverConfigs instanceof GeneratedServerConfigs generatedServerConfigs) {
+      return generatedServerConfigs.getServerIndex(serverName) != null;
+    }
+
+    return getServerNames().contains(serverName);
+  }
+
+  /**
+   * Returns the names of the dynamic servers, without creating their configurations.
+   *
+   * @return a list of server names, in order of server index
+   */
+  List<String> getServerNames() {
+    if (serverConfigs instanceof GeneratedServerConfigs generatedServerConfigs) {
+      return generatedServerConfigs.getServerNames();
     }
-    return serverNames;
+
+    return Optional.ofNullable(serverConfigs).orElse(List.of()).stream().map(WlsServerConfig::getName).toList();
   }
 
   @Override
@@ -265,4 +263,77 @@ public class WlsDynamicServersConfig {
             .append(serverConfigs, rhs.serverConfigs);
     return builder.isEquals();
   }
+
+  /**
+   * The configurations of the dynamic servers that correspond to the cluster size. Rather than keeping a
+   * configuration for each server, creates each one from the server template when it is requested.
+   */
+  private static class GeneratedServerConfigs extends AbstractList<WlsServerConfig> {
+    // hard coded to 1 for the time being. This will be configurable in later version of WLS
+    private static final int STARTING_SERVER_INDEX = 1;
+
+    private final String serverNamePrefix;
+    private final int size;
+    private final boolean calculatedListenPorts;
+    private final WlsServerConfig serverTemplate;
+    private final String clusterName;
+    private final String domainName;
+
+    GeneratedServerConfigs(
+        WlsDynamicServersConfig dynamicServersConfig,
+        WlsServerConfig serverTemplate,
+        String clusterName,
+        String domainName) {
+      this.serverNamePrefix = String.valueOf(dynamicServersConfig.serverNamePrefix);
+      this.size = dynamicServersConfig.dynamicClusterSize;
+      this.calculatedListenPorts = dynamicServersConfig.calculatedListenPorts;
+      this.serverTemplate = serverTemplate;
+      this.clusterName = clusterName;
+      this.domainName = domainName;
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      Objects.checkIndex(index, size);
+      final int serverIndex = index + STARTING_SERVER_INDEX;
+      return WlsDynamicServerConfig.create(
+          serverNamePrefix + serverIndex, serverIndex, clusterName, domainName, calculatedListenPorts, serverTemplate);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    WlsServerConfig getServerConfig(String serverName) {
+      return Optional.ofNullable(getServerIndex(serverName))
+          .map(serverIndex -> get(serverIndex - STARTING_SERVER_INDEX))
+          .orElse(null);
+    }
+
+    List<String> getServerNames() {
+      return IntStream.range(STARTING_SERVER_INDEX, STARTING_SERVER_INDEX + size)
+          .mapToObj(serverIndex -> serverNamePrefix + serverIndex)
+          .toList();
+    }
+
+    // Returns the index in the server name, if it is the name of one of these servers.
+    Integer getServerIndex(String serverName) {
+      if (serverName == null || !serverName.startsWith(serverNamePrefix)) {
+        return null;
+      }
+
+      final String suffix = serverName.substring(serverNamePrefix.length());
+      try {
+        final int serverIndex = Integer.parseInt(suffix);
+        return isServerIndex(serverIndex) && suffix.equals(Integer.toString(serverIndex)) ? serverIndex : null;
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    private boolean isServerIndex(int serverIndex) {
+      return serverIndex >= STARTING_SERVER_INDEX && serverIndex < STARTING_SERVER_INDEX + size;
+    }
+  }
 }
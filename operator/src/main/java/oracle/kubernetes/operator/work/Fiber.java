@@ -5,16 +5,25 @@ package oracle.kubernetes.operator.work;
 
 import java.io.Serial;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import org.jetbrains.annotations.NotNull;
@@ -36,8 +45,14 @@ public final class Fiber implements Runnable {
   private final CompletionCallback completionCallback;
   private final Step stepline;
   private final Packet packet;
+  private final Fiber parent;
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
-  private final Queue<String> breadcrumbs = new ConcurrentLinkedQueue<>();
+  private final Queue<String> breadcrumbs;
+  private final AtomicInteger numApiCalls;
+  private volatile Checkpoint checkpoint;
+  private final AtomicReference<StepAndPacket> continuation = new AtomicReference<>();
+  private final AtomicReference<ResourceChanges.Registration> awaitedChange = new AtomicReference<>();
+  private int numInlineForks;
 
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet) {
     this(fiberExecutor, stepline, packet, null);
@@ -58,16 +73,29 @@ public final class Fiber implements Runnable {
    *     final packet is available.
    */
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet, CompletionCallback completionCallback) {
-    this.fiberExecutor = fiberExecutor;
-    this.stepline = stepline;
-    this.packet = packet;
-    this.completionCallback = completionCallback;
+    this(fiberExecutor, stepline, packet, completionCallback, null);
   }
 
   private Fiber(Fiber fiber, Step stepline, Packet packet) {
     this(fiber.fiberExecutor, stepline, packet, fiber.completionCallback);
   }
 
+  // creates a child fiber, which shares the cancellation state and breadcrumbs of its parent
+  private Fiber(Fiber parent, StepAndPacket startDetails) {
+    this(parent.fiberExecutor, startDetails.step(), startDetails.packet(), null, parent);
+  }
+
+  private Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet,
+                CompletionCallback completionCallback, Fiber parent) {
+    this.fiberExecutor = fiberExecutor;
+    this.stepline = stepline;
+    this.packet = packet;
+    this.completionCallback = completionCallback;
+    this.parent = parent;
+    this.breadcrumbs = parent != null ? parent.breadcrumbs : new ConcurrentLinkedQueue<>();
+    this.numApiCalls = parent != null ? parent.numApiCalls : new AtomicInteger();
+  }
+
   /**
    * Gets the current fiber that's running, if set.
    *
@@ -97,8 +125,13 @@ public final class Fiber implements Runnable {
   private boolean invokeAndPotentiallyRequeue(Step stepline, Packet packet) {
     Result result = stepline.apply(packet);
 
+    if (isSuspended()) {
+      scheduleContinuation(this, result.getRequeueAfter());
+      return false;
+    }
     if (result == null || result.isRequeue()) {
       addBreadcrumb("[" + result.getRequeueAfter() + "]");
+      OperatorMetrics.recordFiberRequeued();
       fiberExecutor.schedule(this, result.getRequeueAfter());
       return false;
     }
@@ -109,6 +142,124 @@ public final class Fiber implements Runnable {
     return new Fiber(fiber, stepline, packet);
   }
 
+  static Fiber resumeFromCheckpoint(Fiber fiber, Checkpoint checkpoint) {
+    final Fiber resumed = new Fiber(fiber, checkpoint.step(), checkpoint.packet());
+    resumed.numApiCalls.set(checkpoint.numApiCalls());
+    resumed.addBreadcrumb("[resume]");
+    return resumed;
+  }
+
+  /**
+   * Records that this fiber has made a Kubernetes API call. Calls made by child fibers are counted by their parent.
+   */
+  public void recordApiCall() {
+    numApiCalls.incrementAndGet();
+  }
+
+  /**
+   * Returns a checkpoint from which this fiber could resume at the specified step and packet, without repeating
+   * the API calls made so far.
+   * @param step the step from which to resume
+   * @param packet the packet to pass to that step
+   */
+  Checkpoint createCheckpoint(Step step, Packet packet) {
+    return new Checkpoint(step, packet, numApiCalls.get());
+  }
+
+  /**
+   * Returns the checkpoint recorded when this fiber last requested a requeue, or null if it may not resume.
+   */
+  Checkpoint getCheckpoint() {
+    return checkpoint;
+  }
+
+  void setCheckpoint(Checkpoint checkpoint) {
+    this.checkpoint = checkpoint;
+  }
+
+  /**
+   * Returns true if this fiber may suspend while waiting for a delay to expire, releasing its thread rather than
+   * sleeping. Only fibers whose executor provides a child executor may do so, and not while running the children
+   * of a fork-join in line, since the fork-join must see the results of those children before it continues.
+   */
+  boolean canSuspend() {
+    return numInlineForks == 0 && fiberExecutor.getChildExecutor() != null;
+  }
+
+  /**
+   * Suspends this fiber, so that it will continue from the specified step once the delay has expired. The caller
+   * must return the result at once, so that the steps which led to the suspension unwind.
+   * @param step the step from which to continue
+   * @param packet the packet to pass to that step
+   * @param delay the time for which to suspend
+   * @return the result to be returned by the suspending step
+   */
+  Result suspend(Step step, Packet packet, Duration delay) {
+    continuation.set(new StepAndPacket(step, packet));
+    addBreadcrumb("[suspend]");
+    return new Result(true, delay);
+  }
+
+  /**
+   * Suspends this fiber, so that it will continue from the specified step once a change is reported to the
+   * registration, or the delay has expired, whichever comes first. The caller must return the result at once,
+   * so that the steps which led to the suspension unwind.
+   * @param step the step from which to continue
+   * @param packet the packet to pass to that step
+   * @param delay the longest time for which to suspend
+   * @param registration the registration for changes to the awaited resource
+   * @return the result to be returned by the suspending step
+   */
+  Result suspendUntilChange(Step step, Packet packet, Duration delay, ResourceChanges.Registration registration) {
+    awaitedChange.set(registration);
+    return suspend(step, packet, delay);
+  }
+
+  // Schedules the continuation of this suspended fiber once the delay has expired or, if the fiber awaits a change
+  // to a resource, as soon as that change is reported. The continuation runs at most once, and never on the thread
+  // which reports the change.
+  private void scheduleContinuation(Runnable continuation, Duration delay) {
+    final ResourceChanges.Registration registration = awaitedChange.getAndSet(null);
+    if (registration == null) {
+      fiberExecutor.scheduleResumption(this, continuation, delay);
+    } else {
+      final AtomicBoolean resumed = new AtomicBoolean();
+      final Runnable resumeOnce = () -> {
+        if (!resumed.getAndSet(true)) {
+          continuation.run();
+        }
+      };
+      final Cancellable timer = fiberExecutor.scheduleResumption(this, resumeOnce, delay);
+      registration.whenChanged(() -> {
+        timer.cancel();
+        fiberExecutor.getChildExecutor().execute(resumeOnce);
+      });
+    }
+  }
+
+  private boolean isSuspended() {
+    return continuation.get() != null;
+  }
+
+  // Returns the step and packet with which to run: those at which the fiber was suspended, else the initial ones.
+  private StepAndPacket takeContinuation() {
+    return Optional.ofNullable(continuation.getAndSet(null)).orElseGet(() -> new StepAndPacket(stepline, packet));
+  }
+
+  /**
+   * Records that the current thread has begun to run the children of a fork-join in line.
+   */
+  void enterInlineFork() {
+    numInlineForks++;
+  }
+
+  /**
+   * Records that the current thread has finished running the children of a fork-join in line.
+   */
+  void exitInlineFork() {
+    numInlineForks--;
+  }
+
   @Override
   public void run() {
     if (!isCancelled()) {
@@ -119,7 +270,9 @@ public final class Fiber implements Runnable {
       CURRENT_FIBER.set(this);
       try {
         try {
-          if ((stepline == null || invokeAndPotentiallyRequeue(adapt(this, stepline, packet), packet))
+          final StepAndPacket start = takeContinuation();
+          final Step step = start.step();
+          if ((step == null || invokeAndPotentiallyRequeue(adapt(this, step, start.packet()), start.packet()))
                   && !isCancelled()
                   && completionCallback != null) {
             Throwable t = (Throwable) packet.remove(THROWABLE);
@@ -130,6 +283,7 @@ public final class Fiber implements Runnable {
             }
           }
         } catch (Throwable t) {
+          continuation.set(null);
           addBreadcrumb("[throw= " + t.getMessage() + "]");
           if (completionCallback != null) {
             completionCallback.onThrowable(packet, t);
@@ -151,7 +305,91 @@ public final class Fiber implements Runnable {
   }
 
   public boolean isCancelled() {
-    return isCancelled.get();
+    return isCancelled.get() || (parent != null && parent.isCancelled());
+  }
+
+  /**
+   * Returns true if this fiber may run its fork-join children concurrently. Only top-level fibers whose executor
+   * provides a child executor may do so; the children of a child fiber run one after another on its thread,
+   * so that the concurrency limit applies to the fiber as a whole.
+   */
+  boolean canForkConcurrently() {
+    return parent == null && fiberExecutor.getChildExecutor() != null;
+  }
+
+  /**
+   * Runs the specified steps as child fibers on this fiber's child executor, and waits for all of them to complete.
+   * At most the specified number of children will run at the same time; a suspended child continues to count
+   * against that limit until it completes.
+   *
+   * @param startDetails Pairs of step and packet with which to start the children
+   * @param concurrencyLimit the maximum number of children to run at once
+   * @return the outcomes of the children, in the order of the start details
+   * @throws InterruptedException if this thread is interrupted while waiting; any children are then cancelled
+   */
+  List<ChildOutcome> forkJoin(Collection<StepAndPacket> startDetails, int concurrencyLimit)
+      throws InterruptedException {
+    final Executor executor = fiberExecutor.getChildExecutor();
+    final Semaphore permits = new Semaphore(Math.max(1, concurrencyLimit));
+    final List<Fiber> children = new ArrayList<>();
+    final List<CompletableFuture<ChildOutcome>> futures = new ArrayList<>();
+    try {
+      for (StepAndPacket sap : startDetails) {
+        permits.acquire();
+        Fiber child = new Fiber(this, sap);
+        CompletableFuture<ChildOutcome> future = new CompletableFuture<>();
+        children.add(child);
+        futures.add(future);
+        executor.execute(() -> child.runAsChild(permits, future));
+      }
+
+      List<ChildOutcome> outcomes = new ArrayList<>();
+      for (CompletableFuture<ChildOutcome> future : futures) {
+        outcomes.add(getOutcome(future));
+      }
+      return outcomes;
+    } catch (InterruptedException e) {
+      children.forEach(Fiber::cancel);
+      throw e;
+    }
+  }
+
+  private ChildOutcome getOutcome(CompletableFuture<ChildOutcome> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      return new ChildOutcome(null, e.getCause(), false);
+    }
+  }
+
+  // Runs or continues the steps of this child fiber. Once they are complete, releases the child's permit
+  // and reports its outcome; if they suspend, schedules the child to continue once the delay has expired.
+  private void runAsChild(Semaphore permits, CompletableFuture<ChildOutcome> future) {
+    final StepAndPacket start = takeContinuation();
+    final Fiber oldFiber = CURRENT_FIBER.get();
+    CURRENT_FIBER.set(this);
+    ChildOutcome outcome;
+    try {
+      final Result result = start.step().doStepNext(start.packet());
+      outcome = new ChildOutcome(result, null, checkpoint != null);
+    } catch (Throwable t) {
+      continuation.set(null);
+      addBreadcrumb("[throw= " + t.getMessage() + "]");
+      outcome = new ChildOutcome(null, t, false);
+    } finally {
+      if (oldFiber == null) {
+        CURRENT_FIBER.remove();
+      } else {
+        CURRENT_FIBER.set(oldFiber);
+      }
+    }
+
+    if (isSuspended()) {
+      scheduleContinuation(() -> runAsChild(permits, future), outcome.result().getRequeueAfter());
+    } else {
+      permits.release();
+      future.complete(outcome);
+    }
   }
 
   @SuppressWarnings("ResultOfMethodCallIgnored")
@@ -196,6 +434,7 @@ public final class Fiber implements Runnable {
   public void cancel() {
     if (!isCancelled.getAndSet(true)) {
       addBreadcrumb("[cancelled]");
+      OperatorMetrics.recordFiberCancelled();
     }
   }
 
@@ -226,13 +465,29 @@ public final class Fiber implements Runnable {
   public record StepAndPacket(Step step, Packet packet) {
   }
 
+  /**
+   * The outcome of running a child fiber: either the result of its steps, or the throwable which aborted them,
+   * and whether the child recorded a checkpoint from which it could resume.
+   */
+  record ChildOutcome(Result result, Throwable throwable, boolean checkpointed) {
+  }
+
+  /**
+   * A point from which a requeued fiber may resume, rather than restarting from its first step.
+   * @param step the step from which to resume
+   * @param packet the packet to pass to that step
+   * @param numApiCalls the number of API calls made by the fiber before it reached that step
+   */
+  record Checkpoint(Step step, Packet packet, int numApiCalls) {
+  }
+
   /** Multi-exception. */
   public static class MultiThrowable extends RuntimeException {
     @Serial
     private static final long serialVersionUID  = 1L;
     private final transient List<Throwable> throwables;
 
-    private MultiThrowable(List<Throwable> throwables) {
+    MultiThrowable(List<Throwable> throwables) {
       super(throwables.get(0));
       this.throwables = throwables;
     }
@@ -251,6 +506,35 @@ public final class Fiber implements Runnable {
     void execute(Fiber fiber);
 
     Cancellable schedule(Fiber fiber, Duration duration);
+
+    /**
+     * Runs the continuation of a suspended fiber once the specified delay has expired. Only called for fibers
+     * whose executor provides a child executor.
+     * @param fiber the suspended fiber
+     * @param continuation the code which continues the fiber
+     * @param duration the delay
+     * @return a means to cancel the scheduled continuation, if it has not yet started to run
+     */
+    Cancellable scheduleResumption(Fiber fiber, Runnable continuation, Duration duration);
+
+    /**
+     * Returns an executor on which child fibers may run concurrently, or null if they must run on the
+     * thread of their parent.
+     */
+    default Executor getChildExecutor() {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the specified executor service if it is able to run child fibers concurrently with their parent.
+   * Only the virtual thread executor qualifies; the single-threaded executors used by unit tests must run
+   * children in line.
+   *
+   * @param scheduledExecutorService the service which runs fibers
+   */
+  static Executor toChildExecutor(ScheduledExecutorService scheduledExecutorService) {
+    return scheduledExecutorService instanceof VirtualScheduledExecutorService ? scheduledExecutorService : null;
   }
 
   private static FiberExecutor fromScheduled(ScheduledExecutorService scheduledExecutorService) {
@@ -262,10 +546,22 @@ public final class Fiber implements Runnable {
         return () -> future.cancel(true);
       }
 
+      @Override
+      public Cancellable scheduleResumption(Fiber fiber, Runnable continuation, Duration duration) {
+        ScheduledFuture<?> future = scheduledExecutorService.schedule(continuation,
+                TimeUnit.MILLISECONDS.convert(duration), TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+      }
+
       @Override
       public void execute(@NotNull Fiber fiber) {
         scheduledExecutorService.execute(fiber);
       }
+
+      @Override
+      public Executor getChildExecutor() {
+        return toChildExecutor(scheduledExecutorService);
+      }
     };
   }
 }
@@ -6,13 +6,20 @@ package oracle.kubernetes.operator.work;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.Fiber.FiberExecutor;
 import org.jetbrains.annotations.NotNull;
@@ -26,6 +33,9 @@ public class FiberGate {
   /** A map of domain UIDs to the fiber charged with running processing on that domain. **/
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<>();
 
+  /** The number of fibers in this gate waiting for a delay to expire before resuming. **/
+  private final AtomicInteger numWaitingFibers = new AtomicInteger();
+
   /**
    * Constructor taking Engine for running Fibers.
    *
@@ -43,6 +53,20 @@ public class FiberGate {
     return new HashMap<>(gateMap);
   }
 
+  /**
+   * Returns the number of fibers holding this gate which are running or ready to run.
+   */
+  public int getActiveFiberCount() {
+    return Math.max(0, gateMap.size() - getWaitingFiberCount());
+  }
+
+  /**
+   * Returns the number of fibers holding this gate which are waiting for a delay to expire before resuming.
+   */
+  public int getWaitingFiberCount() {
+    return numWaitingFibers.get();
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same domain UID. Fiber map is not
    * updated if no Fiber is started.
@@ -54,7 +78,23 @@ public class FiberGate {
    */
   public void startFiber(String domainUid, Supplier<Step> stepSupplier, Supplier<Packet> packetSupplier,
                      CompletionCallback callback) {
-    requestNewFiberStart(domainUid, stepSupplier, packetSupplier, callback);
+    requestNewFiberStart(domainUid, stepSupplier, packetSupplier, callback, null);
+  }
+
+  /**
+   * Starts Fiber that cancels any earlier running Fibers with the same domain UID. If the fiber is requeued
+   * from a checkpoint, and the resumption of requeued fibers is enabled, it will resume from that checkpoint
+   * rather than restarting, provided that the generation is unchanged since the fiber started.
+   *
+   * @param domainUid the UID for which a fiber should be started
+   * @param stepSupplier Supplier for Step for Fiber to begin with
+   * @param packetSupplier Supplier for Packet
+   * @param callback Completion callback
+   * @param generationSupplier Supplier for the generation of the resource processed by the fiber
+   */
+  public void startFiber(String domainUid, Supplier<Step> stepSupplier, Supplier<Packet> packetSupplier,
+                         CompletionCallback callback, Supplier<Object> generationSupplier) {
+    requestNewFiberStart(domainUid, stepSupplier, packetSupplier, callback, generationSupplier);
   }
 
   /**
@@ -64,10 +104,12 @@ public class FiberGate {
    * @param stepSupplier Supplier for step for Fiber to begin with
    * @param packetSupplier Supplier for Packet
    * @param callback Completion callback
+   * @param generationSupplier Supplier for the generation of the resource, or null if the fiber may not resume
    */
   private synchronized void requestNewFiberStart(
-      String domainUid, Supplier<Step> stepSupplier, Supplier<Packet> packetSupplier, CompletionCallback callback) {
-    new FiberRequest(domainUid, stepSupplier, packetSupplier, callback).invoke();
+      String domainUid, Supplier<Step> stepSupplier, Supplier<Packet> packetSupplier, CompletionCallback callback,
+      Supplier<Object> generationSupplier) {
+    new FiberRequest(domainUid, stepSupplier, packetSupplier, callback, generationSupplier).invoke();
   }
 
   private class FiberRequest {
@@ -76,12 +118,16 @@ public class FiberGate {
     private final Fiber fiber;
     private final Supplier<Step> stepSupplier;
     private final Supplier<Packet> packetSupplier;
+    private final Supplier<Object> generationSupplier;
+    private final Object startGeneration;
 
     FiberRequest(String domainUid, Supplier<Step> stepSupplier,
-             Supplier<Packet> packetSupplier, CompletionCallback callback) {
+             Supplier<Packet> packetSupplier, CompletionCallback callback, Supplier<Object> generationSupplier) {
       this.domainUid = domainUid;
       this.stepSupplier = stepSupplier;
       this.packetSupplier = packetSupplier;
+      this.generationSupplier = generationSupplier;
+      this.startGeneration = Optional.ofNullable(generationSupplier).map(Supplier::get).orElse(null);
 
       fiber = new Fiber(new FiberExecutorImpl(), stepSupplier.get(), packetSupplier.get(),
           new FiberGateCompletionCallback(callback, domainUid));
@@ -94,27 +140,83 @@ public class FiberGate {
     private class FiberExecutorImpl implements FiberExecutor {
       @Override
       public Cancellable schedule(Fiber fiber, Duration duration) {
+        final AtomicBoolean waiting = new AtomicBoolean(true);
+        numWaitingFibers.incrementAndGet();
         ScheduledFuture<?> future = scheduledExecutorService.schedule(
-                () -> scheduledExecution(fiber), TimeUnit.MILLISECONDS.convert(duration), TimeUnit.MILLISECONDS);
-        return () -> future.cancel(true);
+                () -> {
+                  stopWaiting(waiting);
+                  scheduledExecution(fiber);
+                }, TimeUnit.MILLISECONDS.convert(duration), TimeUnit.MILLISECONDS);
+        return () -> {
+          stopWaiting(waiting);
+          return future.cancel(true);
+        };
+      }
+
+      // A suspended fiber which holds the gate is counted as waiting until it resumes.
+      @Override
+      public Cancellable scheduleResumption(Fiber fiber, Runnable continuation, Duration duration) {
+        final AtomicBoolean waiting = new AtomicBoolean(gateMap.get(domainUid) == fiber);
+        if (waiting.get()) {
+          numWaitingFibers.incrementAndGet();
+        }
+        ScheduledFuture<?> future = scheduledExecutorService.schedule(
+                () -> {
+                  stopWaiting(waiting);
+                  continuation.run();
+                }, TimeUnit.MILLISECONDS.convert(duration), TimeUnit.MILLISECONDS);
+        return () -> {
+          stopWaiting(waiting);
+          return future.cancel(false);
+        };
+      }
+
+      private void stopWaiting(AtomicBoolean waiting) {
+        if (waiting.getAndSet(false)) {
+          numWaitingFibers.decrementAndGet();
+        }
       }
 
       private void scheduledExecution(Fiber fiber) {
-        Fiber scheduledReplacement = Fiber.copyWithNewStepsAndPacket(fiber, stepSupplier.get(), packetSupplier.get());
+        final Fiber.Checkpoint checkpoint = canResume(fiber) ? fiber.getCheckpoint() : null;
+        Fiber scheduledReplacement = Optional.ofNullable(checkpoint)
+            .map(c -> Fiber.resumeFromCheckpoint(fiber, c))
+            .orElseGet(() -> Fiber.copyWithNewStepsAndPacket(fiber, stepSupplier.get(), packetSupplier.get()));
         if (gateMap.compute(domainUid,
             (k, v) -> (v == null || v == fiber) ? scheduledReplacement : v) == scheduledReplacement) {
+          Optional.ofNullable(checkpoint).ifPresent(c -> OperatorMetrics.recordFiberResumed(c.numApiCalls()));
           scheduledExecutorService.execute(scheduledReplacement);
         }
       }
 
+      // A fiber may resume from its checkpoint only if the generation it was started to process is still current.
+      private boolean canResume(Fiber fiber) {
+        return fiber.getCheckpoint() != null
+            && generationSupplier != null
+            && isResumeRequeuedFibersEnabled()
+            && Objects.equals(startGeneration, generationSupplier.get());
+      }
+
+      private boolean isResumeRequeuedFibersEnabled() {
+        return Optional.ofNullable(TuningParameters.getInstance())
+            .map(TuningParameters::isResumeRequeuedFibersEnabled)
+            .orElse(false);
+      }
+
       @Override
       public void execute(@NotNull Fiber fiber) {
         Fiber existing = gateMap.put(domainUid, fiber);
         if (existing != null) {
+          OperatorMetrics.recordFiberReplaced();
           existing.cancel();
         }
         scheduledExecutorService.execute(fiber);
       }
+
+      @Override
+      public Executor getChildExecutor() {
+        return Fiber.toChildExecutor(scheduledExecutorService);
+      }
     }
   }
 
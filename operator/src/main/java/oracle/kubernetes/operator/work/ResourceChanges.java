@@ -0,0 +1,114 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A rendezvous between fibers waiting for a Kubernetes resource to change and the watchers which report
+ * such changes. A fiber registers its interest in a resource before it reads the state for which it waits,
+ * so that no change is missed; each registration is completed by the first change reported after it was made.
+ */
+public class ResourceChanges {
+
+  /** A map of resource keys to the registrations for changes to those resources. */
+  private static final Map<String, Set<Registration>> registrations = new ConcurrentHashMap<>();
+
+  private ResourceChanges() {
+    // no-op
+  }
+
+  /**
+   * Returns the key which identifies a resource to waiters and watchers.
+   * @param kind the kind of resource
+   * @param namespace the namespace containing the resource
+   * @param name the name of the resource
+   */
+  public static String keyOf(String kind, String namespace, String name) {
+    return kind + ':' + namespace + '/' + name;
+  }
+
+  /**
+   * Registers an interest in the next change to the specified resource. The registration must be cancelled
+   * if the caller does not go on to wait for the change.
+   * @param key the key of the resource
+   * @return the new registration
+   */
+  public static Registration register(String key) {
+    final Registration registration = new Registration(key);
+    registrations.compute(key, (k, s) -> addRegistration(s, registration));
+    return registration;
+  }
+
+  /**
+   * Reports a change to a resource, completing all registrations for it and so resuming any fibers waiting
+   * for it.
+   * @param key the key of the changed resource
+   * @param resource the new state of the resource
+   * @return true if any registration was completed
+   */
+  public static boolean report(String key, Object resource) {
+    final Set<Registration> completed = registrations.remove(key);
+    if (completed == null) {
+      return false;
+    }
+
+    completed.forEach(r -> r.change.complete(new Change(resource)));
+    return !completed.isEmpty();
+  }
+
+  private static Set<Registration> addRegistration(Set<Registration> registrationSet, Registration registration) {
+    final Set<Registration> result = registrationSet != null ? registrationSet : ConcurrentHashMap.newKeySet();
+    result.add(registration);
+    return result;
+  }
+
+  private static Set<Registration> removeRegistration(Set<Registration> registrationSet, Registration registration) {
+    registrationSet.remove(registration);
+    return registrationSet.isEmpty() ? null : registrationSet;
+  }
+
+  /**
+   * A reported change to a resource.
+   * @param resource the new state of the resource
+   */
+  record Change(Object resource) {
+  }
+
+  /**
+   * An interest in the next change to a resource.
+   */
+  public static final class Registration {
+    private final String key;
+    private final CompletableFuture<Change> change = new CompletableFuture<>();
+
+    private Registration(String key) {
+      this.key = key;
+    }
+
+    String getKey() {
+      return key;
+    }
+
+    /**
+     * Withdraws this registration, so that later changes are no longer reported to it.
+     */
+    public void cancel() {
+      registrations.computeIfPresent(key, (k, s) -> removeRegistration(s, this));
+    }
+
+    // Returns the reported change, or null if none has been reported.
+    Change getChange() {
+      return change.getNow(null);
+    }
+
+    // Runs the specified action once a change is reported: at once, if one already has been.
+    void whenChanged(Runnable action) {
+      change.thenRun(action);
+    }
+  }
+}
@@ -6,9 +6,11 @@ package oracle.kubernetes.operator.work;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
@@ -233,8 +235,86 @@ public abstract class Step {
    * @param packet Packet
    */
   protected static final Result doRequeue(Packet packet) {
-    return new Result(true,
-            Duration.ofSeconds(TuningParameters.getInstance().getWatchTuning().getWatchBackstopRecheckDelay()));
+    return new Result(true, getBackstopRecheckDelay());
+  }
+
+  private static Duration getBackstopRecheckDelay() {
+    return Duration.ofSeconds(TuningParameters.getInstance().getWatchTuning().getWatchBackstopRecheckDelay());
+  }
+
+  /**
+   * Suspends the fiber until a change to the registered resource is reported to {@link ResourceChanges}, and then
+   * invokes the indicated step. The registration must be made before the caller reads the state for which it waits,
+   * so that no change is missed. If no change is reported within the watch backstop recheck delay, the fiber is
+   * requeued at once, just as it would have been had the step called {@link #doRequeue(Packet)}. If the current
+   * fiber may not suspend, or event-driven waits are disabled, this is equivalent to calling
+   * {@link #doRequeue(Packet)}. A requeued fiber records the indicated step as a checkpoint, from which its
+   * {@link FiberGate} may resume it.
+   *
+   * @param step Step from which to resume
+   * @param packet Packet to provide when resuming
+   * @param registration the registration for changes to the resource, made by {@link ResourceChanges#register}
+   * @param onChange a consumer of the changed resource, invoked before resuming
+   */
+  protected static final Result doWaitForChange(
+        Step step, Packet packet, ResourceChanges.Registration registration, Consumer<Object> onChange) {
+    Fiber fiber = Fiber.getCurrentIfSet();
+    if (fiber == null || !fiber.canSuspend() || !TuningParameters.getInstance().isEventDrivenWaitsEnabled()) {
+      registration.cancel();
+      return requeueFrom(fiber, step, packet, getBackstopRecheckDelay());
+    }
+
+    fiber.addBreadcrumb("[wait: " + registration.getKey() + "]");
+    return fiber.suspendUntilChange(
+          new ResumeAfterChangeStep(registration, onChange, step), packet, getBackstopRecheckDelay(), registration);
+  }
+
+  /**
+   * Suspends the fiber until a change to the registered resource is reported to {@link ResourceChanges}, and then
+   * invokes the indicated step.
+   *
+   * @param step Step from which to resume
+   * @param packet Packet to provide when resuming
+   * @param registration the registration for changes to the resource, made by {@link ResourceChanges#register}
+   */
+  protected static final Result doWaitForChange(Step step, Packet packet, ResourceChanges.Registration registration) {
+    return doWaitForChange(step, packet, registration, resource -> { });
+  }
+
+  // Continues a fiber which was suspended waiting for a resource to change. If no change was reported,
+  // the wait timed out, and the fiber is requeued from the waiting step; a cancelled fiber simply ends.
+  private static class ResumeAfterChangeStep extends Step {
+    private final ResourceChanges.Registration registration;
+    private final Consumer<Object> onChange;
+
+    ResumeAfterChangeStep(ResourceChanges.Registration registration, Consumer<Object> onChange, Step next) {
+      super(next);
+      this.registration = registration;
+      this.onChange = onChange;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      registration.cancel();
+      final Fiber fiber = Fiber.getCurrentIfSet();
+      final ResourceChanges.Change change = registration.getChange();
+      if (fiber != null && fiber.isCancelled()) {
+        return doEnd(packet);
+      } else if (change == null) {
+        return requeueFrom(fiber, getNext(), packet, Duration.ZERO);
+      }
+
+      onChange.accept(change.resource());
+      return doNext(packet);
+    }
+  }
+
+  // Requeues the fiber, recording that it may resume from the specified step rather than from its first step.
+  private static Result requeueFrom(Fiber fiber, Step step, Packet packet, Duration delay) {
+    if (fiber != null) {
+      fiber.setCheckpoint(fiber.createCheckpoint(step, packet));
+    }
+    return new Result(true, delay);
   }
 
   /**
@@ -266,7 +346,8 @@ public abstract class Step {
   }
 
   /**
-   * Invoke the indicated step after a delay.
+   * Invoke the indicated step after a delay. If the current fiber may suspend, it releases its thread
+   * until the delay has expired, and the steps which led here return at once; otherwise, the thread sleeps.
    *
    * @param step Step from which to resume
    * @param packet Packet to provide when retrying this step
@@ -278,6 +359,9 @@ public abstract class Step {
       Fiber fiber = Fiber.getCurrentIfSet();
       if (fiber != null) {
         fiber.addBreadcrumb(("[delay: " + unit.toMillis(delay) + "ms]"));
+        if (fiber.canSuspend()) {
+          return fiber.suspend(step, packet, Duration.ofNanos(unit.toNanos(delay)));
+        }
       }
       unit.sleep(delay);
     } catch (InterruptedException e) {
@@ -296,38 +380,135 @@ public abstract class Step {
    * shortest duration. Otherwise, if none of the steps request a requeue then the result of invoking the
    * conditional step is returned.
    *
+   * <p>When the current fiber supports it, the steps run concurrently as child fibers, at most
+   * {@link TuningParameters#getForkJoinConcurrencyLimit()} at a time; any throwables they report are then
+   * combined into a {@link Fiber.MultiThrowable}. Otherwise, they run one after another on the current thread,
+   * and processing stops at the first throwable.
+   *
    * @param step Step to invoke conditionally after the set of steps are invoked
    * @param packet Resume packet
    * @param startDetails Pairs of step and packet to use when starting
    */
   protected final Result doForkJoin(
       Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails) {
-    boolean requeue = false;
-    Duration duration = null;
-
     Fiber fiber = Fiber.getCurrentIfSet();
-    int count = 0;
     if (LOGGER.isFinerEnabled() && fiber != null) {
       fiber.addBreadcrumb("[forkJoin]");
     }
+
+    if (fiber != null && startDetails.size() > 1 && fiber.canForkConcurrently()) {
+      return doConcurrentForkJoin(fiber, step, packet, startDetails);
+    }
+
+    final Fiber.Checkpoint checkpoint = createCheckpoint(fiber, packet);
+    boolean requeue = false;
+    boolean resumable = true;
+    Duration duration = null;
+    int count = 0;
     for (Fiber.StepAndPacket sap : startDetails) {
       if (LOGGER.isFinerEnabled() && fiber != null) {
         fiber.addBreadcrumb("[" + ++count + "of" + startDetails.size() + "]");
       }
 
       Packet sapPacket = sap.packet();
-      Result r = sap.step().doStepNext(sapPacket);
-      Throwable t = Optional.ofNullable(sapPacket).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
+      Result r = runInline(fiber, sap.step(), sapPacket);
+      Throwable t = getThrowable(sapPacket);
       if (t != null) {
         return doTerminate(t, packet);
       }
       if (r != null && r.isRequeue()) {
         requeue = true;
+        resumable &= fiber != null && fiber.getCheckpoint() != null;
+        duration = minDuration(duration, r.getRequeueAfter());
+      }
+      if (fiber != null) {
+        fiber.setCheckpoint(null);
+      }
+    }
+
+    return doJoin(fiber, step, packet, requeue, duration, resumable ? checkpoint : null);
+  }
+
+  // Runs a step of a fork-join on the current thread. It may not suspend the fiber,
+  // since its result must be examined before the fork-join can continue.
+  private static Result runInline(Fiber fiber, Step step, Packet packet) {
+    if (fiber == null) {
+      return step.doStepNext(packet);
+    }
+
+    fiber.enterInlineFork();
+    try {
+      return step.doStepNext(packet);
+    } finally {
+      fiber.exitInlineFork();
+    }
+  }
+
+  // Returns a checkpoint from which the fiber may resume by running this step again.
+  private Fiber.Checkpoint createCheckpoint(Fiber fiber, Packet packet) {
+    return Optional.ofNullable(fiber).map(f -> f.createCheckpoint(this, packet)).orElse(null);
+  }
+
+  private Result doConcurrentForkJoin(
+      Fiber fiber, Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails) {
+    final Fiber.Checkpoint checkpoint = createCheckpoint(fiber, packet);
+    final List<Fiber.ChildOutcome> outcomes;
+    try {
+      outcomes = fiber.forkJoin(startDetails, getForkJoinConcurrencyLimit());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return doTerminate(e, packet);
+    }
+
+    boolean requeue = false;
+    boolean resumable = true;
+    Duration duration = null;
+    List<Throwable> throwables = new ArrayList<>();
+    Iterator<Fiber.StepAndPacket> details = startDetails.iterator();
+    for (Fiber.ChildOutcome outcome : outcomes) {
+      Throwable t = Optional.ofNullable(outcome.throwable()).orElse(getThrowable(details.next().packet()));
+      Result r = outcome.result();
+      if (t != null) {
+        addIfAbsent(throwables, t);
+      } else if (r != null && r.isRequeue()) {
+        requeue = true;
+        resumable &= outcome.checkpointed();
         duration = minDuration(duration, r.getRequeueAfter());
       }
     }
 
+    if (throwables.size() == 1) {
+      return doTerminate(throwables.get(0), packet);
+    } else if (!throwables.isEmpty()) {
+      return doTerminate(new Fiber.MultiThrowable(throwables), packet);
+    }
+    return doJoin(fiber, step, packet, requeue, duration, resumable ? checkpoint : null);
+  }
+
+  // child packets may be shared, in which case they will all report the same throwable
+  private static void addIfAbsent(List<Throwable> throwables, Throwable throwable) {
+    if (!throwables.contains(throwable)) {
+      throwables.add(throwable);
+    }
+  }
+
+  private static int getForkJoinConcurrencyLimit() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getForkJoinConcurrencyLimit)
+        .orElse(TuningParameters.DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT);
+  }
+
+  private static Throwable getThrowable(Packet packet) {
+    return Optional.ofNullable(packet).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
+  }
+
+  // If any step requeued, the fiber may resume from this fork-join only if all of them recorded checkpoints.
+  private Result doJoin(Fiber fiber, Step step, Packet packet, boolean requeue, Duration duration,
+                        Fiber.Checkpoint checkpoint) {
     if (requeue) {
+      if (fiber != null) {
+        fiber.setCheckpoint(checkpoint);
+      }
       if (LOGGER.isFinerEnabled() && fiber != null) {
         fiber.addBreadcrumb("[forkJoin-requeue: " + duration + "]");
       }
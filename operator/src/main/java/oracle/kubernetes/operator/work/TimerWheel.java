@@ -0,0 +1,212 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * A hashed timer wheel, which runs tasks on an executor once their trigger times have passed. Each bucket of the
+ * wheel holds the tasks due in one tick, and a single thread advances the wheel one tick at a time, dispatching
+ * the tasks which have come due. A pending task therefore costs one entry in a bucket, rather than a thread
+ * sleeping until it is due. Tasks may run up to one tick late.
+ */
+class TimerWheel {
+
+  static final Duration DEFAULT_TICK = Duration.ofMillis(10);
+  static final int DEFAULT_NUM_BUCKETS = 512;
+
+  private final Executor executor;
+  private final long tickNanos;
+  private final int mask;
+  private final List<List<Timeout>> buckets = new ArrayList<>();
+  private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+  private final long startTime = System.nanoTime();
+  private volatile boolean stopped;
+  private Thread worker;
+
+  // the following are only accessed by the worker thread
+  private long tick;
+  private int numScheduled;
+
+  TimerWheel(Executor executor) {
+    this(executor, DEFAULT_TICK, DEFAULT_NUM_BUCKETS);
+  }
+
+  /**
+   * Creates a timer wheel.
+   * @param executor the executor on which to run tasks when they are due
+   * @param tick the interval at which the wheel advances
+   * @param numBuckets the number of buckets in the wheel; must be a power of two
+   */
+  TimerWheel(Executor executor, Duration tick, int numBuckets) {
+    if (Integer.bitCount(numBuckets) != 1) {
+      throw new IllegalArgumentException("Number of buckets must be a power of two: " + numBuckets);
+    }
+    this.executor = executor;
+    this.tickNanos = tick.toNanos();
+    this.mask = numBuckets - 1;
+    for (int i = 0; i < numBuckets; i++) {
+      buckets.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * Schedules a task to run once the specified time has passed.
+   * @param task the task to run
+   * @param triggerTime the time, as returned by {@link System#nanoTime()}, after which the task should run
+   * @return a handle by which the task may be cancelled
+   * @throws RejectedExecutionException if the wheel has been stopped
+   */
+  Timeout schedule(Runnable task, long triggerTime) {
+    if (stopped) {
+      throw new RejectedExecutionException("Timer wheel stopped");
+    }
+
+    final Timeout timeout = new Timeout(Objects.requireNonNull(task), triggerTime);
+    pending.add(timeout);
+    LockSupport.unpark(getWorker());
+    return timeout;
+  }
+
+  private synchronized Thread getWorker() {
+    if (worker == null && !stopped) {
+      worker = Thread.ofVirtual().name("timer-wheel").start(this::run);
+    }
+    return worker;
+  }
+
+  /**
+   * Stops the wheel, so that no further tasks will run, and returns the tasks which were scheduled but not yet run.
+   */
+  List<Runnable> stop() {
+    stopped = true;
+    final Thread thread = getStoppedWorker();
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return List.of();
+      }
+    }
+
+    return Stream.concat(buckets.stream().flatMap(List::stream), pending.stream())
+          .map(Timeout::take)
+          .filter(Objects::nonNull)
+          .toList();
+  }
+
+  private synchronized Thread getStoppedWorker() {
+    return worker;
+  }
+
+  private void run() {
+    while (!stopped) {
+      if (numScheduled == 0 && pending.isEmpty()) {
+        LockSupport.park(this);
+        tick = Math.max(tick, getElapsedTicks());  // nothing was scheduled in the ticks which passed while parked
+      } else {
+        transferPending();
+        final long remainingNanos = startTime + (tick + 1) * tickNanos - System.nanoTime();
+        if (remainingNanos > 0) {
+          LockSupport.parkNanos(this, remainingNanos);
+        } else {
+          expireTimeouts(tick++);
+        }
+      }
+    }
+  }
+
+  private long getElapsedTicks() {
+    return (System.nanoTime() - startTime) / tickNanos;
+  }
+
+  // Moves newly scheduled tasks into the buckets for the ticks in which they will be due.
+  private void transferPending() {
+    Timeout timeout;
+    while ((timeout = pending.poll()) != null) {
+      if (!timeout.isCancelled()) {
+        final long dueTick = Math.max(tick, Math.max(0, timeout.triggerTime - startTime) / tickNanos);
+        timeout.remainingRounds = (dueTick - tick) / buckets.size();
+        buckets.get((int) (dueTick & mask)).add(timeout);
+        numScheduled++;
+      }
+    }
+  }
+
+  // Dispatches the tasks in the bucket for the specified tick which are due in the current round,
+  // and discards those which have been cancelled.
+  private void expireTimeouts(long expiringTick) {
+    final int index = (int) (expiringTick & mask);
+    if (buckets.get(index).isEmpty()) {
+      return;
+    }
+
+    final List<Timeout> timeouts = buckets.set(index, new ArrayList<>());
+    for (Timeout timeout : timeouts) {
+      if (timeout.isCancelled()) {
+        numScheduled--;
+      } else if (timeout.remainingRounds > 0) {
+        timeout.remainingRounds--;
+        buckets.get(index).add(timeout);
+      } else {
+        numScheduled--;
+        dispatch(timeout.take());
+      }
+    }
+  }
+
+  private void dispatch(Runnable task) {
+    if (task != null) {
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        // the executor has been shut down, so the task cannot run
+      }
+    }
+  }
+
+  /**
+   * A task scheduled on the wheel. Cancelling it releases the task at once; the entry itself is discarded
+   * when the wheel next reaches its bucket.
+   */
+  static class Timeout {
+    private final AtomicReference<Runnable> task;
+    private final long triggerTime;
+    private long remainingRounds;
+
+    Timeout(Runnable task, long triggerTime) {
+      this.task = new AtomicReference<>(task);
+      this.triggerTime = triggerTime;
+    }
+
+    /**
+     * Cancels the task, unless it has already been dispatched.
+     * @return true if the task will now not run
+     */
+    boolean cancel() {
+      return take() != null;
+    }
+
+    boolean isCancelled() {
+      return task.get() == null;
+    }
+
+    // Returns the task, if it has been neither dispatched nor cancelled, and ensures that it will not be again.
+    private Runnable take() {
+      return task.getAndSet(null);
+    }
+  }
+}
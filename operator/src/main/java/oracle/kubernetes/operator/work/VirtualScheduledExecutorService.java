@@ -4,8 +4,10 @@
 package oracle.kubernetes.operator.work;
 
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
@@ -22,17 +24,24 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongUnaryOperator;
 
 import org.jetbrains.annotations.NotNull;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+/**
+ * A scheduled executor service which runs its tasks on virtual threads. Delayed and periodic tasks wait on a
+ * {@link TimerWheel} until they are due, rather than each occupying a thread while it sleeps. Delayed tasks which
+ * are not yet due when the service is shut down are cancelled.
+ */
 public class VirtualScheduledExecutorService implements ScheduledExecutorService {
   private static final int NEW = 0;
   private static final int DONE = 1;
   private static final int CANCELED = 2;
 
   private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+  private final TimerWheel timerWheel = new TimerWheel(executorService);
 
   private record Result<V>(V result, Throwable throwable) {
 
@@ -50,15 +59,24 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
     private final CountDownLatch latch = new CountDownLatch(1);
 
     private final AtomicReference<Result<V>> result = new AtomicReference<>(new Result<>(null, null));
+    private volatile TimerWheel.Timeout timeout;
 
     MyScheduledFuture(long triggerTime) {
       time = new AtomicLong(triggerTime);
     }
 
+    long getTime() {
+      return time.get();
+    }
+
     void setTime(long triggerTime) {
       time.set(triggerTime);
     }
 
+    void setTimeout(TimerWheel.Timeout timeout) {
+      this.timeout = timeout;
+    }
+
     /**
      * Returns the remaining delay associated with this object, in the
      * given time unit.
@@ -150,16 +168,13 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
       if (status.compareAndSet(NEW, CANCELED)) {
+        Optional.ofNullable(timeout).ifPresent(TimerWheel.Timeout::cancel);
         latch.countDown();
         return true;
       }
       return false;
     }
 
-    void setCanceled() {
-      status.set(CANCELED);
-    }
-
     void setResult(V result) {
       this.result.set(new Result<>(result, null));
       signalDone();
@@ -271,23 +286,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @NotNull
   @Override
   public ScheduledFuture<?> schedule(@NotNull Runnable command, long delay, @NotNull TimeUnit unit) {
-    MyScheduledFuture<?> future = new MyScheduledFuture<>(triggerTime(delay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(delay);
-        if (!future.isCancelled()) {
-          try {
-            command.run();
-            future.setResult(null);
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
-        }
-      } catch (InterruptedException e) {
-        future.setCanceled();
-      }
-    });
-    return future;
+    return schedule(Executors.callable(command), delay, unit);
   }
 
   /**
@@ -306,23 +305,43 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @Override
   public <V> ScheduledFuture<V> schedule(@NotNull Callable<V> callable, long delay, @NotNull TimeUnit unit) {
     MyScheduledFuture<V> future = new MyScheduledFuture<>(triggerTime(delay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(delay);
-        if (!future.isCancelled()) {
-          try {
-            future.setResult(callable.call());
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
+    scheduleOnWheel(future, () -> {
+      if (!future.isCancelled()) {
+        try {
+          future.setResult(callable.call());
+        } catch (Throwable t) {
+          future.setThrowable(t);
         }
-      } catch (InterruptedException e) {
-        future.setCanceled();
       }
     });
     return future;
   }
 
+  // Schedules the body of a task to run at the trigger time of its future.
+  private void scheduleOnWheel(MyScheduledFuture<?> future, Runnable body) {
+    future.setTimeout(timerWheel.schedule(new ScheduledTask(future, body), future.getTime()));
+  }
+
+  // Runs a periodic command at the trigger time of its future, and then reschedules it for the next trigger time,
+  // as computed from the previous one, until the future is cancelled.
+  private void scheduleRepeatedly(MyScheduledFuture<?> future, Runnable command, LongUnaryOperator nextTriggerTime) {
+    scheduleOnWheel(future, () -> {
+      if (!future.isCancelled()) {
+        try {
+          command.run();
+        } catch (Throwable t) {
+          future.setThrowable(t);
+        }
+        future.setTime(nextTriggerTime.applyAsLong(future.getTime()));
+        try {
+          scheduleRepeatedly(future, command, nextTriggerTime);
+        } catch (RejectedExecutionException e) {
+          future.cancel(false);
+        }
+      }
+    });
+  }
+
   /**
    * Submits a periodic action that becomes enabled first after the
    * given initial delay, and subsequently with the given period;
@@ -365,27 +384,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   public ScheduledFuture<?> scheduleAtFixedRate(@NotNull Runnable command,
                                                 long initialDelay, long period, @NotNull TimeUnit unit) {
     MyScheduledFuture<?> future = new MyScheduledFuture<>(triggerTime(initialDelay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(initialDelay);
-        while (!future.isCancelled()) {
-          long begin = System.nanoTime();
-          try {
-            command.run();
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
-          long next = triggerTime(begin, period, unit);
-          future.setTime(next);
-          long delay = System.nanoTime() - next;
-          if (delay > 0) {
-            NANOSECONDS.sleep(delay);
-          }
-        }
-      } catch (InterruptedException e) {
-        future.setCanceled();
-      }
-    });
+    scheduleRepeatedly(future, command, lastTime -> triggerTime(lastTime, period, unit));
     return future;
   }
 
@@ -427,22 +426,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   public ScheduledFuture<?> scheduleWithFixedDelay(@NotNull Runnable command,
                                                    long initialDelay, long delay, @NotNull TimeUnit unit) {
     MyScheduledFuture<?> future = new MyScheduledFuture<>(triggerTime(initialDelay, unit));
-    executorService.execute(() -> {
-      try {
-        unit.sleep(initialDelay);
-        while (!future.isCancelled()) {
-          try {
-            command.run();
-          } catch (Throwable t) {
-            future.setThrowable(t);
-          }
-          future.setTime(triggerTime(delay, unit));
-          unit.sleep(delay);
-        }
-      } catch (InterruptedException e) {
-        future.setCanceled();
-      }
-    });
+    scheduleRepeatedly(future, command, lastTime -> triggerTime(delay, unit));
     return future;
   }
 
@@ -465,9 +449,21 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    */
   @Override
   public void shutdown() {
+    cancelDelayedTasks();
     executorService.shutdown();
   }
 
+  // Stops the timer wheel and cancels the delayed tasks which were waiting on it, returning those tasks.
+  private List<Runnable> cancelDelayedTasks() {
+    final List<Runnable> tasks = timerWheel.stop();
+    for (Runnable task : tasks) {
+      if (task instanceof ScheduledTask scheduledTask) {
+        scheduledTask.future().cancel(false);
+      }
+    }
+    return tasks;
+  }
+
   /**
    * Attempts to stop all actively executing tasks, halts the
    * processing of waiting tasks, and returns a list of the tasks
@@ -494,7 +490,9 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   @NotNull
   @Override
   public List<Runnable> shutdownNow() {
-    return executorService.shutdownNow();
+    final List<Runnable> tasks = new ArrayList<>(cancelDelayedTasks());
+    tasks.addAll(executorService.shutdownNow());
+    return tasks;
   }
 
   /**
@@ -733,6 +731,7 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
    */
   @Override
   public void close() {
+    cancelDelayedTasks();
     executorService.close();
   }
 
@@ -750,4 +749,16 @@ public class VirtualScheduledExecutorService implements ScheduledExecutorService
   public void execute(@NotNull Runnable command) {
     executorService.execute(command);
   }
+
+  /**
+   * A task waiting on the timer wheel, which runs the body of a delayed or periodic task on behalf of its future.
+   * @param future the future of the task
+   * @param body the code to run when the task is due
+   */
+  private record ScheduledTask(MyScheduledFuture<?> future, Runnable body) implements Runnable {
+    @Override
+    public void run() {
+      body.run();
+    }
+  }
 }
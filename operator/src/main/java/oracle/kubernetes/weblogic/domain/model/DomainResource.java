@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -143,6 +144,10 @@ public class DomainResource implements KubernetesObject, RetryMessageFactory {
   @Description("The current status of the operation of the WebLogic domain. Updated automatically by the operator.")
   private DomainStatus status;
 
+  // internal: the effective configurations of the servers, each computed once for a domain generation, cluster spec
+  // and replica count. Transient and volatile so that it is neither serialized nor included in the json schema.
+  private transient volatile Map<String, CachedServerSpec> serverSpecs = new ConcurrentHashMap<>();
+
   @SuppressWarnings({"rawtypes"})
   static List sortList(List list) {
     return sortList(list, null);
@@ -354,6 +359,7 @@ public class DomainResource implements KubernetesObject, RetryMessageFactory {
    */
   public void setSpec(@Nonnull DomainSpec spec) {
     this.spec = spec;
+    serverSpecs.clear();
   }
 
   /**
@@ -363,7 +369,7 @@ public class DomainResource implements KubernetesObject, RetryMessageFactory {
    * @return this
    */
   public DomainResource withSpec(DomainSpec spec) {
-    this.spec = spec;
+    setSpec(spec);
     return this;
   }
 
@@ -969,6 +975,32 @@ public class DomainResource implements KubernetesObject, RetryMessageFactory {
     return new DomainValidator().getValidationFailures(kubernetesResources);
   }
 
+  /**
+   * Returns the names of the secrets in the domain namespace which this domain references,
+   * and whose presence is therefore checked by validation.
+   */
+  public Set<String> getReferencedSecretNames() {
+    final Set<String> names = new HashSet<>(getConfigOverrideSecrets());
+    names.add(getWebLogicCredentialsSecretName());
+    names.add(getOpssWalletPasswordSecret());
+    names.add(getOpssWalletFileSecret());
+    names.add(getRuntimeEncryptionSecret());
+    names.remove(null);
+    return names;
+  }
+
+  /**
+   * Returns the names of the config maps in the domain namespace which this domain references,
+   * and whose presence is therefore checked by validation.
+   */
+  public Set<String> getReferencedConfigMapNames() {
+    final Set<String> names = new HashSet<>();
+    names.add(getWdtConfigMap());
+    names.add(getDomainCreationConfigMap());
+    names.remove(null);
+    return names;
+  }
+
   public List<String> getAdditionalValidationFailures(V1PodSpec podSpec) {
     return new DomainValidator().getAdditionalValidationFailures(podSpec);
   }
@@ -1000,7 +1032,21 @@ public class DomainResource implements KubernetesObject, RetryMessageFactory {
     @Override
     public EffectiveServerSpec getServer(
         String serverName, String clusterName, ClusterSpec clusterSpec) {
-      return getEffectiveConfigurationFactory().getServerSpec(serverName, clusterName, clusterSpec);
+      if (serverName == null) {
+        return getEffectiveConfigurationFactory().getServerSpec(serverName, clusterName, clusterSpec);
+      }
+
+      final CachedServerSpec key = new CachedServerSpec(
+            getGeneration().orElse(null), clusterName, clusterSpec, getReplicaCount(clusterSpec), null);
+      final CachedServerSpec cached = serverSpecs.get(serverName);
+      if (cached != null && cached.matches(key)) {
+        return cached.serverSpec();
+      }
+
+      final EffectiveServerSpec serverSpec
+            = getEffectiveConfigurationFactory().getServerSpec(serverName, clusterName, clusterSpec);
+      serverSpecs.put(serverName, key.withServerSpec(serverSpec));
+      return serverSpec;
     }
 
     @Override
@@ -1748,4 +1794,22 @@ public class DomainResource implements KubernetesObject, RetryMessageFactory {
       return index == -1 ? "" : path.substring(0, index);
     }
   }
+
+  // An effective server configuration, along with the inputs from which it was computed. A changed cluster resource
+  // is always a new object, so its spec is compared by identity, while the replica count reflects any scaling.
+  private record CachedServerSpec(
+        Long domainGeneration, String clusterName, ClusterSpec clusterSpec, int replicas,
+        EffectiveServerSpec serverSpec) {
+
+    CachedServerSpec withServerSpec(EffectiveServerSpec serverSpec) {
+      return new CachedServerSpec(domainGeneration, clusterName, clusterSpec, replicas, serverSpec);
+    }
+
+    boolean matches(CachedServerSpec other) {
+      return Objects.equals(domainGeneration, other.domainGeneration)
+            && Objects.equals(clusterName, other.clusterName)
+            && clusterSpec == other.clusterSpec
+            && replicas == other.replicas;
+    }
+  }
 }
@@ -543,7 +543,7 @@ restorePrimordialDomain() {
 restoreIntrospectorPrimordialDomain() {
   cd / || return 1
   cat $(ls /weblogic-operator/introspectormii*/primordial_domainzip.secure | sort -t- -k3) > /tmp/domain.secure || return 1
-  base64 -d "/tmp/domain.secure" > $LOCAL_PRIM_DOMAIN_ZIP || return 1
+  decodeArchive "/tmp/domain.secure" $LOCAL_PRIM_DOMAIN_ZIP || return 1
   tar -pxzf $LOCAL_PRIM_DOMAIN_ZIP || return 1
 }
 
@@ -553,11 +553,24 @@ restoreIntrospectorPrimordialDomain() {
 restoreEncodedTar() {
   cd / || return 1
   cat $(ls ${OPERATOR_ROOT}/introspector*/${1} | sort -t- -k3) > /tmp/domain.secure || return 1
-  base64 -d "/tmp/domain.secure" > /tmp/domain.tar.gz || return 1
+  decodeArchive "/tmp/domain.secure" /tmp/domain.tar.gz || return 1
 
   tar -pxzf /tmp/domain.tar.gz || return 1
 }
 
+# Writes a compressed archive stored in one or more config maps. The operator stores it either as base 64 encoded
+# text or, when configured to use config map binary data, as the gzipped archive itself, recognized by its first byte.
+# args:
+# $1 the file containing the contents of the archive entries from the config maps
+# $2 the file to which the compressed archive should be written
+decodeArchive() {
+  if [ "$(head -c 1 "${1}")" = "$(printf '\037')" ] ; then
+    cp "${1}" "${2}"
+  else
+    base64 -d "${1}" > "${2}"
+  fi
+}
+
 # This is before WDT compareModel implementation
 #
 diff_model_v1() {
@@ -811,11 +824,11 @@ checkSecureModeForUpgrade() {
     if versionGE "${cur_wl_ver}" "${exp_wl_ver}" ; then
       trace "Checking if upgrade to 14.1.2.0 or higher needs model patch"
       mkdir /tmp/miiupgdomain
-      cd /tmp/miiupgdomain && base64 -d ${PRIMORDIAL_DOMAIN_ZIPPED} > ${LOCAL_PRIM_DOMAIN_ZIP}.tmp && tar -pxzf ${LOCAL_PRIM_DOMAIN_ZIP}.tmp
+      cd /tmp/miiupgdomain && decodeArchive ${PRIMORDIAL_DOMAIN_ZIPPED} ${LOCAL_PRIM_DOMAIN_ZIP}.tmp && tar -pxzf ${LOCAL_PRIM_DOMAIN_ZIP}.tmp
       createFolder "/tmp/miiupgdomain${DOMAIN_HOME}/lib" "This is the './lib' directory within directory 'domain.spec.domainHome'." || exitOrLoop
       local MII_PASSPHRASE=$(cat ${RUNTIME_ENCRYPTION_SECRET_PASSWORD})
       encrypt_decrypt_domain_secret "decrypt" /tmp/miiupgdomain${DOMAIN_HOME} ${MII_PASSPHRASE}
-      cd /tmp/miiupgdomain && base64 -d ${WLSDOMAIN_CONFIG_ZIPPED} > ${LOCAL_WLSDOMAIN_CONFIG_ZIP}.tmp && tar -pxzf ${LOCAL_WLSDOMAIN_CONFIG_ZIP}.tmp
+      cd /tmp/miiupgdomain && decodeArchive ${WLSDOMAIN_CONFIG_ZIPPED} ${LOCAL_WLSDOMAIN_CONFIG_ZIP}.tmp && tar -pxzf ${LOCAL_WLSDOMAIN_CONFIG_ZIP}.tmp
       # reading existing domain to determine what the secure mode should be whether it is set or by default.
       # a file is written to a /tmp/mii_domain_upgrade.txt containing the status of SecureModeEnabled.
       ${SCRIPTPATH}/wlst.sh ${SCRIPTPATH}/mii-domain-upgrade.py /tmp/miiupgdomain$DOMAIN_HOME || exitOrLoop
@@ -0,0 +1,25 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Runs the status update tests with each status update written through the status write coalescer.
+ */
+class CoalescedDomainStatusUpdaterTest extends DomainStatusUpdateTestBase {
+
+  @BeforeEach
+  void enableCoalescing() {
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_COALESCING_WINDOW_MILLIS, "1");
+  }
+
+  @Override
+  void processTopology(WlsDomainConfig domainConfig) {
+    initializeDomainStatus(domainConfig);
+  }
+}
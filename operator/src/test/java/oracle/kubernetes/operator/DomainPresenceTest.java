@@ -767,6 +767,11 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
         return this;
       }
 
+      @Override
+      public MakeRightDomainOperation inBackground() {
+        return this;
+      }
+
       @Override
       public MakeRightDomainOperation forDeletion() {
         deleting = true;
@@ -70,6 +70,7 @@ import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.UnitTestHash;
 import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
 import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.http.rest.ScanCacheStub;
@@ -372,6 +373,12 @@ class DomainProcessorTest {
     return Optional.of(domain).map(DomainResource::getMetadata).map(V1ObjectMeta::getResourceVersion).orElse("");
   }
 
+  // Changes the spec as a user would, so that the domain is given a new generation.
+  private void changeDefaultServerStartPolicyToNever() {
+    domainConfigurator.withDefaultServerStartPolicy(ServerStartPolicy.NEVER);
+    newDomain.getMetadata().generation(getGeneration(newDomain) + 1);
+  }
+
   private Long getGeneration(KubernetesObject resource) {
     return Optional.ofNullable(resource).map(KubernetesObject::getMetadata).map(V1ObjectMeta::getGeneration).orElse(0L);
   }
@@ -435,6 +442,16 @@ class DomainProcessorTest {
     assertThat(logRecords, not(containsFine(NOT_STARTING_DOMAINUID_THREAD)));
   }
 
+  @Test
+  void whenMakeRightCompletes_recordSuccessfulMakeRight() {
+    final double count = OperatorMetrics.getMakeRightCount(NS, UID, "success");
+    processor.registerDomainPresenceInfo(originalInfo);
+
+    processor.createMakeRightOperation(newInfo).execute();
+
+    assertThat(OperatorMetrics.getMakeRightCount(NS, UID, "success"), equalTo(count + 1));
+  }
+
   @Test
   void whenDomainChangedSpecWithForDeletion_dontGenerateDomainChangedEvent() {
     processor.registerDomainPresenceInfo(originalInfo);
@@ -707,7 +724,7 @@ class DomainProcessorTest {
 
     processor.createMakeRightOperation(newInfo).execute();
 
-    domainConfigurator.withDefaultServerStartPolicy(ServerStartPolicy.NEVER);
+    changeDefaultServerStartPolicyToNever();
     processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
 
     DomainResource updatedDomain = testSupport.getResourceWithName(DOMAIN, UID);
@@ -728,7 +745,7 @@ class DomainProcessorTest {
 
     processor.createMakeRightOperation(newInfo).execute();
 
-    domainConfigurator.withDefaultServerStartPolicy(ServerStartPolicy.NEVER);
+    changeDefaultServerStartPolicyToNever();
     DomainStatus status = newInfo.getDomain().getStatus();
     defineServerShutdownWithHttpOkResponse();
     setAdminServerStatus(status, SUSPENDING_STATE);
@@ -815,7 +832,7 @@ class DomainProcessorTest {
     newInfo.getReferencedClusters().forEach(testSupport::defineResources);
 
     processor.createMakeRightOperation(newInfo).execute();
-    domainConfigurator.withDefaultServerStartPolicy(ServerStartPolicy.NEVER);
+    changeDefaultServerStartPolicyToNever();
 
     processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute();
 
@@ -218,6 +218,12 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
   }
 
+  // Changes the spec as a user would, so that the domain is given a new generation.
+  private void setMaxReadyWaitTimeSeconds(long waitTime) {
+    domain.getSpec().setMaxReadyWaitTimeSeconds(waitTime);
+    domain.getMetadata().setGeneration(domain.getMetadata().getGeneration() + 1);
+  }
+
   private void updateDomainStatusInEndOfProcessing() {
     testSupport.runSteps(DomainStatusUpdater.createLastStatusUpdateStep(endStep));
   }
@@ -898,7 +904,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     SystemClockTestSupport.increment();
@@ -909,7 +915,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -921,7 +927,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     markPodRunningPhaseFalse("server2");
 
     SystemClockTestSupport.increment();
@@ -932,7 +938,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     markPodRunningPhaseFalse("server2");
@@ -944,7 +950,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -953,7 +959,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    setMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -963,7 +969,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -974,7 +980,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -987,7 +993,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_serverStatusPodReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -999,7 +1005,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    setMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -1951,6 +1957,11 @@ abstract class DomainStatusUpdateTestBase {
         return null;
       }
 
+      @Override
+      public MakeRightDomainOperation inBackground() {
+        return null;
+      }
+
       @Override
       public boolean hasEventData() {
         return false;
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -11,14 +12,18 @@ import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.RetryStrategyStub;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.utils.SystemClock;
@@ -27,10 +32,12 @@ import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.common.logging.MessageKeys.ABORTED_EVENT_ERROR;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_FATAL_ERROR;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_ROLL_START;
@@ -44,8 +51,11 @@ import static oracle.kubernetes.operator.EventConstants.DOMAIN_FAILED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_ROLL_STARTING_EVENT;
 import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_INTROSPECTOR_ERROR;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.weblogic.domain.model.DomainCondition.TRUE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
@@ -56,7 +66,9 @@ import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERN
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 /**
@@ -268,6 +280,106 @@ class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain().getOrCreateStatus().getFailedIntrospectionUid(), equalTo(JOB_UID));
   }
 
+  @Test
+  void whenJsonPatchEnabled_updateStatusWithPatch() {
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_JSON_PATCH, "true");
+    final double replaceBytes = OperatorMetrics.getStatusUpdateBytes(DomainStatusUpdater.REPLACE_METHOD);
+    final double patchBytes = OperatorMetrics.getStatusUpdateBytes(DomainStatusUpdater.PATCH_METHOD);
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(OperatorMetrics.getStatusUpdateBytes(DomainStatusUpdater.REPLACE_METHOD), equalTo(replaceBytes));
+    assertThat(OperatorMetrics.getStatusUpdateBytes(DomainStatusUpdater.PATCH_METHOD), greaterThan(patchBytes));
+  }
+
+  @Test
+  void whenStatusUpdated_recordWrite() {
+    final double writes = OperatorMetrics.getStatusUpdateWrites(DomainStatusUpdater.REPLACE_METHOD);
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(OperatorMetrics.getStatusUpdateWrites(DomainStatusUpdater.REPLACE_METHOD), equalTo(writes + 1));
+  }
+
+  @Test
+  void whenStatusUpdateStepsNotRun_dontRecordWrite() {
+    final double writes = OperatorMetrics.getStatusUpdateWrites(DomainStatusUpdater.REPLACE_METHOD);
+
+    ((DomainStatusUpdater.DomainStatusUpdaterStep) DomainStatusUpdater.createStartRollStep())
+        .createContext(testSupport.getPacket()).createUpdateSteps(null);
+
+    assertThat(OperatorMetrics.getStatusUpdateWrites(DomainStatusUpdater.REPLACE_METHOD), equalTo(writes));
+  }
+
+  @Test
+  void whenStatusUpdateRetried_recordRetryAndRequestTimes() {
+    final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
+    retryStrategy.setNumRetriesLeft(1);
+    testSupport.addRetryStrategy(retryStrategy);
+    testSupport.failOnReplaceStatus(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_UNAVAILABLE);
+    final double retries = OperatorMetrics.getRequestRetries("domain", "updateStatus");
+    final double requests = OperatorMetrics.getRequestCount("domain", "updateStatus");
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(OperatorMetrics.getRequestRetries("domain", "updateStatus"), equalTo(retries + 1));
+    assertThat(OperatorMetrics.getRequestCount("domain", "updateStatus"), equalTo(requests + 2));
+  }
+
+  @Test
+  void whenJsonPatchEnabled_patchIsSmallerThanReplacement() {
+    for (int i = 0; i < 50; i++) {
+      domain.getStatus().addServer(new ServerStatus().withServerName("ms" + i).withState(RUNNING_STATE));
+    }
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+    final double statusSize = new JSON().serialize(domain.getStatus()).getBytes(StandardCharsets.UTF_8).length;
+    domain.getStatus().removeConditionsWithType(ROLLING);
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_JSON_PATCH, "true");
+    final double patchSize = getBytesSentToStartRoll(DomainStatusUpdater.PATCH_METHOD);
+
+    assertThat(patchSize * 10, lessThan(statusSize));
+  }
+
+  private double getBytesSentToStartRoll(String method) {
+    final double initialBytes = OperatorMetrics.getStatusUpdateBytes(method);
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+    return OperatorMetrics.getStatusUpdateBytes(method) - initialBytes;
+  }
+
+  @Test
+  void whenJsonPatchEnabledAndDomainModified_recordConflictAndRetry() {
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_JSON_PATCH, "true");
+    info.setDomain(createStaleCopy(domain));
+    final double conflicts = OperatorMetrics.getStatusUpdateConflicts();
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(OperatorMetrics.getStatusUpdateConflicts(), equalTo(conflicts + 1));
+  }
+
+  private DomainResource createStaleCopy(DomainResource domain) {
+    final JSON json = new JSON();
+    DomainResource copy = json.deserialize(json.serialize(domain), DomainResource.class);
+    copy.getMetadata().setResourceVersion("0");
+    return copy;
+  }
+
+  @Test
+  void whenJsonPatchCannotBeApplied_replaceStatus() {
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_JSON_PATCH, "true");
+    testSupport.failOnReplaceStatus(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_UNPROCESSABLE_ENTITY);
+    final double replaceWrites = OperatorMetrics.getStatusUpdateWrites(DomainStatusUpdater.REPLACE_METHOD);
+
+    testSupport.runSteps(DomainStatusUpdater.createStartRollStep());
+
+    assertThat(getRecordedDomain().getStatus().isRolling(), is(true));
+    assertThat(OperatorMetrics.getStatusUpdateWrites(DomainStatusUpdater.REPLACE_METHOD), greaterThan(replaceWrites));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private V1Job createIntrospectorJob(String uid) {
     return new V1Job().metadata(createJobMetadata(uid)).status(new V1JobStatus());
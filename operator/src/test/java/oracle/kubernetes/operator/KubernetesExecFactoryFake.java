@@ -1,4 +1,4 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -22,6 +22,7 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 class KubernetesExecFactoryFake implements KubernetesExecFactory {
   private final Map<String, String> responses = new HashMap<>();
   private final Map<String, Integer> exitCodes = new HashMap<>();
+  private int numExecs;
 
   @Nonnull
   public Memento install() throws NoSuchFieldException {
@@ -37,11 +38,19 @@ class KubernetesExecFactoryFake implements KubernetesExecFactory {
     exitCodes.put(LegalNames.toPodName(UID, serverName), exitCode);
   }
 
+  /**
+   * Returns the number of commands executed in pods, each of which would require a request to the API server.
+   */
+  int getNumExecs() {
+    return numExecs;
+  }
+
   @Override
   public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
     return new KubernetesExec() {
       @Override
       public Process exec(String... command) {
+        numExecs++;
         return createStub(ServerStatusReaderTest.ProcessStub.class, getResponse(pod.getMetadata().getName()),
             getExitCode(pod.getMetadata().getName()));
       }
@@ -10,6 +10,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import javax.annotation.Nonnull;
@@ -19,6 +20,7 @@ import com.meterware.simplestub.Stub;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.HelmAccessStub;
@@ -28,7 +30,9 @@ import oracle.kubernetes.operator.helpers.OnConflictRetryStrategyStub;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.AfterEach;
@@ -46,10 +50,13 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.NAMESPACE
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 import static oracle.kubernetes.operator.helpers.HelmAccess.OPERATOR_DOMAIN_NAMESPACES;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.tuning.TuningParameters.SHARED_INFORMER_CACHE;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class NamespaceTest {
@@ -188,6 +195,143 @@ public class NamespaceTest {
     assertThat(domainNamespaces.getNamespaces(), not(contains(NS)));
   }
 
+  @Test
+  void whenSharedInformersDisabled_startDomainWatcherInNamespace() {
+    initializeNamespaces();
+
+    assertThat(domainNamespaces.getDomainWatcher(NS), notNullValue());
+  }
+
+  @Test
+  void whenSharedInformersEnabled_doNotStartDomainWatcherInNamespace() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    startSharedInformers();
+
+    initializeNamespaces();
+
+    assertThat(domainNamespaces.getDomainWatcher(NS), nullValue());
+  }
+
+  @Test
+  void whenSharedInformersEnabled_cacheDomainsFromAllNamespaces() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    defineNamespaces(NS, ADDITIONAL_NS1);
+
+    startSharedInformers();
+
+    assertThat(getSharedInformers().domains.getCache().get(ADDITIONAL_NS1, createUid(ADDITIONAL_NS1)),
+        notNullValue());
+  }
+
+  @Test
+  void whenSharedInformerMayNotListDomains_informerIsNotActive() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    testSupport.failOnList(DOMAIN, null, HTTP_FORBIDDEN);
+
+    startSharedInformers();
+
+    assertThat(getSharedInformers().domains.isActive(), is(false));
+  }
+
+  @Test
+  void afterSharedInformerRelist_cacheContainsCurrentDomains() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    defineNamespaces(NS);
+    startSharedInformers();
+    defineNamespaces(ADDITIONAL_NS1);
+
+    getSharedInformers().domains.relist();
+
+    assertThat(getSharedInformers().domains.getCache().get(ADDITIONAL_NS1, createUid(ADDITIONAL_NS1)),
+        notNullValue());
+  }
+
+  @Test
+  void afterSharedInformerRelist_dispatchDifferencesInManagedNamespacesAsEvents() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    initializeNamespaces();
+    startSharedInformers();
+    testSupport.deleteResources(createDomain(NS), createDomain(ADDITIONAL_NS1), createDomain(ADDITIONAL_NS2));
+    testSupport.defineResources(
+        createNamedDomain(ADDITIONAL_NS1, "added1"),
+        createNamedDomain(ADDITIONAL_NS2, "added2"),
+        createDomain(ADDITIONAL_NS2).withMetadata(
+            new V1ObjectMeta().namespace(ADDITIONAL_NS2).name(createUid(ADDITIONAL_NS2)).resourceVersion("2")));
+
+    getSharedInformers().domains.relist();
+
+    assertThat(dp.getDomainWatchEvents(),
+        containsInAnyOrder("DELETED " + createUid(NS), "ADDED added2", "MODIFIED " + createUid(ADDITIONAL_NS2)));
+  }
+
+  private DomainResource createNamedDomain(String ns, String name) {
+    return new DomainResource().withMetadata(new V1ObjectMeta().namespace(ns).name(name));
+  }
+
+  @Test
+  void whenSharedInformerBecomesActive_stopDomainWatcherStartedEarlier() {
+    initializeNamespaces();
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+
+    startSharedInformers();
+
+    assertThat(domainNamespaces.getDomainWatcher(NS), nullValue());
+    assertThat(domainNamespaces.isManagedNamespace(NS), is(true));
+  }
+
+  @Test
+  void whenSharedInformerRelistFails_informerIsNotActive() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    startSharedInformers();
+    testSupport.failOnList(DOMAIN, null, HTTP_FORBIDDEN);
+
+    getSharedInformers().domains.relist();
+
+    assertThat(getSharedInformers().domains.isActive(), is(false));
+  }
+
+  @Test
+  void whenSharedInformerInvalidatedAfterListStepsCreated_listDomainsFromKubernetes() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    defineNamespaces(NS);
+    startSharedInformers();
+    final List<String> domainNames = new ArrayList<>();
+    final Step listSteps = createDomainListSteps(domainNames);
+
+    getSharedInformers().domains.getCache().invalidate();
+    testSupport.defineResources(createDomain(NS).withMetadata(new V1ObjectMeta().namespace(NS).name("added")));
+    testSupport.runSteps(listSteps);
+
+    assertThat(domainNames, containsInAnyOrder(createUid(NS), "added"));
+  }
+
+  private Step createDomainListSteps(List<String> domainNames) {
+    final NamespacedResources resources = new NamespacedResources(NS, null, domainNamespaces);
+    resources.addProcessing(new Processors() {
+      @Override
+      public Consumer<DomainList> getDomainListProcessing() {
+        return l -> l.getItems().forEach(d -> domainNames.add(d.getMetadata().getName()));
+      }
+    });
+    return resources.createListSteps();
+  }
+
+  @Test
+  void whenSharedInformersEnabled_startThemOnlyOnce() {
+    TuningParametersStub.setParameter(SHARED_INFORMER_CACHE, "true");
+    startSharedInformers();
+
+    assertThat(domainNamespaces.createSharedInformerStartupSteps(dp), nullValue());
+  }
+
+  private void startSharedInformers() {
+    testSupport.runSteps(domainNamespaces.createSharedInformerStartupSteps(dp));
+  }
+
+  private SharedInformers getSharedInformers() {
+    return domainNamespaces.getSharedInformers();
+  }
+
   @Test
   void whenStartNamespaceBeforeStepRunHit403OnEventCreation_namespaceStartingFlagCleared() {
     String namespace = "TEST_NAMESPACE_1";
@@ -252,6 +396,16 @@ public class NamespaceTest {
   }
 
   abstract static class DomainProcessorStub implements DomainProcessor {
+    private final List<String> domainWatchEvents = new ArrayList<>();
+
+    List<String> getDomainWatchEvents() {
+      return domainWatchEvents;
+    }
+
+    @Override
+    public void dispatchDomainWatch(Watch.Response<DomainResource> item) {
+      domainWatchEvents.add(item.type + " " + item.object.getMetadata().getName());
+    }
   }
 
   abstract static class MainDelegateStub implements MainDelegate {
@@ -0,0 +1,25 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Runs the status update tests with status changes sent as JSON patches rather than as replacements.
+ */
+class PatchedDomainStatusUpdaterTest extends DomainStatusUpdateTestBase {
+
+  @BeforeEach
+  void enableJsonPatch() {
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_JSON_PATCH, "true");
+  }
+
+  @Override
+  void processTopology(WlsDomainConfig domainConfig) {
+    initializeDomainStatus(domainConfig);
+  }
+}
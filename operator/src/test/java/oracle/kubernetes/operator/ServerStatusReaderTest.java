@@ -22,9 +22,15 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.client.HttpResponseStub;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -37,12 +43,18 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.WebLogicConstants.ADMIN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
+import static oracle.kubernetes.operator.helpers.SecretHelper.PASSWORD_KEY;
+import static oracle.kubernetes.operator.helpers.SecretHelper.USERNAME_KEY;
+import static oracle.kubernetes.operator.http.client.HttpAsyncTestSupport.createExpectedRequest;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
@@ -50,10 +62,12 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class ServerStatusReaderTest extends HttpUserAgentTest {
   private static final String NS = "namespace";
+  private static final int NUM_SERVERS_IN_LARGE_DOMAIN = 50;
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
   private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final HttpAsyncTestSupport httpSupport = new HttpAsyncTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final DomainResource domain =
       new DomainResource().withMetadata(new V1ObjectMeta().namespace(NS)).withSpec(new DomainSpec());
@@ -65,6 +79,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(execFactory.install());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "stepFactory", stepFactory));
     mementos.add(TuningParametersStub.install());
+    mementos.add(httpSupport.install());
 
     testSupport.addDomainPresenceInfo(info);
   }
@@ -217,6 +232,123 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  void whenAggregateServerHealthEnabled_readDomainHealthBeforeServerHealth() throws NoSuchFieldException {
+    final ReadDomainHealthStepFactoryFake domainHealthStepFactory = new ReadDomainHealthStepFactoryFake();
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "domainHealthStepFactory",
+        domainHealthStepFactory));
+    TuningParametersStub.setParameter(TuningParameters.AGGREGATE_SERVER_HEALTH, "true");
+    info.setServerPod("server1", createPod("server1"));
+    setReadyStatus(info.getServerPod("server1"));
+    execFactory.defineResponse("server1", "RUNNING");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(domainHealthStepFactory.invoked, is(true));
+    assertThat(stepFactory.serverNames, contains("server1"));
+  }
+
+  @Test
+  void whenAggregateServerHealthDisabled_dontReadDomainHealth() throws NoSuchFieldException {
+    final ReadDomainHealthStepFactoryFake domainHealthStepFactory = new ReadDomainHealthStepFactoryFake();
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "domainHealthStepFactory",
+        domainHealthStepFactory));
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(domainHealthStepFactory.invoked, is(false));
+  }
+
+  @Test
+  void whenHttpStateProbeEnabledAndServerResponds_recordStateWithoutExec() {
+    defineNotReadyServers(1);
+    TuningParametersStub.setParameter(TuningParameters.HTTP_SERVER_STATE_PROBE, "true");
+    defineStateResponse(1, 200, "{\"state\": \"ADMIN\"}");
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", ADMIN_STATE));
+    assertThat(execFactory.getNumExecs(), is(0));
+  }
+
+  @Test
+  void whenHttpStateProbeEnabledAndServerDoesNotRespond_readStateWithExec() {
+    defineNotReadyServers(1);
+    TuningParametersStub.setParameter(TuningParameters.HTTP_SERVER_STATE_PROBE, "true");
+    defineStateResponse(1, 503, null);
+    execFactory.defineResponse("server1", STARTING_STATE);
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", STARTING_STATE));
+    assertThat(execFactory.getNumExecs(), is(1));
+  }
+
+  @Test
+  void whenHttpStateProbeDisabled_readStateOfEachNotReadyServerWithExec() {
+    defineNotReadyServers(NUM_SERVERS_IN_LARGE_DOMAIN);
+    for (int i = 1; i <= NUM_SERVERS_IN_LARGE_DOMAIN; i++) {
+      defineStateResponse(i, 200, "{\"state\": \"ADMIN\"}");
+      execFactory.defineResponse("server" + i, ADMIN_STATE);
+    }
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet).size(), is(NUM_SERVERS_IN_LARGE_DOMAIN));
+    assertThat(execFactory.getNumExecs(), is(NUM_SERVERS_IN_LARGE_DOMAIN));
+    assertThat(httpSupport.getHandledRequests().size(), is(0));
+  }
+
+  @Test
+  void whenHttpStateProbeEnabled_readStateOfEachNotReadyServerWithoutExec() {
+    defineNotReadyServers(NUM_SERVERS_IN_LARGE_DOMAIN);
+    TuningParametersStub.setParameter(TuningParameters.HTTP_SERVER_STATE_PROBE, "true");
+    for (int i = 1; i <= NUM_SERVERS_IN_LARGE_DOMAIN; i++) {
+      defineStateResponse(i, 200, "{\"state\": \"ADMIN\"}");
+      execFactory.defineResponse("server" + i, ADMIN_STATE);
+    }
+
+    Packet packet = testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet).size(), is(NUM_SERVERS_IN_LARGE_DOMAIN));
+    assertThat(execFactory.getNumExecs(), is(0));
+    assertThat(httpSupport.getHandledRequests().size(), is(NUM_SERVERS_IN_LARGE_DOMAIN));
+  }
+
+  private void defineNotReadyServers(int numServers) {
+    WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("domain");
+    for (int i = 1; i <= numServers; i++) {
+      String serverName = "server" + i;
+      configSupport.withWlsServer(serverName, getListenPort(i));
+      info.setServerPod(serverName, createPod(serverName));
+      info.setServerService(serverName,
+          new V1Service().metadata(new V1ObjectMeta().namespace(NS).name(serverName)));
+    }
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, configSupport.createDomainConfig());
+    info.setWebLogicCredentialsSecret(new V1Secret()
+        .data(Map.of(USERNAME_KEY, "user".getBytes(), PASSWORD_KEY, "password".getBytes())));
+  }
+
+  private int getListenPort(int serverNum) {
+    return 8000 + serverNum;
+  }
+
+  private void defineStateResponse(int serverNum, int status, String body) {
+    httpSupport.defineResponse(
+        createExpectedRequest("http://server" + serverNum + "." + NS + ".svc:" + getListenPort(serverNum)),
+        createStub(HttpResponseStub.class, status, body));
+  }
+
+  static class ReadDomainHealthStepFactoryFake implements Function<Step, Step> {
+    boolean invoked;
+
+    @Override
+    public Step apply(Step next) {
+      invoked = true;
+      return next;
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
 
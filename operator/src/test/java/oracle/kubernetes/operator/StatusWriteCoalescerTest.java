@@ -0,0 +1,253 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.JSON;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class StatusWriteCoalescerTest {
+
+  private static final String WINDOW_MILLIS = "500";
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+  private final Map<String, Map<String, Object>> pendingWrites = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(StatusWriteCoalescer.class, "pendingWrites", pendingWrites));
+
+    domain.setStatus(new DomainStatus());
+    testSupport.defineResources(domain);
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_COALESCING_WINDOW_MILLIS, WINDOW_MILLIS);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    executor.shutdownNow();
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  void whenUpdatesMadeWithinWindow_writeStatusOnce() throws InterruptedException {
+    final double writesAvoided = OperatorMetrics.getStatusWritesAvoided();
+
+    runConcurrentUpdates(new SetMessageStep("first"), new AddServerStep("ms1"));
+
+    assertThat(getRecordedDomain().getMetadata().getResourceVersion(), equalTo("2"));
+    assertThat(OperatorMetrics.getStatusWritesAvoided(), equalTo(writesAvoided + 1));
+  }
+
+  @Test
+  void whenUpdatesMadeWithinWindow_writeAllChanges() throws InterruptedException {
+    runConcurrentUpdates(new SetMessageStep("first"), new AddServerStep("ms1"));
+
+    assertThat(getRecordedDomain().getStatus().getMessage(), equalTo("first"));
+    assertThat(getRecordedServerNames(), contains("ms1"));
+  }
+
+  @Test
+  void whenLaterUpdateRevisesPendingChange_writeLaterValue() throws InterruptedException {
+    runConcurrentUpdates(new SetMessageStep("first"), new SetMessageStep("second"));
+
+    assertThat(getRecordedDomain().getStatus().getMessage(), equalTo("second"));
+  }
+
+  @Test
+  void whenLaterUpdateMadeWhileWritePending_computeFromPendingStatus() throws InterruptedException {
+    final AddServerStep secondUpdate = new AddServerStep("ms2");
+
+    runConcurrentUpdates(new AddServerStep("ms1"), secondUpdate);
+
+    assertThat(secondUpdate.initialServerCount, equalTo(1));
+    assertThat(getRecordedServerNames(), contains("ms1", "ms2"));
+  }
+
+  @Test
+  void afterWrite_noWriteIsPending() throws InterruptedException {
+    runConcurrentUpdates(new SetMessageStep("first"), new AddServerStep("ms1"));
+
+    assertThat(isPending(), is(false));
+  }
+
+  @Test
+  void whenWriteConflicts_recomputeStatusFromDomainAsRead() throws InterruptedException {
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_JSON_PATCH, "true");
+    info.setDomain(createStaleCopy(domain));
+    domain.getStatus().setMessage("other writer");
+
+    runConcurrentUpdates(new AddServerStep("ms1"), new AddServerStep("ms2"));
+
+    assertThat(getRecordedDomain().getStatus().getMessage(), equalTo("other writer"));
+    assertThat(getRecordedServerNames(), contains("ms1", "ms2"));
+  }
+
+  private DomainResource createStaleCopy(DomainResource domain) {
+    final JSON json = new JSON();
+    DomainResource copy = json.deserialize(json.serialize(domain), DomainResource.class);
+    copy.getMetadata().setResourceVersion("0");
+    return copy;
+  }
+
+  @Test
+  void whenFirstUpdateCancelledWhileWritePending_laterUpdateWritesMergedChanges() throws InterruptedException {
+    final CountDownLatch completed = new CountDownLatch(1);
+    final Fiber first = startFiber(new SetMessageStep("first"), new CountDownLatch(1));
+    awaitPendingWrite();
+    first.cancel();
+
+    startFiber(new AddServerStep("ms1"), completed);
+
+    assertThat(completed.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(getRecordedDomain().getStatus().getMessage(), equalTo("first"));
+    assertThat(getRecordedServerNames(), contains("ms1"));
+    assertThat(isPending(), is(false));
+  }
+
+  @Test
+  void afterDomainForgotten_noWriteIsPending() throws InterruptedException {
+    startFiber(new SetMessageStep("first"), new CountDownLatch(1));
+    awaitPendingWrite();
+
+    StatusWriteCoalescer.forget(NS, UID);
+
+    assertThat(isPending(), is(false));
+  }
+
+  @Test
+  void whenWindowIsZero_coalescingIsDisabled() {
+    TuningParametersStub.setParameter(TuningParameters.STATUS_UPDATE_COALESCING_WINDOW_MILLIS, "0");
+
+    assertThat(StatusWriteCoalescer.isEnabled(), is(false));
+  }
+
+  // Starts the first update, and then the second while the first is waiting for its window to close.
+  private void runConcurrentUpdates(Step firstUpdate, Step secondUpdate) throws InterruptedException {
+    final CountDownLatch completed = new CountDownLatch(2);
+    startFiber(firstUpdate, completed);
+    awaitPendingWrite();
+    startFiber(secondUpdate, completed);
+
+    assertThat(completed.await(10, TimeUnit.SECONDS), is(true));
+  }
+
+  private Fiber startFiber(Step step, CountDownLatch completed) {
+    final Packet packet = new Packet();
+    packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
+    final Fiber fiber = new Fiber(executor, step, packet, new CompletionCallbackImpl(completed));
+    fiber.start();
+    return fiber;
+  }
+
+  private void awaitPendingWrite() throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + Long.parseLong(WINDOW_MILLIS);
+    while (!isPending() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(isPending(), is(true));
+  }
+
+  private boolean isPending() {
+    return pendingWrites.getOrDefault(NS, Map.of()).containsKey(UID);
+  }
+
+  private DomainResource getRecordedDomain() {
+    return testSupport.getResourceWithName(KubernetesTestSupport.DOMAIN, UID);
+  }
+
+  private List<String> getRecordedServerNames() {
+    return getRecordedDomain().getStatus().getServers().stream().map(ServerStatus::getServerName).toList();
+  }
+
+  private static class SetMessageStep extends DomainStatusUpdater.DomainStatusUpdaterStep {
+    private final String message;
+
+    SetMessageStep(String message) {
+      this.message = message;
+    }
+
+    @Override
+    void modifyStatus(DomainStatus status) {
+      status.setMessage(message);
+    }
+  }
+
+  private static class AddServerStep extends DomainStatusUpdater.DomainStatusUpdaterStep {
+    private final String serverName;
+    private Integer initialServerCount;
+
+    AddServerStep(String serverName) {
+      this.serverName = serverName;
+    }
+
+    @Override
+    void modifyStatus(DomainStatus status) {
+      if (initialServerCount == null) {
+        initialServerCount = status.getServers().size();
+      }
+      status.addServer(new ServerStatus().withServerName(serverName).withState(RUNNING_STATE));
+    }
+  }
+
+  private static class CompletionCallbackImpl implements Fiber.CompletionCallback {
+    private final CountDownLatch completed;
+
+    CompletionCallbackImpl(CountDownLatch completed) {
+      this.completed = completed;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      completed.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      completed.countDown();
+    }
+  }
+}
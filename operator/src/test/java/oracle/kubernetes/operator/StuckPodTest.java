@@ -257,6 +257,11 @@ class StuckPodTest {
         return this;
       }
 
+      @Override
+      public MakeRightDomainOperation inBackground() {
+        return this;
+      }
+
       @Override
       public void execute() {
         
@@ -0,0 +1,156 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.auth.ApiKeyAuth;
+import io.kubernetes.client.util.credentials.TokenFileAuthentication;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_CLIENT_POOL_MAX_ENTRIES;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_CLIENT_POOL_TTL_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ApiClientPoolTest {
+
+  private static final String BASE_PATH = "https://kubernetes.default.svc";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ApiClient operatorClient = new ApiClient();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    operatorClient.setBasePath(BASE_PATH);
+    operatorClient.setHttpClient(operatorClient.getHttpClient().newBuilder()
+        .addInterceptor(new TokenFileAuthentication("/var/run/secrets/token")).build());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(ApiClientPool.class, "operatorClient", getOperatorClient()));
+    ApiClientPool.clear();
+  }
+
+  private Supplier<ApiClient> getOperatorClient() {
+    return () -> operatorClient;
+  }
+
+  @AfterEach
+  void tearDown() {
+    ApiClientPool.clear();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void clientUsesCallerAccessToken() {
+    ApiClient client = ApiClientPool.getClient("token1");
+
+    assertThat(((ApiKeyAuth) client.getAuthentication("BearerToken")).getApiKey(), equalTo("token1"));
+    assertThat(client.getBasePath(), equalTo(BASE_PATH));
+  }
+
+  @Test
+  void clientDoesNotAddOperatorCredentials() {
+    OkHttpClient httpClient = ApiClientPool.getClient("token1").getHttpClient();
+
+    assertThat(httpClient.interceptors().stream().noneMatch(TokenFileAuthentication.class::isInstance), equalTo(true));
+  }
+
+  @Test
+  void clientsShareOperatorConnectionPoolAndDispatcher() {
+    OkHttpClient httpClient1 = ApiClientPool.getClient("token1").getHttpClient();
+    OkHttpClient httpClient2 = ApiClientPool.getClient("token2").getHttpClient();
+
+    assertThat(httpClient1, sameInstance(httpClient2));
+    assertThat(httpClient1.connectionPool(), sameInstance(operatorClient.getHttpClient().connectionPool()));
+    assertThat(httpClient1.dispatcher(), sameInstance(operatorClient.getHttpClient().dispatcher()));
+  }
+
+  @Test
+  void sharedHttpClientKeepsOtherInterceptors() {
+    Interceptor interceptor = chain -> chain.proceed(chain.request());
+    operatorClient.setHttpClient(operatorClient.getHttpClient().newBuilder().addInterceptor(interceptor).build());
+
+    assertThat(ApiClientPool.getClient("token1").getHttpClient().interceptors(), hasItem(interceptor));
+  }
+
+  @Test
+  void whenSameTokenPresented_reuseClient() {
+    assertThat(ApiClientPool.getClient("token1"), sameInstance(ApiClientPool.getClient("token1")));
+  }
+
+  @Test
+  void whenDifferentTokenPresented_createNewClient() {
+    assertThat(ApiClientPool.getClient("token1"), not(sameInstance(ApiClientPool.getClient("token2"))));
+  }
+
+  @Test
+  void whenClientUnusedLongerThanTimeToLive_discardIt() {
+    TuningParametersStub.setParameter(REST_CLIENT_POOL_TTL_SECONDS, "60");
+    ApiClient client = ApiClientPool.getClient("token1");
+
+    SystemClockTestSupport.increment(61);
+
+    assertThat(ApiClientPool.getClient("token1"), not(sameInstance(client)));
+  }
+
+  @Test
+  void whenClientUsedWithinTimeToLive_keepIt() {
+    TuningParametersStub.setParameter(REST_CLIENT_POOL_TTL_SECONDS, "60");
+    ApiClient client = ApiClientPool.getClient("token1");
+
+    SystemClockTestSupport.increment(40);
+    ApiClientPool.getClient("token1");
+    SystemClockTestSupport.increment(40);
+
+    assertThat(ApiClientPool.getClient("token1"), sameInstance(client));
+  }
+
+  @Test
+  void afterExpiredClientsDiscarded_poolIsEmpty() {
+    TuningParametersStub.setParameter(REST_CLIENT_POOL_TTL_SECONDS, "60");
+    ApiClientPool.getClient("token1");
+    ApiClientPool.getClient("token2");
+
+    SystemClockTestSupport.increment(61);
+    ApiClientPool.getClient("token3");
+
+    assertThat(ApiClientPool.size(), equalTo(1));
+  }
+
+  @Test
+  void whenTimeToLiveIsZero_dontPoolClients() {
+    TuningParametersStub.setParameter(REST_CLIENT_POOL_TTL_SECONDS, "0");
+
+    assertThat(ApiClientPool.getClient("token1"), not(sameInstance(ApiClientPool.getClient("token1"))));
+  }
+
+  @Test
+  void whenPoolFull_discardLeastRecentlyUsedClient() {
+    TuningParametersStub.setParameter(REST_CLIENT_POOL_MAX_ENTRIES, "2");
+    ApiClient client1 = ApiClientPool.getClient("token1");
+    ApiClient client2 = ApiClientPool.getClient("token2");
+
+    ApiClientPool.getClient("token1");
+    ApiClientPool.getClient("token3");
+
+    assertThat(ApiClientPool.size(), equalTo(2));
+    assertThat(ApiClientPool.getClient("token1"), sameInstance(client1));
+    assertThat(ApiClientPool.getClient("token2"), not(sameInstance(client2)));
+  }
+}
@@ -0,0 +1,67 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1SecretList;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.CachingKubernetesApiFactory.MAX_CACHED_APIS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class CachingKubernetesApiFactoryTest {
+
+  private final CachingKubernetesApiFactory factory = new CachingKubernetesApiFactory();
+  private final ApiClient client = new ApiClient();
+
+  @Test
+  void whenSameResourceAndClientRequested_reuseApi() {
+    assertThat(createConfigMapApi(c -> client), sameInstance(createConfigMapApi(c -> client)));
+  }
+
+  private KubernetesApi<V1ConfigMap, V1ConfigMapList> createConfigMapApi(UnaryOperator<ApiClient> clientSelector) {
+    return factory.create(V1ConfigMap.class, V1ConfigMapList.class, "", "v1", "configmaps", clientSelector);
+  }
+
+  @Test
+  void whenDifferentClientSelected_createNewApi() {
+    assertThat(createConfigMapApi(c -> client), not(sameInstance(createConfigMapApi(c -> new ApiClient()))));
+  }
+
+  @Test
+  void whenDifferentResourceRequested_createNewApi() {
+    KubernetesApi<?, ?> secretApi
+        = factory.create(V1Secret.class, V1SecretList.class, "", "v1", "secrets", c -> client);
+
+    assertThat(createConfigMapApi(c -> client), not(sameInstance(secretApi)));
+  }
+
+  @Test
+  void whenManyClientsUsed_cacheSizeIsBounded() {
+    for (int i = 0; i < 2 * MAX_CACHED_APIS; i++) {
+      createConfigMapApi(c -> new ApiClient());
+    }
+
+    assertThat(factory.size(), equalTo(MAX_CACHED_APIS));
+  }
+
+  @Test
+  void whenCacheFull_discardLeastRecentlyUsedApi() {
+    KubernetesApi<?, ?> api = createConfigMapApi(c -> client);
+    for (int i = 0; i < MAX_CACHED_APIS; i++) {
+      createConfigMapApi(c -> client);
+      createConfigMapApi(c -> new ApiClient());
+    }
+
+    assertThat(createConfigMapApi(c -> client), sameInstance(api));
+  }
+}
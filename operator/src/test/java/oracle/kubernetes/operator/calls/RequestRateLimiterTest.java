@@ -0,0 +1,235 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.openapi.models.V1StatusDetails;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import oracle.kubernetes.operator.calls.RequestRateLimiter.Lane;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
+import static oracle.kubernetes.operator.tuning.TuningParameters.BACKGROUND_REQUEST_BURST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.BACKGROUND_REQUEST_QPS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CALL_MAX_RETRY_COUNT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_REQUEST_BURST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_REQUEST_QPS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class RequestRateLimiterTest {
+
+  private static final String NS = "namespace";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AtomicLong nanoTime = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(RequestRateLimiter.class, "nanoTime", (LongSupplier) nanoTime::get));
+    RequestRateLimiter.reset();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    RequestRateLimiter.reset();
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  @Test
+  void byDefault_requestsNeverWait() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+    }
+  }
+
+  @Test
+  void whenRateLimited_burstRequestsDoNotWait() {
+    limitLane(MAKE_RIGHT_REQUEST_QPS, MAKE_RIGHT_REQUEST_BURST, 10, 3);
+
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+  }
+
+  private void limitLane(String qpsName, String burstName, int qps, int burst) {
+    TuningParametersStub.setParameter(qpsName, Integer.toString(qps));
+    TuningParametersStub.setParameter(burstName, Integer.toString(burst));
+  }
+
+  @Test
+  void whenBurstExhausted_requestsWaitForTokens() {
+    limitLane(MAKE_RIGHT_REQUEST_QPS, MAKE_RIGHT_REQUEST_BURST, 10, 2);
+
+    RequestRateLimiter.reserve(Lane.MAKE_RIGHT);
+    RequestRateLimiter.reserve(Lane.MAKE_RIGHT);
+
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ofMillis(100)));
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ofMillis(200)));
+  }
+
+  @Test
+  void afterTimePasses_bucketRefills() {
+    limitLane(MAKE_RIGHT_REQUEST_QPS, MAKE_RIGHT_REQUEST_BURST, 10, 2);
+    RequestRateLimiter.reserve(Lane.MAKE_RIGHT);
+    RequestRateLimiter.reserve(Lane.MAKE_RIGHT);
+
+    advanceTime(Duration.ofSeconds(1));
+
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+  }
+
+  private void advanceTime(Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  void whenBackgroundLaneExhausted_makeRightRequestsDoNotWait() {
+    limitLane(BACKGROUND_REQUEST_QPS, BACKGROUND_REQUEST_BURST, 1, 1);
+    RequestRateLimiter.reserve(Lane.BACKGROUND);
+    RequestRateLimiter.reserve(Lane.BACKGROUND);
+
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+    assertThat(RequestRateLimiter.reserve(Lane.STATUS), equalTo(Duration.ZERO));
+  }
+
+  @Test
+  void whenPaused_requestsInAllLanesWait() {
+    RequestRateLimiter.pause(Duration.ofSeconds(5));
+
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ofSeconds(5)));
+    assertThat(RequestRateLimiter.reserve(Lane.STATUS), equalTo(Duration.ofSeconds(5)));
+    assertThat(RequestRateLimiter.reserve(Lane.BACKGROUND), equalTo(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  void afterPauseExpires_requestsDoNotWait() {
+    RequestRateLimiter.pause(Duration.ofSeconds(5));
+
+    advanceTime(Duration.ofSeconds(6));
+
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ZERO));
+  }
+
+  @Test
+  void whenShorterPauseRequested_keepLongerPause() {
+    RequestRateLimiter.pause(Duration.ofSeconds(5));
+    RequestRateLimiter.pause(Duration.ofSeconds(1));
+
+    assertThat(RequestRateLimiter.reserve(Lane.MAKE_RIGHT), equalTo(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  void whenRequestReserved_recordQueueWaitMetric() {
+    limitLane(BACKGROUND_REQUEST_QPS, BACKGROUND_REQUEST_BURST, 2, 1);
+    final double initialCount = OperatorMetrics.getRequestQueueCount("background");
+    final double initialWait = OperatorMetrics.getRequestQueueWaitSeconds("background");
+
+    RequestRateLimiter.reserve(Lane.BACKGROUND);
+    RequestRateLimiter.reserve(Lane.BACKGROUND);
+
+    assertThat(OperatorMetrics.getRequestQueueCount("background") - initialCount, equalTo(2.0));
+    assertThat(OperatorMetrics.getRequestQueueWaitSeconds("background") - initialWait, equalTo(0.5));
+  }
+
+  @Test
+  void listRequests_useBackgroundLane() {
+    final double initialCount = OperatorMetrics.getRequestQueueCount("background");
+
+    testSupport.runSteps(RequestBuilder.CM.list(NS, new DefaultResponseStep<>(null)));
+
+    assertThat(OperatorMetrics.getRequestQueueCount("background") - initialCount, equalTo(1.0));
+  }
+
+  @Test
+  void whenPacketSelectsLane_requestsUseIt() {
+    final double initialCount = OperatorMetrics.getRequestQueueCount("background");
+
+    testSupport.addToPacket(RequestRateLimiter.LANE, Lane.BACKGROUND);
+    testSupport.runSteps(RequestBuilder.CM.create(createConfigMap(), new DefaultResponseStep<>(null)));
+
+    assertThat(OperatorMetrics.getRequestQueueCount("background") - initialCount, equalTo(1.0));
+  }
+
+  @Test
+  void byDefault_createRequestsUseMakeRightLane() {
+    final double initialCount = OperatorMetrics.getRequestQueueCount("makeRight");
+
+    testSupport.runSteps(RequestBuilder.CM.create(createConfigMap(), new DefaultResponseStep<>(null)));
+
+    assertThat(OperatorMetrics.getRequestQueueCount("makeRight") - initialCount, equalTo(1.0));
+  }
+
+  private V1ConfigMap createConfigMap() {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().name("test").namespace(NS));
+  }
+
+  @Test
+  void whenServerRequestsRetryAfter_otherRequestsWait() {
+    final double initialPauses = OperatorMetrics.getRequestPauses();
+    TuningParametersStub.setParameter(CALL_MAX_RETRY_COUNT, "0");
+    testSupport.failOnCreate(CONFIG_MAP, NS, createRetryAfterStatus(30), HTTP_TOO_MANY_REQUESTS);
+
+    testSupport.runSteps(RequestBuilder.CM.create(createConfigMap(), new DefaultResponseStep<>(null)));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+    assertThat(RequestRateLimiter.reserve(Lane.STATUS), equalTo(Duration.ofSeconds(30)));
+    assertThat(OperatorMetrics.getRequestPauses() - initialPauses, equalTo(1.0));
+  }
+
+  private V1Status createRetryAfterStatus(int seconds) {
+    return new V1Status().code(HTTP_TOO_MANY_REQUESTS).details(new V1StatusDetails().retryAfterSeconds(seconds));
+  }
+
+  @Test
+  void whenServerUnavailableWithoutRetryAfter_dontPause() {
+    TuningParametersStub.setParameter(CALL_MAX_RETRY_COUNT, "0");
+    testSupport.failOnCreate(CONFIG_MAP, NS, HTTP_UNAVAILABLE);
+
+    testSupport.runSteps(RequestBuilder.CM.create(createConfigMap(), new DefaultResponseStep<>(null)));
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+    assertThat(RequestRateLimiter.reserve(Lane.STATUS), equalTo(Duration.ZERO));
+  }
+
+  @Test
+  void whenRetryAfterHeaderPresent_addToStatusDetails() {
+    final ApiException exception = new ApiException(HTTP_TOO_MANY_REQUESTS, Map.of("retry-after", List.of("12")), "{}");
+
+    final KubernetesApiResponse<V1ConfigMap> response
+        = RequestStep.responseFromApiException(new ApiClient(), exception);
+
+    assertThat(RequestStep.getRetryAfterSeconds(response.getStatus()), equalTo(12));
+  }
+}
@@ -8,20 +8,32 @@ import java.util.List;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1TokenReview;
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import io.kubernetes.client.openapi.models.V1UserInfo;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_REVIEW_CACHE_MAX_ENTRIES;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_REVIEW_CACHE_TTL_SECONDS;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class AuthenticationProxyTest {
 
+  private static final String VALID_TOKEN = "valid-token";
+
   private final List<Memento> mementos = new ArrayList<>();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+  private int numReviews;
 
   /**
    * Setup test.
@@ -30,13 +42,27 @@ class AuthenticationProxyTest {
   @BeforeEach
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(AuthenticationProxy.class, "authorizationProxy", authorizationProxyStub));
+    testSupport.doOnCreate(TOKEN_REVIEW, r -> review((V1TokenReview) r));
+    AuthenticationProxy.clearCache();
+  }
+
+  private void review(V1TokenReview tokenReview) {
+    numReviews++;
+    if (VALID_TOKEN.equals(tokenReview.getSpec().getToken())) {
+      tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo().username("user")));
+    } else {
+      tokenReview.setStatus(new V1TokenReviewStatus().authenticated(false));
+    }
   }
 
   @AfterEach
   public void tearDown() {
+    AuthenticationProxy.clearCache();
     mementos.forEach(Memento::revert);
   }
 
@@ -68,4 +94,88 @@ class AuthenticationProxyTest {
       return true;
     }
   }
+
+  @Test
+  void whenCacheDisabled_reviewEachRequest() {
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+
+    authenticationProxy.check("", VALID_TOKEN, null);
+    authenticationProxy.check("", VALID_TOKEN, null);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenCacheEnabled_reuseAuthenticatedReview() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+
+    authenticationProxy.check("", VALID_TOKEN, null);
+    V1TokenReviewStatus status = authenticationProxy.check("", VALID_TOKEN, null);
+
+    assertThat(numReviews, equalTo(1));
+    assertThat(status.getUser().getUsername(), equalTo("user"));
+  }
+
+  @Test
+  void whenCacheEnabled_recordHitsAndMisses() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+    final double initialHits = OperatorMetrics.getReviewCacheRequests("authentication", true);
+    final double initialMisses = OperatorMetrics.getReviewCacheRequests("authentication", false);
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+
+    authenticationProxy.check("", VALID_TOKEN, null);
+    authenticationProxy.check("", VALID_TOKEN, null);
+    authenticationProxy.check("", VALID_TOKEN, null);
+
+    assertThat(OperatorMetrics.getReviewCacheRequests("authentication", true) - initialHits, equalTo(2.0));
+    assertThat(OperatorMetrics.getReviewCacheRequests("authentication", false) - initialMisses, equalTo(1.0));
+  }
+
+  @Test
+  void whenCacheEnabled_dontReuseFailedReview() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+
+    authenticationProxy.check("", "bad-token", null);
+    authenticationProxy.check("", "bad-token", null);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenCacheEnabled_dontReuseReviewForDifferentNamespace() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+
+    authenticationProxy.check("", VALID_TOKEN, null);
+    authenticationProxy.check("", VALID_TOKEN, "NS");
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void afterCachedReviewExpires_reviewAgain() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+
+    authenticationProxy.check("", VALID_TOKEN, null);
+    SystemClockTestSupport.increment(61);
+    authenticationProxy.check("", VALID_TOKEN, null);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenCacheFull_discardLeastRecentlyUsedReview() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_MAX_ENTRIES, "1");
+    AuthenticationProxy authenticationProxy = new AuthenticationProxy();
+
+    authenticationProxy.check("", VALID_TOKEN, null);
+    authenticationProxy.check("", VALID_TOKEN, "NS");
+    authenticationProxy.check("", VALID_TOKEN, null);
+
+    assertThat(numReviews, equalTo(3));
+  }
 }
@@ -0,0 +1,175 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SELF_SUBJECT_ACCESS_REVIEW;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_REVIEW_CACHE_TTL_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class AuthorizationProxyTest {
+
+  private static final String ALLOWED_USER = "allowed";
+  private static final String NS = "namespace";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AuthorizationProxy authorizationProxy = new AuthorizationProxy();
+  private int numReviews;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(testSupport.install());
+    testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, r -> review((V1SubjectAccessReview) r));
+    testSupport.doOnCreate(SELF_SUBJECT_ACCESS_REVIEW, r -> review((V1SelfSubjectAccessReview) r));
+    AuthorizationProxy.clearCache();
+  }
+
+  private void review(V1SelfSubjectAccessReview accessReview) {
+    numReviews++;
+    accessReview.setStatus(
+        new V1SubjectAccessReviewStatus().allowed(NS.equals(accessReview.getSpec().getResourceAttributes()
+            .getNamespace())));
+  }
+
+  private void review(V1SubjectAccessReview accessReview) {
+    numReviews++;
+    accessReview.setStatus(
+        new V1SubjectAccessReviewStatus().allowed(ALLOWED_USER.equals(accessReview.getSpec().getUser())));
+  }
+
+  @AfterEach
+  void tearDown() {
+    AuthorizationProxy.clearCache();
+    mementos.forEach(Memento::revert);
+  }
+
+  private boolean check(String user, Operation operation) {
+    return authorizationProxy.check(user, List.of("group"), operation, Resource.DOMAINS, null, Scope.NAMESPACE, NS);
+  }
+
+  @Test
+  void whenCacheDisabled_reviewEachRequest() {
+    check(ALLOWED_USER, Operation.GET);
+    check(ALLOWED_USER, Operation.GET);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenCacheEnabled_reuseAllowedDecision() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+
+    check(ALLOWED_USER, Operation.GET);
+
+    assertThat(check(ALLOWED_USER, Operation.GET), is(true));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  void whenCacheEnabled_reuseDeniedDecision() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+
+    check("denied", Operation.GET);
+
+    assertThat(check("denied", Operation.GET), is(false));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  void whenCacheEnabled_reviewDifferentOperationsSeparately() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+
+    check(ALLOWED_USER, Operation.GET);
+    check(ALLOWED_USER, Operation.PATCH);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  void whenCacheEnabled_reviewDifferentUsersSeparately() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+
+    check(ALLOWED_USER, Operation.GET);
+
+    assertThat(check("denied", Operation.GET), is(false));
+  }
+
+  @Test
+  void whenReviewFails_dontCacheDecision() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+    testSupport.failOnCreate(SUBJECT_ACCESS_REVIEW, null, 500);
+
+    assertThat(check(ALLOWED_USER, Operation.GET), is(false));
+    assertThat(check(ALLOWED_USER, Operation.GET), is(true));
+  }
+
+  @Test
+  void afterCachedDecisionExpires_reviewAgain() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+
+    check(ALLOWED_USER, Operation.GET);
+    SystemClockTestSupport.increment(61);
+    check(ALLOWED_USER, Operation.GET);
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  private boolean checkSelf(String accessToken, String namespace) {
+    return authorizationProxy.checkSelf(accessToken, Operation.LIST, Resource.DOMAINS, namespace);
+  }
+
+  @Test
+  void whenSelfReviewAllowsAccess_checkSelfReturnsTrue() {
+    assertThat(checkSelf("token", NS), is(true));
+  }
+
+  @Test
+  void whenSelfReviewDeniesAccess_checkSelfReturnsFalse() {
+    assertThat(checkSelf("token", "other"), is(false));
+  }
+
+  @Test
+  void whenCacheEnabled_reuseSelfReviewDecision() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+
+    checkSelf("token", NS);
+
+    assertThat(checkSelf("token", NS), is(true));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  void whenCacheEnabled_reviewDifferentTokensSeparately() {
+    TuningParametersStub.setParameter(REST_REVIEW_CACHE_TTL_SECONDS, "60");
+
+    checkSelf("token1", NS);
+    checkSelf("token2", NS);
+
+    assertThat(numReviews, equalTo(2));
+  }
+}
@@ -1,8 +1,9 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -23,6 +24,9 @@ import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.operator.helpers.ConfigMapSplitterTest.TargetMatcher.isTarget;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class ConfigMapSplitterTest {
@@ -33,6 +37,7 @@ class ConfigMapSplitterTest {
 
   private final ConfigMapSplitter<TestTarget> splitter = new ConfigMapSplitter<>(TestTarget::new);
   private final Map<String, String> data = new HashMap<>();
+  private final Map<String, byte[]> binaryData = new HashMap<>();
   private final List<Memento> mementos = new ArrayList<>();
 
   @SuppressWarnings("SameParameterValue")
@@ -86,6 +91,61 @@ class ConfigMapSplitterTest {
     assertThat(reassembled, equalTo(data.get("b")));
   }
 
+  @Test
+  void whenValueFitsInTarget_dontCopyIt() {
+    final String value = "aValue";
+    data.put("a", value);
+
+    final List<TestTarget> result = splitter.split(data);
+
+    assertThat(result.get(0).data.get("a"), sameInstance(value));
+  }
+
+  @Test
+  void whenBinaryDataTooLarge_splitByNumberOfBytes() {
+    data.put("a", "aValue");
+    binaryData.put("c", createBinaryData(2000));
+
+    final List<TestTarget> result = splitter.split(data, binaryData);
+
+    assertThat(result, Matchers.hasSize(3));
+    assertThat(result.get(0), isTarget(0, "a"));
+    assertThat(result.get(0).binaryData.get("c").length, equalTo(TEST_DATA_LIMIT - "aValue".length()));
+    assertThat(result.get(2).binaryData.get("c").length, equalTo("aValue".length()));
+  }
+
+  @Test
+  void whenBinaryDataTooLarge_canReconstituteSplitValue() {
+    data.put("a", "aValue");
+    binaryData.put("c", createBinaryData(2500));
+
+    final List<TestTarget> result = splitter.split(data, binaryData);
+
+    final ByteArrayOutputStream reassembled = new ByteArrayOutputStream();
+    result.stream().map(t -> t.binaryData.get("c")).forEach(reassembled::writeBytes);
+    assertThat(reassembled.toByteArray(), equalTo(binaryData.get("c")));
+  }
+
+  @Test
+  void whenTargetHasNoBinaryData_dontRecordAny() {
+    data.put("a", "aValue");
+    data.put("b", LARGE_DATA_VALUE);
+    binaryData.put("c", createBinaryData(10));
+
+    final List<TestTarget> result = splitter.split(data, binaryData);
+
+    assertThat(result.get(0).binaryData, hasKey("c"));
+    assertThat(result.get(1).binaryData, nullValue());
+  }
+
+  private byte[] createBinaryData(int length) {
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
+
   @Test
   void whenDataSplit_recordNumTargetsInFirstResult() {
     data.put("a", "aValue");
@@ -102,6 +162,7 @@ class ConfigMapSplitterTest {
     private final Map<String, String> data;
     private final int index;
     private int numTargets;
+    private Map<String, byte[]> binaryData;
 
     TestTarget(Map<String, String> data, int index) {
       this.data = data;
@@ -113,6 +174,11 @@ class ConfigMapSplitterTest {
       this.numTargets = numTargets;
     }
 
+    @Override
+    public void recordBinaryData(Map<String, byte[]> binaryData) {
+      this.binaryData = binaryData;
+    }
+
     private String getB() {
       return data.get("b");
     }
@@ -53,6 +53,7 @@ import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.FluentdUtils;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ServerStartPolicy;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.ScanCacheStub;
 import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -63,6 +64,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ResourceChanges;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.utils.SystemClockTestSupport;
@@ -883,6 +885,37 @@ class DomainIntrospectorJobTest extends DomainTestUtils {
     assertThat(getUpdatedDomain(), not(hasCondition(FAILED)));
   }
 
+  @Test
+  void whenNewSuccessfulJobExists_recordIntrospectionDuration() {
+    consoleHandlerMemento.ignoreMessage(getJobDeletedMessageKey());
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, createDomainConfig("cluster-1"));
+    final V1Job job = asCompletedJob(createIntrospectorJob());
+    job.getStatus().startTime(SystemClock.now().minusSeconds(30)).completionTime(SystemClock.now());
+    testSupport.defineResources(job, createJobPod());
+    testSupport.definePodLog(LegalNames.toJobIntrospectorName(UID), NS, INFO_MESSAGE);
+    final double count = OperatorMetrics.getIntrospectionCount("success");
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(OperatorMetrics.getIntrospectionCount("success"), equalTo(count + 1));
+  }
+
+  @Test
+  void afterJobPodTerminated_dontLeaveRegisteredForItsChanges() {
+    consoleHandlerMemento.ignoreMessage(getJobDeletedMessageKey());
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, createDomainConfig("cluster-1"));
+    defineCompletedIntrospection();
+
+    testSupport.runSteps(JobHelper.createIntrospectionStartStep());
+
+    assertThat(reportJobPodChange(), is(false));
+  }
+
+  private boolean reportJobPodChange() {
+    return ResourceChanges.report(
+        JobHelper.getJobChangeKey(NS, LegalNames.toJobIntrospectorName(UID)), createJobPod());
+  }
+
   private void defineCompletedIntrospection() {
     testSupport.defineResources(asCompletedJob(createIntrospectorJob()));
     testSupport.defineResources(createJobPod());
@@ -1594,6 +1627,16 @@ class DomainIntrospectorJobTest extends DomainTestUtils {
     assertThat(getUpdatedDomain().getStatus().getMessage(), containsString(SEVERE_PROBLEM));
   }
 
+  @Test
+  void whenJobLogContainsFileAfterSevereError_domainStatusMessageExcludesFileContents() {
+    createIntrospectionLog(String.join(System.lineSeparator(),
+        SEVERE_MESSAGE, ">>>  /u01/introspect/domain1/topology.yaml", "domainValid: true", ">>> EOF"));
+
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(null));
+
+    assertThat(getUpdatedDomain().getStatus().getMessage(), not(containsString("domainValid")));
+  }
+
   @Test
   void whenJobLogContainsFatalError_domainStatusHasExpectedMessage() {
     createIntrospectionLog(FATAL_MESSAGE);
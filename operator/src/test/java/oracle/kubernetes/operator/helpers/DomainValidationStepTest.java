@@ -23,6 +23,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Secret;
 import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.SystemClock;
@@ -49,7 +50,10 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.setupCluster;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_FAILED_EVENT;
 import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SECRET;
 import static oracle.kubernetes.operator.helpers.ServiceHelperTestBase.NS;
 import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CALL_LIMIT;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
@@ -261,11 +265,40 @@ class DomainValidationStepTest {
   }
 
   @Test
-  void whenDomainValidationStepsCalled_withSecretInMultiChunks_packetContainsAllSecrets() {
+  void whenDomainValidationStepsCalled_packetContainsOnlyReferencedSecrets() {
+    domain.getSpec().withWebLogicCredentialsSecret(
+        new V1LocalObjectReference().name(TEST_SECRET_PREFIX + MULTI_CHUNKS_MIDDLE_NUM_IN_FIRST_CHUNK));
     createSecrets(MULTI_CHUNKS_LAST_NUM);
     testSupport.runSteps(domainValidationSteps);
 
-    assertThat(getNumMatchingSecrets(), is((long) MULTI_CHUNKS_LAST_NUM));
+    assertThat(getNumMatchingSecrets(), is(1L));
+  }
+
+  @Test
+  void whenDomainValidationStepsCalled_dontListSecretsOrConfigMaps() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1LocalObjectReference().name("name"));
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
+    testSupport.failOnList(SECRET, NS, HTTP_INTERNAL_ERROR);
+    testSupport.failOnList(CONFIG_MAP, NS, HTTP_INTERNAL_ERROR);
+
+    testSupport.runSteps(domainValidationSteps);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenDomainValidationStepsCalled_recordReadsOfReferencedResources() {
+    final double secretReads = OperatorMetrics.getValidationReads("secret");
+    final double configMapReads = OperatorMetrics.getValidationReads("configmap");
+    domain.getSpec()
+        .withWebLogicCredentialsSecret(new V1LocalObjectReference().name("name"))
+        .setConfiguration(new Configuration().withModel(
+            new Model().withConfigMap(TEST_CONFIGMAP_PREFIX + 1).withRuntimeEncryptionSecret("encryption")));
+
+    testSupport.runSteps(domainValidationSteps);
+
+    assertThat(OperatorMetrics.getValidationReads("secret") - secretReads, equalTo(2.0));
+    assertThat(OperatorMetrics.getValidationReads("configmap") - configMapReads, equalTo(1.0));
   }
 
   private long getNumMatchingSecrets() {
@@ -325,11 +358,13 @@ class DomainValidationStepTest {
   }
 
   @Test
-  void whenDomainValidationStepsCalled_withConfigMapInMultiChunks_packetContainsAllConfigMaps() {
+  void whenDomainValidationStepsCalled_packetContainsOnlyReferencedConfigMaps() {
+    domain.getSpec().setConfiguration(new Configuration().withModel(
+        new Model().withConfigMap(TEST_CONFIGMAP_PREFIX + MULTI_CHUNKS_LAST_NUM)));
     createConfigMaps(MULTI_CHUNKS_LAST_NUM);
     testSupport.runSteps(domainValidationSteps);
 
-    assertThat(getNumMatchingConfigMaps(), equalTo((long) MULTI_CHUNKS_LAST_NUM));
+    assertThat(getNumMatchingConfigMaps(), equalTo(1L));
   }
 
   private long getNumMatchingConfigMaps() {
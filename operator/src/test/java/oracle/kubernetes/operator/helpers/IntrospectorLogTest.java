@@ -0,0 +1,96 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_COMPLETE;
+import static oracle.kubernetes.operator.helpers.IntrospectorLog.UPDATEDOMAINRESULT;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class IntrospectorLogTest {
+
+  private static final String INFO_LINE = "@[2024-01-01T00:00:00.000000Z][introspectDomain.py:1][INFO] starting";
+  private static final String COMPLETE_LINE
+      = "@[2024-01-01T00:00:01.000000Z][introspectDomain.py:2][FINE] " + DOMAIN_INTROSPECTION_COMPLETE;
+
+  private final List<String> logLines = new ArrayList<>();
+
+  private IntrospectorLog read(String... lines) throws IOException {
+    return IntrospectorLog.read(new StringReader(String.join("\n", lines)), logLines::add);
+  }
+
+  @Test
+  void collectFileContents() throws IOException {
+    IntrospectorLog log = read(INFO_LINE,
+        ">>>  /u01/introspect/domain1/topology.yaml", "domainValid: true", "domain:", "  name: \"base\"", ">>> EOF");
+
+    assertThat(log.getFiles(), hasEntry("topology.yaml",
+        String.join(System.lineSeparator(), "domainValid: true", "domain:", "  name: \"base\"")));
+  }
+
+  @Test
+  void trimFileContents() throws IOException {
+    IntrospectorLog log = read(">>>  /u01/introspect/domain1/secrets.md5", "", "  abcd  ", "", ">>> EOF");
+
+    assertThat(log.getFiles(), hasEntry("secrets.md5", "abcd"));
+  }
+
+  @Test
+  void collectMultipleFiles() throws IOException {
+    IntrospectorLog log = read(">>>  /a/first.txt", "1", ">>> EOF", "", ">>>  /a/second.txt", "2", ">>> EOF");
+
+    assertThat(log.getFiles(), aMapWithSize(2));
+  }
+
+  @Test
+  void whenFileHasNoEnd_discardIt() throws IOException {
+    IntrospectorLog log = read(">>>  /a/truncated.txt", "partial");
+
+    assertThat(log.getFiles(), not(hasKey("truncated.txt")));
+  }
+
+  @Test
+  void passOnlyLinesOutsideFilesToListener() throws IOException {
+    read(INFO_LINE, ">>>  /a/file.txt", "contents", ">>> EOF", COMPLETE_LINE);
+
+    assertThat(logLines, contains(INFO_LINE, COMPLETE_LINE));
+  }
+
+  @Test
+  void jobLogContainsOnlyLinesOutsideFiles() throws IOException {
+    IntrospectorLog log = read(INFO_LINE, ">>>  /a/file.txt", "contents", ">>> EOF");
+
+    assertThat(log.getJobLog(), equalTo(INFO_LINE));
+  }
+
+  @Test
+  void recordUpdateDomainResult() throws IOException {
+    IntrospectorLog log = read("@[2024-01-01T00:00:00.000000Z][modelInImage.sh:1][FINE] >>>  updatedomainResult=103");
+
+    assertThat(log.getFiles(), hasEntry(UPDATEDOMAINRESULT, "103"));
+  }
+
+  @Test
+  void whenLogReportsCompletion_isComplete() throws IOException {
+    assertThat(read(INFO_LINE, COMPLETE_LINE).isComplete(), is(true));
+  }
+
+  @Test
+  void whenLogDoesNotReportCompletion_isNotComplete() throws IOException {
+    assertThat(read(INFO_LINE).isComplete(), is(false));
+  }
+}
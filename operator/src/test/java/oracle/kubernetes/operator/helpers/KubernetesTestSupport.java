@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.StringReader;
 import java.lang.reflect.Field;
@@ -75,10 +76,13 @@ import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonStructure;
+import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.calls.KubernetesApi;
 import oracle.kubernetes.operator.calls.KubernetesApiFactory;
+import oracle.kubernetes.operator.calls.PodLogReader;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.calls.RetryStrategy;
@@ -478,8 +482,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
   }
 
   /**
-   * Specifies that a replace operation should fail if it matches the specified conditions. Applies to
-   * namespaced resources and replaces any existing failure checks.
+   * Specifies that a status update, whether by replacement or patch, should fail if it matches
+   * the specified conditions. Applies to namespaced resources and replaces any existing failure checks.
    *
    * @param resourceType the type of resource
    * @param name the name of the resource
@@ -622,6 +626,18 @@ public class KubernetesTestSupport extends FiberTestSupport {
                                                                   DataRepository<T> dataRepository) {
         return callContext.replaceResourceStatus(dataRepository);
       }
+
+      @Override
+      boolean includes(Operation operation) {
+        return operation == this || operation == patchStatus;
+      }
+    },
+    patchStatus {
+      @Override
+      <T extends KubernetesType> KubernetesApiResponse<T> execute(CallContext<T> callContext,
+                                                                  DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
     },
     list {
       @Override
@@ -656,6 +672,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
     abstract <T extends KubernetesType> KubernetesApiResponse<T> execute(CallContext<T> callContext,
                                                                          DataRepository<T> dataRepository);
+
+    // Returns true if a failure or empty response defined for this operation applies to the specified one.
+    boolean includes(Operation operation) {
+      return operation == this;
+    }
   }
 
   static class Failure {
@@ -690,7 +711,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
     boolean matches(String resourceType, String resourceName, String resourceNamespace, Operation operation) {
       return this.resourceType.equals(resourceType)
-          && (this.operation == null || this.operation == operation)
+          && (this.operation == null || this.operation.includes(operation))
           && (name == null || Objects.equals(name, resourceName))
           && (namespace == null || Objects.equals(namespace, resourceNamespace));
     }
@@ -729,12 +750,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
     boolean matches(Operation operation, String resourceType, String name) {
       return this.resourceType.equals(resourceType)
-          && (this.operation == null || this.operation == operation)
+          && (this.operation == null || this.operation.includes(operation))
           && (name == null || Objects.equals(this.name, name));
     }
 
     boolean matches(Operation operation, String name) {
-      return (this.operation == null || this.operation == operation)
+      return (this.operation == null || this.operation.includes(operation))
           && (name == null || Objects.equals(this.name, name));
     }
   }
@@ -849,6 +870,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
               .execute();
         }
 
+        @Override
+        public KubernetesApiResponse<A> patchStatus(String namespace, String name, String patchType, V1Patch patch) {
+          return new CallContext<A>(
+              Operation.patchStatus, getResourceName(apiTypeClass), namespace, name, patch)
+              .execute();
+        }
+
         @Override
         public KubernetesApiResponse<A> delete(String name, DeleteOptions deleteOptions) {
           return new CallContext<A>(
@@ -882,6 +910,24 @@ public class KubernetesTestSupport extends FiberTestSupport {
                   .execute();
         }
 
+        @Override
+        public <R extends KubernetesObject> KubernetesApiResponse<R> logs(
+                String namespace, String name, String container, PodLogReader<R> reader) {
+          final KubernetesApiResponse<RequestBuilder.StringObject> response = logs(namespace, name, container);
+          if (!response.isSuccess()) {
+            return new KubernetesApiResponse<>(response.getStatus(), response.getHttpStatusCode());
+          }
+          try {
+            return new KubernetesApiResponse<>(reader.read(new StringReader(getLog(response.getObject()))));
+          } catch (IOException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+
+        private String getLog(RequestBuilder.StringObject log) {
+          return Optional.ofNullable(log).map(RequestBuilder.StringObject::value).orElse("");
+        }
+
         @Override
         public KubernetesApiResponse<RequestBuilder.VersionInfoObject> getVersionCode() {
           return new CallContext<RequestBuilder.VersionInfoObject>(
@@ -1186,6 +1232,27 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      T current = data.get(name);
+      if (current == null) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      JsonPatch patch = Json.createPatch(fromV1Patch(body));
+      T patched = fromJsonStructure(patch.apply(toJsonStructure(current)));
+      if (!Objects.equals(getMetadata(patched).getResourceVersion(), getMetadata(current).getResourceVersion())) {
+        throw new ConflictException(getResourceName(), name, namespace);
+      }
+      copyResourceStatus(patched, current);
+      incrementResourceVersion(getMetadata(current));
+      onUpdateActions.forEach(a -> a.accept(current));
+      if (emptyResponse != null && emptyResponse.matches(Operation.patchStatus, name)) {
+        cancelEmptyResponse();
+        return null;
+      }
+      return current;
+    }
+
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
     }
@@ -1273,17 +1340,25 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
   private class CreateOnlyNoMetadataDataRepository<T extends KubernetesType> extends DataRepository<T> {
     private static final String NAME = "unnamed";
+    private T definedResource;
 
     public CreateOnlyNoMetadataDataRepository(Class<T> resourceType) {
       super(resourceType);
     }
 
+    @Override
+    void createResourceInNamespace(T resource) {
+      definedResource = resource;
+      data.put(NAME, resource);
+    }
+
+    @Override
     T createResource(String namespace, T resource) {
-      T existing = data.putIfAbsent(NAME, resource);
-      if (existing != null) {
-        return existing;
+      if (definedResource != null) {
+        return definedResource;
       }
 
+      data.put(NAME, resource);
       onCreateActions.forEach(a -> a.accept(resource));
       return resource;
     }
@@ -1351,8 +1426,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
+      if (namespace == null) {
+        return repositories.values().stream()
+            .map(repository -> repository.getResources(fieldSelector, labelSelectors))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+      }
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
     }
 
@@ -1506,6 +1592,20 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
     }
 
+    private <T extends KubernetesType> KubernetesApiResponse<T> patchResourceStatus(
+        DataRepository<T> dataRepository) {
+      try {
+        return new KubernetesApiResponse<>(dataRepository.patchResourceStatus(requestName, requestNamespace, patch));
+      } catch (NotFoundException nfe) {
+        return new KubernetesApiResponse<>(new V1Status().message(nfe.getMessage()), HttpURLConnection.HTTP_NOT_FOUND);
+      } catch (ConflictException ce) {
+        return new KubernetesApiResponse<>(new V1Status().message(ce.getMessage()), HttpURLConnection.HTTP_CONFLICT);
+      } catch (JsonException je) {
+        return new KubernetesApiResponse<>(
+            new V1Status().message(je.getMessage()), KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY);
+      }
+    }
+
     private <T extends KubernetesType> KubernetesApiResponse<T> listResources(Integer limit, String cont,
                                                                               DataRepository<T> dataRepository) {
       return new KubernetesApiResponse<>(
@@ -1548,6 +1648,15 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
   }
 
+  static class ConflictException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID  = 1L;
+
+    public ConflictException(String resourceType, String name, String namespace) {
+      super(String.format("%s named %s in namespace %s has been modified", resourceType, name, namespace));
+    }
+  }
+
   public static class NotFoundException extends RuntimeException {
     @Serial
     private static final long serialVersionUID  = 1L;
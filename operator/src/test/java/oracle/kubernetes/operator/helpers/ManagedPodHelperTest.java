@@ -160,6 +160,7 @@ class ManagedPodHelperTest extends PodHelperTestBase {
   void whenPodNeedsToRoll_addRollLabel() {
     initializeExistingPod();
     configureServer().withRestartVersion("123");
+    startNewGeneration();
 
     assertThat(getCreatedPod().getMetadata().getLabels(), hasEntry(TO_BE_ROLLED_LABEL, "true"));
   }
@@ -168,6 +169,7 @@ class ManagedPodHelperTest extends PodHelperTestBase {
   void whenPodNeedsToRollAndAlreadyMarkedForRoll_dontUpdateRollLabel() {
     initializeExistingPod();
     configureServer().withRestartVersion("123");
+    startNewGeneration();
     final V1Pod pod = (V1Pod) testSupport.getResources(KubernetesTestSupport.POD).get(0);
     pod.getMetadata().putLabelsItem(TO_BE_ROLLED_LABEL, "true");
     testSupport.doOnUpdate(KubernetesTestSupport.POD, this::reportUnexpectedUpdate);
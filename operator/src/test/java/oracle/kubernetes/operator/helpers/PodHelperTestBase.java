@@ -2044,6 +2044,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
   void whenPodLacksExpectedCustomerLabel_addIt() {
     initializeExistingPod();
     configurator.withPodLabel("customer.label", "value");
+    startNewGeneration();
 
     V1Pod patchedPod = getPatchedPod();
 
@@ -2054,6 +2055,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
   void whenPodLacksExpectedCustomerAnnotations_addIt() {
     initializeExistingPod();
     configurator.withPodAnnotation("customer.annotation", "value");
+    startNewGeneration();
 
     V1Pod patchedPod = getPatchedPod();
 
@@ -2085,6 +2087,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withPodLabel("expected.label", "value").withRequestRequirement("widgets", "10");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2098,6 +2101,12 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     domainPresenceInfo.setServerPod(getServerName(), pod);
   }
 
+  // the domain spec is changed in place, so the tests must assign the new generation that the API server would
+  void startNewGeneration() {
+    final V1ObjectMeta metadata = domain.getMetadata();
+    metadata.setGeneration(Optional.ofNullable(metadata.getGeneration()).orElse(0L) + 1);
+  }
+
   void initializeExistingPodWithIntrospectVersion(String introspectVersion) {
     initializeExistingPodWithIntrospectVersion(createPodModel(), introspectVersion);
   }
@@ -2122,6 +2131,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withPodSecurityContext(new V1PodSecurityContext().runAsGroup(12345L));
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2131,6 +2141,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withNodeSelector("key", "value");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2145,6 +2156,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withContainerSecurityContext(new V1SecurityContext().runAsGroup(9876L));
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2154,6 +2166,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withDefaultLivenessProbeSettings(8, 7, 6);
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2163,6 +2176,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withDefaultReadinessProbeSettings(5, 4, 3);
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2172,6 +2186,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withRequestRequirement("resource", "5");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2186,6 +2201,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withLimitRequirement("limit", "7");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2223,6 +2239,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureServer().withAdditionalVolume("dummy", "/dummy");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2232,6 +2249,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureDomain().withDefaultImagePullSecrets(new V1LocalObjectReference().name("secret"));
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2241,6 +2259,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureServer().withAdditionalVolumeMount("dummy", "/dummy");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2250,6 +2269,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureDomain().withDefaultImage(VERSIONED_IMAGE);
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2259,6 +2279,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureDomain().withDefaultImagePullPolicy("Never");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2268,6 +2289,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureDomain().withRestartVersion("123");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2277,6 +2299,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configureServer().withRestartVersion("123");
+    startNewGeneration();
 
     verifyPodReplaced();
   }
@@ -2286,6 +2309,7 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     initializeExistingPod();
 
     configurator.withIntrospectVersion("123");
+    startNewGeneration();
 
     testSupport.runSteps(getStepFactory(), terminalStep);
 
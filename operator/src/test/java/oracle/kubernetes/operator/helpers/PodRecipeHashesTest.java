@@ -0,0 +1,174 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class PodRecipeHashesTest {
+
+  private static final String SERVER_NAME = "ms1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DomainResource domain = createTestDomain(1L);
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final CountingHash countingHash = new CountingHash();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(UnitTestHash.installHashFunction(countingHash));
+  }
+
+  @AfterEach
+  void tearDown() {
+    PodRecipeHashes.forget(NS, UID);
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void streamedHash_matchesHashOfYamlDump() {
+    mementos.forEach(Memento::revert);
+    mementos.clear();
+    final V1Pod pod = createRecipe("café 😀 " + "x".repeat(10_000));
+
+    assertThat(AnnotationHelper.createHash(pod), equalTo(DigestUtils.sha256Hex(Yaml.dump(pod))));
+  }
+
+  @Test
+  void whenDumperReused_hashMatchesHashOfYamlDump() {
+    mementos.forEach(Memento::revert);
+    mementos.clear();
+    AnnotationHelper.createHash(createRecipe("first"));
+    final V1Pod pod = createRecipe("second");
+
+    assertThat(AnnotationHelper.createHash(pod), equalTo(DigestUtils.sha256Hex(Yaml.dump(pod))));
+  }
+
+  @Test
+  void whenRecipeAndGenerationUnchanged_reuseHash() {
+    final String hash = getHash(SERVER_NAME, "value");
+
+    assertThat(getHash(SERVER_NAME, "value"), equalTo(hash));
+    assertThat(countingHash.numHashes, equalTo(1));
+  }
+
+  @Test
+  void whenRecipeChanged_computeNewHash() {
+    getHash(SERVER_NAME, "value");
+
+    assertThat(getHash(SERVER_NAME, "changed"),
+        equalTo(AnnotationHelper.createHash(createRecipe("changed"))));
+  }
+
+  @Test
+  void whenGenerationChanged_computeNewHash() {
+    getHash(SERVER_NAME, "value");
+    domain.getMetadata().setGeneration(2L);
+
+    getHash(SERVER_NAME, "value");
+
+    assertThat(countingHash.numHashes, equalTo(2));
+  }
+
+  @Test
+  void whenDifferentServers_computeSeparateHashes() {
+    getHash(SERVER_NAME, "value");
+    getHash("ms2", "value");
+
+    assertThat(countingHash.numHashes, equalTo(2));
+  }
+
+  @Test
+  void afterDomainForgotten_computeNewHash() {
+    getHash(SERVER_NAME, "value");
+    PodRecipeHashes.forget(NS, UID);
+
+    getHash(SERVER_NAME, "value");
+
+    assertThat(countingHash.numHashes, equalTo(2));
+  }
+
+  @Test
+  void whenNamespaceHasNoHashes_forgetDoesNothing() {
+    assertDoesNotThrow(() -> PodRecipeHashes.forget("unknown", UID));
+  }
+
+  @Test
+  void whenRecipeModifiedAfterHashing_reuseHash() {
+    final V1Pod recipe = createRecipe("value");
+    final String hash = PodRecipeHashes.getHash(info, SERVER_NAME, recipe, () -> createRecipe("value"));
+    recipe.getMetadata().putLabelsItem("added", "later");
+
+    assertThat(getHash(SERVER_NAME, "value"), equalTo(hash));
+    assertThat(countingHash.numHashes, equalTo(1));
+  }
+
+  @Test
+  void whenAdjustedHashMatched_dontRepeatMatch() {
+    final String hash = getHash(SERVER_NAME, "value");
+    PodRecipeHashes.isEquivalentHash(info, SERVER_NAME, hash, "legacy", () -> true);
+
+    assertThat(PodRecipeHashes.isEquivalentHash(info, SERVER_NAME, hash, "legacy", () -> false), is(true));
+  }
+
+  @Test
+  void whenAdjustedHashNotMatched_dontRememberIt() {
+    final String hash = getHash(SERVER_NAME, "value");
+    PodRecipeHashes.isEquivalentHash(info, SERVER_NAME, hash, "legacy", () -> false);
+
+    assertThat(PodRecipeHashes.isEquivalentHash(info, SERVER_NAME, hash, "legacy", () -> false), is(false));
+  }
+
+  @Test
+  void whenRecipeChanged_dontUseRememberedAdjustedHash() {
+    final String hash = getHash(SERVER_NAME, "value");
+    PodRecipeHashes.isEquivalentHash(info, SERVER_NAME, hash, "legacy", () -> true);
+    final String changedHash = AnnotationHelper.createHash(createRecipe("changed"));
+
+    assertThat(PodRecipeHashes.isEquivalentHash(info, SERVER_NAME, changedHash, "legacy", () -> false), is(false));
+  }
+
+  private String getHash(String serverName, String envValue) {
+    return PodRecipeHashes.getHash(info, serverName, createRecipe(envValue), () -> createRecipe(envValue));
+  }
+
+  private V1Pod createRecipe(String envValue) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name(UID + "-" + SERVER_NAME).namespace(NS))
+        .spec(new V1PodSpec().addContainersItem(
+            new V1Container().name("weblogic-server").addEnvItem(new V1EnvVar().name("VALUE").value(envValue))));
+  }
+
+  private static class CountingHash implements Function<Object, String> {
+    private int numHashes;
+
+    @Override
+    public String apply(Object object) {
+      numHashes++;
+      return Integer.toString(object.hashCode());
+    }
+  }
+}
@@ -546,6 +546,7 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
       recordStrandedService();
     }
     configurationMutator.run();
+    startNewGeneration();
 
     runServiceHelper();
 
@@ -558,6 +559,12 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     return svcList.stream().filter(s -> s.getMetadata().getName().equals(STRANDED)).collect(Collectors.toList());
   }
 
+  // the domain spec is changed in place, so the tests must assign the new generation that the API server would
+  private void startNewGeneration() {
+    final V1ObjectMeta metadata = domainPresenceInfo.getDomain().getMetadata();
+    metadata.setGeneration(Optional.ofNullable(metadata.getGeneration()).orElse(0L) + 1);
+  }
+
   private void configureNewLabel() {
     testFacade.configureService(domainPresenceInfo, configureDomain()).withServiceLabel("newLabel", "value");
   }
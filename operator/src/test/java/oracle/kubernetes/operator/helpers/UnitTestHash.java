@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.meterware.simplestub.Memento;
@@ -10,11 +12,35 @@ import com.meterware.simplestub.StaticStubSupport;
 
 public class UnitTestHash implements Function<Object, String> {
   public static Memento install() throws NoSuchFieldException {
-    return StaticStubSupport.install(AnnotationHelper.class, "hashFunction", new UnitTestHash());
+    return installHashFunction(new UnitTestHash());
+  }
+
+  /**
+   * Installs the specified hash function, along with an empty pod recipe hash cache,
+   * so that no hash computed by another function is reused.
+   * @param hashFunction the function to install
+   */
+  static Memento installHashFunction(Function<Object, String> hashFunction) throws NoSuchFieldException {
+    return new HashMemento(List.of(
+          StaticStubSupport.install(AnnotationHelper.class, "hashFunction", hashFunction),
+          StaticStubSupport.install(PodRecipeHashes.class, "hashes", new ConcurrentHashMap<>())));
   }
 
   @Override
   public String apply(Object object) {
     return Integer.toString(object.hashCode());
   }
+
+  private record HashMemento(List<Memento> mementos) implements Memento {
+
+    @Override
+    public void revert() {
+      mementos.forEach(Memento::revert);
+    }
+
+    @Override
+    public <T> T getOriginalValue() {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
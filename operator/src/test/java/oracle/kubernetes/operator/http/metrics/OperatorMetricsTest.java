@@ -0,0 +1,62 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.Map;
+
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.work.FiberGate;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class OperatorMetricsTest {
+
+  private static final String[] GATE_LABELS = {"gate", "namespace"};
+
+  @Test
+  void fiberGateCounts_arePublishedByGateAndNamespace() {
+    OperatorMetrics.registerFiberGates("test", () -> Map.of("ns1", new FiberGateStub(3, 2)));
+
+    assertThat(getGateSample("weblogic_operator_fiber_gate_active_fibers", "test", "ns1"), equalTo(3.0));
+    assertThat(getGateSample("weblogic_operator_fiber_gate_queued_fibers", "test", "ns1"), equalTo(2.0));
+  }
+
+  @Test
+  void afterDomainRemoved_makeRightDurationIsNotPublished() {
+    OperatorMetrics.recordMakeRightDuration("ns1", "uid1", "success", 1.5);
+
+    OperatorMetrics.removeDomain("ns1", "uid1");
+
+    assertThat(CollectorRegistry.defaultRegistry.getSampleValue("weblogic_operator_make_right_duration_seconds_count",
+        new String[] {"namespace", "domain", "outcome"}, new String[] {"ns1", "uid1", "success"}), nullValue());
+  }
+
+  private Double getGateSample(String name, String gate, String namespace) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(name, GATE_LABELS, new String[] {gate, namespace});
+  }
+
+  private static class FiberGateStub extends FiberGate {
+    private final int numActive;
+    private final int numWaiting;
+
+    FiberGateStub(int numActive, int numWaiting) {
+      super(null);
+      this.numActive = numActive;
+      this.numWaiting = numWaiting;
+    }
+
+    @Override
+    public int getActiveFiberCount() {
+      return numActive;
+    }
+
+    @Override
+    public int getWaitingFiberCount() {
+      return numWaiting;
+    }
+  }
+}
@@ -9,7 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -17,6 +17,7 @@ import com.google.gson.Gson;
 import io.kubernetes.client.openapi.models.V1ScaleSpec;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
@@ -28,6 +29,7 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.http.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
+import static oracle.kubernetes.operator.http.rest.AuthenticationFilter.LIVE_READ_PARAM;
 import static oracle.kubernetes.operator.http.rest.RestTestBase.JsonArrayMatcher.withValues;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -58,7 +60,8 @@ class OperatorRestTest extends RestTestBase {
   // Note: the #configure method is called during class initialization, before the restBackend field
   // is initialized. We therefore populate the ResourceConfig with this supplier method, so that
   // it will return the initialized and configured field.
-  private RestBackend getRestBackend() {
+  private RestBackend getRestBackend(boolean liveRead) {
+    restBackend.liveRead = liveRead;
     return restBackend;
   }
 
@@ -155,6 +158,25 @@ class OperatorRestTest extends RestTestBase {
         hasJsonPath("$.items[?(@.domainUID=='uid2')].links[*].href", withValues(DOMAIN2_HREF)));
   }
 
+  @Test
+  void whenLiveReadNotRequested_dontCreateLiveReadBackend() {
+    defineDomains("uid1");
+
+    createRequest(DOMAINS_HREF).get(String.class);
+
+    assertThat(restBackend.liveRead, equalTo(false));
+  }
+
+  @Test
+  void whenLiveReadRequested_createLiveReadBackend() {
+    defineDomains("uid1");
+
+    target(DOMAINS_HREF).queryParam(LIVE_READ_PARAM, true).request()
+        .header(HttpHeaders.AUTHORIZATION, authorizationHeader).get(String.class);
+
+    assertThat(restBackend.liveRead, equalTo(true));
+  }
+
   @Test
   @SuppressWarnings("rawtypes")
   void existingDomainEndPoint_returnsDomainsUidAndClusterLink() {
@@ -321,6 +343,7 @@ class OperatorRestTest extends RestTestBase {
 
   abstract static class RestBackendStub implements RestBackend {
     private final Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private boolean liveRead;
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -392,19 +415,19 @@ class OperatorRestTest extends RestTestBase {
   }
 
   abstract static class RestConfigStub implements RestConfig {
-    private final Supplier<RestBackend> restBackendSupplier;
+    private final Function<Boolean, RestBackend> restBackendFunction;
 
-    RestConfigStub(Supplier<RestBackend> restBackendSupplier) {
-      this.restBackendSupplier = restBackendSupplier;
+    RestConfigStub(Function<Boolean, RestBackend> restBackendFunction) {
+      this.restBackendFunction = restBackendFunction;
     }
 
-    static RestConfig create(Supplier<RestBackend> restBackendSupplier) {
-      return createStrictStub(RestConfigStub.class, restBackendSupplier);
+    static RestConfig create(Function<Boolean, RestBackend> restBackendFunction) {
+      return createStrictStub(RestConfigStub.class, restBackendFunction);
     }
 
     @Override
-    public RestBackend getBackend(String accessToken) {
-      return restBackendSupplier.get();
+    public RestBackend getBackend(String accessToken, boolean liveRead) {
+      return restBackendFunction.apply(liveRead);
     }
 
     @Override
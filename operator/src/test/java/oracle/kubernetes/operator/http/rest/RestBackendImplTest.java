@@ -7,20 +7,25 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReviewStatus;
 import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import jakarta.ws.rs.WebApplicationException;
+import oracle.kubernetes.operator.DomainProcessor;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.ClusterPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.rest.RestBackendImpl.TopologyRetriever;
@@ -42,10 +47,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SELF_SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_LIVE_READS;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -81,6 +89,9 @@ class RestBackendImplTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private final DomainProcessorStub domainProcessor = createStrictStub(DomainProcessorStub.class);
+  private boolean selfAccessAllowed = true;
+  private int numSelfAccessReviews;
 
   private static V1Namespace createNamespace(String name) {
     return new V1Namespace().metadata(new V1ObjectMeta().name(name));
@@ -103,6 +114,7 @@ class RestBackendImplTest {
     testSupport.defineResources(namespace, domain1, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
+    testSupport.doOnCreate(SELF_SUBJECT_ACCESS_REVIEW, s -> reviewSelf((V1SelfSubjectAccessReview) s));
     testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (DomainResource) d);
     testSupport.doOnUpdate(CLUSTER, c -> updatedClusterResource = (ClusterResource) c);
     testSupport.doOnCreate(CLUSTER, c -> createdClusterResource = (ClusterResource) c);
@@ -125,6 +137,11 @@ class RestBackendImplTest {
     subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
   }
 
+  private void reviewSelf(V1SelfSubjectAccessReview selfSubjectAccessReview) {
+    numSelfAccessReviews++;
+    selfSubjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(selfAccessAllowed));
+  }
+
   @AfterEach
   public void tearDown() {
     mementos.forEach(Memento::revert);
@@ -485,6 +502,130 @@ class RestBackendImplTest {
     assertThat(authorizationProxyStub.atzCheck, is(true));
   }
 
+  // functionality used when reading from the domain processor's presence info
+
+  @Test
+  void whenReadingFromPresenceInfo_retrieveDomainUidsWithoutCallingKubernetes() {
+    definePresenceInfoInThreeNamespaces();
+
+    assertThat(createPresenceInfoBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN3, DOMAIN4));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  private void definePresenceInfoInThreeNamespaces() {
+    namespaces.addAll(List.of(NS2, NS3));
+    domainProcessor.addDomain(domain1);
+    domainProcessor.addDomain(createDomain(NS2, DOMAIN3));
+    domainProcessor.addDomain(createDomain(NS3, DOMAIN4));
+  }
+
+  @Test
+  void whenReadingFromPresenceInfoWithoutTokenReview_dontReviewCallerAccess() {
+    domainProcessor.addDomain(domain1);
+
+    createPresenceInfoBackend().getDomainUids();
+
+    assertThat(numSelfAccessReviews, equalTo(0));
+  }
+
+  @Test
+  void whenReadingFromPresenceInfoWithTokenReview_reviewCallerAccessOncePerRequest() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    definePresenceInfoInThreeNamespaces();
+
+    assertThat(createPresenceInfoBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN3, DOMAIN4));
+    assertThat(numSelfAccessReviews, equalTo(1));
+  }
+
+  @Test
+  void whenCallerMayNotListDomainsInAllNamespaces_readDomainsFromKubernetes() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    selfAccessAllowed = false;
+    domainProcessor.addDomain(domain1);
+
+    assertThat(createPresenceInfoBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  private RestBackendImpl createPresenceInfoBackend() {
+    return new RestBackendImpl("", "", this::getDomainNamespaces, domainProcessor);
+  }
+
+  @Test
+  void whenReadingFromPresenceInfo_ignoreDomainsBeingDeleted() {
+    domainProcessor.addDomain(domain1);
+    domainProcessor.addDomain(domain2).setDeleting(true);
+
+    assertThat(createPresenceInfoBackend().isDomainUid(DOMAIN2), is(false));
+  }
+
+  @Test
+  void whenReadingFromPresenceInfo_ignoreUnmanagedNamespaces() {
+    domainProcessor.addDomain(createDomain(NS2, DOMAIN3));
+
+    assertThat(createPresenceInfoBackend().isDomainUid(DOMAIN3), is(false));
+  }
+
+  @Test
+  void whenLiveReadsEnabled_readDomainsFromKubernetes() {
+    TuningParametersStub.setParameter(REST_LIVE_READS, "true");
+    domainProcessor.addDomain(domain1);
+
+    assertThat(createPresenceInfoBackend().getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenReadingFromPresenceInfo_scaleClusterUpdatesClusterResource() {
+    final ClusterResource clusterResource = createClusterResource(DOMAIN1, NS, CLUSTER_1).withReplicas(1);
+    testSupport.defineResources(clusterResource);
+    configureDomain().withClusterReference(clusterResource.getClusterResourceName());
+    domainProcessor.addDomain(domain1);
+    domainProcessor.addCluster(clusterResource);
+
+    createPresenceInfoBackend().scaleCluster(DOMAIN1, CLUSTER_1, 5);
+
+    assertThat(getUpdatedClusterResource().getSpec().getReplicas(), equalTo(5));
+  }
+
+  @Test
+  void whenReadingFromPresenceInfo_listClustersWithoutCallingKubernetes() {
+    domainProcessor.addCluster(createClusterResource(DOMAIN1, NS, CLUSTER_1));
+    domainProcessor.addCluster(createClusterResource(DOMAIN2, NS, CLUSTER_1));
+
+    assertThat(createPresenceInfoBackend().listClusters(NS).size(), equalTo(2));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  void whenCallerMayNotListClustersInAllNamespaces_readClustersFromKubernetes() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    selfAccessAllowed = false;
+    testSupport.defineResources(createClusterResource(DOMAIN1, NS, CLUSTER_1));
+    domainProcessor.addCluster(createClusterResource(DOMAIN1, NS, CLUSTER_1));
+    domainProcessor.addCluster(createClusterResource(DOMAIN2, NS, CLUSTER_1));
+
+    assertThat(createPresenceInfoBackend().listClusters(NS).size(), equalTo(1));
+  }
+
+  @Test
+  void whenCachedClustersAvailable_listClustersWithoutReadingKubernetes() {
+    final List<ClusterResource> cachedClusters = List.of(createClusterResource(DOMAIN1, NS, CLUSTER_1));
+    final RestBackendImpl backend = new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withCachedClusters(namespace -> cachedClusters);
+
+    assertThat(backend.listClusters(NS).size(), equalTo(1));
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  void whenCachedClustersNotInUse_listClustersFromKubernetes() {
+    testSupport.defineResources(createClusterResource(DOMAIN1, NS, CLUSTER_1));
+    final RestBackendImpl backend = new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withCachedClusters(namespace -> null);
+
+    assertThat(backend.listClusters(NS).size(), equalTo(1));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
   private DomainConfigurator configureDomain() {
     return configurator;
   }
@@ -500,6 +641,32 @@ class RestBackendImplTest {
     }
   }
 
+  abstract static class DomainProcessorStub implements DomainProcessor {
+    private final Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ClusterPresenceInfo>> clusters = new ConcurrentHashMap<>();
+
+    DomainPresenceInfo addDomain(DomainResource domain) {
+      final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+      domains.computeIfAbsent(domain.getNamespace(), ns -> new ConcurrentHashMap<>()).put(domain.getDomainUid(), info);
+      return info;
+    }
+
+    void addCluster(ClusterResource cluster) {
+      clusters.computeIfAbsent(cluster.getNamespace(), ns -> new ConcurrentHashMap<>())
+          .put(cluster.getClusterResourceName(), new ClusterPresenceInfo(cluster));
+    }
+
+    @Override
+    public Map<String, DomainPresenceInfo> getDomainPresenceInfoMapForNS(String namespace) {
+      return domains.get(namespace);
+    }
+
+    @Override
+    public Map<String, Map<String, ClusterPresenceInfo>> getClusterPresenceInfoMap() {
+      return clusters;
+    }
+  }
+
   private static class AuthorizationProxyStub extends AuthorizationProxy {
     boolean atzCheck = false;
 
@@ -1,16 +1,22 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.introspection;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -26,8 +32,11 @@ import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.ConfigMapSplitter;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainTopology;
+import oracle.kubernetes.operator.helpers.IntrospectorTopologies;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.http.rest.ScanCacheStub;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.TerminalStep;
@@ -44,31 +53,39 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_SECURE;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_INPUTS_HASH;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.NUM_CONFIG_MAPS;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.SECRETS_MD_5;
+import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY_JSON;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.TOPOLOGY_YAML;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.getIntrospectorConfigMapNamePrefix;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_FAILED;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_CONFIG_MAP_BINARY_DATA;
 import static oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory.forDomain;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.DOMAIN_INVALID;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -99,6 +116,7 @@ class IntrospectorConfigMapTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(ScanCacheStub.install());
+    mementos.add(TuningParametersStub.install());
     mementos.add(StaticStubSupport.install(ConfigMapSplitter.class, "dataLimit", TEST_DATA_LIMIT));
 
     testSupport.defineResources(domain);
@@ -107,6 +125,7 @@ class IntrospectorConfigMapTest {
 
   @AfterEach
   public void tearDown() throws Exception {
+    IntrospectorTopologies.forget(NS, UID);
     testSupport.throwOnCompletionFailure();
     mementos.forEach(Memento::revert);
   }
@@ -409,6 +428,148 @@ class IntrospectorConfigMapTest {
     assertThat(getIntrospectorConfigMapValue("primordial_domainzip.secure.range"), nullValue());
   }
 
+  @Test
+  void whenBinaryDataEnabled_storeDomainArchivesAsBinaryData() throws IOException {
+    TuningParametersStub.setParameter(INTROSPECTOR_CONFIG_MAP_BINARY_DATA, "true");
+    final byte[] archive = createArchive(100);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP_SECURE, encode(archive))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(), not(hasKey(DOMAINZIP_SECURE)));
+    assertThat(getIntrospectorConfigMapBinaryData(), hasEntry(equalTo(DOMAINZIP_SECURE), equalTo(archive)));
+  }
+
+  @Test
+  void whenBinaryDataDisabled_storeDomainArchivesAsText() throws IOException {
+    final String[] encodedArchive = encode(createArchive(100));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP_SECURE, encodedArchive)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapData(),
+          hasEntry(DOMAINZIP_SECURE, String.join(System.lineSeparator(), encodedArchive)));
+    assertThat(getIntrospectorConfigMapBinaryData(), anEmptyMap());
+  }
+
+  @Test
+  void whenBinaryDataEnabledAndArchiveNotEncoded_storeAsText() {
+    TuningParametersStub.setParameter(INTROSPECTOR_CONFIG_MAP_BINARY_DATA, "true");
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP_SECURE, "abcdefg")
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapValue(DOMAINZIP_SECURE), equalTo("abcdefg"));
+  }
+
+  @Test
+  void whenBinaryDataEnabled_canReassembleArchiveFromMultipleMaps() throws IOException {
+    TuningParametersStub.setParameter(INTROSPECTOR_CONFIG_MAP_BINARY_DATA, "true");
+    final byte[] archive = createArchive(SPLITTABLE_DATA_SIZE);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP_SECURE, encode(archive))
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectionConfigMaps(), hasSize(greaterThan(1)));
+    assertThat(reassembleBinaryData(DOMAINZIP_SECURE), equalTo(archive));
+  }
+
+  @Test
+  void whenBinaryDataEnabled_fewerMapsAreWritten() throws IOException {
+    final String[] encodedArchive = encode(createArchive(4 * TEST_DATA_LIMIT));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(DOMAINZIP_SECURE, encodedArchive)
+          .addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+    final int numTextMaps = getIntrospectionConfigMaps().size();
+    testSupport.deleteResources(getIntrospectionConfigMaps().toArray(new V1ConfigMap[0]));
+
+    TuningParametersStub.setParameter(INTROSPECTOR_CONFIG_MAP_BINARY_DATA, "true");
+    introspectResult.addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectionConfigMaps().size(), lessThan(numTextMaps));
+  }
+
+  @Test
+  void whenConfigMapsWritten_recordWritesAndBytes() {
+    final double initialWrites = OperatorMetrics.getIntrospectorConfigMaps("written");
+    final double initialBytes = OperatorMetrics.getIntrospectorConfigMapBytes();
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(LARGE_DATA_KEY, LARGE_DATA_VALUE)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(OperatorMetrics.getIntrospectorConfigMaps("written") - initialWrites, equalTo(3.0));
+    assertThat(OperatorMetrics.getIntrospectorConfigMapBytes() - initialBytes,
+          greaterThanOrEqualTo((double) LARGE_DATA_VALUE.length()));
+  }
+
+  @Test
+  void whenConfigMapsAlreadyCurrent_dontRewriteThem() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(LARGE_DATA_KEY, LARGE_DATA_VALUE)
+          .addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+    final double initialWrites = OperatorMetrics.getIntrospectorConfigMaps("written");
+    final double initialUnchanged = OperatorMetrics.getIntrospectorConfigMaps("unchanged");
+
+    introspectResult.addToPacket();
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(OperatorMetrics.getIntrospectorConfigMaps("written") - initialWrites, equalTo(0.0));
+    assertThat(OperatorMetrics.getIntrospectorConfigMaps("unchanged") - initialUnchanged, greaterThan(0.0));
+  }
+
+  // Returns a gzip archive which does not compress well, as is the case for an archive of a domain
+  private byte[] createArchive(int size) throws IOException {
+    final byte[] contents = new byte[size];
+    new Random(size).nextBytes(contents);
+    final ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(archive)) {
+      out.write(contents);
+    }
+    return archive.toByteArray();
+  }
+
+  // Encodes the archive as the introspector does, in base64 lines of 76 characters.
+  private String[] encode(byte[] archive) {
+    return Base64.getMimeEncoder().encodeToString(archive).split("\r\n");
+  }
+
+  private Map<String, byte[]> getIntrospectorConfigMapBinaryData() {
+    return getIntrospectionConfigMap()
+          .map(V1ConfigMap::getBinaryData)
+          .orElseGet(Collections::emptyMap);
+  }
+
+  @SuppressWarnings("SameParameterValue")
+  private byte[] reassembleBinaryData(String key) {
+    final ByteArrayOutputStream result = new ByteArrayOutputStream();
+    getIntrospectionConfigMaps().stream()
+          .sorted(Comparator.comparing(IntrospectorConfigMapTest::getConfigMapName))
+          .map(V1ConfigMap::getBinaryData)
+          .map(data -> data.get(key))
+          .forEach(result::writeBytes);
+    return result.toByteArray();
+  }
+
   private V1ConfigMap createIntrospectorConfigMap(int mapIndex, Map<String, String> entries) {
     return new V1ConfigMap()
           .metadata(createOperatorMetadata().name(getIntrospectorConfigMapName(mapIndex)).namespace(NS))
@@ -444,6 +605,88 @@ class IntrospectorConfigMapTest {
     assertThat(packet.get(NUM_CONFIG_MAPS), equalTo(NUM_MAPS_STRING));
   }
 
+  @Test
+  void whenIntrospectorConfigMapUnchanged_reuseParsedTopology() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("1", DOMAIN_HASH_VALUE));
+    final Object topology = readTopology();
+
+    assertThat(readTopology(), sameInstance(topology));
+  }
+
+  @Test
+  void whenIntrospectorConfigMapResourceVersionChanged_parseTopologyAgain() {
+    final V1ConfigMap configMap = createVersionedIntrospectorConfigMap("1", DOMAIN_HASH_VALUE);
+    testSupport.defineResources(configMap);
+    final Object topology = readTopology();
+
+    testSupport.deleteResources(configMap);
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("2", DOMAIN_HASH_VALUE));
+
+    assertThat(readTopology(), not(sameInstance(topology)));
+  }
+
+  @Test
+  void whenIntrospectorConfigMapDomainZipHashChanged_parseTopologyAgain() {
+    final V1ConfigMap configMap = createVersionedIntrospectorConfigMap("1", DOMAIN_HASH_VALUE);
+    testSupport.defineResources(configMap);
+    final Object topology = readTopology();
+
+    testSupport.deleteResources(configMap);
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("1", "changed_hash"));
+
+    assertThat(readTopology(), not(sameInstance(topology)));
+  }
+
+  @Test
+  void whenIntrospectorConfigMapHasNoResourceVersion_parseTopologyEachTime() {
+    testSupport.defineResources(createIntrospectorConfigMap(0, Map.of(TOPOLOGY_YAML, TOPOLOGY_VALUE)));
+    final Object topology = readTopology();
+
+    assertThat(readTopology(), not(sameInstance(topology)));
+  }
+
+  @Test
+  void afterDomainForgotten_parseTopologyAgain() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("1", DOMAIN_HASH_VALUE));
+    final Object topology = readTopology();
+
+    IntrospectorTopologies.forget(NS, UID);
+
+    assertThat(readTopology(), not(sameInstance(topology)));
+  }
+
+  private V1ConfigMap createVersionedIntrospectorConfigMap(String resourceVersion, String domainZipHash) {
+    final V1ConfigMap configMap
+          = createIntrospectorConfigMap(0, Map.of(TOPOLOGY_YAML, TOPOLOGY_VALUE, DOMAINZIP_HASH, domainZipHash));
+    configMap.getMetadata().setResourceVersion(resourceVersion);
+    return configMap;
+  }
+
+  private Object readTopology() {
+    return testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap()).get(DOMAIN_TOPOLOGY);
+  }
+
+  @Test
+  void whenTopologyPresent_addJsonTopologyToConfigMap() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML,
+                "domainValid: true",
+                "domain:",
+                "  name: \"sample\"",
+                "  servers:",
+                "    - name: \"admin-server\"",
+                "      listenPort: 7001",
+                "      sslListenPort: null",
+                "      adminPortEnabled: false")
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapValue(TOPOLOGY_JSON),
+          equalTo("{\"domainValid\":true,\"domain\":{\"name\":\"sample\",\"servers\":[{\"name\":\"admin-server\","
+                + "\"listenPort\":7001,\"sslListenPort\":null,\"adminPortEnabled\":false}]}}"));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private WlsDomainConfig getParsedDomain(String topologyYaml) {
     return Optional.ofNullable(topologyYaml)
@@ -26,6 +26,7 @@ import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.ServerStartPolicy;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerShutdownInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.EventHelper.CreateEventStep;
@@ -59,6 +60,7 @@ import static oracle.kubernetes.operator.steps.ManagedServersUpStep.SERVERS_UP_M
 import static oracle.kubernetes.operator.steps.ManagedServersUpStepTest.TestStepFactory.getPreCreateServers;
 import static oracle.kubernetes.operator.steps.ManagedServersUpStepTest.TestStepFactory.getServerStartupInfo;
 import static oracle.kubernetes.operator.steps.ManagedServersUpStepTest.TestStepFactory.getServers;
+import static oracle.kubernetes.operator.steps.ManagedServersUpStepTest.TestStepFactory.getShutdownServers;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -435,6 +437,29 @@ class ManagedServersUpStepTest {
     assertThat(getServers(), containsInAnyOrder("ms1", "ms2", "ms3"));
   }
 
+  @Test
+  void withStartAutoWhenServersBeyondReplicaLimitHaveNoPods_dontAddThemToShutdownList() {
+    setDefaultServerStartPolicy(ServerStartPolicy.IF_NEEDED);
+    setCluster1Replicas(3);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5");
+
+    invokeStep();
+
+    assertThat(getShutdownServers(), empty());
+  }
+
+  @Test
+  void withStartAutoWhenServerBeyondReplicaLimitHasPod_addItToShutdownList() {
+    setDefaultServerStartPolicy(ServerStartPolicy.IF_NEEDED);
+    setCluster1Replicas(3);
+    addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5");
+    addRunningServer("ms5");
+
+    invokeStep();
+
+    assertThat(getShutdownServers(), contains("ms5"));
+  }
+
   @Test
   void withStartAllWhenWlsClusterNotInDomainSpec_addClusteredServersToListUpWithoutLimit() {
     startAllServers();
@@ -803,6 +828,12 @@ class ManagedServersUpStepTest {
       return null;
     }
 
+    static Collection<String> getShutdownServers() {
+      return Optional.ofNullable(info.getServerShutdownInfo()).orElse(Collections.emptyList()).stream()
+          .map(ServerShutdownInfo::getServerName)
+          .toList();
+    }
+
     private static Collection<ServerStartupInfo> getServerStartupInfos() {
       return Optional.ofNullable(info.getServerStartupInfo()).orElse(Collections.emptyList());
     }
@@ -1,8 +1,9 @@
-// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
 
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -16,6 +17,9 @@ import javax.annotation.Nonnull;
 
 import com.meterware.httpunit.Base64;
 import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceBuilder;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
@@ -43,6 +47,7 @@ import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.common.logging.MessageKeys.WLS_HEALTH_READ_FAILED;
 import static oracle.kubernetes.common.logging.MessageKeys.WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.ADMIN_REPORTED_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
@@ -401,6 +406,86 @@ class ReadHealthStepTest {
     assertThat(info.getWebLogicCredentialsSecret(), is(nullValue()));
   }
 
+  @Test
+  void whenAdminServerReportsServerHealth_recordWithoutReadingFromServer() {
+    selectServer(MANAGED_SERVER1);
+    defineAdminReportedHealth();
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(readHealthStep));
+
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("ok"));
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(getRemainingServersToRead(packet), equalTo(0));
+    assertThat(httpSupport.getHandledRequests().size(), equalTo(1));
+  }
+
+  @Test
+  void whenAdminServerDoesNotReportServer_readHealthFromServer() {
+    configureServiceWithClusterName(CONFIGURED_CLUSTER_NAME, selectServer(CONFIGURED_MANAGED_SERVER1));
+    defineAdminReportedHealth();
+    defineResponse(200, OK_RESPONSE, "http://" + CONFIGURED_MANAGED_SERVER1 + ".Test.svc:7001");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(readHealthStep));
+
+    assertThat(getServerStateMap(packet).get(CONFIGURED_MANAGED_SERVER1), is("RUNNING"));
+    assertThat(httpSupport.getHandledRequests().size(), equalTo(2));
+  }
+
+  @Test
+  void whenAdminServerHealthQueryFails_readHealthFromServer() {
+    selectServer(MANAGED_SERVER1);
+    defineAdminServer();
+    defineDomainHealthResponse(500, null);
+    defineResponse(200, OK_RESPONSE, "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(readHealthStep));
+
+    assertThat(packet.get(ADMIN_REPORTED_HEALTH_MAP), nullValue());
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+  }
+
+  @Test
+  void whenAdminPodNotReady_doNotQueryAdminServer() {
+    selectServer(MANAGED_SERVER1);
+    info.setServerService(ADMIN_NAME, createService(ADMIN_NAME));
+    info.setServerPod(ADMIN_NAME, new V1Pod());
+    defineDomainHealthResponse(200, DOMAIN_HEALTH_RESPONSE);
+    defineResponse(200, OK_RESPONSE, "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(readHealthStep));
+
+    assertThat(packet.get(ADMIN_REPORTED_HEALTH_MAP), nullValue());
+    assertThat(httpSupport.getHandledRequests().size(), equalTo(1));
+  }
+
+  private static final String DOMAIN_HEALTH_RESPONSE = "{\"serverRuntimes\": {\"items\": [\n"
+      + "  {\"name\": \"" + ADMIN_NAME + "\", \"state\": \"RUNNING\","
+      + " \"overallHealthState\": {\"state\": \"ok\", \"subsystemName\": null}},\n"
+      + "  {\"name\": \"" + MANAGED_SERVER1 + "\", \"state\": \"RUNNING\","
+      + " \"overallHealthState\": {\"state\": \"ok\", \"subsystemName\": null},"
+      + " \"activationTime\": 1556558819368}\n"
+      + "]}}";
+
+  private void defineAdminReportedHealth() {
+    defineAdminServer();
+    defineDomainHealthResponse(200, DOMAIN_HEALTH_RESPONSE);
+  }
+
+  private void defineAdminServer() {
+    info.setServerService(ADMIN_NAME, createService(ADMIN_NAME));
+    info.setServerPod(ADMIN_NAME, new V1Pod().status(new V1PodStatus().phase("Running")
+        .addConditionsItem(new V1PodCondition().type("Ready").status("True"))));
+  }
+
+  private void defineDomainHealthResponse(int status, String body) {
+    httpSupport.defineResponse(
+        HttpRequest.newBuilder()
+            .uri(URI.create("http://" + ADMIN_NAME + ".Test.svc:3456/management/weblogic/latest/domainRuntime/search"))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(),
+        createStub(HttpResponseStub.class, status, body));
+  }
+
   private void defineExpectedURLInResponse(String protocol, int port) {
     defineResponse(200, OK_RESPONSE, protocol + "://dyn-managed-server2.Test.svc:" + port);
   }
@@ -0,0 +1,104 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.ThreadFactoryTestBase;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.tuning.FakeWatchTuning;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_GONE;
+import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+
+/** This test class verifies the behavior of the ClusterScopedWatcher. */
+class ClusterScopedWatcherTest extends ThreadFactoryTestBase implements AllWatchesClosedListener {
+
+  private static final String INITIAL_RESOURCE_VERSION = "456";
+  private static final String GONE_RESOURCE_VERSION = "500";
+  private static final String RELIST_RESOURCE_VERSION = "789";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final AtomicInteger numResyncs = new AtomicInteger();
+  private String resyncResourceVersion = RELIST_RESOURCE_VERSION;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(TuningParametersStub.install());
+
+    StubWatchFactory.setListener(this);
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    shutDownThreads();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Override
+  public void allWatchesClosed() {
+    stopping.set(true);
+  }
+
+  @Test
+  void afterHttpGoneError_resyncResources() {
+    sendHttpGoneError();
+
+    assertThat(numResyncs.get(), equalTo(1));
+  }
+
+  @Test
+  void afterHttpGoneError_nextRequestSendsResyncResourceVersion() {
+    sendHttpGoneError();
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", RELIST_RESOURCE_VERSION));
+  }
+
+  @Test
+  void whenResyncFails_nextRequestSendsResourceVersionFromError() {
+    resyncResourceVersion = null;
+
+    sendHttpGoneError();
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", GONE_RESOURCE_VERSION));
+  }
+
+  private void sendHttpGoneError() {
+    StubWatchFactory.addCallResponses(WatchEvent.createErrorEvent(HTTP_GONE, GONE_RESOURCE_VERSION).toWatchResponse());
+    StubWatchFactory.addCallResponses(WatchEvent.createAddedEvent(createDomain()).toWatchResponse());
+
+    ClusterScopedWatcher.create(this, RequestBuilder.DOMAIN::watch, this::resync, INITIAL_RESOURCE_VERSION,
+        new FakeWatchTuning(), r -> { }, stopping).waitForExit();
+  }
+
+  private DomainResource createDomain() {
+    return new DomainResource().withMetadata(new V1ObjectMeta().namespace("ns1").name("domain1"));
+  }
+
+  private String resync() {
+    numResyncs.incrementAndGet();
+    return resyncResourceVersion;
+  }
+}
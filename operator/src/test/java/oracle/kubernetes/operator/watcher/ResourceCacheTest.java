@@ -0,0 +1,168 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.List;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class ResourceCacheTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UID1 = "uid1";
+  private static final String UID2 = "uid2";
+
+  private final ResourceCache<V1Pod> cache = new ResourceCache<>();
+
+  private V1Pod createPod(String namespace, String name, String domainUid, String resourceVersion) {
+    final V1ObjectMeta metadata = new V1ObjectMeta().namespace(namespace).name(name).resourceVersion(resourceVersion);
+    if (domainUid != null) {
+      metadata.putLabelsItem(DOMAINUID_LABEL, domainUid);
+    }
+    return new V1Pod().metadata(metadata);
+  }
+
+  private Watch.Response<V1Pod> event(String type, V1Pod pod) {
+    return new Watch.Response<>(type, pod);
+  }
+
+  @Test
+  void beforeReplaceAll_cacheIsNotSynced() {
+    assertThat(cache.isSynced(), is(false));
+  }
+
+  @Test
+  void afterReplaceAll_cacheIsSyncedAtListResourceVersion() {
+    cache.replaceAll(List.of(createPod(NS1, "a", UID1, "1")), "10");
+
+    assertThat(cache.isSynced(), is(true));
+    assertThat(cache.getResourceVersion(), equalTo("10"));
+  }
+
+  @Test
+  void afterInvalidate_cacheIsNotSynced() {
+    cache.replaceAll(List.of(createPod(NS1, "a", UID1, "1")), "10");
+
+    cache.invalidate();
+
+    assertThat(cache.isSynced(), is(false));
+  }
+
+  @Test
+  void afterReplaceAll_canRetrieveResourcesByNamespaceAndName() {
+    final V1Pod pod = createPod(NS1, "a", UID1, "1");
+    cache.replaceAll(List.of(pod, createPod(NS2, "a", UID1, "2")), "10");
+
+    assertThat(cache.get(NS1, "a"), sameInstance(pod));
+  }
+
+  @Test
+  void listByDomainUid_returnsOnlyMatchingResourcesInNamespace() {
+    final V1Pod pod1 = createPod(NS1, "a", UID1, "1");
+    final V1Pod pod2 = createPod(NS1, "b", UID1, "2");
+    cache.replaceAll(List.of(pod1, pod2, createPod(NS1, "c", UID2, "3"), createPod(NS2, "d", UID1, "4")), "10");
+
+    assertThat(cache.list(NS1, UID1), containsInAnyOrder(pod1, pod2));
+  }
+
+  @Test
+  void listWithoutDomainUid_returnsAllResourcesInNamespace() {
+    final V1Pod pod1 = createPod(NS1, "a", UID1, "1");
+    final V1Pod pod2 = createPod(NS1, "b", null, "2");
+    cache.replaceAll(List.of(pod1, pod2, createPod(NS2, "c", UID1, "3")), "10");
+
+    assertThat(cache.list(NS1), containsInAnyOrder(pod1, pod2));
+  }
+
+  @Test
+  void replaceAll_discardsPreviousContents() {
+    cache.replaceAll(List.of(createPod(NS1, "a", UID1, "1")), "10");
+    cache.replaceAll(List.of(createPod(NS2, "b", UID1, "2")), "20");
+
+    assertThat(cache.list(NS1), empty());
+  }
+
+  @Test
+  void replaceAllWithChanges_returnsDifferencesAsEvents() {
+    final V1Pod unchanged = createPod(NS1, "a", UID1, "1");
+    final V1Pod deleted = createPod(NS1, "b", UID1, "2");
+    final V1Pod modified = createPod(NS2, "c", UID1, "4");
+    final V1Pod added = createPod(NS2, "d", UID1, "5");
+    cache.replaceAll(List.of(unchanged, deleted, createPod(NS2, "c", UID1, "3")), "10");
+
+    final List<Watch.Response<V1Pod>> changes
+        = cache.replaceAllWithChanges(List.of(createPod(NS1, "a", UID1, "1"), modified, added), "20");
+
+    assertThat(changes.stream().map(e -> e.type + " " + e.object.getMetadata().getName()).toList(),
+        containsInAnyOrder("DELETED b", "MODIFIED c", "ADDED d"));
+    assertThat(cache.list(NS2), containsInAnyOrder(modified, added));
+  }
+
+  @Test
+  void onAddedEvent_addResourceAndUpdateResourceVersion() {
+    cache.replaceAll(List.of(), "10");
+    final V1Pod pod = createPod(NS1, "a", UID1, "11");
+
+    cache.apply(event("ADDED", pod));
+
+    assertThat(cache.list(NS1, UID1), contains(pod));
+    assertThat(cache.getResourceVersion(), equalTo("11"));
+  }
+
+  @Test
+  void onModifiedEventWithNewDomainUid_reindexResource() {
+    cache.replaceAll(List.of(createPod(NS1, "a", UID1, "1")), "10");
+    final V1Pod modified = createPod(NS1, "a", UID2, "11");
+
+    cache.apply(event("MODIFIED", modified));
+
+    assertThat(cache.list(NS1, UID1), empty());
+    assertThat(cache.list(NS1, UID2), contains(modified));
+  }
+
+  @Test
+  void onDeletedEvent_removeResource() {
+    cache.replaceAll(List.of(createPod(NS1, "a", UID1, "1")), "10");
+
+    cache.apply(event("DELETED", createPod(NS1, "a", UID1, "11")));
+
+    assertThat(cache.get(NS1, "a"), nullValue());
+    assertThat(cache.list(NS1, UID1), empty());
+  }
+
+  @Test
+  void onBookmarkEvent_doNotChangeContents() {
+    final V1Pod pod = createPod(NS1, "a", UID1, "1");
+    cache.replaceAll(List.of(pod), "10");
+
+    cache.apply(event("BOOKMARK", createPod(NS1, "a", UID2, "11")));
+
+    assertThat(cache.get(NS1, "a"), sameInstance(pod));
+    assertThat(cache.getResourceVersion(), equalTo("10"));
+  }
+
+  @Test
+  void afterRemoveNamespace_namespaceHasNoResources() {
+    cache.replaceAll(List.of(createPod(NS1, "a", UID1, "1"), createPod(NS2, "b", UID1, "2")), "10");
+
+    cache.removeNamespace(NS1);
+
+    assertThat(cache.list(NS1), empty());
+    assertThat(cache.list(NS2), contains(cache.get(NS2, "b")));
+  }
+}
@@ -16,6 +16,7 @@ import oracle.kubernetes.operator.ThreadFactoryTestBase;
 import oracle.kubernetes.operator.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.tuning.FakeWatchTuning;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.utils.TestUtils;
@@ -165,6 +166,30 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(callBacks, contains(List.of(addEvent(object1), modifyEvent(object2))));
   }
 
+  @Test
+  void receivedEvents_areCountedByTypeAndNamespace() {
+    final double added = OperatorMetrics.getWatchEvents("ADDED", NAMESPACE);
+    final double modified = OperatorMetrics.getWatchEvents("MODIFIED", NAMESPACE);
+    StubWatchFactory.addCallResponses(
+        createAddResponse(createObjectWithMetaData()), createModifyResponse(createObjectWithMetaData()));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(OperatorMetrics.getWatchEvents("ADDED", NAMESPACE), equalTo(added + 1));
+    assertThat(OperatorMetrics.getWatchEvents("MODIFIED", NAMESPACE), equalTo(modified + 1));
+  }
+
+  @Test
+  void afterWatchEnds_reconnectIsCounted() {
+    final double reconnects = OperatorMetrics.getWatchReconnects(NAMESPACE);
+    StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(OperatorMetrics.getWatchReconnects(NAMESPACE), equalTo(reconnects + 1));
+  }
+
   @Test
   @SuppressWarnings("rawtypes")
   void receivedEvents_areNotSentToListenersWhenWatchersPaused() {
@@ -228,6 +228,20 @@ class DomainUpdateAdmissionCheckerTest extends DomainAdmissionCheckerTestBase {
 
   }
 
+  @Test
+  void whenDomainReferencesMultipleClusters_listClustersOnlyOnce() {
+    proposedDomain.getSpec().withReplicas(BAD_REPLICAS);
+    proposedDomain.getSpec().withImage(NEW_IMAGE_NAME);
+    setAuxiliaryImages(existingDomain, Collections.singletonList(createAuxiliaryImage(AUX_IMAGE_1)));
+    setAuxiliaryImages(proposedDomain, asList(createAuxiliaryImage(AUX_IMAGE_1), createAuxiliaryImage(AUX_IMAGE_2)));
+    existingDomain.getSpec().withDomainHomeSourceType(DomainSourceType.FROM_MODEL);
+    proposedDomain.getSpec().withDomainHomeSourceType(DomainSourceType.FROM_MODEL);
+
+    domainChecker.isProposedChangeAllowed();
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
   private Object getWarningMessageForDomainResource(DomainResource domain, ClusterResource c1, ClusterResource c2) {
     return String.format(WARN_MESSAGE_PATTERN_DOMAIN, domain.getDomainUid(),
         c1.getMetadata().getName() + ", " + c2.getMetadata().getName(), ORIGINAL_REPLICAS + ", " + ORIGINAL_REPLICAS);
@@ -0,0 +1,161 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiException;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestCluster;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static oracle.kubernetes.operator.tuning.TuningParameters.WEBHOOK_RESOURCE_CACHE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class WebhookResourceCacheTest {
+
+  private static final String CLUSTER_NAME = "cluster-1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final WebhookResourceCache resourceCache = new WebhookResourceCache();
+  private final DomainResource domain = createTestDomain();
+  private final ClusterResource cluster = createTestCluster(CLUSTER_NAME);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(NoopWatcherStarter.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(WebhookResourceCache.class, "instance", resourceCache));
+
+    testSupport.defineResources(domain, cluster);
+  }
+
+  @AfterEach
+  void tearDown() {
+    resourceCache.stop();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenCacheDisabled_noStartupSteps() {
+    assertThat(resourceCache.createStartupSteps(), nullValue());
+  }
+
+  @Test
+  void whenCacheDisabled_listDomainsForEachLookup() throws ApiException {
+    resourceCache.getDomains(NS);
+    resourceCache.getDomains(NS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
+  @Test
+  void whenCacheEnabled_populateCopyFromAllNamespaces() {
+    startCache();
+
+    assertThat(resourceCache.getDomainCache().get(NS, UID), notNullValue());
+    assertThat(resourceCache.getClusterCache().get(NS, CLUSTER_NAME), notNullValue());
+    assertThat(resourceCache.hasClusters(), is(true));
+  }
+
+  @Test
+  void whenCacheStarted_serveLookupsWithoutListing() throws ApiException {
+    startCache();
+    final int numStartupCalls = testSupport.getNumCalls();
+
+    assertThat(resourceCache.getDomains(NS), contains(domain));
+    assertThat(resourceCache.getClusters(NS), contains(cluster));
+    assertThat(testSupport.getNumCalls(), equalTo(numStartupCalls));
+  }
+
+  @Test
+  void whenCacheMayNotListClusters_lookupsListNamespace() throws ApiException {
+    testSupport.failOnList(CLUSTER, null, HTTP_FORBIDDEN);
+    startCache();
+    final int numStartupCalls = testSupport.getNumCalls();
+
+    assertThat(resourceCache.hasClusters(), is(false));
+    assertThat(resourceCache.getClusters(NS), contains(cluster));
+    assertThat(testSupport.getNumCalls(), equalTo(numStartupCalls + 1));
+  }
+
+  @Test
+  void whenCacheMayNotListDomains_clusterCopyIsStillUsed() {
+    testSupport.failOnList(DOMAIN, null, HTTP_FORBIDDEN);
+
+    startCache();
+
+    assertThat(resourceCache.hasClusters(), is(true));
+  }
+
+  @Test
+  void whenCacheNotStarted_noCachedClusters() {
+    assertThat(resourceCache.getCachedClusters(NS), nullValue());
+  }
+
+  @Test
+  void whenCacheStarted_returnCachedClusters() {
+    startCache();
+
+    assertThat(resourceCache.getCachedClusters(NS), contains(cluster));
+  }
+
+  @Test
+  void afterRelist_copyContainsCurrentResources() {
+    startCache();
+    final ClusterResource newCluster = createTestCluster("cluster-2");
+    testSupport.defineResources(newCluster);
+
+    resourceCache.relist();
+
+    assertThat(resourceCache.getClusterCache().get(NS, "cluster-2"), notNullValue());
+  }
+
+  @Test
+  void whenRelistFails_lookupsListNamespace() {
+    startCache();
+    testSupport.failOnList(CLUSTER, null, HTTP_FORBIDDEN);
+
+    resourceCache.relist();
+
+    assertThat(resourceCache.hasClusters(), is(false));
+    assertThat(resourceCache.getCachedClusters(NS), nullValue());
+  }
+
+  @Test
+  void whenCacheEnabled_startOnlyOnce() {
+    startCache();
+
+    assertThat(resourceCache.createStartupSteps(), nullValue());
+  }
+
+  private void startCache() {
+    TuningParametersStub.setParameter(WEBHOOK_RESOURCE_CACHE, "true");
+    testSupport.runSteps(resourceCache.createStartupSteps());
+  }
+}
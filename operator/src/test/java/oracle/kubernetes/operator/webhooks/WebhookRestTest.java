@@ -871,7 +871,7 @@ class WebhookRestTest extends RestTestBase {
     }
 
     @Override
-    public RestBackend getBackend(String accessToken) {
+    public RestBackend getBackend(String accessToken, boolean liveRead) {
       return restBackendSupplier.get();
     }
 
@@ -37,17 +37,10 @@ class WlsClusterConfigTest {
       int clusterSize, int minClusterSize, String serverNamePrefix, String clusterName) {
     WlsServerConfig serverTemplate =
         new WlsServerConfig("serverTemplate1", "host1", null, 7001, 7002, null, null);
-    List<String> serverNames = new ArrayList<>();
-    final int startingServerNameIndex = 1;
-    for (int i = 0; i < clusterSize; i++) {
-      serverNames.add(serverNamePrefix + (i + startingServerNameIndex));
-    }
-    List<WlsServerConfig> serverConfigs =
-        WlsDynamicServersConfig.createServerConfigsFromTemplate(
-            serverNames, serverTemplate, clusterName, "base-domain", false);
-
-    return new WlsDynamicServersConfig(
-        clusterSize, clusterSize, minClusterSize, serverNamePrefix, false, null, serverTemplate, serverConfigs);
+    WlsDynamicServersConfig dynamicServersConfig = new WlsDynamicServersConfig(
+        clusterSize, clusterSize, minClusterSize, serverNamePrefix, false, null, serverTemplate, null);
+    dynamicServersConfig.generateDynamicServerConfigs(serverTemplate, clusterName, "base-domain");
+    return dynamicServersConfig;
   }
 
   @BeforeEach
@@ -190,6 +183,17 @@ class WlsClusterConfigTest {
     assertThat(containsServer(wlsClusterConfig, "static-1"), is(true));
   }
 
+  @Test
+  void verifyGetServerNamesReturnNamesOfServerConfigsInOrder() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(10, 1, "ms-", "cluster1"));
+    wlsClusterConfig.addServerConfig(createWlsServerConfig("ms-0", 8011));
+
+    assertThat(wlsClusterConfig.getServerNames(),
+        equalTo(wlsClusterConfig.getServerConfigs().stream().map(WlsServerConfig::getName).toList()));
+    assertThat(wlsClusterConfig.getServerCount(), equalTo(11));
+  }
+
   private boolean containsServer(WlsClusterConfig wlsClusterConfig, String serverName) {
     List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
     for (WlsServerConfig serverConfig : serverConfigs) {
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.wlsconfig;
@@ -255,6 +255,76 @@ class WlsDomainConfigTest {
     assertThat(wlsDomainConfig.containsCluster(null), equalTo(false));
   }
 
+  @Test
+  void getClusterName_returnsNameOfClusterContainingServer() {
+    support.addWlsCluster("cluster-1", "ms1");
+    support.addDynamicWlsCluster("dynamic-cluster", "dyn1");
+
+    assertThat(support.createDomainConfig().getClusterName("dyn1"), equalTo("dynamic-cluster"));
+  }
+
+  @Test
+  void getClusterName_returnsNull_forStandaloneServer() {
+    support.addWlsServer("standalone");
+    support.addWlsCluster("cluster-1", "ms1");
+
+    assertNull(support.createDomainConfig().getClusterName("standalone"));
+  }
+
+  @Test
+  void getClusteredServerConfig_returnsDynamicServer() {
+    support.addDynamicWlsCluster("dynamic-cluster", "dyn1", "dyn2");
+
+    assertThat(support.createDomainConfig().getClusteredServerConfig("dynamic-cluster", "dyn2").getName(),
+        equalTo("dyn2"));
+  }
+
+  @Test
+  void getClusteredServerConfig_returnsNull_forServerInOtherCluster() {
+    support.addWlsCluster("cluster-1", "ms1");
+    support.addWlsCluster("cluster-2", "ms2");
+
+    assertNull(support.createDomainConfig().getClusteredServerConfig("cluster-1", "ms2"));
+  }
+
+  @Test
+  void getClusteredServerConfig_returnsNull_forUnknownCluster() {
+    support.addWlsCluster("cluster-1", "ms1");
+
+    assertNull(support.createDomainConfig().getClusteredServerConfig("notthere", "ms1"));
+  }
+
+  @Test
+  void afterStandaloneServerAdded_lookupsIncludeIt() {
+    wlsDomainConfig.addWlsServer("ms1", "host1", 8001);
+    assertThat(wlsDomainConfig.containsServer("ms2"), equalTo(false));
+
+    wlsDomainConfig.addWlsServer("ms2", "host2", 8001);
+
+    assertThat(wlsDomainConfig.getServerConfig("ms2").getName(), equalTo("ms2"));
+  }
+
+  @Test
+  void afterClusterAdded_lookupsIncludeIt() {
+    assertThat(wlsDomainConfig.containsCluster("cluster-1"), equalTo(false));
+
+    wlsDomainConfig.withCluster(new WlsClusterConfig("cluster-1").addWlsServer("ms1", "host1", 8001));
+
+    assertThat(wlsDomainConfig.getClusterName("ms1"), equalTo("cluster-1"));
+  }
+
+  @Test
+  void afterServerAddedToCluster_lookupsIncludeIt() {
+    final WlsClusterConfig cluster = new WlsClusterConfig("cluster-1").addWlsServer("ms1", "host1", 8001);
+    wlsDomainConfig.withCluster(cluster);
+    assertThat(wlsDomainConfig.containsServer("ms2"), equalTo(false));
+
+    cluster.addWlsServer("ms2", "host2", 8001);
+
+    assertThat(wlsDomainConfig.getAllServers().stream().map(WlsServerConfig::getName).toList(),
+        contains("ms1", "ms2"));
+  }
+
   @SuppressWarnings("unused")
   static class WlsServerConfigMatcher
       extends org.hamcrest.TypeSafeDiagnosingMatcher<
@@ -0,0 +1,215 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import oracle.kubernetes.operator.helpers.DomainTopology;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class WlsDynamicServersConfigTest {
+
+  private static final String CLUSTER_NAME = "cluster-1";
+  private static final String DOMAIN_NAME = "base_domain";
+  private static final String SERVER_NAME_PREFIX = "managed-server";
+  private static final int NUM_DOMAINS = 20;
+  private static final int DYNAMIC_CLUSTER_SIZE = 200;
+
+  private final WlsServerConfig serverTemplate = new WlsServerConfig("cluster-1-template",
+        "domain1-managed-server${id}", null, 8001, 8101, null,
+        List.of(new NetworkAccessPoint("nap1", "t3", 9001, 9001)));
+  private final WlsDynamicServersConfig dynamicServersConfig = createDynamicServersConfig(4, true);
+
+  @SuppressWarnings("SameParameterValue")
+  private WlsDynamicServersConfig createDynamicServersConfig(int clusterSize, boolean calculatedListenPorts) {
+    final WlsDynamicServersConfig config = new WlsDynamicServersConfig(
+          clusterSize, clusterSize, 1, SERVER_NAME_PREFIX, calculatedListenPorts, null, serverTemplate, null);
+    config.generateDynamicServerConfigs(serverTemplate, CLUSTER_NAME, DOMAIN_NAME);
+    return config;
+  }
+
+  @Test
+  void generatedServerConfigs_matchClusterSize() {
+    assertThat(dynamicServersConfig.getServerConfigs().size(), equalTo(4));
+  }
+
+  @Test
+  void whenClusterSizeIsZero_noServerConfigsGenerated() {
+    final WlsDynamicServersConfig config = createDynamicServersConfig(0, true);
+
+    assertThat(config.getServerConfigs(), nullValue());
+  }
+
+  @Test
+  void generatedServerConfig_isCreatedFromTemplate() {
+    final WlsServerConfig serverConfig = dynamicServersConfig.getServerConfigs().get(2);
+
+    assertThat(serverConfig.getName(), equalTo("managed-server3"));
+    assertThat(serverConfig.getListenAddress(), equalTo("domain1-managed-server3"));
+    assertThat(serverConfig.getListenPort(), equalTo(8004));
+    assertThat(serverConfig.getNetworkAccessPoints().get(0).getListenPort(), equalTo(9004));
+  }
+
+  @Test
+  void generatedServerConfigs_equalThoseCreatedFromTemplate() {
+    assertThat(dynamicServersConfig.getServerConfigs(), equalTo(IntStream.rangeClosed(1, 4)
+          .mapToObj(i -> WlsDynamicServerConfig.create(
+              "managed-server" + i, i, CLUSTER_NAME, DOMAIN_NAME, true, serverTemplate))
+          .toList()));
+  }
+
+  @Test
+  void serverNames_matchGeneratedServerConfigs() {
+    assertThat(dynamicServersConfig.getServerNames(),
+          contains("managed-server1", "managed-server2", "managed-server3", "managed-server4"));
+  }
+
+  @Test
+  void containsServer_recognizesOnlyNamesOfGeneratedServers() {
+    assertThat(dynamicServersConfig.containsServer("managed-server4"), is(true));
+    assertThat(dynamicServersConfig.containsServer("managed-server5"), is(false));
+    assertThat(dynamicServersConfig.containsServer("managed-server04"), is(false));
+  }
+
+  @Test
+  void getServerConfig_returnsNamedServer() {
+    assertThat(dynamicServersConfig.getServerConfig("managed-server4"),
+          equalTo(dynamicServersConfig.getServerConfigs().get(3)));
+  }
+
+  @Test
+  void getServerConfig_returnsNull_forNameOutsideCluster() {
+    assertThat(dynamicServersConfig.getServerConfig("managed-server5"), nullValue());
+    assertThat(dynamicServersConfig.getServerConfig("managed-server0"), nullValue());
+    assertThat(dynamicServersConfig.getServerConfig("managed-server01"), nullValue());
+    assertThat(dynamicServersConfig.getServerConfig("managed-server"), nullValue());
+    assertThat(dynamicServersConfig.getServerConfig("other-server1"), nullValue());
+  }
+
+  @Test
+  void whenManyDomainsWithLargeDynamicClustersParsed_dynamicServerConfigsAreNotRetained() {
+    final List<WlsDomainConfig> domainConfigs = new ArrayList<>();
+    for (int i = 0; i < NUM_DOMAINS; i++) {
+      final WlsDomainConfig domainConfig = DomainTopology.parseDomainTopologyYaml(createTopology()).getDomain();
+      assertThat(domainConfig.getClusterName(SERVER_NAME_PREFIX + DYNAMIC_CLUSTER_SIZE), equalTo(CLUSTER_NAME));
+      domainConfigs.add(domainConfig);
+    }
+
+    final Map<Class<?>, Integer> reachableObjects = countReachableObjects(domainConfigs);
+
+    assertThat(countInstances(reachableObjects, WlsServerConfig.class), lessThanOrEqualTo(2 * NUM_DOMAINS));
+    assertThat(countInstances(reachableObjects, Object.class), lessThan(NUM_DOMAINS * DYNAMIC_CLUSTER_SIZE));
+  }
+
+  private static String createTopology() {
+    return """
+        domainValid: true
+        domain:
+          name: "base_domain"
+          adminServerName: "admin-server"
+          configuredClusters:
+          - name: "cluster-1"
+            dynamicServersConfig:
+                name: "cluster-1"
+                serverTemplateName: "cluster-1-template"
+                calculatedListenPorts: true
+                serverNamePrefix: "managed-server"
+                dynamicClusterSize: %d
+                maxDynamicClusterSize: %d
+                minDynamicClusterSize: 1
+          serverTemplates:
+            - name: "cluster-1-template"
+              listenPort: 8001
+              sslListenPort: 8101
+              clusterName: "cluster-1"
+              listenAddress: "domain1-managed-server${id}"
+              networkAccessPoints:
+                - name: "nap1"
+                  protocol: "t3"
+                  listenPort: 9001
+                  publicPort: 9001
+          servers:
+            - name: "admin-server"
+              listenPort: 7001
+              listenAddress: "domain1-admin-server"
+        """.formatted(DYNAMIC_CLUSTER_SIZE, DYNAMIC_CLUSTER_SIZE);
+  }
+
+  private static int countInstances(Map<Class<?>, Integer> reachableObjects, Class<?> type) {
+    return reachableObjects.entrySet().stream()
+          .filter(entry -> type.isAssignableFrom(entry.getKey()))
+          .mapToInt(Map.Entry::getValue)
+          .sum();
+  }
+
+  // Counts the objects reachable from the root, by class. Follows the fields of operator objects, and the contents
+  // of other collections, maps and arrays, so that lists which create their elements on demand are not expanded.
+  private static Map<Class<?>, Integer> countReachableObjects(Object root) {
+    final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    final Deque<Object> toVisit = new ArrayDeque<>(List.of(root));
+    final Map<Class<?>, Integer> counts = new IdentityHashMap<>();
+    while (!toVisit.isEmpty()) {
+      final Object object = toVisit.pop();
+      if (visited.add(object)) {
+        counts.merge(object.getClass(), 1, Integer::sum);
+        getReferences(object).stream().filter(o -> o != null && !visited.contains(o)).forEach(toVisit::push);
+      }
+    }
+    return counts;
+  }
+
+  private static List<Object> getReferences(Object object) {
+    final List<Object> references = new ArrayList<>();
+    if (isOperatorClass(object.getClass())) {
+      for (Class<?> c = object.getClass(); isOperatorClass(c); c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+            references.add(getFieldValue(object, field));
+          }
+        }
+      }
+    } else if (object instanceof Collection<?> collection) {
+      references.addAll(collection);
+    } else if (object instanceof Map<?, ?> map) {
+      references.addAll(map.keySet());
+      references.addAll(map.values());
+    } else if (object instanceof Object[] array) {
+      references.addAll(Arrays.asList(array));
+    }
+    return references;
+  }
+
+  private static boolean isOperatorClass(Class<?> c) {
+    return c != null && c.getName().startsWith("oracle.kubernetes.");
+  }
+
+  private static Object getFieldValue(Object object, Field field) {
+    try {
+      field.setAccessible(true);
+      return field.get(object);
+    } catch (IllegalAccessException e) {
+      throw new AssertionError(e);
+    }
+  }
+}
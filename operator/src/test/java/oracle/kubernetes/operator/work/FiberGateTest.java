@@ -3,11 +3,22 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
+import com.meterware.simplestub.Memento;
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.tuning.TuningParameters.RESUME_REQUEUED_FIBERS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.WATCH_BACKSTOP_RECHECK_DELAY_SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -23,6 +34,20 @@ class FiberGateTest {
   private final Step noopStep = new NoopStep();
   private final Packet packet = new Packet();
   private final TestCompletionCallback completionCallback = new TestCompletionCallback();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ApiCallStep apiCallStep = new ApiCallStep();
+  private long generation = 1;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "5");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
 
   @Test
   void whenFiberStarted_stepsAreRun() {
@@ -54,6 +79,114 @@ class FiberGateTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  void whileFiberWaitsToResume_countItAsWaiting() {
+    final double requeues = OperatorMetrics.getFiberRequeues();
+
+    fiberGate.startFiber(UID1, RequeueOnceStep::new, () -> packet, completionCallback);
+
+    assertThat(fiberGate.getWaitingFiberCount(), equalTo(1));
+    assertThat(fiberGate.getActiveFiberCount(), equalTo(0));
+    assertThat(OperatorMetrics.getFiberRequeues(), equalTo(requeues + 1));
+  }
+
+  @Test
+  void afterFiberResumes_dontCountItAsWaiting() {
+    final RequeueOnceStep step = new RequeueOnceStep();
+    fiberGate.startFiber(UID1, () -> step, () -> packet, completionCallback);
+
+    testSupport.setTime(RequeueOnceStep.DELAY_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(fiberGate.getWaitingFiberCount(), equalTo(0));
+  }
+
+  @Test
+  void whenFiberReplaced_recordReplacementAndCancellation() {
+    final double replacements = OperatorMetrics.getFiberReplacements();
+    final double cancellations = OperatorMetrics.getFiberCancellations();
+    fiberGate.startFiber(UID1, RequeueOnceStep::new, () -> packet, completionCallback);
+
+    fiberGate.startFiber(UID1, () -> terminalStep, () -> packet, completionCallback);
+
+    assertThat(OperatorMetrics.getFiberReplacements(), equalTo(replacements + 1));
+    assertThat(OperatorMetrics.getFiberCancellations(), equalTo(cancellations + 1));
+  }
+
+  @Test
+  void whenResumeEnabledAndGenerationUnchanged_resumeFromWaitingStep() {
+    TuningParametersStub.setParameter(RESUME_REQUEUED_FIBERS, "true");
+    final double resumptions = OperatorMetrics.getFiberResumptions();
+    final double callsAvoided = OperatorMetrics.getApiCallsAvoided();
+    startResumableFiber(Step.chain(apiCallStep, new WaitOnceStep(), terminalStep));
+
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(apiCallStep.numRuns, equalTo(1));
+    assertThat(terminalStep.wasRun(), is(true));
+    assertThat(OperatorMetrics.getFiberResumptions(), equalTo(resumptions + 1));
+    assertThat(OperatorMetrics.getApiCallsAvoided(), equalTo(callsAvoided + 1));
+  }
+
+  private void startResumableFiber(Step steps) {
+    fiberGate.startFiber(UID1, () -> steps, () -> packet, completionCallback, () -> generation);
+  }
+
+  @Test
+  void whenGenerationChanged_restartFromFirstStep() {
+    TuningParametersStub.setParameter(RESUME_REQUEUED_FIBERS, "true");
+    startResumableFiber(Step.chain(apiCallStep, new WaitOnceStep(), terminalStep));
+
+    generation = 2;
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(apiCallStep.numRuns, equalTo(2));
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenResumeNotEnabled_restartFromFirstStep() {
+    startResumableFiber(Step.chain(apiCallStep, new WaitOnceStep(), terminalStep));
+
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(apiCallStep.numRuns, equalTo(2));
+  }
+
+  @Test
+  void whenNoGenerationSupplied_restartFromFirstStep() {
+    TuningParametersStub.setParameter(RESUME_REQUEUED_FIBERS, "true");
+    final Step steps = Step.chain(apiCallStep, new WaitOnceStep(), terminalStep);
+    fiberGate.startFiber(UID1, () -> steps, () -> packet, completionCallback);
+
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(apiCallStep.numRuns, equalTo(2));
+  }
+
+  @Test
+  void whenForkedStepsWaitForChanges_resumeFromForkJoin() {
+    TuningParametersStub.setParameter(RESUME_REQUEUED_FIBERS, "true");
+    final ForkWaitersStep forkStep = new ForkWaitersStep(new WaitOnceStep(), new WaitOnceStep());
+    startResumableFiber(Step.chain(apiCallStep, forkStep, terminalStep));
+
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(apiCallStep.numRuns, equalTo(1));
+    assertThat(forkStep.numRuns, equalTo(2));
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenForkedStepRequeuesWithoutCheckpoint_restartFromFirstStep() {
+    TuningParametersStub.setParameter(RESUME_REQUEUED_FIBERS, "true");
+    final ForkWaitersStep forkStep = new ForkWaitersStep(new WaitOnceStep(), new RequeueOnceStep());
+    startResumableFiber(Step.chain(apiCallStep, forkStep, terminalStep));
+
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(apiCallStep.numRuns, equalTo(2));
+  }
+
   private static class NoopStep extends Step {
 
     @Override
@@ -62,6 +195,63 @@ class FiberGateTest {
     }
   }
 
+  private static class RequeueOnceStep extends Step {
+    private static final int DELAY_SECONDS = 10;
+    private boolean requeued;
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (requeued) {
+        return doNext(packet);
+      }
+      requeued = true;
+      return new Result(true, Duration.ofSeconds(DELAY_SECONDS));
+    }
+  }
+
+  private static class ApiCallStep extends Step {
+    private int numRuns;
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      numRuns++;
+      packet.getFiber().recordApiCall();
+      return doNext(packet);
+    }
+  }
+
+  private static class WaitOnceStep extends Step {
+    private boolean waited;
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (waited) {
+        return doNext(packet);
+      }
+      waited = true;
+      return doWaitForChange(this, packet, ResourceChanges.register(ResourceChanges.keyOf("Pod", "ns", "pod")));
+    }
+  }
+
+  private static class ForkWaitersStep extends Step {
+    private final Step[] waiters;
+    private int numRuns;
+
+    ForkWaitersStep(Step... waiters) {
+      this.waiters = waiters;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      numRuns++;
+      final List<Fiber.StepAndPacket> startDetails = new ArrayList<>();
+      for (Step waiter : waiters) {
+        startDetails.add(new Fiber.StepAndPacket(waiter, packet.copy()));
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+  }
+
   private class RunFiberStep extends Step {
     private final String subStepUid;
 
@@ -5,9 +5,12 @@ package oracle.kubernetes.operator.work;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
@@ -15,21 +18,36 @@ import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.common.logging.MessageKeys.DUMP_BREADCRUMBS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_DRIVEN_WAITS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.FORK_JOIN_CONCURRENCY_LIMIT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.WATCH_BACKSTOP_RECHECK_DELAY_SECONDS;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class FiberTest {
 
   private static final String STEPS = "steps";
+  private static final String CHANGED_RESOURCE = "changedResource";
+  private static final String RESOURCE_KEY = ResourceChanges.keyOf("Pod", "ns", "pod1");
 
   private final FiberTestSupport testSupport = new FiberTestSupport();
   private final Packet packet = new Packet();
@@ -45,12 +63,14 @@ class FiberTest {
   private final Step error = new ThrowableStep();
   private final List<Memento> mementos = new ArrayList<>();
   private final List<LogRecord> logRecords = new ArrayList<>();
+  private final VirtualScheduledExecutorService virtualExecutor = new VirtualScheduledExecutorService();
 
   @BeforeEach
-  public void setUp() {
+  public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger()
           .collectLogMessages(logRecords, DUMP_BREADCRUMBS)
           .withLogLevel(Level.INFO));
+    mementos.add(TuningParametersStub.install());
 
     packet.put(STEPS, stepList);
   }
@@ -58,6 +78,7 @@ class FiberTest {
   @AfterEach
   void tearDown() {
     mementos.forEach(Memento::revert);
+    virtualExecutor.shutdownNow();
   }
 
   @Test
@@ -107,6 +128,249 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenChildFibersRunOnVirtualThreads_slowChildrenCompleteInAboutOneChildsLatency() throws InterruptedException {
+    final long latencyMillis = 500;
+    SlowStep[] children = createSlowSteps(20, latencyMillis);
+
+    long startTime = System.nanoTime();
+    runConcurrentSteps(new ChildFiberStep(step3, children));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    assertThat(stepList, containsInAnyOrder(concat(children, step3)));
+    assertThat(elapsedMillis, lessThan(2 * latencyMillis));
+  }
+
+  private SlowStep[] createSlowSteps(int count, long latencyMillis) {
+    SlowStep[] steps = new SlowStep[count];
+    Arrays.setAll(steps, i -> new SlowStep(i, latencyMillis));
+    return steps;
+  }
+
+  private Step[] concat(Step[] steps, Step last) {
+    Step[] result = Arrays.copyOf(steps, steps.length + 1, Step[].class);
+    result[steps.length] = last;
+    return result;
+  }
+
+  private void runConcurrentSteps(Step... steps) throws InterruptedException {
+    assertThat(startConcurrentSteps(steps).await(10, TimeUnit.SECONDS), is(true));
+  }
+
+  private CountDownLatch startConcurrentSteps(Step... steps) {
+    packet.put(STEPS, Collections.synchronizedList(stepList));
+    final CountDownLatch done = new CountDownLatch(1);
+    Fiber fiber = new Fiber(virtualExecutor, Step.chain(steps), packet, new Fiber.CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        completionCallback.onCompletion(packet);
+        done.countDown();
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        completionCallback.onThrowable(packet, throwable);
+        done.countDown();
+      }
+    });
+    fiber.start();
+    return done;
+  }
+
+  @Test
+  void whenChildFibersRunOnVirtualThreads_doNotExceedConcurrencyLimit() throws InterruptedException {
+    TuningParametersStub.setParameter(FORK_JOIN_CONCURRENCY_LIMIT, "3");
+    SlowStep.maxRunning.set(0);
+    SlowStep[] children = createSlowSteps(12, 50);
+
+    runConcurrentSteps(new ChildFiberStep(step3, children));
+
+    assertThat(stepList, hasSize(13));
+    assertThat(SlowStep.maxRunning.get(), lessThanOrEqualTo(3));
+  }
+
+  @Test
+  void whenConcurrentChildFibersThrowExceptions_reportMultiThrowable() throws InterruptedException {
+    runConcurrentSteps(new ChildFiberStep(step3, new ThrowableStep(), step1, new ThrowableStep()));
+
+    assertThat(stepList, not(hasItem(step3)));
+    assertThat(throwableList, contains(instanceOf(Fiber.MultiThrowable.class)));
+    assertThat(((Fiber.MultiThrowable) throwableList.get(0)).getThrowables(), hasSize(2));
+  }
+
+  @Test
+  void whenConcurrentChildFiberRequestsRequeue_rerunChildrenBeforeSynchronizationStep() throws InterruptedException {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "0");
+    runConcurrentSteps(new ChildFiberStep(step3, step1, new RequeueStep(), step2));
+
+    assertThat(Collections.frequency(stepList, step1), is(2));
+    assertThat(stepList.get(stepList.size() - 1), is(step3));
+    assertThat(Collections.frequency(stepList, step3), is(1));
+  }
+
+  @Test
+  void whenFiberOnVirtualThreadWaitsForChange_resumeWhenChangeReported() throws InterruptedException {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "30");
+    TuningParametersStub.setParameter(EVENT_DRIVEN_WAITS, "true");
+    final WaitForChangeStep waitStep = new WaitForChangeStep();
+    final CountDownLatch done = startConcurrentSteps(waitStep, step2);
+
+    long startTime = System.nanoTime();
+    reportChangeWhenAwaited("changed");
+    assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    assertThat(stepList, contains(waitStep, waitStep, step2));
+    assertThat(packet.get(CHANGED_RESOURCE), is("changed"));
+    assertThat(elapsedMillis, lessThan(5000L));
+  }
+
+  // reports the change only once the waiting step has registered for it.
+  private void reportChangeWhenAwaited(Object resource) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!ResourceChanges.report(RESOURCE_KEY, resource) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  void whenChangeReportedBeforeFiberSuspends_resumeAtOnce() throws InterruptedException {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "30");
+    TuningParametersStub.setParameter(EVENT_DRIVEN_WAITS, "true");
+    final WaitForChangeStep waitStep = new WaitForChangeStep("early");
+
+    long startTime = System.nanoTime();
+    runConcurrentSteps(waitStep, step2);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    assertThat(stepList, contains(waitStep, waitStep, step2));
+    assertThat(packet.get(CHANGED_RESOURCE), is("early"));
+    assertThat(elapsedMillis, lessThan(5000L));
+  }
+
+  @Test
+  void whileFiberWaitsForChange_releaseItsThread() throws InterruptedException {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "30");
+    TuningParametersStub.setParameter(EVENT_DRIVEN_WAITS, "true");
+    final WaitForChangeStep waitStep = new WaitForChangeStep();
+    final CountDownLatch done = startConcurrentSteps(waitStep, step2);
+
+    reportChangeWhenAwaited("changed");
+    assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+
+    assertThat(waitStep.threads.get(0), not(sameInstance(waitStep.threads.get(1))));
+  }
+
+  @Test
+  void whenNoChangeReportedWithinBackstopDelay_restartFiber() throws InterruptedException {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "1");
+    TuningParametersStub.setParameter(EVENT_DRIVEN_WAITS, "true");
+    final WaitForChangeStep waitStep = new WaitForChangeStep();
+
+    runConcurrentSteps(step1, waitStep, step2);
+
+    assertThat(stepList, contains(step1, waitStep, step1, waitStep, step2));
+    assertThat(packet.get(CHANGED_RESOURCE), is(nullValue()));
+  }
+
+  @Test
+  void whenFiberOnPlatformThreadWaitsForChange_requeue() {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "10");
+    TuningParametersStub.setParameter(EVENT_DRIVEN_WAITS, "true");
+    final WaitForChangeStep waitStep = new WaitForChangeStep();
+
+    runSteps(waitStep, step2);
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(stepList, contains(waitStep, waitStep, step2));
+    assertThat(ResourceChanges.report(RESOURCE_KEY, "changed"), is(false));
+  }
+
+  @Test
+  void whenEventDrivenWaitsDisabled_requeue() throws InterruptedException {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "0");
+    TuningParametersStub.setParameter(EVENT_DRIVEN_WAITS, "false");
+    final WaitForChangeStep waitStep = new WaitForChangeStep();
+
+    runConcurrentSteps(waitStep, step2);
+
+    assertThat(stepList, contains(waitStep, waitStep, step2));
+    assertThat(ResourceChanges.report(RESOURCE_KEY, "changed"), is(false));
+  }
+
+  @Test
+  void byDefault_requeueRatherThanWaitForChange() throws InterruptedException {
+    TuningParametersStub.setParameter(WATCH_BACKSTOP_RECHECK_DELAY_SECONDS, "0");
+    final WaitForChangeStep waitStep = new WaitForChangeStep();
+
+    runConcurrentSteps(waitStep, step2);
+
+    assertThat(stepList, contains(waitStep, waitStep, step2));
+    assertThat(ResourceChanges.report(RESOURCE_KEY, "changed"), is(false));
+  }
+
+  @Test
+  void whenFiberOnVirtualThreadDelays_resumeAfterDelay() throws InterruptedException {
+    final RetryStep retryStep = new RetryStep();
+
+    runConcurrentSteps(step1, retryStep, step2);
+
+    assertThat(stepList, contains(step1, retryStep, retryStep, retryStep, step2));
+    assertThat(completionCallback.completed, is(true));
+  }
+
+  @Test
+  void whenConcurrentChildFibersDelay_runSynchronizationStepAfterAllResume() throws InterruptedException {
+    final RetryStep retryStep1 = new RetryStep();
+    final RetryStep retryStep2 = new RetryStep();
+
+    runConcurrentSteps(new ChildFiberStep(step3, retryStep1, step1, retryStep2));
+
+    assertThat(Collections.frequency(stepList, retryStep1), is(3));
+    assertThat(Collections.frequency(stepList, retryStep2), is(3));
+    assertThat(stepList.get(stepList.size() - 1), is(step3));
+  }
+
+  @Test
+  void whenSuspendedChildFibersDelay_doNotExceedConcurrencyLimit() throws InterruptedException {
+    TuningParametersStub.setParameter(FORK_JOIN_CONCURRENCY_LIMIT, "2");
+    final RetryStep[] children = new RetryStep[6];
+    Arrays.setAll(children, i -> new RetryStep());
+    final long startTime = System.nanoTime();
+
+    runConcurrentSteps(new ChildFiberStep(step3, children));
+
+    // each pair of children retries twice, after 50 msec each time
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), greaterThanOrEqualTo(300L));
+    assertThat(stepList, hasSize(19));
+  }
+
+  @Test
+  void whenFiberOnPlatformThreadDelays_sleepInLine() {
+    final DelayStep delayStep = new DelayStep(1, step2);
+
+    runSteps(step1, delayStep);
+
+    assertThat(stepList, contains(step1, step2));
+    assertThat(delayStep.numReturnedAtOnce.get(), is(0));
+  }
+
+  @Test
+  void whenManyFibersDelayConcurrently_suspendWithoutHoldingThreads() throws InterruptedException {
+    final int numFibers = 10_000;
+    final CountDownLatch done = new CountDownLatch(numFibers);
+    final AtomicInteger numCompleted = new AtomicInteger();
+    final DelayStep delayStep = new DelayStep(2, new CountingStep(numCompleted));
+
+    for (int i = 0; i < numFibers; i++) {
+      new Fiber(virtualExecutor, delayStep, new Packet(), new CountDownCallback(done)).start();
+    }
+
+    assertThat(done.await(30, TimeUnit.SECONDS), is(true));
+    assertThat(delayStep.numReturnedAtOnce.get(), is(numFibers));
+    assertThat(numCompleted.get(), is(numFibers));
+  }
+
   static class BasicStep extends Step {
 
     private final Integer stepNum;
@@ -146,6 +410,127 @@ class FiberTest {
     }
   }
 
+  // Delays for the specified number of seconds before continuing, and counts the number of calls
+  // to doDelay which returned without waiting for the delay.
+  static class DelayStep extends BasicStep {
+    private final AtomicInteger numReturnedAtOnce = new AtomicInteger();
+    private final long delaySeconds;
+    private final Step resumeStep;
+
+    DelayStep(long delaySeconds, Step resumeStep) {
+      this.delaySeconds = delaySeconds;
+      this.resumeStep = resumeStep;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final long startTime = System.nanoTime();
+      final Result result = doDelay(resumeStep, packet, delaySeconds, TimeUnit.SECONDS);
+      if (System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(delaySeconds) / 2) {
+        numReturnedAtOnce.incrementAndGet();
+      }
+      return result;
+    }
+  }
+
+  static class CountingStep extends Step {
+    private final AtomicInteger count;
+
+    CountingStep(AtomicInteger count) {
+      this.count = count;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      count.incrementAndGet();
+      return doNext(packet);
+    }
+  }
+
+  static class CountDownCallback implements Fiber.CompletionCallback {
+    private final CountDownLatch latch;
+
+    CountDownCallback(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      latch.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      latch.countDown();
+    }
+  }
+
+  static class SlowStep extends BasicStep {
+    private static final AtomicInteger running = new AtomicInteger();
+    private static final AtomicInteger maxRunning = new AtomicInteger();
+
+    private final long latencyMillis;
+
+    SlowStep(int stepNum, long latencyMillis) {
+      super(stepNum);
+      this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(latencyMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        running.decrementAndGet();
+      }
+      recordStep(packet);
+      return doNext(packet);
+    }
+  }
+
+  static class RequeueStep extends BasicStep {
+    private final AtomicInteger count = new AtomicInteger(1);
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      recordStep(packet);
+      return count.getAndDecrement() > 0 ? doRequeue(packet) : doNext(packet);
+    }
+  }
+
+  // Waits once for a change to the resource. If an early change is specified, reports it after registering
+  // for changes, but before waiting for one.
+  static class WaitForChangeStep extends BasicStep {
+    private final AtomicInteger count = new AtomicInteger(1);
+    private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    private final Object earlyChange;
+
+    WaitForChangeStep() {
+      this(null);
+    }
+
+    WaitForChangeStep(Object earlyChange) {
+      this.earlyChange = earlyChange;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      recordStep(packet);
+      threads.add(Thread.currentThread());
+      final ResourceChanges.Registration registration = ResourceChanges.register(RESOURCE_KEY);
+      if (count.getAndDecrement() <= 0) {
+        registration.cancel();
+        return doNext(packet);
+      }
+
+      Optional.ofNullable(earlyChange).ifPresent(change -> ResourceChanges.report(RESOURCE_KEY, change));
+      return doWaitForChange(this, packet, registration, resource -> packet.put(CHANGED_RESOURCE, resource));
+    }
+  }
+
   static class ThrowableStep extends BasicStep {
     @Override
     public @Nonnull Result apply(Packet packet) {
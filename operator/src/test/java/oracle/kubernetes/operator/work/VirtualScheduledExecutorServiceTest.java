@@ -0,0 +1,142 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VirtualScheduledExecutorServiceTest {
+
+  private final VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void scheduledCallable_returnsResultAfterDelay() throws Exception {
+    final long startTime = System.nanoTime();
+
+    ScheduledFuture<String> future = executor.schedule(() -> "done", 100, TimeUnit.MILLISECONDS);
+
+    assertThat(future.get(5, TimeUnit.SECONDS), equalTo("done"));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), greaterThanOrEqualTo(100L));
+  }
+
+  @Test
+  void whenScheduledTaskThrows_futureReportsException() {
+    ScheduledFuture<?> future = executor.schedule(() -> {
+      throw new IllegalStateException("in test");
+    }, 10, TimeUnit.MILLISECONDS);
+
+    assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void whenScheduledTaskCancelled_dontRunIt() throws InterruptedException {
+    final CountDownLatch ran = new CountDownLatch(1);
+
+    ScheduledFuture<?> future = executor.schedule(ran::countDown, 100, TimeUnit.MILLISECONDS);
+    future.cancel(false);
+
+    assertThat(ran.await(300, TimeUnit.MILLISECONDS), is(false));
+    assertThat(future.isCancelled(), is(true));
+  }
+
+  @Test
+  void fixedDelayTask_runsRepeatedlyUntilCancelled() throws InterruptedException {
+    final CountDownLatch ran = new CountDownLatch(3);
+    final AtomicInteger count = new AtomicInteger();
+
+    ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
+      count.incrementAndGet();
+      ran.countDown();
+    }, 0, 20, TimeUnit.MILLISECONDS);
+    assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+    future.cancel(false);
+    final int countWhenCancelled = count.get();
+    Thread.sleep(100);
+
+    assertThat(count.get(), is(countWhenCancelled));
+  }
+
+  @Test
+  void fixedRateTask_continuesAfterException() throws InterruptedException {
+    final CountDownLatch ran = new CountDownLatch(3);
+
+    executor.scheduleAtFixedRate(() -> {
+      ran.countDown();
+      throw new IllegalStateException("in test");
+    }, 0, 20, TimeUnit.MILLISECONDS);
+
+    assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void whenManyTasksScheduled_runAllOfThem() throws InterruptedException {
+    final int numTasks = 10_000;
+    final CountDownLatch ran = new CountDownLatch(numTasks);
+
+    for (int i = 0; i < numTasks; i++) {
+      executor.schedule(ran::countDown, i % 500, TimeUnit.MILLISECONDS);
+    }
+
+    assertThat(ran.await(10, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void afterShutdownNow_returnAndCancelPendingTasks() {
+    ScheduledFuture<?> future = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+    List<Runnable> pending = executor.shutdownNow();
+
+    assertThat(pending, hasSize(1));
+    assertThat(future.isCancelled(), is(true));
+  }
+
+  @Test
+  void afterShutdown_rejectNewTasks() {
+    executor.shutdown();
+
+    assertThrows(RejectedExecutionException.class, () -> executor.schedule(() -> { }, 1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void whenDelayLongerThanOneRotation_runOnlyWhenDue() throws InterruptedException {
+    final TimerWheel wheel = new TimerWheel(Runnable::run, Duration.ofMillis(1), 4);
+    final CountDownLatch ran = new CountDownLatch(1);
+    final long startTime = System.nanoTime();
+
+    wheel.schedule(ran::countDown, startTime + TimeUnit.MILLISECONDS.toNanos(50));
+
+    assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), greaterThanOrEqualTo(50L));
+    wheel.stop();
+  }
+
+  @Test
+  void whenFutureNotDone_getTimesOut() {
+    ScheduledFuture<?> future = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+    assertThrows(TimeoutException.class, () -> future.get(10, TimeUnit.MILLISECONDS));
+  }
+}
@@ -1,4 +1,4 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.weblogic.domain.model;
@@ -10,6 +10,7 @@ import io.kubernetes.client.openapi.models.V1ConfigMapEnvSource;
 import io.kubernetes.client.openapi.models.V1EnvFromSource;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.processing.EffectiveServerSpec;
 import org.hamcrest.MatcherAssert;
@@ -25,6 +26,8 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -453,6 +456,61 @@ class DomainResourceBasicTest extends DomainTestBase {
             .and(hasItem(envVar("USER_MEM_ARGS", "-Xms64m -Xmx256m "))));
   }
 
+  @Test
+  void whenServerSpecRequestedAgain_returnSameSpec() {
+    EffectiveServerSpec spec = info.getServer(SERVER1, CLUSTER_NAME);
+
+    assertThat(info.getServer(SERVER1, CLUSTER_NAME), sameInstance(spec));
+  }
+
+  @Test
+  void whenDomainGenerationChanges_recomputeServerSpec() {
+    domain.getMetadata().setGeneration(1L);
+    EffectiveServerSpec spec = info.getServer(SERVER1, CLUSTER_NAME);
+
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(info.getServer(SERVER1, CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
+  @Test
+  void whenDomainSpecReplaced_recomputeServerSpec() {
+    EffectiveServerSpec spec = info.getServer(SERVER1, CLUSTER_NAME);
+
+    domain.setSpec(domain.getSpec());
+
+    assertThat(info.getServer(SERVER1, CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
+  @Test
+  void whenClusterResourceReplaced_recomputeServerSpec() {
+    configureCluster(CLUSTER_NAME);
+    EffectiveServerSpec spec = info.getServer(SERVER1, CLUSTER_NAME);
+
+    info.addClusterResource(new ClusterResource()
+        .withMetadata(new V1ObjectMeta().name(CLUSTER_NAME).namespace(NS))
+        .spec(new ClusterSpec().withClusterName(CLUSTER_NAME)));
+
+    assertThat(info.getServer(SERVER1, CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
+  @Test
+  void whenClusterScaled_recomputeServerSpec() {
+    configureCluster(CLUSTER_NAME).withReplicas(2);
+    EffectiveServerSpec spec = info.getServer(SERVER1, CLUSTER_NAME);
+
+    configureCluster(CLUSTER_NAME).withReplicas(3);
+
+    assertThat(info.getServer(SERVER1, CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
+  @Test
+  void whenDifferentServerRequested_computeItsOwnSpec() {
+    EffectiveServerSpec spec = info.getServer(SERVER1, CLUSTER_NAME);
+
+    assertThat(info.getServer("ms2", CLUSTER_NAME), not(sameInstance(spec)));
+  }
+
   @Test
   void whenDomainResourceInitialized_hasCorrectApiVersionAndKind() {
     MatcherAssert.assertThat(domain.getApiVersion(), equalTo("weblogic.oracle/v9"));
@@ -1,5 +1,5 @@
 #!/usr/bin/env bash
-# Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+# Copyright (c) 2020, 2024, Oracle and/or its affiliates.
 # Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 TEST_OPERATOR_ROOT=/tmp/test/weblogic-operator
@@ -79,6 +79,16 @@ testOnRestoreDomainConfig_base64DecodeZip() {
   assertEquals "/tmp/domain.secure" $actual
 }
 
+testOnRestoreDomainConfig_whenZipIsBinaryDontDecodeIt() {
+  printf '\037\213abc' > $INTROSPECTOR_MAP/domainzip.secure
+
+  restoreDomainConfig
+
+  expected="$(printf '\037\213abc')"
+  actual="$(cat /tmp/domain.tar.gz)"
+  assertEquals "$expected" "$actual"
+}
+
 testOnRestoreDomainConfig_unTarDomain() {
   restoreDomainConfig
 
@@ -116,6 +126,16 @@ testOnRestoreDomainConfig_whenNoIndexesDefinedCatSingleFile() {
   assertEquals "$expected" "$actual"
 }
 
+testOnRestorePrimordialDomain_whenZipIsBinaryDontDecodeIt() {
+  printf '\037\213def' > $INTROSPECTOR_MAP/primordial_domainzip.secure
+
+  restorePrimordialDomain
+
+  expected="$(printf '\037\213def')"
+  actual="$(cat /tmp/domain.tar.gz)"
+  assertEquals "$expected" "$actual"
+}
+
 testOnRestorePrimordialDomain_unTarDomain() {
   restorePrimordialDomain
 